@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.compiler.Compiler;
+import org.neo4j.ogm.compiler.MultiStatementCypherCompiler;
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.cineasts.annotated.Actor;
+import org.neo4j.ogm.domain.social.User;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.session.request.RowStatementFactory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link MultiStatementCypherCompiler#getAllStatements()}, turning a mapped object graph into Cypher.
+ *
+ * The compiler is not idempotent, so a fresh compile context is mapped before every invocation. The graphs are large
+ * enough for the per-invocation setup not to distort the measurement.
+ *
+ * @author Mark Angrish
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CypherCompilerBenchmark {
+
+    @Param({"1000"})
+    private int size;
+
+    private MetaData cineastsMetaData;
+    private MetaData socialMetaData;
+
+    private List<Actor> actors;
+    private List<User> users;
+
+    private Compiler actorsCompiler;
+    private Compiler usersCompiler;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cineastsMetaData = new MetaData(Fixtures.CINEASTS);
+        socialMetaData = new MetaData(Fixtures.SOCIAL);
+        actors = Fixtures.actors(size);
+        users = Fixtures.users(size);
+    }
+
+    @Setup(Level.Invocation)
+    public void compile() {
+        actorsCompiler = new EntityGraphMapper(cineastsMetaData, new MappingContext(cineastsMetaData)).map(actors.get(0), -1).getCompiler();
+        actorsCompiler.useStatementFactory(new RowStatementFactory());
+        usersCompiler = new EntityGraphMapper(socialMetaData, new MappingContext(socialMetaData)).map(users.get(0), -1).getCompiler();
+        usersCompiler.useStatementFactory(new RowStatementFactory());
+    }
+
+    @Benchmark
+    public List<Statement> actorGraphStatements() {
+        return actorsCompiler.getAllStatements();
+    }
+
+    @Benchmark
+    public List<Statement> userGraphStatements() {
+        return usersCompiler.getAllStatements();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.compiler.CompileContext;
+import org.neo4j.ogm.context.EntityGraphMapper;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.cineasts.annotated.Actor;
+import org.neo4j.ogm.domain.social.User;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link EntityGraphMapper#map(Object, int)}, the object-to-graph half of a save.
+ *
+ * @author Mark Angrish
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EntityGraphMapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private MetaData cineastsMetaData;
+    private MetaData socialMetaData;
+
+    private List<Actor> newActors;
+    private List<User> newUsers;
+
+    private MappingContext loadedContext;
+    private User loadedUser;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cineastsMetaData = new MetaData(Fixtures.CINEASTS);
+        socialMetaData = new MetaData(Fixtures.SOCIAL);
+
+        newActors = Fixtures.actors(size);
+        newUsers = Fixtures.users(size);
+
+        // a session that has already loaded the whole social graph
+        loadedContext = new MappingContext(socialMetaData);
+        loadedUser = new GraphEntityMapper(socialMetaData, loadedContext).map(User.class, Fixtures.usersGraph(size)).get(0);
+    }
+
+    /**
+     * Maps a new graph of actors, movies and roles reachable from a single actor.
+     */
+    @Benchmark
+    public CompileContext mapNewActorGraph() {
+        return new EntityGraphMapper(cineastsMetaData, new MappingContext(cineastsMetaData)).map(newActors.get(0), -1);
+    }
+
+    /**
+     * Maps a new ring of users reachable from a single user.
+     */
+    @Benchmark
+    public CompileContext mapNewUserGraph() {
+        return new EntityGraphMapper(socialMetaData, new MappingContext(socialMetaData)).map(newUsers.get(0), -1);
+    }
+
+    /**
+     * Maps an unchanged, previously loaded user to depth 1 in a session that knows about every relationship in the graph.
+     */
+    @Benchmark
+    public CompileContext mapLoadedUserInPopulatedSession() {
+        return new EntityGraphMapper(socialMetaData, loadedContext).map(loadedUser, 1);
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.neo4j.ogm.domain.cineasts.annotated.Actor;
+import org.neo4j.ogm.domain.cineasts.annotated.Movie;
+import org.neo4j.ogm.domain.social.User;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+/**
+ * Builds the object graphs and graph models shared by the benchmarks.
+ *
+ * All fixtures are deterministic for a given size so that runs can be compared with each other.
+ *
+ * @author Mark Angrish
+ */
+final class Fixtures {
+
+    static final String CINEASTS = "org.neo4j.ogm.domain.cineasts.annotated";
+    static final String SOCIAL = "org.neo4j.ogm.domain.social";
+    static final String CANONICAL = "org.neo4j.ogm.domain.canonical";
+
+    private static final int MOVIES_PER_ACTOR = 3;
+    private static final int FRIENDS_PER_USER = 5;
+
+    private Fixtures() {
+    }
+
+    /**
+     * Creates new (unsaved) actors, each of whom acts in {@value #MOVIES_PER_ACTOR} movies shared with other actors.
+     */
+    static List<Actor> actors(int size) {
+        List<Movie> movies = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            movies.add(new Movie("Movie " + i, 1900 + (i % 120)));
+        }
+        List<Actor> actors = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Actor actor = new Actor("Actor " + i);
+            for (int m = 0; m < MOVIES_PER_ACTOR; m++) {
+                actor.playedIn(movies.get((i + m) % size), "Role " + m);
+            }
+            actors.add(actor);
+        }
+        return actors;
+    }
+
+    /**
+     * Creates new (unsaved) users arranged in a ring, each befriending the next {@value #FRIENDS_PER_USER} users.
+     */
+    static List<User> users(int size) {
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            users.add(new User("User " + i));
+        }
+        for (int i = 0; i < size; i++) {
+            for (int f = 1; f <= FRIENDS_PER_USER && f < size; f++) {
+                users.get(i).befriend(users.get((i + f) % size));
+            }
+        }
+        return users;
+    }
+
+    /**
+     * A graph model of actors and movies connected by ACTS_IN relationship entities, as returned by a load query.
+     */
+    static DefaultGraphModel actorsGraph(int size) {
+        List<NodeModel> nodes = new ArrayList<>(size * 2);
+        List<RelationshipModel> relationships = new ArrayList<>(size * MOVIES_PER_ACTOR);
+
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("name", "Actor " + i);
+            properties.put("uuid", uuid(i).toString());
+            nodes.add(node(i, "Actor", properties));
+        }
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("title", "Movie " + i);
+            properties.put("year", 1900 + (i % 120));
+            properties.put("uuid", uuid(size + i).toString());
+            nodes.add(node(size + i, "Movie", properties));
+        }
+        long relId = 0;
+        for (int i = 0; i < size; i++) {
+            for (int m = 0; m < MOVIES_PER_ACTOR; m++) {
+                Map<String, Object> properties = new HashMap<>();
+                properties.put("role", "Role " + m);
+                relationships.add(relationship(relId++, "ACTS_IN", i, size + ((i + m) % size), properties));
+            }
+        }
+        return graph(nodes, relationships);
+    }
+
+    /**
+     * A graph model of users connected by undirected FRIEND relationships, as returned by a load query.
+     */
+    static DefaultGraphModel usersGraph(int size) {
+        List<NodeModel> nodes = new ArrayList<>(size);
+        List<RelationshipModel> relationships = new ArrayList<>(size * FRIENDS_PER_USER);
+
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("name", "User " + i);
+            nodes.add(node(i, "User", properties));
+        }
+        long relId = 0;
+        for (int i = 0; i < size; i++) {
+            for (int f = 1; f <= FRIENDS_PER_USER && f < size; f++) {
+                relationships.add(relationship(relId++, "FRIEND", i, (i + f) % size, new HashMap<String, Object>()));
+            }
+        }
+        return graph(nodes, relationships);
+    }
+
+    /**
+     * A graph model of unconnected canonical {@link org.neo4j.ogm.domain.canonical.Mappable} nodes carrying
+     * one property of each scalar and array type the OGM can map.
+     */
+    static DefaultGraphModel canonicalGraph(int size) {
+        List<NodeModel> nodes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> properties = new HashMap<>();
+            properties.put("primitiveInt", i);
+            properties.put("primitiveLong", (long) i);
+            properties.put("primitiveBoolean", i % 2 == 0);
+            properties.put("primitiveDouble", i * 1.5d);
+            properties.put("primitiveFloat", i * 0.5d);
+            properties.put("objectInteger", i);
+            properties.put("objectLong", (long) i);
+            properties.put("objectString", "Mappable " + i);
+            properties.put("objectDouble", i * 2.5d);
+            properties.put("primitiveIntArray", new long[]{i, i + 1, i + 2});
+            properties.put("objectStringArray", new String[]{"a" + i, "b" + i, "c" + i});
+            properties.put("listOfString", new String[]{"x" + i, "y" + i});
+            nodes.add(node(i, "Mappable", properties));
+        }
+        return graph(nodes, new ArrayList<RelationshipModel>());
+    }
+
+    private static UUID uuid(long i) {
+        return new UUID(0L, i);
+    }
+
+    private static NodeModel node(long id, String label, Map<String, Object> properties) {
+        NodeModel node = new NodeModel();
+        node.setId(id);
+        node.setLabels(new String[]{label});
+        node.setProperties(properties);
+        return node;
+    }
+
+    private static RelationshipModel relationship(long id, String type, long start, long end, Map<String, Object> properties) {
+        RelationshipModel relationship = new RelationshipModel();
+        relationship.setId(id);
+        relationship.setType(type);
+        relationship.setStartNode(start);
+        relationship.setEndNode(end);
+        relationship.setProperties(properties);
+        return relationship;
+    }
+
+    private static DefaultGraphModel graph(List<NodeModel> nodes, List<RelationshipModel> relationships) {
+        DefaultGraphModel graphModel = new DefaultGraphModel();
+        graphModel.setNodes(nodes.toArray(new NodeModel[nodes.size()]));
+        graphModel.setRelationships(relationships.toArray(new RelationshipModel[relationships.size()]));
+        return graphModel;
+    }
+}
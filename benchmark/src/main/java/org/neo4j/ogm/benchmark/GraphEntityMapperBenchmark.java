@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.canonical.Mappable;
+import org.neo4j.ogm.domain.cineasts.annotated.Actor;
+import org.neo4j.ogm.domain.social.User;
+import org.neo4j.ogm.model.GraphModel;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures {@link GraphEntityMapper#map(Class, GraphModel)}, the hydration of query results into a fresh session.
+ *
+ * @author Mark Angrish
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class GraphEntityMapperBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private MetaData cineastsMetaData;
+    private MetaData socialMetaData;
+    private MetaData canonicalMetaData;
+
+    private GraphModel actorsGraph;
+    private GraphModel usersGraph;
+    private GraphModel canonicalGraph;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cineastsMetaData = new MetaData(Fixtures.CINEASTS);
+        socialMetaData = new MetaData(Fixtures.SOCIAL);
+        canonicalMetaData = new MetaData(Fixtures.CANONICAL);
+
+        actorsGraph = Fixtures.actorsGraph(size);
+        usersGraph = Fixtures.usersGraph(size);
+        canonicalGraph = Fixtures.canonicalGraph(size);
+    }
+
+    /**
+     * Hydrates actors and movies connected by relationship entities.
+     */
+    @Benchmark
+    public List<Actor> mapActors() {
+        return new GraphEntityMapper(cineastsMetaData, new MappingContext(cineastsMetaData)).map(Actor.class, actorsGraph);
+    }
+
+    /**
+     * Hydrates users connected by simple undirected relationships.
+     */
+    @Benchmark
+    public List<User> mapUsers() {
+        return new GraphEntityMapper(socialMetaData, new MappingContext(socialMetaData)).map(User.class, usersGraph);
+    }
+
+    /**
+     * Hydrates unconnected nodes with many properties, exercising type conversion and field writes.
+     */
+    @Benchmark
+    public List<Mappable> mapCanonical() {
+        return new GraphEntityMapper(canonicalMetaData, new MappingContext(canonicalMetaData)).map(Mappable.class, canonicalGraph);
+    }
+}
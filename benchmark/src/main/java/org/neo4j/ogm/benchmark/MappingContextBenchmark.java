@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.MappedRelationship;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.domain.canonical.Mappable;
+import org.neo4j.ogm.domain.social.User;
+import org.neo4j.ogm.metadata.ClassInfo;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures registering entities and relationships in a {@link MappingContext}, and looking them up again.
+ *
+ * @author Mark Angrish
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MappingContextBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private MetaData canonicalMetaData;
+    private MetaData socialMetaData;
+
+    private List<Mappable> entities;
+    private List<Long> ids;
+    private List<MappedRelationship> relationships;
+
+    private MappingContext populatedContext;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        canonicalMetaData = new MetaData(Fixtures.CANONICAL);
+        socialMetaData = new MetaData(Fixtures.SOCIAL);
+
+        // hydrate once so that every entity carries its graph id
+        entities = new GraphEntityMapper(canonicalMetaData, new MappingContext(canonicalMetaData)).map(Mappable.class, Fixtures.canonicalGraph(size));
+        ClassInfo classInfo = canonicalMetaData.classInfo(Mappable.class.getName());
+        ids = new ArrayList<>(size);
+        for (Mappable entity : entities) {
+            ids.add((Long) canonicalMetaData.entityAccessManager().getIdentityPropertyReader(classInfo).readProperty(entity));
+        }
+
+        relationships = new ArrayList<>(size);
+        for (long i = 0; i < size; i++) {
+            relationships.add(new MappedRelationship(i, "FRIEND", (i + 1) % size, User.class, User.class));
+        }
+
+        populatedContext = new MappingContext(canonicalMetaData);
+        for (int i = 0; i < size; i++) {
+            populatedContext.addNodeEntity(entities.get(i), ids.get(i));
+        }
+    }
+
+    @Benchmark
+    public MappingContext registerNodeEntities() {
+        MappingContext mappingContext = new MappingContext(canonicalMetaData);
+        for (int i = 0; i < size; i++) {
+            mappingContext.addNodeEntity(entities.get(i), ids.get(i));
+        }
+        return mappingContext;
+    }
+
+    @Benchmark
+    public void lookupNodeEntities(Blackhole blackhole) {
+        for (Long id : ids) {
+            blackhole.consume(populatedContext.getNodeEntity(id));
+        }
+    }
+
+    @Benchmark
+    public MappingContext registerRelationships() {
+        MappingContext mappingContext = new MappingContext(socialMetaData);
+        for (MappedRelationship relationship : relationships) {
+            mappingContext.addRelationship(relationship);
+        }
+        return mappingContext;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.domain.cineasts.annotated.Actor;
+import org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver;
+import org.neo4j.ogm.service.DriverService;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * End-to-end {@link Session#loadAll(Class, int)} against a temporary embedded database populated once per trial.
+ *
+ * @author Mark Angrish
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SessionLoadBenchmark {
+
+    @Param({"100", "1000"})
+    private int size;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configuration configuration = new Configuration();
+        configuration.driverConfiguration().setDriverClassName(EmbeddedDriver.class.getName());
+        sessionFactory = new SessionFactory(DriverService.load(configuration.driverConfiguration()), configuration, Fixtures.CINEASTS);
+        sessionFactory.openSession().save(Fixtures.actors(size));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Collection<Actor> loadAllDepth1() {
+        return sessionFactory.openSession().loadAll(Actor.class, 1);
+    }
+
+    @Benchmark
+    public Collection<Actor> loadAllDepth2() {
+        return sessionFactory.openSession().loadAll(Actor.class, 2);
+    }
+}
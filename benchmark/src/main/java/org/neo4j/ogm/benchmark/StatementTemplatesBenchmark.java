@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.cypher.query.StatementTemplates;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Measures looking up a statement in {@link StatementTemplates} against rendering it again, for the two kinds of
+ * template in use: the load queries, which are formatted, and the save statements, which are appended to a builder.
+ * Each lookup includes building its key from the shape.
+ *
+ * @author Mark Angrish
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class StatementTemplatesBenchmark {
+
+    /**
+     * Like the templates of the node load queries.
+     */
+    private static final StatementTemplates.Template FORMATTED = new StatementTemplates.Template() {
+
+        @Override
+        public String render(Object[] shape) {
+            return String.format("MATCH (n:`%s`) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*%d..%d]-(m)%s RETURN p", shape);
+        }
+    };
+
+    /**
+     * Like the template of the new node statements.
+     */
+    private static final StatementTemplates.Template BUILT = new StatementTemplates.Template() {
+
+        @Override
+        public String render(Object[] shape) {
+            StringBuilder builder = new StringBuilder("UNWIND {rows} as row ");
+            builder.append(shape[1] != null ? "MERGE (n" : "CREATE (n");
+            for (String label : (String[]) shape[0]) {
+                builder.append(":`").append(label).append("`");
+            }
+            return builder.append(") SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, row.type as type").toString();
+        }
+    };
+
+    private final String[] labels = {"Person", "Entity", "Customer"};
+
+    @Benchmark
+    public String formattedRendered() {
+        return FORMATTED.render(new Object[] {"Person", 0, 2, " WHERE NOT m:`Lazy`"});
+    }
+
+    @Benchmark
+    public String formattedCached() {
+        return StatementTemplates.cypher(FORMATTED, "Person", 0, 2, " WHERE NOT m:`Lazy`");
+    }
+
+    @Benchmark
+    public String builtRendered() {
+        return BUILT.render(new Object[] {labels, null});
+    }
+
+    @Benchmark
+    public String builtCached() {
+        return StatementTemplates.cypher(BUILT, labels, null);
+    }
+}
@@ -15,17 +15,23 @@ package org.neo4j.ogm.drivers.bolt.driver;
 
 import java.io.File;
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.neo4j.driver.v1.*;
 import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.v1.exceptions.SessionExpiredException;
 import org.neo4j.ogm.authentication.UsernamePasswordCredentials;
 import org.neo4j.ogm.config.DriverConfiguration;
 import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.driver.ReadEndpoints;
 import org.neo4j.ogm.drivers.bolt.request.BoltRequest;
 import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
 import org.neo4j.ogm.exception.ConnectionException;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -39,6 +45,7 @@ public class BoltDriver extends AbstractConfigurableDriver {
 	private final Logger LOGGER = LoggerFactory.getLogger(BoltDriver.class);
 
 	private Driver boltDriver;
+	private ReadEndpoints<Driver> readDrivers = new ReadEndpoints<>(new ArrayList<Driver>(), 0);
 
 	// required for service loader mechanism
 	public BoltDriver() {
@@ -58,43 +65,110 @@ public class BoltDriver extends AbstractConfigurableDriver {
 
 		Config driverConfig = buildDriverConfig(config);
 
-		if (config.getCredentials() != null) {
-			UsernamePasswordCredentials credentials = (UsernamePasswordCredentials) config.getCredentials();
-			AuthToken authToken = AuthTokens.basic(credentials.getUsername(), credentials.getPassword());
-			boltDriver = GraphDatabase.driver(config.getURI(), authToken, driverConfig);
-		} else {
-			boltDriver = GraphDatabase.driver(config.getURI(), driverConfig);
-			LOGGER.debug("Bolt Driver credentials not supplied");
+		boltDriver = nativeDriver(config, config.getURI(), driverConfig);
+
+		List<Driver> readers = new ArrayList<>();
+		for (String readURI : config.getReadURIs()) {
+			readers.add(nativeDriver(config, readURI, driverConfig));
+		}
+		readDrivers = new ReadEndpoints<>(readers, config.getReadRetryInterval());
+	}
+
+	@Override
+	public Transaction newTransaction(TransactionManager transactionManager, Transaction.Type type, String bookmark) {
+		if (type.equals(Transaction.Type.READ_ONLY)) {
+			Driver reader;
+			while ((reader = readDrivers.next()) != null) {
+				Session session = null;
+				try {
+					// the bookmark makes the read endpoint wait until it has caught up with the writes of this session
+					session = newSession(reader, type);
+					return new BoltTransaction(transactionManager, nativeTransaction(transactionManager, session, bookmark), session, type);
+				} catch (RuntimeException e) {
+					if (session != null && session.isOpen()) {
+						session.close();
+					}
+					if (!isUnavailable(e)) {
+						throw e;
+					}
+					LOGGER.warn("Read endpoint {} is unavailable, leaving it out for {} seconds", reader, driverConfig.getReadRetryInterval(), e);
+					readDrivers.failed(reader);
+				}
+			}
 		}
+		Session session = newSession(boltDriver, type); //A bolt session can have at most one transaction running at a time
+		return new BoltTransaction(transactionManager, nativeTransaction(transactionManager, session, bookmark), session, type);
 	}
 
 	@Override
-	public Transaction newTransaction(Transaction.Type type, String bookmark) {
-		Session session = newSession(type); //A bolt session can have at most one transaction running at a time
-		return new BoltTransaction(transactionManager, nativeTransaction(session, bookmark), session, type);
+	public boolean routesReads() {
+		return !readDrivers.isEmpty();
 	}
 
 	@Override
 	public synchronized void close() {
 		if (boltDriver != null) {
-			try {
-				LOGGER.info("Shutting down Bolt driver {} ", boltDriver);
-				boltDriver.close();
-			} catch (Exception e) {
-				throw new RuntimeException(e);
+			LOGGER.info("Shutting down Bolt driver {} ", boltDriver);
+			RuntimeException failure = close(boltDriver, null);
+			for (Driver reader : readDrivers.all()) {
+				failure = close(reader, failure);
+			}
+			if (failure != null) {
+				throw failure;
 			}
 		}
 	}
 
+	/**
+	 * Closes a native driver, so that one failing to close does not leave the others open.
+	 *
+	 * @param driver the native driver to close
+	 * @param failure the failure to close an earlier driver, or null
+	 * @return the failure to close the first driver that failed, with any later failures suppressed by it
+	 */
+	private static RuntimeException close(Driver driver, RuntimeException failure) {
+		try {
+			driver.close();
+		} catch (Exception e) {
+			if (failure == null) {
+				return new RuntimeException(e);
+			}
+			failure.addSuppressed(e);
+		}
+		return failure;
+	}
+
+	/**
+	 * A read endpoint is only left out when it cannot be reached. A client error, such as credentials it refuses,
+	 * would fail on every endpoint alike, so it is raised instead.
+	 *
+	 * @param e the failure to open a session or a transaction on a read endpoint
+	 * @return true if the failure is a failure to connect
+	 */
+	static boolean isUnavailable(RuntimeException e) {
+		Throwable cause = e instanceof ConnectionException && e.getCause() != null ? e.getCause() : e;
+		return cause instanceof ServiceUnavailableException || cause instanceof SessionExpiredException;
+	}
+
 	@Override
-	public Request request() {
+	public Request request(TransactionManager transactionManager) {
 		return new BoltRequest(transactionManager);
 	}
 
-	private Session newSession(Transaction.Type type) {
+	private Driver nativeDriver(DriverConfiguration config, String uri, Config driverConfig) {
+		if (config.getCredentials() != null) {
+			UsernamePasswordCredentials credentials = (UsernamePasswordCredentials) config.getCredentials();
+			AuthToken authToken = AuthTokens.basic(credentials.getUsername(), credentials.getPassword());
+			return GraphDatabase.driver(uri, authToken, driverConfig);
+		}
+		LOGGER.debug("Bolt Driver credentials not supplied");
+		return GraphDatabase.driver(uri, driverConfig);
+	}
+
+	private Session newSession(Driver driver, Transaction.Type type) {
 		Session boltSession;
 		try {
-			boltSession = boltDriver.session(type.equals(Transaction.Type.READ_ONLY) ? AccessMode.READ : AccessMode.WRITE);
+			boltSession = driver.session(type.equals(Transaction.Type.READ_ONLY) ? AccessMode.READ : AccessMode.WRITE);
 		} catch (ClientException ce) {
 			throw new ConnectionException("Error connecting to graph database using Bolt: " + ce.neo4jErrorCode() + ", " + ce.getMessage(), ce);
 		} catch (Exception e) {
@@ -103,7 +177,7 @@ public class BoltDriver extends AbstractConfigurableDriver {
 		return boltSession;
 	}
 
-	private org.neo4j.driver.v1.Transaction nativeTransaction(Session session, String bookmark) {
+	private org.neo4j.driver.v1.Transaction nativeTransaction(TransactionManager transactionManager, Session session, String bookmark) {
 
 		org.neo4j.driver.v1.Transaction nativeTransaction;
 
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.request;
+
+import java.lang.reflect.Array;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.neo4j.ogm.json.ObjectMapperFactory;
+import org.neo4j.ogm.typeconversion.ByteArrayBase64Converter;
+
+/**
+ * Converts OGM statement parameters into values the Bolt driver accepts, in a single pass over the parameters.
+ *
+ * Values the driver understands are passed through as they are. Other values are converted to what they would have
+ * become after being written to JSON and read back again, so the Bolt driver sends the same parameters as the HTTP
+ * driver does.
+ *
+ * @author Mark Angrish
+ */
+public class BoltParameterConverter {
+
+	private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+
+	private static final ByteArrayBase64Converter byteArrayConverter = new ByteArrayBase64Converter();
+
+	/**
+	 * Converts the parameters of a statement.
+	 *
+	 * @param parameters the statement parameters, may be null
+	 * @return a new map containing only values the Bolt driver can send
+	 */
+	public Map<String, Object> convertParameters(Map<String, ?> parameters) {
+		if (parameters == null) {
+			return new HashMap<>();
+		}
+		Map<String, Object> converted = new HashMap<>(capacity(parameters.size()));
+		for (Map.Entry<String, ?> entry : parameters.entrySet()) {
+			converted.put(entry.getKey(), convert(entry.getValue()));
+		}
+		return converted;
+	}
+
+	/**
+	 * Converts a single parameter value.
+	 *
+	 * @param value the value to convert
+	 * @return a null, String, Boolean, Long, Integer, Double, Float, Short, Byte or Character value,
+	 * or a List or Map of such values
+	 */
+	public Object convert(Object value) {
+
+		if (value == null
+				|| value instanceof String
+				|| value instanceof Boolean
+				|| value instanceof Long
+				|| value instanceof Integer
+				|| value instanceof Double
+				|| value instanceof Float
+				|| value instanceof Short
+				|| value instanceof Byte
+				|| value instanceof Character) {
+			return value;
+		}
+
+		if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			Map<String, Object> converted = new HashMap<>(capacity(map.size()));
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				converted.put(String.valueOf(entry.getKey()), convert(entry.getValue()));
+			}
+			return converted;
+		}
+
+		if (value instanceof Collection) {
+			Collection<?> collection = (Collection<?>) value;
+			List<Object> converted = new ArrayList<>(collection.size());
+			for (Object element : collection) {
+				converted.add(convert(element));
+			}
+			return converted;
+		}
+
+		if (value instanceof Iterable) {
+			List<Object> converted = new ArrayList<>();
+			for (Object element : (Iterable<?>) value) {
+				converted.add(convert(element));
+			}
+			return converted;
+		}
+
+		if (value instanceof Enum) {
+			return ((Enum<?>) value).name();
+		}
+
+		if (value.getClass().isArray()) {
+			return convertArray(value);
+		}
+
+		if (value instanceof Number) {
+			return convertNumber((Number) value);
+		}
+
+		// anything else, e.g. a Date or a bean, is converted the same way Jackson would write it
+		Object converted = mapper.convertValue(value, Object.class);
+		if (converted == null || converted.getClass() == value.getClass()) {
+			return converted;
+		}
+		return convert(converted);
+	}
+
+	private Object convertArray(Object array) {
+		if (array instanceof byte[]) {
+			return byteArrayConverter.toGraphProperty((byte[]) array);
+		}
+		if (array instanceof char[]) {
+			return new String((char[]) array);
+		}
+		int length = Array.getLength(array);
+		List<Object> converted = new ArrayList<>(length);
+		for (int i = 0; i < length; i++) {
+			converted.add(convert(Array.get(array, i)));
+		}
+		return converted;
+	}
+
+	private Object convertNumber(Number number) {
+		if (number instanceof BigInteger || number instanceof AtomicInteger || number instanceof AtomicLong) {
+			return number.longValue();
+		}
+		return number.doubleValue();
+	}
+
+	private static int capacity(int size) {
+		return Math.max(16, (int) (size / 0.75f) + 1);
+	}
+}
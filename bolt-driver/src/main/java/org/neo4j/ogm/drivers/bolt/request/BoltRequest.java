@@ -15,21 +15,19 @@ package org.neo4j.ogm.drivers.bolt.request;
 
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.neo4j.driver.v1.StatementResult;
 import org.neo4j.driver.v1.exceptions.ClientException;
 import org.neo4j.ogm.drivers.bolt.response.GraphModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.GraphRowModelResponse;
+import org.neo4j.ogm.drivers.bolt.response.PipelinedRowModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.RestModelResponse;
 import org.neo4j.ogm.drivers.bolt.response.RowModelResponse;
 import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
 import org.neo4j.ogm.exception.ConnectionException;
 import org.neo4j.ogm.exception.CypherException;
-import org.neo4j.ogm.json.ObjectMapperFactory;
 import org.neo4j.ogm.model.GraphModel;
 import org.neo4j.ogm.model.GraphRowListModel;
 import org.neo4j.ogm.model.RestModel;
@@ -50,12 +48,13 @@ import org.slf4j.LoggerFactory;
 /**
  * @author vince
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class BoltRequest implements Request {
 
 	private final TransactionManager transactionManager;
 
-	private static final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
+	private static final BoltParameterConverter parameterConverter = new BoltParameterConverter();
 
 	private final Logger LOGGER = LoggerFactory.getLogger(BoltRequest.class);
 
@@ -83,43 +82,12 @@ public class BoltRequest implements Request {
 
 	@Override
 	public Response<RowModel> execute(DefaultRequest query) {
-		final List<RowModel> rowmodels = new ArrayList<>();
-		String[] columns = null;
+		// run every statement before reading any result, so that they are all sent without waiting for a reply
+		List<StatementResult> results = new ArrayList<>();
 		for (Statement statement : query.getStatements()) {
-			StatementResult result = executeRequest(statement);
-			if (columns == null) {
-				List<String> columnSet = result.keys();
-				columns = columnSet.toArray(new String[columnSet.size()]);
-			}
-			RowModelResponse rowModelResponse = new RowModelResponse(result, transactionManager);
-			RowModel model;
-			while ((model = rowModelResponse.next()) != null) {
-				rowmodels.add(model);
-			}
-			  result.consume();
+			results.add(executeRequest(statement));
 		}
-
-		final String[] finalColumns = columns;
-		return new Response<RowModel>() {
-			int currentRow = 0;
-
-			@Override
-			public RowModel next() {
-				if (currentRow < rowmodels.size()) {
-					return rowmodels.get(currentRow++);
-				}
-				return null;
-			}
-
-			@Override
-			public void close() {
-			}
-
-			@Override
-			public String[] columns() {
-				return finalColumns;
-			}
-		};
+		return new PipelinedRowModelResponse(results, transactionManager);
 	}
 
 	@Override
@@ -142,10 +110,7 @@ public class BoltRequest implements Request {
 	private StatementResult executeRequest(Statement request) {
 		BoltTransaction tx;
 		try {
-			String params = mapper.writeValueAsString(request.getParameters());
-			TypeReference<HashMap<String, Object>> typeRef = new TypeReference<HashMap<String, Object>>() {
-			};
-			HashMap<String, Object> parameterMap = mapper.readValue(params.getBytes(), typeRef);
+			Map<String, Object> parameterMap = parameterConverter.convertParameters(request.getParameters());
 
 			LOGGER.info("Request: {} with params {}", request.getStatement(), parameterMap);
 
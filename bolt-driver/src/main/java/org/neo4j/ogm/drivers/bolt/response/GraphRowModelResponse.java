@@ -22,6 +22,7 @@ import org.neo4j.ogm.transaction.TransactionManager;
 
 /**
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class GraphRowModelResponse extends BoltResponse<GraphRowListModel> {
 
@@ -34,13 +35,10 @@ public class GraphRowModelResponse extends BoltResponse<GraphRowListModel> {
 
 	@Override
 	public GraphRowListModel fetchNext() {
+		// one row at a time, so that a caller mapping rows as they arrive never holds the whole result
 		if (result.hasNext()) {
 			DefaultGraphRowListModel model = new DefaultGraphRowListModel();
 			model.add(adapter.adapt(result.next().asMap()));
-
-			while (result.hasNext()) {
-				model.add(adapter.adapt(result.next().asMap()));
-			}
 			return model;
 		}
 		return null;
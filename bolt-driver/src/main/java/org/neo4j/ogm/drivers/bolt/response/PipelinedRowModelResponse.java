@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.response;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.neo4j.driver.v1.StatementResult;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.ogm.drivers.bolt.transaction.BoltTransaction;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.transaction.TransactionManager;
+
+/**
+ * The rows of several statements that were all run before any of their results were read.
+ *
+ * The driver sends a statement as soon as it is run, without waiting for the server to reply, so the statements are
+ * pipelined on the connection and their replies come back one after the other. The rows of each statement are read
+ * only when the rows of the statements before it have been returned, and are never held here.
+ *
+ * @author Mark Angrish
+ */
+public class PipelinedRowModelResponse implements Response<RowModel> {
+
+	private final List<StatementResult> results;
+	private final Iterator<StatementResult> pending;
+	private final TransactionManager transactionManager;
+	private RowModelResponse current;
+
+	public PipelinedRowModelResponse(List<StatementResult> results, TransactionManager transactionManager) {
+		this.results = results;
+		this.pending = results.iterator();
+		this.transactionManager = transactionManager;
+	}
+
+	@Override
+	public RowModel next() {
+		while (current != null || pending.hasNext()) {
+			if (current == null) {
+				current = read(pending.next());
+			}
+			RowModel model = current.next();
+			if (model != null) {
+				return model;
+			}
+			current = null;
+		}
+		return null;
+	}
+
+	@Override
+	public void close() {
+		// if there is no current transaction available, the results have already been consumed.
+		if (transactionManager.getCurrentTransaction() != null) {
+			try {
+				if (current != null) {
+					current.close();
+					current = null;
+				}
+				// a statement whose rows were not read may still fail
+				while (pending.hasNext()) {
+					pending.next().consume();
+				}
+			} catch (ClientException ce) {
+				throw failed(ce);
+			}
+		}
+	}
+
+	@Override
+	public String[] columns() {
+		if (results.isEmpty()) {
+			return new String[0];
+		}
+		List<String> columns = results.get(0).keys();
+		return columns.toArray(new String[columns.size()]);
+	}
+
+	private RowModelResponse read(StatementResult result) {
+		try {
+			// the columns of a response are read from its first row, which waits for the reply to its statement
+			return new RowModelResponse(result, transactionManager);
+		} catch (ClientException ce) {
+			throw failed(ce);
+		}
+	}
+
+	/**
+	 * Rolls back the current transaction once a statement has failed, as a failure to run one does.
+	 */
+	private CypherException failed(ClientException ce) {
+		BoltTransaction tx = (BoltTransaction) transactionManager.getCurrentTransaction();
+		if (tx != null) {
+			tx.rollback();
+		}
+		return new CypherException("Error executing Cypher", ce, ce.neo4jErrorCode(), ce.getMessage());
+	}
+}
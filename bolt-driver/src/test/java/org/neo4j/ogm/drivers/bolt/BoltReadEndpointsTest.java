@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.drivers.AbstractReadEndpointsTestSuite;
+import org.neo4j.ogm.drivers.bolt.driver.BoltDriver;
+import org.neo4j.ogm.service.Components;
+import org.neo4j.ogm.testutil.TestServer;
+
+/**
+ * @author Mark Angrish
+ */
+public class BoltReadEndpointsTest extends AbstractReadEndpointsTestSuite {
+
+	private static TestServer testServer;
+
+	@BeforeClass
+	public static void oneTimeSetup() {
+		Components.configure("ogm-bolt.properties");
+		testServer = new TestServer.Builder().enableBolt(true).build();
+	}
+
+	@AfterClass
+	public static void oneTimeTearDown() {
+		testServer.shutdown();
+		Components.destroy();
+	}
+
+	@Override
+	protected String propertiesFile() {
+		return "ogm-bolt.properties";
+	}
+
+	@Override
+	protected String serverURL() {
+		return testServer.url();
+	}
+
+	@Override
+	protected Driver newDriver() {
+		return new BoltDriver();
+	}
+}
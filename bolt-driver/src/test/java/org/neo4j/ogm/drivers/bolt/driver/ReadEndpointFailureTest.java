@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.driver;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.neo4j.driver.v1.exceptions.ClientException;
+import org.neo4j.driver.v1.exceptions.ServiceUnavailableException;
+import org.neo4j.driver.v1.exceptions.SessionExpiredException;
+import org.neo4j.ogm.exception.ConnectionException;
+
+/**
+ * @author Mark Angrish
+ */
+public class ReadEndpointFailureTest {
+
+	@Test
+	public void shouldLeaveOutAReadEndpointThatCannotBeReached() {
+		assertTrue(BoltDriver.isUnavailable(new ServiceUnavailableException("Unable to connect to localhost:7688")));
+		assertTrue(BoltDriver.isUnavailable(new SessionExpiredException("Server at localhost:7688 is no longer available")));
+		assertTrue(BoltDriver.isUnavailable(new ConnectionException("Error connecting to graph database using Bolt",
+				new ServiceUnavailableException("Unable to connect to localhost:7688"))));
+	}
+
+	@Test
+	public void shouldNotLeaveOutAReadEndpointThatRefusesTheCredentials() {
+		ClientException unauthorized = new ClientException("Neo.ClientError.Security.Unauthorized", "The client is unauthorized due to authentication failure.");
+
+		assertFalse(BoltDriver.isUnavailable(unauthorized));
+		assertFalse(BoltDriver.isUnavailable(new ConnectionException("Error connecting to graph database using Bolt", unauthorized)));
+	}
+}
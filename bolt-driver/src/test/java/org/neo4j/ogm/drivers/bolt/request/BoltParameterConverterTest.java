@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.bolt.request;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.neo4j.driver.v1.Values;
+
+/**
+ * @author Mark Angrish
+ */
+public class BoltParameterConverterTest {
+
+	private final BoltParameterConverter converter = new BoltParameterConverter();
+
+	@Test
+	public void shouldPassThroughValuesTheDriverUnderstands() {
+		String name = "Sheila";
+		assertSame(name, converter.convert(name));
+		assertEquals(42L, converter.convert(42L));
+		assertEquals(42, converter.convert(42));
+		assertEquals(1.5d, converter.convert(1.5d));
+		assertEquals(true, converter.convert(true));
+		assertEquals(null, converter.convert(null));
+	}
+
+	@Test
+	public void shouldConvertNestedRowsInOnePass() {
+		Map<String, Object> props = new HashMap<>();
+		props.put("name", "Sheila");
+		props.put("scores", new int[]{1, 2, 3});
+		Map<String, Object> row = new HashMap<>();
+		row.put("nodeRef", -1L);
+		row.put("props", props);
+
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("rows", Collections.singletonList(row));
+
+		Map<String, Object> converted = converter.convertParameters(parameters);
+
+		List rows = (List) converted.get("rows");
+		Map convertedRow = (Map) rows.get(0);
+		assertEquals(-1L, convertedRow.get("nodeRef"));
+		assertEquals(Arrays.asList(1, 2, 3), ((Map) convertedRow.get("props")).get("scores"));
+
+		// the driver must accept the result
+		Values.value(converted);
+	}
+
+	@Test
+	public void shouldConvertValuesTheDriverDoesNotUnderstandLikeJson() {
+		assertEquals("SECONDS", converter.convert(java.util.concurrent.TimeUnit.SECONDS));
+		assertEquals("AQID", converter.convert(new byte[]{1, 2, 3}));
+		assertEquals("abc", converter.convert(new char[]{'a', 'b', 'c'}));
+		assertEquals(2.5d, converter.convert(new BigDecimal("2.5")));
+		assertEquals(1000L, converter.convert(new Date(1000L)));
+		assertEquals(Arrays.asList("a"), converter.convert(new HashSet<>(Arrays.asList("a"))));
+		assertEquals(Arrays.asList("a", "b"), converter.convert(new String[]{"a", "b"}));
+	}
+
+	@Test
+	public void shouldConvertBeansToMaps() {
+		Map converted = (Map) converter.convert(new Bean());
+		assertEquals("bean", converted.get("name"));
+		assertTrue(converted.get("created") instanceof Long);
+	}
+
+	public static class Bean {
+
+		public String getName() {
+			return "bean";
+		}
+
+		public Date getCreated() {
+			return new Date(0L);
+		}
+	}
+}
@@ -18,28 +18,133 @@ import java.util.*;
 
 import org.neo4j.ogm.annotation.NodeEntity;
 import org.neo4j.ogm.annotation.RelationshipEntity;
+import org.neo4j.ogm.entity.io.EntityAccessManager;
 import org.neo4j.ogm.exception.AmbiguousBaseClassException;
+import org.neo4j.ogm.exception.MappingException;
 import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.DomainInfo;
 import org.neo4j.ogm.metadata.impl.legacy.LegacyDomainInfo;
+import org.neo4j.ogm.utils.BoundedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 
 /**
+ * The mapping metadata of a domain, shared by every session of a {@link org.neo4j.ogm.session.SessionFactory}.
+ *
+ * The classes of the domain are indexed by label, relationship type and name once, when the domain is loaded. The
+ * indexes are never changed afterwards, so they can be read by any number of threads without locking.
+ *
  * @author Vince Bickers
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class MetaData {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(MetaData.class);
 
+	private static final int RESOLVED_TAXA_SIZE = 10000;
+
 	private final DomainInfo domainInfo;
-	private Map<String, ClassInfo> classInfos = new HashMap<>();
+	private final EntityAccessManager entityAccessManager = new EntityAccessManager();
+
+	// the first class annotated with each label, the classes annotated with each relationship type, and the class
+	// known by each fully or partially qualified class name
+	private final Map<String, ClassInfo> classInfosByLabel;
+	private final Map<String, Set<ClassInfo>> classInfosByType;
+	private final Map<String, ClassInfo> classInfosByName;
+	// partially qualified names shared by more than one class
+	private final Set<String> ambiguousNames;
+
+	// every name a class can be looked up by: a label takes precedence over a relationship type, both over a class name
+	private final Map<String, ClassInfo> classInfos;
+
+	private final BoundedCache<List<String>, ClassInfo> resolvedTaxa = new BoundedCache<>(RESOLVED_TAXA_SIZE);
+	private final BoundedCache.Loader<List<String>, ClassInfo> taxaResolver = new BoundedCache.Loader<List<String>, ClassInfo>() {
+
+		@Override
+		public ClassInfo load(List<String> taxa) {
+			return resolveTaxa(taxa.toArray(new String[taxa.size()]));
+		}
+	};
 
 	public MetaData(String... packages) {
-        domainInfo = new LegacyDomainInfo(packages);
+		domainInfo = new LegacyDomainInfo(packages);
+
+		classInfosByLabel = indexByAnnotation(NodeEntity.class.getName(), "label");
+
+		Map<String, Set<ClassInfo>> byType = new HashMap<>();
+		List<ClassInfo> relationshipEntities = domainInfo.getClassInfosWithAnnotation(RelationshipEntity.class.getName());
+		if (relationshipEntities != null) {
+			for (ClassInfo classInfo : relationshipEntities) {
+				String type = annotationValue(classInfo, RelationshipEntity.class.getName(), "type");
+				Set<ClassInfo> typed = byType.get(type);
+				if (typed == null) {
+					byType.put(type, typed = new LinkedHashSet<>());
+				}
+				typed.add(classInfo);
+			}
+		}
+		for (Map.Entry<String, Set<ClassInfo>> entry : byType.entrySet()) {
+			entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+		}
+		classInfosByType = Collections.unmodifiableMap(byType);
+
+		Map<String, ClassInfo> byName = new HashMap<>();
+		Set<String> ambiguous = new HashSet<>();
+		for (Map.Entry<String, ClassInfo> entry : domainInfo.getClassInfoMap().entrySet()) {
+			String name = entry.getKey();
+			// every name a class can be found by: its fully qualified name, each name qualified by less of its
+			// package, down to its simple name
+			int dot = -1;
+			do {
+				String partialName = name.substring(dot + 1);
+				if (byName.put(partialName, entry.getValue()) != null) {
+					ambiguous.add(partialName);
+				}
+				dot = name.indexOf('.', dot + 1);
+			} while (dot >= 0);
+		}
+		byName.keySet().removeAll(ambiguous);
+		classInfosByName = Collections.unmodifiableMap(byName);
+		ambiguousNames = Collections.unmodifiableSet(ambiguous);
+
+		Map<String, ClassInfo> all = new HashMap<>(classInfosByName);
+		for (Map.Entry<String, Set<ClassInfo>> entry : classInfosByType.entrySet()) {
+			all.put(entry.getKey(), entry.getValue().iterator().next());
+		}
+		all.putAll(classInfosByLabel);
+		classInfos = Collections.unmodifiableMap(all);
+	}
+
+	private Map<String, ClassInfo> indexByAnnotation(String annotation, String annotationPropertyName) {
+		Map<String, ClassInfo> index = new HashMap<>();
+		List<ClassInfo> annotatedClasses = domainInfo.getClassInfosWithAnnotation(annotation);
+		if (annotatedClasses != null) {
+			for (ClassInfo classInfo : annotatedClasses) {
+				String value = annotationValue(classInfo, annotation, annotationPropertyName);
+				if (!index.containsKey(value)) {
+					index.put(value, classInfo);
+				}
+			}
+		}
+		return Collections.unmodifiableMap(index);
+	}
+
+	private static String annotationValue(ClassInfo classInfo, String annotation, String annotationPropertyName) {
+		AnnotationInfo annotationInfo = classInfo.annotationsInfo().get(annotation);
+		return annotationInfo.get(annotationPropertyName, classInfo.neo4jName());
+	}
+
+	/**
+	 * Returns the {@link EntityAccessManager} that resolves and caches the entity accessors of this domain.
+	 * It is shared by every session using this MetaData.
+	 *
+	 * @return the EntityAccessManager of this MetaData
+	 */
+	public EntityAccessManager entityAccessManager() {
+		return entityAccessManager;
 	}
 
 	/**
@@ -50,31 +155,11 @@ public class MetaData {
 	 * @return A ClassInfo matching the supplied name, or null if it doesn't exist
 	 */
 	public ClassInfo classInfo(String name) {
-		if (classInfos.containsKey(name)) {
-			return classInfos.get(name);
+		ClassInfo classInfo = classInfos.get(name);
+		if (classInfo == null && ambiguousNames.contains(name)) {
+			throw new MappingException("More than one class has simple name: " + name);
 		}
-
-		ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
-		if (classInfo != null) {
-			classInfos.put(name, classInfo);
-			return classInfo;
-		}
-
-		classInfo = _classInfo(name, RelationshipEntity.class.getName(), "type");
-		if (classInfo != null) {
-			classInfos.put(name, classInfo);
-			return classInfo;
-		}
-
-		classInfo = domainInfo.getClassSimpleName(name);
-		if (classInfo != null) {
-			classInfos.put(name, classInfo);
-			return classInfo;
-		}
-
-		// not found
-		classInfos.put(name, null);
-		return null;
+		return classInfo;
 	}
 
 
@@ -88,35 +173,6 @@ public class MetaData {
 		return classInfo(object.getClass().getName());
 	}
 
-	private ClassInfo _classInfo(String name, String nodeEntityAnnotation, String annotationPropertyName) {
-		List<ClassInfo> labelledClasses = domainInfo.getClassInfosWithAnnotation(nodeEntityAnnotation);
-		if (labelledClasses != null) {
-			for (ClassInfo labelledClass : labelledClasses) {
-				AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(nodeEntityAnnotation);
-				String value = annotationInfo.get(annotationPropertyName, labelledClass.neo4jName());
-				if (value.equals(name)) {
-					return labelledClass;
-				}
-			}
-		}
-		return null;
-	}
-
-	private Set<ClassInfo> _classInfos(String name, String nodeEntityAnnotation, String annotationPropertyName) {
-		Set<ClassInfo> classInfos = new HashSet<>();
-		List<ClassInfo> labelledClasses = domainInfo.getClassInfosWithAnnotation(nodeEntityAnnotation);
-		if (labelledClasses != null) {
-			for (ClassInfo labelledClass : labelledClasses) {
-				AnnotationInfo annotationInfo = labelledClass.annotationsInfo().get(nodeEntityAnnotation);
-				String value = annotationInfo.get(annotationPropertyName, labelledClass.neo4jName());
-				if (value.equals(name)) {
-					classInfos.add(labelledClass);
-				}
-			}
-		}
-		return classInfos;
-	}
-
 	/**
 	 * Given an set of names (simple or fully-qualified) that are possibly within a type hierarchy, this function returns the
 	 * base class from among them.
@@ -125,6 +181,10 @@ public class MetaData {
 	 * @return The ClassInfo representing the base class among the taxa or <code>null</code> if it cannot be found
 	 */
 	public ClassInfo resolve(String... taxa) {
+		return resolvedTaxa.get(Arrays.asList(taxa.clone()), taxaResolver);
+	}
+
+	private ClassInfo resolveTaxa(String... taxa) {
 
 		if (taxa.length > 0) {
 
@@ -198,17 +258,21 @@ public class MetaData {
 
 		Set<ClassInfo> classInfos = new HashSet<>();
 
-		ClassInfo classInfo = _classInfo(name, NodeEntity.class.getName(), "label");
+		ClassInfo classInfo = classInfosByLabel.get(name);
 		if (classInfo != null) {
 			classInfos.add(classInfo);
 		}
 
 		//Potentially many relationship entities annotated with the same type
-		for (ClassInfo info : _classInfos(name, RelationshipEntity.class.getName(), "type")) {
-			classInfos.add(info);
+		Set<ClassInfo> typed = classInfosByType.get(name);
+		if (typed != null) {
+			classInfos.addAll(typed);
 		}
 
-		classInfo = domainInfo.getClassSimpleName(name);
+		if (ambiguousNames.contains(name)) {
+			throw new MappingException("More than one class has simple name: " + name);
+		}
+		classInfo = classInfosByName.get(name);
 		if (classInfo != null) {
 			classInfos.add(classInfo);
 		}
@@ -17,6 +17,7 @@ import java.lang.annotation.*;
 
 /**
  * @author Vince Bickers
+ * @author Mark Angrish
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.FIELD)
@@ -29,4 +30,18 @@ public @interface Relationship {
 
     String type() default "";
     String direction() default OUTGOING;
+
+    /**
+     * Whether a collection of related entities is loaded lazily.
+     *
+     * A lazy collection is not populated when its owner is loaded, whatever the depth: it is given an empty
+     * collection of the declared type which fetches the related entities through the session that loaded the owner,
+     * a page at a time, the first time it is used. When loading the declaring class, relationships of a type that
+     * only its lazy fields declare are not traversed at all. Saving an owner whose lazy collection has not been
+     * used leaves its relationships untouched.
+     *
+     * Only fields declared as a {@link java.util.Collection}, {@link java.util.List} or {@link java.util.Set}
+     * can be lazy. Other fields are always loaded eagerly.
+     */
+    boolean lazy() default false;
 }
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -51,10 +52,17 @@ public class AutoIndexManager {
 
     private final Driver driver;
 
+    private final Configuration configuration;
+
     public AutoIndexManager(MetaData metaData, Driver driver) {
+        this(metaData, driver, Components.getConfiguration());
+    }
+
+    public AutoIndexManager(MetaData metaData, Driver driver, Configuration configuration) {
 
         this.driver = initialiseDriver(driver);
-        this.mode = Components.autoIndexMode();
+        this.configuration = configuration;
+        this.mode = configuration.autoIndexConfiguration().getAutoIndex();
         this.indexes = initialiseIndexMetadata(metaData);
     }
 
@@ -108,8 +116,8 @@ public class AutoIndexManager {
             sb.append(index.getCreateStatement().getStatement()).append(newLine);
         }
 
-        File file = new File(Components.getConfiguration().autoIndexConfiguration().getDumpDir(),
-                Components.getConfiguration().autoIndexConfiguration().getDumpFilename());
+        File file = new File(configuration.autoIndexConfiguration().getDumpDir(),
+                configuration.autoIndexConfiguration().getDumpFilename());
         FileWriter writer = null;
 
         LOGGER.debug("Dumping Indexes to: [{}]", file.toString());
@@ -191,7 +199,7 @@ public class AutoIndexManager {
     }
 
     private DefaultRequest buildProcedures() {
-        if (Components.neo4jVersion() < 3.0) {
+        if (configuration.sessionConfiguration().getNeo4jVersion() < 3.0) {
             throw new Neo4jVersionException("This configuration of auto indexing requires Neo4j version 3.0 or higher.");
         }
         List<Statement> procedures = new ArrayList<>();
@@ -14,6 +14,7 @@
 package org.neo4j.ogm.compiler;
 
 import org.neo4j.ogm.context.Mappable;
+import org.neo4j.ogm.context.register.RelationshipRegister;
 import java.util.Collection;
 
 /**
@@ -21,9 +22,18 @@ import java.util.Collection;
  *
  * @author vince
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public interface CompileContext {
 
+    /**
+     * Registers all the relationships known to the mapping context at once. They are not copied: the register is
+     * consulted, and must not change, until compiling is done.
+     *
+     * @param knownRelationships the relationships of the mapping context
+     */
+    void registerRelationships(RelationshipRegister knownRelationships);
+
     void registerRelationship(Mappable mappable);
 
     boolean removeRegisteredRelationship(Mappable mappable);
@@ -58,6 +68,12 @@ public interface CompileContext {
 
     void deregister(NodeBuilder nodeBuilder);
 
+    /**
+     * @return the relationships known to the mapping context that were removed while compiling and not registered
+     * again, which the domain no longer holds
+     */
+    Collection<Mappable> getObsoleteRelationships();
+
     Collection<Mappable> getDeletedRelationships();
 
     Object getVisitedObject(Long reference);
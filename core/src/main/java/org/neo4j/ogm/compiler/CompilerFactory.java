@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.compiler;
+
+import org.neo4j.ogm.exception.ServiceNotFoundException;
+
+/**
+ * Creates a new {@link Compiler} of one class for each save.
+ *
+ * The compiler class is looked up by the service loader only once, when the factory is built, so creating a compiler
+ * takes neither a service lookup nor a lock.
+ *
+ * @author Mark Angrish
+ */
+public class CompilerFactory {
+
+    private final Class<? extends Compiler> compilerClass;
+
+    public CompilerFactory(Class<? extends Compiler> compilerClass) {
+        this.compilerClass = compilerClass;
+    }
+
+    /**
+     * @return a new instance of the compiler class
+     */
+    public Compiler newCompiler() {
+        try {
+            return compilerClass.newInstance();
+        } catch (InstantiationException | IllegalAccessException e) {
+            throw new ServiceNotFoundException("Compiler: " + compilerClass.getName(), e);
+        }
+    }
+
+    public Class<? extends Compiler> compilerClass() {
+        return compilerClass;
+    }
+}
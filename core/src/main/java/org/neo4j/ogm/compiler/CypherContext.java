@@ -14,12 +14,18 @@
 package org.neo4j.ogm.compiler;
 
 import org.neo4j.ogm.context.Mappable;
+import org.neo4j.ogm.context.MappedRelationship;
+import org.neo4j.ogm.context.register.RelationshipRegister;
 
 import java.util.*;
 
 /**
  * Maintains contextual information throughout the process of compiling Cypher statements to persist a graph of objects.
  *
+ * The relationships known to the mapping context are not copied into the compile context. It only records the changes
+ * made to them while compiling, on top of the mapping context's {@link RelationshipRegister}, so compiling a save costs
+ * time proportional to the part of the graph being saved rather than to everything loaded in the session.
+ *
  * @author Mark Angrish
  * @author Vince Bickers
  * @author Luanne Misquitta
@@ -30,7 +36,9 @@ public class CypherContext implements CompileContext {
     private final Set<Long> visitedRelationshipEntities = new HashSet<>();
 
     private final Map<Long, Object> createdObjectsWithId = new HashMap<>();
-    private final Collection<Mappable> registeredRelationships = new HashSet<>();
+    private final Set<Mappable> unregisteredKnownRelationships = new LinkedHashSet<>();
+    private final Set<Mappable> registeredNewRelationships = new LinkedHashSet<>();
+    private RelationshipRegister knownRelationships = new RelationshipRegister();
     private final Collection<Mappable> deletedRelationships = new HashSet<>();
     private final Map<Long, Long> newNodeIds = new HashMap<>();
 
@@ -51,12 +59,25 @@ public class CypherContext implements CompileContext {
         this.visitedObjects.put(identity, nodeBuilder);
     }
 
+    @Override
+    public void registerRelationships(RelationshipRegister knownRelationships) {
+        this.knownRelationships = knownRelationships;
+        this.unregisteredKnownRelationships.clear();
+    }
+
     public void registerRelationship(Mappable mappedRelationship) {
-        this.registeredRelationships.add(mappedRelationship);
+        if (isKnown(mappedRelationship)) {
+            this.unregisteredKnownRelationships.remove(mappedRelationship);
+        } else {
+            this.registeredNewRelationships.add(mappedRelationship);
+        }
     }
 
     public boolean removeRegisteredRelationship(Mappable mappedRelationship) {
-        return this.registeredRelationships.remove(mappedRelationship);
+        if (this.registeredNewRelationships.remove(mappedRelationship)) {
+            return true;
+        }
+        return isKnown(mappedRelationship) && this.unregisteredKnownRelationships.add(mappedRelationship);
     }
 
     @Override
@@ -105,23 +126,19 @@ public class CypherContext implements CompileContext {
      * @return true if the relationship was deleted or doesn't exist in the graph, false otherwise
      */
     public boolean deregisterOutgoingRelationships(Long src, String relationshipType, Class endNodeType) {
-        Iterator<Mappable> iterator = registeredRelationships.iterator();
-        boolean nothingToDelete = true;
         List<Mappable> cleared = new ArrayList<>();
-        while (iterator.hasNext()) {
-           Mappable mappedRelationship = iterator.next();
+        for (Mappable mappedRelationship : registeredRelationshipsOf(src)) {
            if (mappedRelationship.getStartNodeId() == src && mappedRelationship.getRelationshipType().equals(relationshipType) && endNodeType.equals(mappedRelationship.getEndNodeType())) {
                cleared.add(mappedRelationship);
-               iterator.remove();
-               nothingToDelete = false;
+               removeRegisteredRelationship(mappedRelationship);
            }
         }
-        if (nothingToDelete) {
+        if (cleared.isEmpty()) {
             return true; //relationships not in the graph, okay, we can return
         }
 
         //Check to see if the relationships were previously deleted, if so, restore them
-        iterator = cleared.iterator();
+        Iterator<Mappable> iterator = cleared.iterator();
         while(iterator.hasNext()) {
             Mappable mappedRelationship = iterator.next();
             if(isMappableAlreadyDeleted(mappedRelationship)) {
@@ -155,24 +172,20 @@ public class CypherContext implements CompileContext {
      * @return true if the relationship was deleted or doesn't exist in the graph, false otherwise
      */
     public boolean deregisterIncomingRelationships(Long tgt, String relationshipType, Class endNodeType, boolean relationshipEntity) {
-        Iterator<Mappable> iterator = registeredRelationships.iterator();
         List<Mappable> cleared = new ArrayList<>();
-        boolean nothingToDelete = true;
-        while (iterator.hasNext()) {
-            Mappable mappedRelationship = iterator.next();
+        for (Mappable mappedRelationship : registeredRelationshipsOf(tgt)) {
             if (mappedRelationship.getEndNodeId() == tgt && mappedRelationship.getRelationshipType().equals(relationshipType) && endNodeType.equals(relationshipEntity?mappedRelationship.getEndNodeType():mappedRelationship.getStartNodeType())) {
                 cleared.add(mappedRelationship);
-                iterator.remove();
-                nothingToDelete=false;
+                removeRegisteredRelationship(mappedRelationship);
             }
         }
 
-        if (nothingToDelete) {
+        if (cleared.isEmpty()) {
             return true; //relationships not in the graph, okay, we can return
         }
 
         //Check to see if the relationships were previously deleted, if so, restore them
-        iterator = cleared.iterator();
+        Iterator<Mappable> iterator = cleared.iterator();
         while(iterator.hasNext()) {
             Mappable mappedRelationship = iterator.next();
             if(isMappableAlreadyDeleted(mappedRelationship)) {
@@ -217,6 +230,17 @@ public class CypherContext implements CompileContext {
         compiler.unmap(nodeBuilder);
     }
 
+    @Override
+    public Collection<Mappable> getObsoleteRelationships() {
+        List<Mappable> obsolete = new ArrayList<>(unregisteredKnownRelationships.size());
+        for (Mappable mappedRelationship : unregisteredKnownRelationships) {
+            if (isKnown(mappedRelationship)) {
+                obsolete.add(mappedRelationship);
+            }
+        }
+        return obsolete;
+    }
+
     @Override
     public Collection<Mappable> getDeletedRelationships() {
         return deletedRelationships;
@@ -227,6 +251,30 @@ public class CypherContext implements CompileContext {
         return visitedObjects.get(reference);
     }
 
+    private boolean isKnown(Mappable mappable) {
+        return mappable instanceof MappedRelationship && knownRelationships.contains((MappedRelationship) mappable);
+    }
+
+    /**
+     * @param node the id of a node
+     * @return the registered relationships that start or end at the node
+     */
+    private List<Mappable> registeredRelationshipsOf(long node) {
+        List<Mappable> registered = new ArrayList<>();
+        for (MappedRelationship mappedRelationship : knownRelationships.relationshipsOf(node)) {
+            if (!unregisteredKnownRelationships.contains(mappedRelationship)) {
+                registered.add(mappedRelationship);
+            }
+        }
+        // only relationships unknown to the mapping context are held here, and the mapper hardly ever registers one
+        for (Mappable mappedRelationship : registeredNewRelationships) {
+            if (mappedRelationship.getStartNodeId() == node || mappedRelationship.getEndNodeId() == node) {
+                registered.add(mappedRelationship);
+            }
+        }
+        return registered;
+    }
+
     private boolean isMappableAlreadyDeleted(Mappable mappedRelationship) {
         for (Mappable deletedRelationship : deletedRelationships) {
             if (deletedRelationship.getEndNodeId() == mappedRelationship.getEndNodeId() && deletedRelationship.getStartNodeId() == mappedRelationship.getStartNodeId() && deletedRelationship.getRelationshipType().equals(mappedRelationship.getRelationshipType())) {
@@ -16,6 +16,7 @@ package org.neo4j.ogm.compiler.builders.statement;
 import java.util.*;
 
 import org.neo4j.ogm.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.query.StatementTemplates;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.request.Statement;
 import org.neo4j.ogm.request.StatementFactory;
@@ -26,6 +27,22 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class DeletedRelationshipStatementBuilder implements CypherStatementBuilder {
 
+    /**
+     * Renders the statement deleting relationships of the given type.
+     */
+    private static final StatementTemplates.Template TEMPLATE = new StatementTemplates.Template() {
+
+        @Override
+        public String render(Object[] shape) {
+            return new StringBuilder("UNWIND {rows} as row ")
+                    .append("MATCH (startNode) WHERE ID(startNode) = row.startNodeId ")
+                    .append("MATCH (endNode) WHERE ID(endNode) = row.endNodeId ")
+                    .append("MATCH (startNode)-[rel:`").append(shape[0]).append("`]->(endNode) ")
+                    .append("DELETE rel")
+                    .toString();
+        }
+    };
+
     private final StatementFactory statementFactory;
 
     private final Set<Edge> deletedEdges;
@@ -39,16 +56,11 @@ public class DeletedRelationshipStatementBuilder implements CypherStatementBuild
     @Override
     public Statement build() {
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String cypher = "";
 
         if (deletedEdges != null && deletedEdges.size() > 0) {
             Edge firstEdge = deletedEdges.iterator().next();
-
-            queryBuilder.append("UNWIND {rows} as row ")
-                    .append("MATCH (startNode) WHERE ID(startNode) = row.startNodeId ")
-                    .append("MATCH (endNode) WHERE ID(endNode) = row.endNodeId ")
-                    .append("MATCH (startNode)-[rel:`").append(firstEdge.getType()).append("`]->(endNode) ")
-                    .append("DELETE rel");
+            cypher = StatementTemplates.cypher(TEMPLATE, firstEdge.getType());
 
             List<Map> rows = new ArrayList<>();
             for (Edge edge : deletedEdges) {
@@ -60,6 +72,6 @@ public class DeletedRelationshipStatementBuilder implements CypherStatementBuild
             parameters.put("rows", rows);
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(cypher, parameters);
     }
 }
@@ -20,6 +20,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.neo4j.ogm.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.query.StatementTemplates;
 import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.Statement;
@@ -31,6 +32,36 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class ExistingNodeStatementBuilder implements CypherStatementBuilder {
 
+    /**
+     * Renders the statement for existing nodes with the given labels, which may have had the given labels removed.
+     */
+    private static final StatementTemplates.Template TEMPLATE = new StatementTemplates.Template() {
+
+        @Override
+        public String render(Object[] shape) {
+            String[] removedLabels = (String[]) shape[0];
+            String[] labels = (String[]) shape[1];
+            StringBuilder queryBuilder = new StringBuilder();
+
+            queryBuilder.append("UNWIND {rows} as row ")
+                    .append("MATCH (n) WHERE ID(n)=row.nodeId ");
+
+            if (removedLabels != null && removedLabels.length > 0) {
+                for (String label : removedLabels) {
+                    queryBuilder.append(String.format(" REMOVE n:`%s` ", label));
+                }
+            }
+
+            queryBuilder.append("SET n");
+            for (String label : labels) {
+                queryBuilder.append(":`").append(label).append("`");
+            }
+
+            queryBuilder.append(" SET n += row.props RETURN row.nodeId as ref, ID(n) as id, row.type as type");
+            return queryBuilder.toString();
+        }
+    };
+
     private final StatementFactory statementFactory;
 
     private final Set<Node> existingNodes;
@@ -44,27 +75,12 @@ public class ExistingNodeStatementBuilder implements CypherStatementBuilder {
     public Statement build() {
 
         final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
+        String cypher = "";
 
         if (existingNodes != null && existingNodes.size() > 0) {
             Node firstNode = existingNodes.iterator().next();
+            cypher = StatementTemplates.cypher(TEMPLATE, firstNode.getRemovedLabels(), firstNode.getLabels());
 
-            queryBuilder.append("UNWIND {rows} as row ")
-                    .append("MATCH (n) WHERE ID(n)=row.nodeId ");
-
-            String[] removedLabels = firstNode.getRemovedLabels();
-            if (removedLabels != null && removedLabels.length > 0) {
-                for (String label : removedLabels) {
-                    queryBuilder.append(String.format(" REMOVE n:`%s` ", label));
-                }
-            }
-
-            queryBuilder.append("SET n");
-            for (String label : firstNode.getLabels()) {
-                queryBuilder.append(":`").append(label).append("`");
-            }
-
-            queryBuilder.append(" SET n += row.props RETURN row.nodeId as ref, ID(n) as id, row.type as type");
             List<Map> rows = new ArrayList<>();
             for (Node node : existingNodes) {
                 Map<String, Object> rowMap = new HashMap<>();
@@ -80,6 +96,6 @@ public class ExistingNodeStatementBuilder implements CypherStatementBuilder {
             parameters.put("rows", rows);
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(cypher, parameters);
     }
 }
@@ -16,6 +16,7 @@ package org.neo4j.ogm.compiler.builders.statement;
 import java.util.*;
 
 import org.neo4j.ogm.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.query.StatementTemplates;
 import org.neo4j.ogm.model.Node;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.Statement;
@@ -27,45 +28,61 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class NewNodeStatementBuilder implements CypherStatementBuilder {
 
-    private final StatementFactory statementFactory;
+    /**
+     * Renders the statement for new nodes with the given labels and primary index.
+     */
+    private static final StatementTemplates.Template TEMPLATE = new StatementTemplates.Template() {
 
-    private final Set<Node> newNodes;
-
-    public NewNodeStatementBuilder(Set<Node> newNodes, StatementFactory statementFactory) {
-        this.newNodes = newNodes;
-        this.statementFactory = statementFactory;
-    }
-
-    @Override
-    public Statement build() {
-
-        final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
-
-        if (newNodes != null && newNodes.size() > 0) {
-            Node firstNode = newNodes.iterator().next();
+        @Override
+        public String render(Object[] shape) {
+            String[] labels = (String[]) shape[0];
+            String primaryIndex = (String) shape[1];
+            StringBuilder queryBuilder = new StringBuilder();
 
             queryBuilder.append("UNWIND {rows} as row ");
 
-            if (firstNode.getPrimaryIndex() != null) {
+            if (primaryIndex != null) {
                 queryBuilder.append("MERGE (n");
             } else {
                 queryBuilder.append("CREATE (n");
             }
 
-            for (String label : firstNode.getLabels()) {
+            for (String label : labels) {
                 queryBuilder.append(":`").append(label).append("`");
             }
 
-            if (firstNode.getPrimaryIndex() != null) {
+            if (primaryIndex != null) {
                 queryBuilder.append("{")
-                        .append(firstNode.getPrimaryIndex())
+                        .append(primaryIndex)
                         .append(": row.props.")
-                        .append(firstNode.getPrimaryIndex())
+                        .append(primaryIndex)
                         .append("}");
             }
 
             queryBuilder.append(") SET n=row.props RETURN row.nodeRef as ref, ID(n) as id, row.type as type");
+            return queryBuilder.toString();
+        }
+    };
+
+    private final StatementFactory statementFactory;
+
+    private final Set<Node> newNodes;
+
+    public NewNodeStatementBuilder(Set<Node> newNodes, StatementFactory statementFactory) {
+        this.newNodes = newNodes;
+        this.statementFactory = statementFactory;
+    }
+
+    @Override
+    public Statement build() {
+
+        final Map<String, Object> parameters = new HashMap<>();
+        String cypher = "";
+
+        if (newNodes != null && newNodes.size() > 0) {
+            Node firstNode = newNodes.iterator().next();
+            cypher = StatementTemplates.cypher(TEMPLATE, firstNode.getLabels(), firstNode.getPrimaryIndex());
+
             List<Map> rows = new ArrayList<>();
             for (Node node : newNodes) {
                 Map<String, Object> rowMap = new HashMap<>();
@@ -83,6 +100,6 @@ public class NewNodeStatementBuilder implements CypherStatementBuilder {
             parameters.put("rows", rows);
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(cypher, parameters);
     }
 }
@@ -16,6 +16,7 @@ package org.neo4j.ogm.compiler.builders.statement;
 import java.util.*;
 
 import org.neo4j.ogm.compiler.CypherStatementBuilder;
+import org.neo4j.ogm.cypher.query.StatementTemplates;
 import org.neo4j.ogm.model.Edge;
 import org.neo4j.ogm.model.Property;
 import org.neo4j.ogm.request.Statement;
@@ -27,40 +28,28 @@ import org.neo4j.ogm.request.StatementFactory;
  */
 public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
 
-    private final StatementFactory statementFactory;
-
-    private final Set<Edge> edges;
-
-    public NewRelationshipStatementBuilder(Set<Edge> edges, StatementFactory statementFactory) {
-        this.edges = edges;
-        this.statementFactory = statementFactory;
-    }
+    /**
+     * Renders the statement for new relationships of the given type, with the given property keys.
+     */
+    private static final StatementTemplates.Template TEMPLATE = new StatementTemplates.Template() {
 
-    @Override
-    public Statement build() {
-
-        final Map<String, Object> parameters = new HashMap<>();
-        final StringBuilder queryBuilder = new StringBuilder();
-
-        boolean hasProperties = false;
-        if (edges != null && edges.size() > 0) {
-            Edge firstEdge = edges.iterator().next();
-            String relType = firstEdge.getType();
-            if (firstEdge.getPropertyList().size() > 0) {
-                hasProperties = true;
-            }
+        @Override
+        public String render(Object[] shape) {
+            String relType = (String) shape[0];
+            String[] propertyKeys = (String[]) shape[1];
+            StringBuilder queryBuilder = new StringBuilder();
 
             queryBuilder.append("UNWIND {rows} as row ")
                     .append("MATCH (startNode) WHERE ID(startNode) = row.startNodeId ")
                     .append("MATCH (endNode) WHERE ID(endNode) = row.endNodeId ")
                     .append("MERGE (startNode)-[rel:`").append(relType).append("`");
 
-            if (hasProperties) {
+            if (propertyKeys.length > 0) {
                 boolean firstProperty = true;
                 queryBuilder.append("{ ");
                 Set<String> sortedProperties = new TreeSet<>();
-                for (Property property : firstEdge.getPropertyList()) {
-                    sortedProperties.add("`" + property.getKey() + "`: row.props." + property.getKey());
+                for (String propertyKey : propertyKeys) {
+                    sortedProperties.add("`" + propertyKey + "`: row.props." + propertyKey);
                 }
 
                 for (String propertyString : sortedProperties) {
@@ -75,6 +64,35 @@ public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
 
             queryBuilder.append("]->(endNode) ")
                     .append("RETURN row.relRef as ref, ID(rel) as id, row.type as type");
+            return queryBuilder.toString();
+        }
+    };
+
+    private final StatementFactory statementFactory;
+
+    private final Set<Edge> edges;
+
+    public NewRelationshipStatementBuilder(Set<Edge> edges, StatementFactory statementFactory) {
+        this.edges = edges;
+        this.statementFactory = statementFactory;
+    }
+
+    @Override
+    public Statement build() {
+
+        final Map<String, Object> parameters = new HashMap<>();
+        String cypher = "";
+
+        boolean hasProperties = false;
+        if (edges != null && edges.size() > 0) {
+            Edge firstEdge = edges.iterator().next();
+            List<Property<String, Object>> properties = firstEdge.getPropertyList();
+            String[] propertyKeys = new String[properties.size()];
+            for (int i = 0; i < propertyKeys.length; i++) {
+                propertyKeys[i] = properties.get(i).getKey();
+            }
+            hasProperties = propertyKeys.length > 0;
+            cypher = StatementTemplates.cypher(TEMPLATE, firstEdge.getType(), propertyKeys);
 
             List<Map> rows = new ArrayList<>();
             for (Edge edge : edges) {
@@ -95,6 +113,6 @@ public class NewRelationshipStatementBuilder implements CypherStatementBuilder {
             parameters.put("rows", rows);
         }
 
-        return statementFactory.statement(queryBuilder.toString(), parameters);
+        return statementFactory.statement(cypher, parameters);
     }
 }
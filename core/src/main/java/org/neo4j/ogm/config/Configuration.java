@@ -43,12 +43,15 @@ public class Configuration implements AutoCloseable {
 
     private AutoIndexConfiguration autoIndexConfiguration;
 
+    private SessionConfiguration sessionConfiguration;
+
     public Configuration() {}
 
     public Configuration(String propertiesFilename) {
         driverConfiguration = null;
         compilerConfiguration = null;
         autoIndexConfiguration = null;
+        sessionConfiguration = null;
         configure(propertiesFilename);
     }
 
@@ -110,6 +113,13 @@ public class Configuration implements AutoCloseable {
         return autoIndexConfiguration;
     }
 
+    public synchronized SessionConfiguration sessionConfiguration() {
+        if (sessionConfiguration == null) {
+            sessionConfiguration = new SessionConfiguration(this);
+        }
+        return sessionConfiguration;
+    }
+
     @Override
     public String toString() {
 
@@ -14,6 +14,7 @@
 package org.neo4j.ogm.config;
 
 import java.net.URI;
+import java.net.URISyntaxException;
 
 import org.neo4j.ogm.authentication.Credentials;
 import org.neo4j.ogm.authentication.UsernamePasswordCredentials;
@@ -30,6 +31,7 @@ public class DriverConfiguration {
     public static final String[] DRIVER = {"neo4j.ogm.driver","spring.data.neo4j.driver", "driver"};
     public static final String[] CREDENTIALS = {"neo4j.ogm.credentials","spring.data.neo4j.credentials", "credentials"};
     public static final String[] URI = {"neo4j.ogm.URI", "spring.data.neo4j.URI", "URI"};
+    public static final String[] READ_URIS = {"neo4j.ogm.read.URIs", "spring.data.neo4j.read.URIs", "read.URIs"};
     public static final String[] USERNAME = {"neo4j.ogm.username", "spring.data.neo4j.username", "username"};
     public static final String[] PASSWORD = {"neo4j.ogm.password", "spring.data.neo4j.password", "password"};
 
@@ -37,11 +39,13 @@ public class DriverConfiguration {
     public static final String[] ENCRYPTION_LEVEL       = {"encryption.level"};
     public static final String[] TRUST_STRATEGY         = {"trust.strategy"};
     public static final String[] TRUST_CERT_FILE        = {"trust.certificate.file"};
+    public static final String[] READ_RETRY_INTERVAL    = {"read.retry.interval"};
 
 	public static final String[] NEO4J_HA_PROPERTIES_FILE = {"neo4j.ha.properties.file"};
 
     // defaults
     private static final int CONNECTION_POOL_SIZE_DEFAULT     = 50;
+    private static final int READ_RETRY_INTERVAL_DEFAULT      = 30;
 
     private final Configuration configuration;
 
@@ -72,6 +76,30 @@ public class DriverConfiguration {
         return this;
     }
 
+    /**
+     * Sets the endpoints read-only transactions are balanced across. The URI remains the endpoint of every other
+     * transaction.
+     *
+     * @param uris the read endpoints
+     * @return this configuration
+     */
+    public DriverConfiguration setReadURIs(String... uris) {
+        StringBuilder value = new StringBuilder();
+        for (String uri : uris) {
+            if (value.length() > 0) {
+                value.append(',');
+            }
+            value.append(uri);
+        }
+        configuration.set(READ_URIS[0], value.toString());
+        return this;
+    }
+
+    public DriverConfiguration setReadRetryInterval(Integer seconds) {
+        configuration.set(READ_RETRY_INTERVAL[0], seconds.toString());
+        return this;
+    }
+
     public DriverConfiguration setCredentials(Credentials credentials) {
         configuration.set(CREDENTIALS[0], credentials);
         return this;
@@ -131,6 +159,31 @@ public class DriverConfiguration {
         return (String)  configuration.get(URI);
     }
 
+    /**
+     * @return the endpoints read-only transactions are balanced across, which are none unless read.URIs lists them
+     */
+    public String[] getReadURIs() {
+        String uris = (String) configuration.get(READ_URIS);
+        if (uris == null || uris.trim().isEmpty()) {
+            return new String[0];
+        }
+        String[] readURIs = uris.split(",");
+        for (int i = 0; i < readURIs.length; i++) {
+            readURIs[i] = readURIs[i].trim();
+        }
+        return readURIs;
+    }
+
+    /**
+     * @return how many seconds a read endpoint that failed is left out of the rotation for
+     */
+    public Integer getReadRetryInterval() {
+        if (configuration.get(READ_RETRY_INTERVAL) != null) {
+            return Integer.valueOf((String) configuration.get(READ_RETRY_INTERVAL));
+        }
+        return READ_RETRY_INTERVAL_DEFAULT;
+    }
+
     public String getDriverClassName() {
         return (String) configuration.get(DRIVER);
     }
@@ -170,18 +223,41 @@ public class DriverConfiguration {
 		return null;
 	}
 
+    /**
+     * @return the name of the driver class to load: the one configured, or else the one serving the scheme of the URI,
+     * or null if neither a driver class nor a URI is configured
+     */
+    public String resolveDriverClassName() {
+        String driverClassName = getDriverClassName();
+        if (driverClassName == null && getURI() != null) {
+            try {
+                driverClassName = defaultDriverName(new URI(getURI()));
+            } catch (URISyntaxException e) {
+                // no driver serves a URI that cannot be parsed
+            }
+        }
+        return driverClassName;
+    }
+
     private void determineDefaultDriverName(URI uri) {
+        String driverClassName = defaultDriverName(uri);
+        if (driverClassName != null) {
+            setDriverClassName(driverClassName);
+        }
+    }
+
+    private static String defaultDriverName(URI uri) {
+        if (uri.getScheme() == null) {
+            return null;
+        }
         switch (uri.getScheme()) {
             case "http":
             case "https":
-                setDriverClassName("org.neo4j.ogm.drivers.http.driver.HttpDriver");
-                break;
+                return "org.neo4j.ogm.drivers.http.driver.HttpDriver";
             case "bolt":
-                setDriverClassName("org.neo4j.ogm.drivers.bolt.driver.BoltDriver");
-                break;
+                return "org.neo4j.ogm.drivers.bolt.driver.BoltDriver";
             default:
-                setDriverClassName("org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver");
-                break;
+                return "org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver";
         }
     }
 
@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.config;
+
+import org.neo4j.ogm.session.request.strategy.LoadStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Represents the settings read by a session factory and the sessions it opens.
+ *
+ * @author Mark Angrish
+ */
+public class SessionConfiguration {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionConfiguration.class);
+
+    public static final String[] NEO4J_VERSION = {"neo4j.ogm.neo4j.version", "neo4j.version"};
+    public static final String[] SAVE_BATCH_SIZE = {"neo4j.ogm.save.batch.size", "save.batch.size"};
+    public static final String[] DELETE_BATCH_SIZE = {"neo4j.ogm.delete.batch.size", "delete.batch.size"};
+    public static final String[] ASYNC_POOL_SIZE = {"neo4j.ogm.async.pool.size", "async.pool.size"};
+    public static final String[] ASYNC_QUEUE_SIZE = {"neo4j.ogm.async.queue.size", "async.queue.size"};
+    public static final String[] EVENTS_QUEUE_SIZE = {"neo4j.ogm.events.queue.size", "events.queue.size"};
+    public static final String[] CACHE_SIZE = {"neo4j.ogm.cache.size", "cache.size"};
+    public static final String[] CACHE_TTL = {"neo4j.ogm.cache.ttl", "cache.ttl"};
+    public static final String[] LOAD_FROM_CONTEXT = {"neo4j.ogm.load.from.context", "load.from.context"};
+    public static final String[] LOAD_STRATEGY = {"neo4j.ogm.load.strategy", "load.strategy"};
+
+    private static final double NEO4J_VERSION_DEFAULT = 9.9; // unknown version
+    private static final int ASYNC_QUEUE_SIZE_DEFAULT = 1000;
+    private static final int EVENTS_QUEUE_SIZE_DEFAULT = 1000;
+
+    private final Configuration configuration;
+
+    public SessionConfiguration(Configuration configuration) {
+        this.configuration = configuration;
+    }
+
+    public SessionConfiguration setNeo4jVersion(String neo4jVersion) {
+        configuration.set(NEO4J_VERSION[0], neo4jVersion);
+        return this;
+    }
+
+    /**
+     * @return the major.minor part of the neo4j.version property string, as a double, or 9.9 if not configured
+     */
+    public double getNeo4jVersion() {
+        Object neo4jVersion = configuration.get(NEO4J_VERSION);
+        if (neo4jVersion != null) {
+            try {
+                String[] versionElements = neo4jVersion.toString().split("\\.");
+                if (versionElements.length < 2) {
+                    throw new NumberFormatException();
+                }
+                return new Double(versionElements[0] + "." + versionElements[1]);
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Configuration property 'neo4j.version' is not in the correct form: expected something like '2.3', but got '{}' instead", neo4jVersion);
+            }
+        }
+        return NEO4J_VERSION_DEFAULT;
+    }
+
+    public SessionConfiguration setSaveBatchSize(int saveBatchSize) {
+        configuration.set(SAVE_BATCH_SIZE[0], String.valueOf(saveBatchSize));
+        return this;
+    }
+
+    /**
+     * @return the maximum number of objects from a collection that are compiled into a single save request,
+     * or 0 if the whole collection should be compiled into one request
+     */
+    public int getSaveBatchSize() {
+        return getInt(SAVE_BATCH_SIZE, 0, 0);
+    }
+
+    public SessionConfiguration setDeleteBatchSize(int deleteBatchSize) {
+        configuration.set(DELETE_BATCH_SIZE[0], String.valueOf(deleteBatchSize));
+        return this;
+    }
+
+    /**
+     * @return the maximum number of objects deleted by each request of a delete by type or by filters,
+     * or 0 if all the objects should be deleted by a single request
+     */
+    public int getDeleteBatchSize() {
+        return getInt(DELETE_BATCH_SIZE, 0, 0);
+    }
+
+    public SessionConfiguration setAsyncPoolSize(int asyncPoolSize) {
+        configuration.set(ASYNC_POOL_SIZE[0], String.valueOf(asyncPoolSize));
+        return this;
+    }
+
+    /**
+     * @return the number of threads that run the operations of the asynchronous sessions of a session factory,
+     * or the number of available processors if not configured
+     */
+    public int getAsyncPoolSize() {
+        return getInt(ASYNC_POOL_SIZE, 1, Runtime.getRuntime().availableProcessors());
+    }
+
+    public SessionConfiguration setAsyncQueueSize(int asyncQueueSize) {
+        configuration.set(ASYNC_QUEUE_SIZE[0], String.valueOf(asyncQueueSize));
+        return this;
+    }
+
+    /**
+     * @return the maximum number of operations of the asynchronous sessions of a session factory waiting for a
+     * thread, or 1000 if not configured
+     */
+    public int getAsyncQueueSize() {
+        return getInt(ASYNC_QUEUE_SIZE, 1, ASYNC_QUEUE_SIZE_DEFAULT);
+    }
+
+    public SessionConfiguration setEventsQueueSize(int eventsQueueSize) {
+        configuration.set(EVENTS_QUEUE_SIZE[0], String.valueOf(eventsQueueSize));
+        return this;
+    }
+
+    /**
+     * @return the maximum number of event batches waiting to be delivered to the asynchronous listeners of a
+     * session factory, or 1000 if not configured
+     */
+    public int getEventsQueueSize() {
+        return getInt(EVENTS_QUEUE_SIZE, 1, EVENTS_QUEUE_SIZE_DEFAULT);
+    }
+
+    public SessionConfiguration setCacheSize(int cacheSize) {
+        configuration.set(CACHE_SIZE[0], String.valueOf(cacheSize));
+        return this;
+    }
+
+    /**
+     * @return the maximum number of entity graphs held by the second-level cache of a session factory,
+     * or 0 if the second-level cache is disabled
+     */
+    public int getCacheSize() {
+        return getInt(CACHE_SIZE, 0, 0);
+    }
+
+    public SessionConfiguration setCacheTtl(long cacheTtl) {
+        configuration.set(CACHE_TTL[0], String.valueOf(cacheTtl));
+        return this;
+    }
+
+    /**
+     * @return the number of seconds the second-level cache of a session factory holds an entity graph for,
+     * or 0 if entity graphs are held until they are evicted
+     */
+    public long getCacheTtl() {
+        return getLong(CACHE_TTL, 0, 0);
+    }
+
+    public SessionConfiguration setLoadFromContext(boolean loadFromContext) {
+        configuration.set(LOAD_FROM_CONTEXT[0], String.valueOf(loadFromContext));
+        return this;
+    }
+
+    /**
+     * @return whether loading a node entity by id that the session already loaded by id to at least the depth asked
+     * for returns it from the mapping context without a query, or false if not configured
+     */
+    public boolean getLoadFromContext() {
+        Object loadFromContext = configuration.get(LOAD_FROM_CONTEXT);
+        return loadFromContext != null && Boolean.parseBoolean(loadFromContext.toString().trim());
+    }
+
+    public SessionConfiguration setLoadStrategy(LoadStrategy loadStrategy) {
+        configuration.set(LOAD_STRATEGY[0], loadStrategy.getName());
+        return this;
+    }
+
+    /**
+     * @return the {@link LoadStrategy} of the queries loading entities to a depth greater than zero,
+     * or LoadStrategy.PATH if not configured
+     */
+    public LoadStrategy getLoadStrategy() {
+        Object loadStrategy = configuration.get(LOAD_STRATEGY);
+        if (loadStrategy != null) {
+            LoadStrategy strategy = LoadStrategy.fromString(loadStrategy.toString().trim());
+            if (strategy != null) {
+                return strategy;
+            }
+            LOGGER.warn("Configuration property 'load.strategy' is not in the correct form: expected 'path' or 'fetch_plan', but got '{}' instead", loadStrategy);
+        }
+        return LoadStrategy.PATH;
+    }
+
+    private int getInt(String[] keys, int minimum, int defaultValue) {
+        return (int) Math.min(Integer.MAX_VALUE, getLong(keys, minimum, defaultValue));
+    }
+
+    private long getLong(String[] keys, long minimum, long defaultValue) {
+        Object value = configuration.get(keys);
+        if (value != null) {
+            try {
+                return Math.max(minimum, Long.parseLong(value.toString().trim()));
+            } catch (NumberFormatException nfe) {
+                LOGGER.warn("Configuration property '{}' is not in the correct form: expected a number, but got '{}' instead", keys[keys.length - 1], value);
+            }
+        }
+        return defaultValue;
+    }
+}
@@ -16,13 +16,13 @@ package org.neo4j.ogm.context;
 
 import java.lang.reflect.Field;
 import java.util.Collection;
-import java.util.Iterator;
 
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.compiler.CompileContext;
 import org.neo4j.ogm.compiler.Compiler;
+import org.neo4j.ogm.compiler.CompilerFactory;
 import org.neo4j.ogm.compiler.NodeBuilder;
 import org.neo4j.ogm.compiler.RelationshipBuilder;
 import org.neo4j.ogm.entity.io.EntityAccessManager;
@@ -52,7 +52,9 @@ public class EntityGraphMapper implements EntityMapper {
     private final Logger logger = LoggerFactory.getLogger(EntityGraphMapper.class);
 
     private final MetaData metaData;
+    private final EntityAccessManager entityAccessManager;
     private final MappingContext mappingContext;
+    private final CompilerFactory compilerFactory;
 
     /**
      * Constructs a new {@link EntityGraphMapper} that uses the given {@link MetaData}.
@@ -61,8 +63,22 @@ public class EntityGraphMapper implements EntityMapper {
      * @param mappingContext The {@link MappingContext} for the current session
      */
     public EntityGraphMapper(MetaData metaData, MappingContext mappingContext) {
+        this(metaData, mappingContext, null);
+    }
+
+    /**
+     * Constructs a new {@link EntityGraphMapper} that uses the given {@link MetaData} and compiles with compilers of
+     * the given {@link CompilerFactory}.
+     *
+     * @param metaData        The {@link MetaData} containing the mapping information
+     * @param mappingContext  The {@link MappingContext} for the current session
+     * @param compilerFactory The {@link CompilerFactory} of the session, or null to use the compiler of the {@link Components}
+     */
+    public EntityGraphMapper(MetaData metaData, MappingContext mappingContext, CompilerFactory compilerFactory) {
         this.metaData = metaData;
+        this.entityAccessManager = metaData.entityAccessManager();
         this.mappingContext = mappingContext;
+        this.compilerFactory = compilerFactory;
     }
 
     @Override
@@ -77,16 +93,68 @@ public class EntityGraphMapper implements EntityMapper {
             throw new NullPointerException("Cannot map null object");
         }
 
-        Compiler compiler = Components.compiler();
+        Compiler compiler = initialiseCompiler();
+
+        mapRoot(entity, horizon, compiler);
+
+        deleteObsoleteRelationships(compiler);
+
+        return compiler.context();
+    }
+
+    /**
+     * Maps each of the given objects into a single {@link CompileContext}, so that a whole collection
+     * can be saved with one request instead of one request per object. Objects reachable from more than one
+     * of the given objects are only visited once.
+     *
+     * @param entities the objects to persist
+     * @param horizon  the depth in the object graph to traverse from each object
+     * @return a single {@link CompileContext} for all the given objects
+     */
+    public CompileContext mapAll(Iterable<?> entities, int horizon) {
+
+        Compiler compiler = initialiseCompiler();
+
+        for (Object entity : entities) {
+            if (entity == null) {
+                throw new NullPointerException("Cannot map null object");
+            }
+            mapRoot(entity, horizon, compiler);
+        }
+
+        deleteObsoleteRelationships(compiler);
+
+        return compiler.context();
+    }
+
+    /**
+     * Obtains a new {@link Compiler} whose context knows about all the relationships in the mapping context.
+     *
+     * @return the initialised {@link Compiler}
+     */
+    private Compiler initialiseCompiler() {
+
+        Compiler compiler = compilerFactory != null ? compilerFactory.newCompiler() : Components.compiler();
 
-        // add all the relationships we know about. This includes the relationships that
-        // won't be modified by the mapping request.
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            logger.debug("context-init: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-            compiler.context().registerRelationship(mappedRelationship);
+        // register all the relationships we know about. This includes the relationships that
+        // won't be modified by the mapping request, so they are registered without being copied.
+        compiler.context().registerRelationships(mappingContext.relationshipRegister());
+
+        if (logger.isDebugEnabled()) {
+            logger.debug("context initialised with {} relationships", mappingContext.relationshipRegister().size());
         }
 
-        logger.debug("context initialised with {} relationships", mappingContext.getRelationships().size());
+        return compiler;
+    }
+
+    /**
+     * Maps a single object passed to the mapper, which may be either a node entity or a relationship entity.
+     *
+     * @param entity   the object to persist
+     * @param horizon  the depth in the object graph to traverse
+     * @param compiler the {@link Compiler} used to construct the query
+     */
+    private void mapRoot(Object entity, int horizon, Compiler compiler) {
 
         // if the object is a RelationshipEntity, persist it by persisting both the start node and the end node
         // and then ensure the relationship between the two is created or updated as necessary
@@ -94,12 +162,12 @@ public class EntityGraphMapper implements EntityMapper {
 
             ClassInfo reInfo = metaData.classInfo(entity);
 
-            Object startNode = EntityAccessManager.getStartNodeReader(reInfo).read(entity);
+            Object startNode = entityAccessManager.getStartNodeReader(reInfo).read(entity);
             if (startNode == null) {
                 throw new RuntimeException("@StartNode of relationship entity may not be null");
             }
 
-            Object endNode = EntityAccessManager.getEndNodeReader(reInfo).read(entity);
+            Object endNode = entityAccessManager.getEndNodeReader(reInfo).read(entity);
             if (endNode == null) {
                 throw new RuntimeException("@EndNode of relationship entity may not be null");
             }
@@ -123,8 +191,8 @@ public class EntityGraphMapper implements EntityMapper {
                 ClassInfo targetInfo = metaData.classInfo(endNode);
                 ClassInfo startInfo = metaData.classInfo(startNode);
 
-                Long srcIdentity = (Long) EntityAccessManager.getIdentityPropertyReader(startInfo).readProperty(startNode);
-                Long tgtIdentity = (Long) EntityAccessManager.getIdentityPropertyReader(targetInfo).readProperty(endNode);
+                Long srcIdentity = (Long) entityAccessManager.getIdentityPropertyReader(startInfo).readProperty(startNode);
+                Long tgtIdentity = (Long) entityAccessManager.getIdentityPropertyReader(targetInfo).readProperty(endNode);
 
                 RelationshipNodes relNodes = new RelationshipNodes(srcIdentity, tgtIdentity, startNode.getClass(), endNode.getClass());
 
@@ -134,62 +202,51 @@ public class EntityGraphMapper implements EntityMapper {
         } else { // not an RE, simply map the entity
             mapEntity(entity, horizon, compiler);
         }
-
-        deleteObsoleteRelationships(compiler);
-
-        return compiler.context();
     }
 
 
     /**
      * Detects object references (including from lists) that have been deleted in the domain.
-     * These must be persisted as explicit requests to delete the corresponding relationship in the graph
+     * These must be persisted as explicit requests to delete the corresponding relationship in the graph.
+     * Only the relationships of the objects visited while compiling can have been removed, so the other relationships
+     * of the mapping context are not looked at.
      *
      * @param compiler the {@link org.neo4j.ogm.compiler.Compiler} instance.
      */
     private void deleteObsoleteRelationships(Compiler compiler) {
-        CompileContext context = compiler.context();
-        Iterator<MappedRelationship> mappedRelationshipIterator = mappingContext.getRelationships().iterator();
-
-        while (mappedRelationshipIterator.hasNext()) {
+        for (Mappable mappable : compiler.context().getObsoleteRelationships()) {
 
-            MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-            // if we cannot remove this relationship from the compile context, it
-            // means the user has deleted the relationship
-            if (!context.removeRegisteredRelationship(mappedRelationship)) {
+            MappedRelationship mappedRelationship = (MappedRelationship) mappable;
 
-                logger.debug("context-del: {}", mappedRelationship);
+            logger.debug("context-del: {}", mappedRelationship);
 
-                // tell the compiler to prepare a statement that will delete the relationship from the graph
-                compiler.unrelate(mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId(), mappedRelationship.getRelationshipId());
+            // tell the compiler to prepare a statement that will delete the relationship from the graph
+            compiler.unrelate(mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId(), mappedRelationship.getRelationshipId());
 
-                // remove all nodes that are referenced by this relationship in the mapping context
-                // this will ensure that stale versions of these objects don't exist
-                clearRelatedObjects(mappedRelationship.getStartNodeId());
-                clearRelatedObjects(mappedRelationship.getEndNodeId());
+            // remove all nodes that are referenced by this relationship in the mapping context
+            // this will ensure that stale versions of these objects don't exist
+            clearRelatedObjects(mappedRelationship.getStartNodeId());
+            clearRelatedObjects(mappedRelationship.getEndNodeId());
 
-                // finally remove the relationship from the mapping context
-                mappingContext.removeRelationship(mappedRelationship);
-            }
+            // finally remove the relationship from the mapping context
+            mappingContext.removeRelationship(mappedRelationship);
         }
     }
 
     private void clearRelatedObjects(Long node) {
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getStartNodeId() == node || mappedRelationship.getEndNodeId() == node) {
+        for (MappedRelationship mappedRelationship : mappingContext.getRelationships(node)) {
 
-                Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
-                if (dirty != null) {
-                    logger.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, mappedRelationship.getEndNodeId());
-                }
+            Object dirty = mappingContext.getNodeEntity(mappedRelationship.getEndNodeId());
+            if (dirty != null) {
+                logger.debug("flushing end node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, mappedRelationship.getEndNodeId());
+            }
 
-                dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
-                if (dirty != null) {
-                    logger.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
-                    mappingContext.removeNodeEntity(dirty, mappedRelationship.getStartNodeId());
-                }
+            dirty = mappingContext.getNodeEntity(mappedRelationship.getStartNodeId());
+            if (dirty != null) {
+                logger.debug("flushing start node of: (${})-[:{}]->(${})", mappedRelationship.getStartNodeId(), mappedRelationship.getRelationshipType(), mappedRelationship.getEndNodeId());
+                mappingContext.removeNodeEntity(dirty, mappedRelationship.getStartNodeId());
             }
         }
     }
@@ -241,7 +298,7 @@ public class EntityGraphMapper implements EntityMapper {
             logger.debug("{} has changed", entity);
             context.register(entity);
             ClassInfo classInfo = metaData.classInfo(entity);
-            Collection<PropertyReader> propertyReaders = EntityAccessManager.getPropertyReaders(classInfo);
+            Collection<PropertyReader> propertyReaders = entityAccessManager.getPropertyReaders(classInfo);
             for (PropertyReader propertyReader : propertyReaders) {
                 if (propertyReader.isComposite()) {
                     nodeBuilder.addProperties(propertyReader.readComposite(entity));
@@ -279,7 +336,7 @@ public class EntityGraphMapper implements EntityMapper {
         }
 
         CompileContext context = compiler.context();
-        Object id = EntityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity);
+        Object id = entityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity);
         Collection<String> labels = EntityUtils.labels(entity, metaData);
 
         NodeBuilder nodeBuilder;
@@ -326,7 +383,7 @@ public class EntityGraphMapper implements EntityMapper {
 
         ClassInfo srcInfo = metaData.classInfo(entity);
 
-        for (RelationalReader reader : EntityAccessManager.getRelationalReaders(srcInfo)) {
+        for (RelationalReader reader : entityAccessManager.getRelationalReaders(srcInfo)) {
 
             String relationshipType = reader.relationshipType();
             String relationshipDirection = reader.relationshipDirection();
@@ -336,7 +393,13 @@ public class EntityGraphMapper implements EntityMapper {
             DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType, relationshipDirection);
 
             CompileContext context = compiler.context();
-            Long srcIdentity = (Long) EntityAccessManager.getIdentityPropertyReader(srcInfo).readProperty(entity);
+            Long srcIdentity = (Long) entityAccessManager.getIdentityPropertyReader(srcInfo).readProperty(entity);
+
+            Object relatedObject = reader.read(entity);
+            if (relatedObject instanceof LazyCollection && !((LazyCollection) relatedObject).isLoaded()) {
+                logger.debug("lazy relationships have not been loaded, so are unchanged: {}-{}-{}-()", entity, relationshipType, relationshipDirection);
+                continue;
+            }
 
             if (srcIdentity != null) {
                 boolean cleared = clearContextRelationships(context, srcIdentity, endNodeType, directedRelationship);
@@ -346,7 +409,6 @@ public class EntityGraphMapper implements EntityMapper {
                 }
             }
 
-            Object relatedObject = reader.read(entity);
             if (relatedObject != null) {
 
                 // if the type of a relationship backed by a relationship entity is not the same as its declared type
@@ -479,7 +541,7 @@ public class EntityGraphMapper implements EntityMapper {
         RelationshipBuilder relationshipBuilder;
 
         if (isRelationshipEntity(entity)) {
-            Long relId = (Long) EntityAccessManager.getIdentityPropertyReader(metaData.classInfo(entity)).readProperty(entity);
+            Long relId = (Long) entityAccessManager.getIdentityPropertyReader(metaData.classInfo(entity)).readProperty(entity);
 
             boolean relationshipEndsChanged = haveRelationEndsChanged(entity, relId);
 
@@ -521,13 +583,13 @@ public class EntityGraphMapper implements EntityMapper {
         }
         ClassInfo targetInfo = metaData.classInfo(targetEntity);
         ClassInfo startInfo = metaData.classInfo(startEntity);
-        Long tgtIdentity = (Long) EntityAccessManager.getIdentityPropertyReader(targetInfo).readProperty(targetEntity);
-        Long srcIdentity = (Long) EntityAccessManager.getIdentityPropertyReader(startInfo).readProperty(startEntity);
+        Long tgtIdentity = (Long) entityAccessManager.getIdentityPropertyReader(targetInfo).readProperty(targetEntity);
+        Long srcIdentity = (Long) entityAccessManager.getIdentityPropertyReader(startInfo).readProperty(startEntity);
 
         boolean relationshipEndsChanged = false;
 
-        for (MappedRelationship mappedRelationship : mappingContext.getRelationships()) {
-            if (mappedRelationship.getRelationshipId() != null && relId != null && mappedRelationship.getRelationshipId().equals(relId)) {
+        if (relId != null) {
+            for (MappedRelationship mappedRelationship : mappingContext.getRelationshipsOfRelationshipEntity(relId)) {
                 if (srcIdentity == null || tgtIdentity == null || mappedRelationship.getStartNodeId() != srcIdentity || mappedRelationship.getEndNodeId() != tgtIdentity) {
                     relationshipEndsChanged = true;
                     break;
@@ -561,8 +623,8 @@ public class EntityGraphMapper implements EntityMapper {
         ClassInfo targetInfo = metaData.classInfo(targetEntity);
         ClassInfo startInfo = metaData.classInfo(startEntity);
 
-        Long tgtIdentity = (Long) EntityAccessManager.getIdentityPropertyReader(targetInfo).readProperty(targetEntity);
-        Long srcIdentity = (Long) EntityAccessManager.getIdentityPropertyReader(startInfo).readProperty(startEntity);
+        Long tgtIdentity = (Long) entityAccessManager.getIdentityPropertyReader(targetInfo).readProperty(targetEntity);
+        Long srcIdentity = (Long) entityAccessManager.getIdentityPropertyReader(startInfo).readProperty(startEntity);
 
 
         // create or update the relationship mapping register between the start and end nodes. Note, this
@@ -630,17 +692,17 @@ public class EntityGraphMapper implements EntityMapper {
         }
 
         // if the RE is new, register it in the context so that we can set its ID correctly when it is created,
-        if (EntityAccessManager.getIdentityPropertyReader(relEntityClassInfo).readProperty(relationshipEntity) == null) {
+        if (entityAccessManager.getIdentityPropertyReader(relEntityClassInfo).readProperty(relationshipEntity) == null) {
             context.registerNewObject(reIdentity, relationshipEntity);
         }
 
-        for (PropertyReader propertyReader : EntityAccessManager.getPropertyReaders(relEntityClassInfo)) {
+        for (PropertyReader propertyReader : entityAccessManager.getPropertyReaders(relEntityClassInfo)) {
             relationshipBuilder.addProperty(propertyReader.propertyName(), propertyReader.readProperty(relationshipEntity));
         }
     }
 
     private Object getStartEntity(ClassInfo relEntityClassInfo, Object relationshipEntity) {
-        RelationalReader actualStartNodeReader = EntityAccessManager.getStartNodeReader(relEntityClassInfo);
+        RelationalReader actualStartNodeReader = entityAccessManager.getStartNodeReader(relEntityClassInfo);
         if (actualStartNodeReader != null) {
             return actualStartNodeReader.read(relationshipEntity);
         }
@@ -648,7 +710,7 @@ public class EntityGraphMapper implements EntityMapper {
     }
 
     private Object getTargetEntity(ClassInfo relEntityClassInfo, Object relationshipEntity) {
-        RelationalReader actualEndNodeReader = EntityAccessManager.getEndNodeReader(relEntityClassInfo);
+        RelationalReader actualEndNodeReader = entityAccessManager.getEndNodeReader(relEntityClassInfo);
         if (actualEndNodeReader != null) {
             return actualEndNodeReader.read(relationshipEntity);
         }
@@ -719,7 +781,7 @@ public class EntityGraphMapper implements EntityMapper {
         // tgtNodeBuilder will be null if tgtObject is a transient class, or a subclass of a transient class
         if (tgtNodeBuilder != null) {
             logger.debug("trying to map relationship between {} and {}", relNodes.source, relNodes.target);
-            Long tgtIdentity = (Long) EntityAccessManager.getIdentityPropertyReader(metaData.classInfo(relNodes.target)).readProperty(relNodes.target);
+            Long tgtIdentity = (Long) entityAccessManager.getIdentityPropertyReader(metaData.classInfo(relNodes.target)).readProperty(relNodes.target);
             CompileContext context = compiler.context();
             relNodes.targetId = tgtIdentity;
             updateRelationship(context, srcNodeBuilder, tgtNodeBuilder, relationshipBuilder, relNodes);
@@ -803,7 +865,7 @@ public class EntityGraphMapper implements EntityMapper {
             //If its a rel entity then we want to rebase the startClass to the @StartNode of the rel entity and the endClass to the rel entity
             if (metaData.isRelationshipEntity(tgtClass.getName())) {
                 srcClass = tgtClass;
-                String start = EntityAccessManager.getStartNodeReader(metaData.classInfo(tgtClass.getName())).typeDescriptor();
+                String start = entityAccessManager.getStartNodeReader(metaData.classInfo(tgtClass.getName())).typeDescriptor();
                 tgtClass = ClassUtils.getType(start);
             }
             reallyCreateRelationship(context, tgt, relationshipBuilder, src, tgtClass, srcClass);
@@ -883,7 +945,7 @@ public class EntityGraphMapper implements EntityMapper {
         boolean mapBothWays = false;
 
         ClassInfo tgtInfo = metaData.classInfo(tgtObject);
-        for (RelationalReader tgtRelReader : EntityAccessManager.getRelationalReaders(tgtInfo)) {
+        for (RelationalReader tgtRelReader : entityAccessManager.getRelationalReaders(tgtInfo)) {
             String tgtRelationshipDirection = tgtRelReader.relationshipDirection();
             if ((tgtRelationshipDirection.equals(Relationship.OUTGOING) || tgtRelationshipDirection.equals(Relationship.INCOMING)) //The relationship direction must be explicitly incoming or outgoing
                     && tgtRelReader.relationshipType().equals(relationshipType)) { //The source must have the same relationship type to the target as the target to the source
@@ -891,6 +953,9 @@ public class EntityGraphMapper implements EntityMapper {
                 if (relationshipDirection.equals(tgtRelationshipDirection)) {
 
                     Object target = tgtRelReader.read(tgtObject);
+                    if (target instanceof LazyCollection && !((LazyCollection) target).isLoaded()) {
+                        continue; // not known without loading it
+                    }
                     if (target != null) {
                         if (target instanceof Iterable) {
                             for (Object relatedObject : (Iterable<?>) target) {
@@ -18,6 +18,7 @@ import java.lang.reflect.Field;
 import java.util.*;
 
 import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.context.register.LongLongMap;
 import org.neo4j.ogm.entity.io.FieldWriter;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -31,15 +32,15 @@ class EntityMemo {
     // objects with no properties will always hash to this value.
     private static final long SEED = 0xDEADBEEF / (11 * 257);
 
-    private final Map<Long, Long> nodeHash;
+    private final LongLongMap nodeHash;
 
-    private final Map<Long, Long> relEntityHash;
+    private final LongLongMap relEntityHash;
 
     private final MetaData metaData;
 
     EntityMemo(MetaData metaData) {
-        this.nodeHash = new HashMap<>();
-        this.relEntityHash = new HashMap<>();
+        this.nodeHash = new LongLongMap();
+        this.relEntityHash = new LongLongMap();
         this.metaData = metaData;
     }
 
@@ -78,13 +79,13 @@ class EntityMemo {
                 isRelEntity = true;
             }
 
-            if ((!isRelEntity && !nodeHash.containsKey(entityId)) ||
-                    (isRelEntity && !relEntityHash.containsKey(entityId))) {
+            LongLongMap hashes = isRelEntity ? relEntityHash : nodeHash;
+            if (!hashes.containsKey(entityId)) {
                 return false;
             }
 
             long actual = hash(object, classInfo);
-            long expected = isRelEntity ? relEntityHash.get(entityId) : nodeHash.get(entityId);
+            long expected = hashes.get(entityId, SEED);
 
             return (actual == expected);
         }
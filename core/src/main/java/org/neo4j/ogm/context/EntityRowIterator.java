@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Utils;
+
+/**
+ * Maps a row response one row at a time onto scalars, like the {@link EntityRowModelMapper}.
+ *
+ * @param <T> The type of scalar to return
+ * @author Mark Angrish
+ */
+public class EntityRowIterator<T> extends ResponseIterator<RowModel, T> {
+
+    private final Class<T> type;
+
+    public EntityRowIterator(Class<T> type, Response<RowModel> response) {
+        super(response);
+        this.type = type;
+    }
+
+    @Override
+    protected void map(RowModel model) {
+        if (model.variables().length > 1) {
+            throw new RuntimeException(
+                    "Scalar response queries must only return one column. Make sure your cypher query only returns one item.");
+        }
+        if (model.variables().length == 1) {
+            ready((T) Utils.coerceTypes(type, model.getValues()[0]));
+        }
+    }
+}
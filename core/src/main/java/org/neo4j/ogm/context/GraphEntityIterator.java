@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.context.register.LongLongMap;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.utils.EntityUtils;
+
+/**
+ * Maps a graph response one row at a time, returning the entities of the requested type found in each row.
+ *
+ * An entity is returned from the first row it appears in. Its relationships found in later rows are still mapped onto
+ * the same instance, which stays registered in the mapping context, but only after it has been returned.
+ *
+ * @param <T> The type of entity to return
+ * @author Mark Angrish
+ */
+public class GraphEntityIterator<T> extends ResponseIterator<GraphModel, T> {
+
+    private final Class<T> type;
+    private final GraphEntityMapper mapper;
+    private final MetaData metaData;
+    private final LongLongMap returned;
+
+    /**
+     * @param type the type of entity to return
+     * @param response the response to map
+     * @param metaData the mapping meta-data
+     * @param mappingContext the mapping context into which entities are loaded
+     * @param distinct true if an entity may appear in more than one row but should only be returned once; false if
+     *        every row holds different entities, in which case no record is kept of those already returned
+     */
+    public GraphEntityIterator(Class<T> type, Response<GraphModel> response, MetaData metaData, MappingContext mappingContext, boolean distinct) {
+        this(type, response, metaData, mappingContext, distinct, null);
+    }
+
+    /**
+     * @param type the type of entity to return
+     * @param response the response to map
+     * @param metaData the mapping meta-data
+     * @param mappingContext the mapping context into which entities are loaded
+     * @param distinct true if an entity may appear in more than one row but should only be returned once
+     * @param lazyLoader loads the lazy relationship collections of the entities mapped, or null to map them eagerly
+     */
+    public GraphEntityIterator(Class<T> type, Response<GraphModel> response, MetaData metaData, MappingContext mappingContext, boolean distinct, LazyLoader lazyLoader) {
+        super(response);
+        this.type = type;
+        this.mapper = new GraphEntityMapper(metaData, mappingContext, lazyLoader);
+        this.metaData = metaData;
+        this.returned = distinct ? new LongLongMap() : null;
+    }
+
+    @Override
+    protected void map(GraphModel model) {
+        for (T entity : mapper.map(type, model)) {
+            if (returned == null) {
+                ready(entity);
+            } else {
+                long identity = EntityUtils.identity(entity, metaData);
+                if (!returned.containsKey(identity)) {
+                    returned.put(identity, identity);
+                    ready(entity);
+                }
+            }
+        }
+    }
+}
@@ -16,6 +16,7 @@ package org.neo4j.ogm.context;
 
 import static org.neo4j.ogm.annotation.Relationship.*;
 
+import java.lang.reflect.Field;
 import java.util.*;
 
 import org.neo4j.ogm.MetaData;
@@ -42,6 +43,7 @@ import org.slf4j.LoggerFactory;
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class GraphEntityMapper implements ResponseMapper<GraphModel> {
 
@@ -50,11 +52,25 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
     private final MappingContext mappingContext;
     private final EntityFactory entityFactory;
     private final MetaData metadata;
+    private final EntityAccessManager entityAccessManager;
+    private final LazyLoader lazyLoader;
 
     public GraphEntityMapper(MetaData metaData, MappingContext mappingContext) {
+        this(metaData, mappingContext, null);
+    }
+
+    /**
+     * @param metaData the domain metadata
+     * @param mappingContext the mapping context to map entities into
+     * @param lazyLoader loads the lazy relationship collections of the entities created by this mapper, or null
+     *                   if their relationships should be mapped eagerly like any other
+     */
+    public GraphEntityMapper(MetaData metaData, MappingContext mappingContext, LazyLoader lazyLoader) {
         this.metadata = metaData;
+        this.entityAccessManager = metaData.entityAccessManager();
         this.entityFactory = new EntityFactory(metadata);
         this.mappingContext = mappingContext;
+        this.lazyLoader = lazyLoader;
     }
 
     @Override
@@ -149,6 +165,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
                         setIdentity(entity, node.getId());
                         setProperties(node, entity);
                         setLabels(node, entity);
+                        setLazyCollections(entity);
                         mappingContext.addNodeEntity(entity, node.getId());
                     }
                     nodeIds.add(node.getId());
@@ -174,7 +191,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
             Map<String, ?> propertyMap = PropertyUtils.toMap(propertyList);
             for (FieldInfo field : compositeFields) {
                 Object value = field.getCompositeConverter().toEntityAttribute(propertyMap);
-                PropertyWriter writer = EntityAccessManager.getPropertyWriter(classInfo, field.getName());
+                PropertyWriter writer = entityAccessManager.getPropertyWriter(classInfo, field.getName());
                 writer.write(instance, value);
             }
         }
@@ -206,9 +223,34 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         }
     }
 
+    /**
+     * Gives each lazy relationship field of a new entity an empty {@link LazyCollection}, which the relationships
+     * of that field are not mapped into until it is used.
+     */
+    private void setLazyCollections(Object instance) {
+        if (lazyLoader == null) {
+            return;
+        }
+        ClassInfo classInfo = metadata.classInfo(instance);
+        for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
+            if (fieldInfo.isLazy()) {
+                Field field = classInfo.getField(fieldInfo);
+                String relationshipType = fieldInfo.relationship();
+                String relationshipDirection = fieldInfo.relationshipDirection(OUTGOING);
+                if (field.getType().isAssignableFrom(LazyList.class)) {
+                    FieldWriter.write(field, instance, new LazyList<>(lazyLoader, instance, relationshipType, relationshipDirection));
+                } else if (field.getType().isAssignableFrom(LazySet.class)) {
+                    FieldWriter.write(field, instance, new LazySet<>(lazyLoader, instance, relationshipType, relationshipDirection));
+                } else {
+                    logger.debug("Field {} of {} is loaded eagerly: only a Collection, List or Set can be lazy", fieldInfo.getName(), classInfo.name());
+                }
+            }
+        }
+    }
+
     private void writeProperty(ClassInfo classInfo, Object instance, Property<?, ?> property) {
 
-        PropertyWriter writer = EntityAccessManager.getPropertyWriter(classInfo, property.getKey().toString());
+        PropertyWriter writer = entityAccessManager.getPropertyWriter(classInfo, property.getKey().toString());
 
         if (writer == null) {
             logger.debug("Unable to find property: {} on class: {} for writing", property.getKey(), classInfo.name());
@@ -216,7 +258,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
             Object value = property.getValue();
             // merge iterable / arrays and co-erce to the correct attribute type
             if (writer.type().isArray() || Iterable.class.isAssignableFrom(writer.type())) {
-                PropertyReader reader = EntityAccessManager.getPropertyReader(classInfo, property.getKey().toString());
+                PropertyReader reader = entityAccessManager.getPropertyReader(classInfo, property.getKey().toString());
                 if (reader != null) {
                     Object currentValue = reader.readProperty(instance);
                     Class<?> paramType = writer.type();
@@ -237,7 +279,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         String edgeLabel = edge.getType();
         ClassInfo sourceInfo = metadata.classInfo(source);
 
-        RelationalWriter writer = EntityAccessManager.getRelationalWriter(sourceInfo, edgeLabel, relationshipDirection, parameter);
+        RelationalWriter writer = entityAccessManager.getRelationalWriter(sourceInfo, edgeLabel, relationshipDirection, parameter);
         if (writer != null && writer.forScalar()) {
             writer.write(source, parameter);
             return true;
@@ -288,7 +330,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         if (!oneToOne) {
             oneToMany.add(edge);
         } else {
-            RelationalWriter writer = EntityAccessManager.getRelationalWriter(metadata.classInfo(source), edge.getType(), OUTGOING, target);
+            RelationalWriter writer = entityAccessManager.getRelationalWriter(metadata.classInfo(source), edge.getType(), OUTGOING, target);
             mappingContext.addRelationship(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId(), source.getClass(), ClassUtils.getType(writer.typeParameterDescriptor())));
         }
     }
@@ -306,7 +348,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
 
         // If the source has a writer for an outgoing relationship for the rel entity, then write the rel entity on the source if it's a scalar writer
         ClassInfo sourceInfo = metadata.classInfo(source);
-        RelationalWriter writer = EntityAccessManager.getRelationalWriter(sourceInfo, edge.getType(), OUTGOING, relationshipEntity);
+        RelationalWriter writer = entityAccessManager.getRelationalWriter(sourceInfo, edge.getType(), OUTGOING, relationshipEntity);
         if (writer == null) {
             logger.debug("No writer for {}", target);
         } else {
@@ -320,7 +362,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
 
         //If the target has a writer for an incoming relationship for the rel entity, then write the rel entity on the target if it's a scalar writer
         ClassInfo targetInfo = metadata.classInfo(target);
-        writer = EntityAccessManager.getRelationalWriter(targetInfo, edge.getType(), Relationship.INCOMING, relationshipEntity);
+        writer = entityAccessManager.getRelationalWriter(targetInfo, edge.getType(), Relationship.INCOMING, relationshipEntity);
 
         if (writer == null) {
             logger.debug("No writer for {}", target);
@@ -348,14 +390,14 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
         // set the start and end entities
         ClassInfo relEntityInfo = metadata.classInfo(relationshipEntity);
 
-        RelationalWriter startNodeWriter = EntityAccessManager.getRelationalEntityWriter(relEntityInfo, StartNode.class);
+        RelationalWriter startNodeWriter = entityAccessManager.getRelationalEntityWriter(relEntityInfo, StartNode.class);
         if (startNodeWriter != null) {
             startNodeWriter.write(relationshipEntity, startEntity);
         } else {
             throw new RuntimeException("Cannot find a writer for the StartNode of relational entity " + relEntityInfo.name());
         }
 
-        RelationalWriter endNodeWriter = EntityAccessManager.getRelationalEntityWriter(relEntityInfo, EndNode.class);
+        RelationalWriter endNodeWriter = entityAccessManager.getRelationalEntityWriter(relEntityInfo, EndNode.class);
         if (endNodeWriter != null) {
             endNodeWriter.write(relationshipEntity, endEntity);
         } else {
@@ -382,12 +424,12 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
             if (relationshipEntity != null) {
                 // establish a relationship between
                 RelationalWriter outgoingWriter = findIterableWriter(instance, relationshipEntity, edge.getType(), OUTGOING);
-                if (outgoingWriter != null) {
+                if (outgoingWriter != null && !isLazyCollectionUnloaded(instance, relationshipEntity, edge.getType(), OUTGOING)) {
                     entityCollector.recordTypeRelationship(edge.getStartNode(), relationshipEntity, edge.getType(), OUTGOING);
                     relationshipsToRegister.add(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId(), instance.getClass(), ClassUtils.getType(outgoingWriter.typeParameterDescriptor())));
                 }
                 RelationalWriter incomingWriter = findIterableWriter(parameter, relationshipEntity, edge.getType(), Relationship.INCOMING);
-                if (incomingWriter != null) {
+                if (incomingWriter != null && !isLazyCollectionUnloaded(parameter, relationshipEntity, edge.getType(), Relationship.INCOMING)) {
                     entityCollector.recordTypeRelationship(edge.getEndNode(), relationshipEntity, edge.getType(), Relationship.INCOMING);
                     relationshipsToRegister.add(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId(), instance.getClass(), ClassUtils.getType(incomingWriter.typeParameterDescriptor())));
                 }
@@ -396,12 +438,12 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
                 }
             } else {
                 RelationalWriter outgoingWriter = findIterableWriter(instance, parameter, edge.getType(), OUTGOING);
-                if (outgoingWriter != null) {
+                if (outgoingWriter != null && !isLazyCollectionUnloaded(instance, parameter, edge.getType(), OUTGOING)) {
                     entityCollector.recordTypeRelationship(edge.getStartNode(), parameter, edge.getType(), OUTGOING);
                     relationshipsToRegister.add(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId(), instance.getClass(), ClassUtils.getType(outgoingWriter.typeParameterDescriptor())));
                 }
                 RelationalWriter incomingWriter = findIterableWriter(parameter, instance, edge.getType(), Relationship.INCOMING);
-                if (incomingWriter != null) {
+                if (incomingWriter != null && !isLazyCollectionUnloaded(parameter, instance, edge.getType(), Relationship.INCOMING)) {
                     entityCollector.recordTypeRelationship(edge.getEndNode(), instance, edge.getType(), Relationship.INCOMING);
                     relationshipsToRegister.add(new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId(), instance.getClass(), ClassUtils.getType(incomingWriter.typeParameterDescriptor())));
                 }
@@ -437,7 +479,7 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
             if (!registeredEdges.contains(edge)) {
                 Object source = mappingContext.getNodeEntity(edge.getStartNode());
                 Object target = mappingContext.getNodeEntity(edge.getEndNode());
-                RelationalWriter writer = EntityAccessManager.getRelationalWriter(metadata.classInfo(source), edge.getType(), OUTGOING, target);
+                RelationalWriter writer = entityAccessManager.getRelationalWriter(metadata.classInfo(source), edge.getType(), OUTGOING, target);
                 // ensures its tracked in the domain
                 if (writer != null) {
                     MappedRelationship mappedRelationship = new MappedRelationship(edge.getStartNode(), edge.getType(), edge.getEndNode(), edge.getId(), source.getClass(), ClassUtils.getType(writer.typeParameterDescriptor()));
@@ -460,9 +502,28 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
      */
     private RelationalWriter findIterableWriter(Object instance, Object parameter, String relationshipType, String relationshipDirection) {
         ClassInfo classInfo = metadata.classInfo(instance);
-        return EntityAccessManager.getIterableWriter(classInfo, parameter.getClass(), relationshipType, relationshipDirection);
+        return entityAccessManager.getIterableWriter(classInfo, parameter.getClass(), relationshipType, relationshipDirection);
     }
 
+    /**
+     * Whether the relationship would be mapped onto a lazy collection that has not been loaded yet, in which case it
+     * is left out of the mapping context until the collection is loaded.
+     *
+     * @param instance the instance onto which the relationship is to be mapped
+     * @param parameter the value to be mapped
+     * @param relationshipType the relationship type
+     * @param relationshipDirection the relationship direction
+     * @return true if the relationship belongs to a lazy collection that has not been loaded
+     */
+    private boolean isLazyCollectionUnloaded(Object instance, Object parameter, String relationshipType, String relationshipDirection) {
+        ClassInfo classInfo = metadata.classInfo(instance);
+        RelationalReader reader = entityAccessManager.getIterableReader(classInfo, parameter.getClass(), relationshipType, relationshipDirection);
+        if (reader == null) {
+            return false;
+        }
+        Object value = reader.read(instance);
+        return value instanceof LazyCollection && !((LazyCollection) value).isLoaded();
+    }
 
     /**
      * Map many values to an instance based on the relationship type.
@@ -477,13 +538,17 @@ public class GraphEntityMapper implements ResponseMapper<GraphModel> {
 
         ClassInfo classInfo = metadata.classInfo(instance);
 
-        RelationalWriter writer = EntityAccessManager.getIterableWriter(classInfo, valueType, relationshipType, relationshipDirection);
+        RelationalWriter writer = entityAccessManager.getIterableWriter(classInfo, valueType, relationshipType, relationshipDirection);
         if (writer != null) {
             if (writer.type().isArray() || Iterable.class.isAssignableFrom(writer.type())) {
-                RelationalReader reader = EntityAccessManager.getIterableReader(classInfo, valueType, relationshipType, relationshipDirection);
+                RelationalReader reader = entityAccessManager.getIterableReader(classInfo, valueType, relationshipType, relationshipDirection);
                 Object currentValues;
                 if (reader != null) {
                     currentValues = reader.read(instance);
+                    if (currentValues instanceof LazyCollection) {
+                        ((LazyCollection) currentValues).addLoaded((Collection<?>) values);
+                        return;
+                    }
                     if (writer.type().isArray()) {
                         values = EntityAccess.merge(writer.type(), values, (Object[]) currentValues, valueType);
                     } else {
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashSet;
+import java.util.Queue;
+import java.util.Set;
+
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.model.GraphRowListModel;
+import org.neo4j.ogm.model.GraphRowModel;
+import org.neo4j.ogm.response.Response;
+
+/**
+ * Maps a graph and row response one row at a time, returning the entities whose ids are given in the rows.
+ *
+ * All the rows of one entity must be consecutive, each carrying the id of that entity. Cypher only guarantees that
+ * when the query orders its rows by entity, so the queries this iterator is given end with an ORDER BY on the id of
+ * the entity, or return a single row per entity. An entity is returned, fully hydrated to the requested depth, as
+ * soon as a row for a different entity is read, or the response ends.
+ *
+ * Rows are mapped only once the entities of the rows before them have been returned, so that calling
+ * {@link org.neo4j.ogm.session.Session#clear()} between results lets the mapping context be released without
+ * losing any part of an entity still to come.
+ *
+ * @param <T> The type of entity to return
+ * @author Mark Angrish
+ */
+public class GraphRowListEntityIterator<T> extends ResponseIterator<GraphRowListModel, T> {
+
+    private final Class<T> type;
+    private final GraphEntityMapper mapper;
+    private final MappingContext mappingContext;
+    private final boolean relationshipEntities;
+    private final Set<Long> pending = new LinkedHashSet<>();
+    private final Queue<GraphRowModel> rows = new ArrayDeque<>();
+
+    public GraphRowListEntityIterator(Class<T> type, Response<GraphRowListModel> response, MetaData metaData, MappingContext mappingContext) {
+        this(type, response, metaData, mappingContext, null);
+    }
+
+    public GraphRowListEntityIterator(Class<T> type, Response<GraphRowListModel> response, MetaData metaData, MappingContext mappingContext, LazyLoader lazyLoader) {
+        super(response);
+        this.type = type;
+        this.mapper = new GraphEntityMapper(metaData, mappingContext, lazyLoader);
+        this.mappingContext = mappingContext;
+        this.relationshipEntities = metaData.classInfo(type.getName()).isRelationshipEntity();
+    }
+
+    @Override
+    protected void map(GraphRowListModel model) {
+        rows.addAll(model.model());
+        mapRows();
+    }
+
+    @Override
+    protected void finish() {
+        while (!rows.isEmpty()) {
+            mapRows();
+        }
+        release();
+    }
+
+    /**
+     * Maps the buffered rows up to the first row of the next entity, which is left unmapped until the entities
+     * released before it have been returned. That way nothing of the next entity is in the mapping context yet
+     * when the session is cleared between two calls to {@link #next()}.
+     */
+    private void mapRows() {
+        GraphRowModel graphRowModel;
+        while ((graphRowModel = rows.peek()) != null) {
+            Set<Long> ids = new LinkedHashSet<>();
+            for (Object data : graphRowModel.getRow()) {
+                if (data instanceof Number) {
+                    ids.add(((Number) data).longValue());
+                }
+            }
+            if (!ids.equals(pending)) {
+                if (!pending.isEmpty()) {
+                    release();
+                    return;
+                }
+                pending.addAll(ids);
+            }
+            rows.remove();
+            mapper.map(type, graphRowModel.getGraph());
+        }
+    }
+
+    private void release() {
+        for (Long id : pending) {
+            Object entity = relationshipEntities ? mappingContext.getRelationshipEntity(id) : mappingContext.getNodeEntity(id);
+            if (entity != null) {
+                ready(type.cast(entity));
+            }
+        }
+        pending.clear();
+    }
+}
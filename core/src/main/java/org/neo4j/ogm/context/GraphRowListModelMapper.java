@@ -27,15 +27,22 @@ import org.neo4j.ogm.response.Response;
 
 /**
  * @author vince
+ * @author Mark Angrish
  */
 public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel> {
 
     private final MetaData metaData;
     private final MappingContext mappingContext;
+    private final LazyLoader lazyLoader;
 
     public GraphRowListModelMapper(MetaData metaData, MappingContext mappingContext) {
+        this(metaData, mappingContext, null);
+    }
+
+    public GraphRowListModelMapper(MetaData metaData, MappingContext mappingContext, LazyLoader lazyLoader) {
         this.metaData = metaData;
         this.mappingContext = mappingContext;
+        this.lazyLoader = lazyLoader;
     }
 
     public <T> Iterable<T> map(Class<T> type, Response<GraphRowListModel> response) {
@@ -46,7 +53,7 @@ public class GraphRowListModelMapper implements ResponseMapper<GraphRowListModel
 
         Set<Long> nodeIds = new LinkedHashSet<>();
         Set<Long> edgeIds = new LinkedHashSet<>();
-        GraphEntityMapper ogm = new GraphEntityMapper(metaData, mappingContext);
+        GraphEntityMapper ogm = new GraphEntityMapper(metaData, mappingContext, lazyLoader);
 
         GraphRowListModel graphRowsModel;
 
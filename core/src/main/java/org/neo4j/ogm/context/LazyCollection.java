@@ -0,0 +1,41 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.Collection;
+
+/**
+ * A collection of related entities that is only loaded the first time it is used, rather than with the entity
+ * holding it. See {@link org.neo4j.ogm.annotation.Relationship#lazy()}.
+ *
+ * Until it has been loaded, a lazy collection stands for relationships that are not in the mapping context: they
+ * are neither added to it when the entity holding it is mapped, nor compared against it when that entity is saved.
+ *
+ * @author Mark Angrish
+ */
+public interface LazyCollection {
+
+    /**
+     * @return true once the collection has been used, and its entities have been loaded or are being loaded
+     */
+    boolean isLoaded();
+
+    /**
+     * Adds entities mapped from the graph to the collection, ignoring those it already holds. The collection is
+     * not loaded by this call.
+     *
+     * @param entities the entities to add
+     */
+    void addLoaded(Collection<?> entities);
+}
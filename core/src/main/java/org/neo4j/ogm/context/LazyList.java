@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.*;
+
+/**
+ * A {@link LazyCollection} for relationship fields declared as a {@link List} or a {@link Collection}.
+ *
+ * @param <E> The type of the related entities
+ * @author Mark Angrish
+ */
+public class LazyList<E> extends AbstractList<E> implements LazyCollection {
+
+    private final LazyLoader loader;
+    private final Object owner;
+    private final String relationshipType;
+    private final String relationshipDirection;
+    private final List<E> elements = new ArrayList<>();
+    private Set<Object> loading;
+    private boolean loaded;
+
+    public LazyList(LazyLoader loader, Object owner, String relationshipType, String relationshipDirection) {
+        this.loader = loader;
+        this.owner = owner;
+        this.relationshipType = relationshipType;
+        this.relationshipDirection = relationshipDirection;
+    }
+
+    @Override
+    public E get(int index) {
+        load();
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        load();
+        return elements.size();
+    }
+
+    @Override
+    public E set(int index, E element) {
+        load();
+        return elements.set(index, element);
+    }
+
+    @Override
+    public void add(int index, E element) {
+        load();
+        elements.add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public E remove(int index) {
+        load();
+        modCount++;
+        return elements.remove(index);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addLoaded(Collection<?> entities) {
+        // while loading, the entities already added are tracked, rather than searched for each page
+        Set<Object> present = loading != null ? loading : identities(elements);
+        for (Object entity : entities) {
+            if (present.add(entity)) {
+                elements.add((E) entity);
+            }
+        }
+    }
+
+    private void load() {
+        if (!loaded) {
+            loaded = true;
+            loading = identities(elements);
+            try {
+                loader.load(owner, relationshipType, relationshipDirection);
+            } catch (RuntimeException e) {
+                loaded = false;
+                elements.clear();
+                throw e;
+            } finally {
+                loading = null;
+            }
+        }
+    }
+
+    private static Set<Object> identities(Collection<?> entities) {
+        Set<Object> identities = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+        identities.addAll(entities);
+        return identities;
+    }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+/**
+ * Loads the entities of a {@link LazyCollection} the first time it is used.
+ *
+ * @author Mark Angrish
+ */
+public interface LazyLoader {
+
+    /**
+     * Maps the entities related to an entity by relationships of a given type and direction into the mapping
+     * context, which adds them to the lazy collection of the entity holding that relationship.
+     *
+     * @param owner the entity holding the lazy collection
+     * @param relationshipType the type of the relationships of the collection
+     * @param relationshipDirection the direction of the relationships of the collection
+     */
+    void load(Object owner, String relationshipType, String relationshipDirection);
+}
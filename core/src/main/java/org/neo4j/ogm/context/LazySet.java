@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * A {@link LazyCollection} for relationship fields declared as a {@link Set}.
+ *
+ * @param <E> The type of the related entities
+ * @author Mark Angrish
+ */
+public class LazySet<E> extends AbstractSet<E> implements LazyCollection {
+
+    private final LazyLoader loader;
+    private final Object owner;
+    private final String relationshipType;
+    private final String relationshipDirection;
+    private final Set<E> elements = new LinkedHashSet<>();
+    private boolean loaded;
+
+    public LazySet(LazyLoader loader, Object owner, String relationshipType, String relationshipDirection) {
+        this.loader = loader;
+        this.owner = owner;
+        this.relationshipType = relationshipType;
+        this.relationshipDirection = relationshipDirection;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        load();
+        return elements.iterator();
+    }
+
+    @Override
+    public int size() {
+        load();
+        return elements.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        load();
+        return elements.contains(o);
+    }
+
+    @Override
+    public boolean add(E element) {
+        load();
+        return elements.add(element);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        load();
+        return elements.remove(o);
+    }
+
+    @Override
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void addLoaded(Collection<?> entities) {
+        elements.addAll((Collection<? extends E>) entities);
+    }
+
+    private void load() {
+        if (!loaded) {
+            loaded = true;
+            try {
+                loader.load(owner, relationshipType, relationshipDirection);
+            } catch (RuntimeException e) {
+                loaded = false;
+                elements.clear();
+                throw e;
+            }
+        }
+    }
+}
@@ -15,12 +15,14 @@ package org.neo4j.ogm.context;
 
 import java.lang.reflect.Field;
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArraySet;
 
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.classloader.MetaDataClassLoader;
 import org.neo4j.ogm.context.register.EntityRegister;
 import org.neo4j.ogm.context.register.LabelHistoryRegister;
+import org.neo4j.ogm.context.register.LoadedDepthRegister;
+import org.neo4j.ogm.context.register.PrimaryIndexRegister;
+import org.neo4j.ogm.context.register.RelationshipRegister;
 import org.neo4j.ogm.context.register.TypeRegister;
 import org.neo4j.ogm.entity.io.*;
 import org.neo4j.ogm.metadata.ClassInfo;
@@ -42,32 +44,35 @@ public class MappingContext {
      */
     private final TypeRegister typeRegister;
 
-    private final EntityRegister<Long> nodeEntityRegister;
+    private final EntityRegister nodeEntityRegister;
 
-    private final EntityRegister<Object> primaryIndexNodeRegister;
+    private final PrimaryIndexRegister primaryIndexNodeRegister;
 
-    private final EntityRegister<Long> relationshipEntityRegister;
+    private final EntityRegister relationshipEntityRegister;
 
-    private final Set<MappedRelationship> relationshipRegister;
+    private final RelationshipRegister relationshipRegister;
 
     private final LabelHistoryRegister labelHistoryRegister;
 
+    private final LoadedDepthRegister loadedDepthRegister;
+
     private final EntityMemo objectMemo;
 
     private final MetaData metaData;
 
+    private final EntityAccessManager entityAccessManager;
 
     public MappingContext(MetaData metaData) {
         this.metaData = metaData;
+        this.entityAccessManager = metaData.entityAccessManager();
         this.objectMemo = new EntityMemo(metaData);
         this.typeRegister = new TypeRegister();
-        this.nodeEntityRegister = new EntityRegister<>();
-        this.primaryIndexNodeRegister = new EntityRegister<>();
-        this.relationshipEntityRegister = new EntityRegister<>();
-        // NOTE: The use of CopyOnWriteArraySet here is to prevent ConcurrentModificationException from occurring when
-        // the purge() method is called.
-        this.relationshipRegister = new CopyOnWriteArraySet<>();
+        this.nodeEntityRegister = new EntityRegister();
+        this.primaryIndexNodeRegister = new PrimaryIndexRegister();
+        this.relationshipEntityRegister = new EntityRegister();
+        this.relationshipRegister = new RelationshipRegister();
         this.labelHistoryRegister = new LabelHistoryRegister();
+        this.loadedDepthRegister = new LoadedDepthRegister();
     }
 
     public Object getNodeEntity(Object id) {
@@ -105,9 +110,42 @@ public class MappingContext {
     }
 
     public boolean removeRelationship(MappedRelationship mappedRelationship) {
+        loadedDepthRegister.forget(mappedRelationship.getStartNodeId());
+        loadedDepthRegister.forget(mappedRelationship.getEndNodeId());
         return relationshipRegister.remove(mappedRelationship);
     }
 
+    /**
+     * Records the depth a node entity was loaded to by id, so that loading it again to no greater depth can be
+     * answered from this mapping context. The depth is forgotten as soon as any of the nodes loaded with the entity,
+     * or any of their relationships, is removed from the mapping context.
+     *
+     * @param id the id of the node entity
+     * @param depth the depth it was loaded to
+     * @param nodeIds the ids of the nodes loaded with it
+     */
+    public void registerLoadedDepth(Long id, int depth, Collection<Long> nodeIds) {
+        loadedDepthRegister.add(id, depth, nodeIds);
+    }
+
+    /**
+     * @param id the id of a node entity
+     * @param depth a depth
+     * @return whether the entity was loaded by id to at least the given depth, and everything loaded with it is still
+     * in the mapping context
+     */
+    public boolean isLoadedToDepth(Long id, int depth) {
+        return loadedDepthRegister.covers(id, depth);
+    }
+
+    /**
+     * Forgets the depths node entities were loaded to, after the graph was written to in ways the mapping context
+     * doesn't know of.
+     */
+    public void clearLoadedDepths() {
+        loadedDepthRegister.clear();
+    }
+
     /**
      * De-registers an object from the mapping context
      * - removes the object instance from the typeRegister(s)
@@ -120,6 +158,7 @@ public class MappingContext {
     public void removeNodeEntity(Object entity, Long id) {
         removeType(entity.getClass(), id);
         nodeEntityRegister.remove(id);
+        loadedDepthRegister.forget(id);
         final ClassInfo primaryIndexClassInfo = metaData.classInfo(entity);
         final FieldInfo primaryIndexField = primaryIndexClassInfo.primaryIndexField(); // also need to add the class to key to prevent collisions.
         if (primaryIndexField != null) {
@@ -147,7 +186,7 @@ public class MappingContext {
     }
 
     public Collection<Object> getEntities(Class<?> type) {
-        return typeRegister.get(type).values();
+        return typeRegister.get(type);
     }
 
     public LabelHistory labelHistory(Long identity) {
@@ -156,7 +195,7 @@ public class MappingContext {
 
     public boolean isDirty(Object entity) {
         ClassInfo classInfo = metaData.classInfo(entity);
-        Object id = EntityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity);
+        Object id = entityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity);
         return !objectMemo.remembered((Long) id, entity, classInfo);
     }
 
@@ -164,7 +203,34 @@ public class MappingContext {
         return relationshipRegister.contains(relationship);
     }
 
+    /**
+     * @return all the relationships in the mapping context. Iterating over them visits a snapshot, so relationships
+     * may be added and removed meanwhile.
+     */
     public Set<MappedRelationship> getRelationships() {
+        return relationshipRegister.relationships();
+    }
+
+    /**
+     * @param nodeId the id of a node entity
+     * @return the relationships starting or ending at the node
+     */
+    public List<MappedRelationship> getRelationships(Long nodeId) {
+        return relationshipRegister.relationshipsOf(nodeId);
+    }
+
+    /**
+     * @param relationshipId the id of a relationship entity
+     * @return the relationships mapping the relationship entity
+     */
+    public List<MappedRelationship> getRelationshipsOfRelationshipEntity(Long relationshipId) {
+        return relationshipRegister.relationshipsOfRelationshipEntity(relationshipId);
+    }
+
+    /**
+     * @return the relationship register itself, which a compile context overlays rather than copies
+     */
+    RelationshipRegister relationshipRegister() {
         return relationshipRegister;
     }
 
@@ -183,6 +249,7 @@ public class MappingContext {
         typeRegister.clear();
         relationshipEntityRegister.clear();
         labelHistoryRegister.clear();
+        loadedDepthRegister.clear();
     }
 
     public Object getRelationshipEntity(Long relationshipId) {
@@ -220,7 +287,7 @@ public class MappingContext {
                 }
             }
         } else {
-            PropertyReader identityReader = EntityAccessManager.getIdentityPropertyReader(classInfo);
+            PropertyReader identityReader = entityAccessManager.getIdentityPropertyReader(classInfo);
             removeType(type, identityReader);
         }
     }
@@ -258,7 +325,7 @@ public class MappingContext {
     public void removeEntity(Object entity) {
         Class<?> type = entity.getClass();
         ClassInfo classInfo = metaData.classInfo(type.getName());
-        PropertyReader identityReader = EntityAccessManager.getIdentityPropertyReader(classInfo);
+        PropertyReader identityReader = entityAccessManager.getIdentityPropertyReader(classInfo);
         Long id = (Long) identityReader.readProperty(entity);
 
         purge(entity, identityReader, type);
@@ -291,27 +358,23 @@ public class MappingContext {
 
         Class<?> type = entity.getClass();
         ClassInfo classInfo = metaData.classInfo(type.getName());
-        PropertyReader identityReader = EntityAccessManager.getIdentityPropertyReader(classInfo);
+        PropertyReader identityReader = entityAccessManager.getIdentityPropertyReader(classInfo);
 
         Long id = (Long) identityReader.readProperty(entity);
 
         if (id != null) {
             if (!metaData.isRelationshipEntity(type.getName())) {
                 if (nodeEntityRegister.contains(id)) {
-                    // todo: this will be very slow for many objects
-                    // todo: refactor to create a list of mappedRelationships from a nodeEntity id.
-                    for (MappedRelationship mappedRelationship : relationshipRegister) {
-                        if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-                            Object affectedObject = mappedRelationship.getEndNodeId() == id ? nodeEntityRegister.get(mappedRelationship.getStartNodeId()) : nodeEntityRegister.get(mappedRelationship.getEndNodeId());
-                            if (affectedObject != null) {
-                                neighbours.add(affectedObject);
-                            }
+                    for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+                        Object affectedObject = mappedRelationship.getEndNodeId() == id ? nodeEntityRegister.get(mappedRelationship.getStartNodeId()) : nodeEntityRegister.get(mappedRelationship.getEndNodeId());
+                        if (affectedObject != null) {
+                            neighbours.add(affectedObject);
                         }
                     }
                 }
             } else if (relationshipEntityRegister.contains(id)) {
-                RelationalReader startNodeReader = EntityAccessManager.getStartNodeReader(classInfo);
-                RelationalReader endNodeReader = EntityAccessManager.getEndNodeReader(classInfo);
+                RelationalReader startNodeReader = entityAccessManager.getStartNodeReader(classInfo);
+                RelationalReader endNodeReader = entityAccessManager.getEndNodeReader(classInfo);
                 neighbours.add(startNodeReader.read(entity));
                 neighbours.add(endNodeReader.read(entity));
             }
@@ -326,14 +389,12 @@ public class MappingContext {
      * @param startOrEndEntity the entity that might be the start or end node of a relationship entity
      */
     private void deregisterDependentRelationshipEntity(Object startOrEndEntity) {
-        Iterator<Long> relationshipEntityIdIterator = relationshipEntityRegister.iterator();
-        while (relationshipEntityIdIterator.hasNext()) {
-            Long relationshipEntityId = relationshipEntityIdIterator.next();
+        for (long relationshipEntityId : relationshipEntityRegister.ids()) {
             Object relationshipEntity = relationshipEntityRegister.get(relationshipEntityId);
-            RelationalReader startNodeReader = EntityAccessManager.getStartNodeReader(metaData.classInfo(relationshipEntity));
-            RelationalReader endNodeReader = EntityAccessManager.getEndNodeReader(metaData.classInfo(relationshipEntity));
+            RelationalReader startNodeReader = entityAccessManager.getStartNodeReader(metaData.classInfo(relationshipEntity));
+            RelationalReader endNodeReader = entityAccessManager.getEndNodeReader(metaData.classInfo(relationshipEntity));
             if (startOrEndEntity == startNodeReader.read(relationshipEntity) || startOrEndEntity == endNodeReader.read(relationshipEntity)) {
-                relationshipEntityIdIterator.remove();
+                relationshipEntityRegister.remove(relationshipEntityId);
             }
         }
     }
@@ -348,14 +409,9 @@ public class MappingContext {
 
 
     /**
-     * NOTE: There was a lot of concurrent code in other classes (see commit) to prevent this method from throwing
-     * ConcurrentModificationException. This is due to: 1) not deleting through the iterator
-     * 2) using an iterative approach along with recursion and then modifying the underlying collection.
-     * To get around this we can either block all methods that are involved in the recursion stack from concurrently
-     * modifying the mapped relationship collection (previous implementation: very inefficient) to copying the collection
-     * on write (current implementation: inefficient).
-     * TODO: The best way to fix this method is to replace it with an iterative approach using a <code>Stack</code> and
-     * call remove() on the mappedRelationshipIterator. This will be both efficient and safe.
+     * NOTE: Purging a relationship entity purges its start and end nodes, which purges the relationships of those nodes,
+     * so this method recurses while it visits relationships. The relationships of a node are looked up as a copy from
+     * the {@link RelationshipRegister}, which leaves the recursion free to remove them meanwhile.
      */
     private void purge(Object entity, PropertyReader identityReader, Class type) {
         Long id = (Long) identityReader.readProperty(entity);
@@ -365,35 +421,32 @@ public class MappingContext {
                 if (nodeEntityRegister.contains(id)) {
                     // remove the object from the node register
                     nodeEntityRegister.remove(id);
+                    loadedDepthRegister.forget(id);
                     // remove all relationship mappings to/from this object
-                    Iterator<MappedRelationship> mappedRelationshipIterator = relationshipRegister.iterator();
-                    while (mappedRelationshipIterator.hasNext()) {
-                        MappedRelationship mappedRelationship = mappedRelationshipIterator.next();
-                        if (mappedRelationship.getStartNodeId() == id || mappedRelationship.getEndNodeId() == id) {
-
-                            // first purge any RE mappings (if its a RE)
-                            if (mappedRelationship.getRelationshipId() != null) {
-                                Object relEntity = relationshipEntityRegister.get(mappedRelationship.getRelationshipId());
-                                if (relEntity != null) {
-                                    ClassInfo relClassInfo = metaData.classInfo(relEntity);
-                                    PropertyReader relIdentityReader = EntityAccessManager.getIdentityPropertyReader(relClassInfo);
-                                    purge(relEntity, relIdentityReader, relClassInfo.getUnderlyingClass());
-                                }
+                    for (MappedRelationship mappedRelationship : relationshipRegister.relationshipsOf(id)) {
+
+                        // first purge any RE mappings (if its a RE)
+                        if (mappedRelationship.getRelationshipId() != null) {
+                            Object relEntity = relationshipEntityRegister.get(mappedRelationship.getRelationshipId());
+                            if (relEntity != null) {
+                                ClassInfo relClassInfo = metaData.classInfo(relEntity);
+                                PropertyReader relIdentityReader = entityAccessManager.getIdentityPropertyReader(relClassInfo);
+                                purge(relEntity, relIdentityReader, relClassInfo.getUnderlyingClass());
                             }
-
-                            // finally remove the mapped relationship
-                            relationshipRegister.remove(mappedRelationship);
                         }
+
+                        // finally remove the mapped relationship
+                        relationshipRegister.remove(mappedRelationship);
                     }
                 }
             } else {
                 // remove a RelationshipEntity
                 if (relationshipEntityRegister.contains(id)) {
                     relationshipEntityRegister.remove(id);
-                    RelationalReader startNodeReader = EntityAccessManager.getStartNodeReader(metaData.classInfo(entity));
+                    RelationalReader startNodeReader = entityAccessManager.getStartNodeReader(metaData.classInfo(entity));
                     Object startNode = startNodeReader.read(entity);
                     removeEntity(startNode);
-                    RelationalReader endNodeReader = EntityAccessManager.getEndNodeReader(metaData.classInfo(entity));
+                    RelationalReader endNodeReader = entityAccessManager.getEndNodeReader(metaData.classInfo(entity));
                     Object endNode = endNodeReader.read(entity);
                     removeEntity(endNode);
                 }
@@ -401,17 +454,17 @@ public class MappingContext {
         }
     }
 
-    private void addType(Class type, Object entity, Object id) {
+    private void addType(Class type, Object entity, long id) {
         typeRegister.add(metaData, type, entity, id);
     }
 
-    private void removeType(Class type, Object id) {
+    private void removeType(Class type, long id) {
         typeRegister.remove(metaData, type, id);
     }
 
     private void remember(Object entity) {
         ClassInfo classInfo = metaData.classInfo(entity);
-        Long id = (Long) EntityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity);
+        Long id = (Long) entityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity);
         objectMemo.remember(id, entity, classInfo);
     }
 
@@ -421,7 +474,7 @@ public class MappingContext {
         if (fieldInfo != null) {
             FieldReader reader = new FieldReader(classInfo, fieldInfo);
             Collection<String> labels = (Collection<String>) reader.read(entity);
-            Long id = (Long) EntityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity);
+            Long id = (Long) entityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity);
             labelHistory(id).push(labels);
         }
     }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.ResultIterator;
+
+/**
+ * Base class of the {@link ResultIterator}s that map a {@link Response} one model at a time.
+ *
+ * Models are read from the response only when the caller asks for more results than have been mapped so far, so at
+ * any time only the results of the last few rows are held here. The response is closed as soon as it is exhausted.
+ *
+ * @param <M> The Response model
+ * @param <T> The type of the results
+ * @author Mark Angrish
+ */
+public abstract class ResponseIterator<M, T> implements ResultIterator<T> {
+
+    private final Response<M> response;
+    private final Queue<T> ready = new ArrayDeque<>();
+    private boolean exhausted;
+
+    protected ResponseIterator(Response<M> response) {
+        this.response = response;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (ready.isEmpty() && !exhausted) {
+            M model = response.next();
+            if (model == null) {
+                exhausted = true;
+                response.close();
+                finish();
+            } else {
+                map(model);
+            }
+        }
+        return !ready.isEmpty();
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return ready.remove();
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Results can't be removed from a query response");
+    }
+
+    @Override
+    public void close() {
+        if (!exhausted) {
+            exhausted = true;
+            response.close();
+        }
+    }
+
+    /**
+     * Maps the next model read from the response, handing any results that are complete to {@link #ready(Object)}.
+     *
+     * @param model the model
+     */
+    protected abstract void map(M model);
+
+    /**
+     * Called once the response is exhausted, to hand over any results still held back.
+     */
+    protected void finish() {
+    }
+
+    protected void ready(T result) {
+        ready.add(result);
+    }
+}
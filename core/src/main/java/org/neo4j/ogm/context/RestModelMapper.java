@@ -50,8 +50,6 @@ public class RestModelMapper implements ResponseMapper<RestModel> {
 		Collection<Map<String, Object>> result = new ArrayList<>();
 		Map<Long, String> relationshipEntityColumns = new HashMap<>(); //Relationship ID to column name
 
-		restStatisticsModel.setStatistics(model.getStats());
-
 		while (model.getRow().entrySet().size() > 0) {
 			Map<String,Object> row = model.getRow();
 			List<RelationshipModel> relationshipModels = new ArrayList<>();
@@ -105,6 +103,8 @@ public class RestModelMapper implements ResponseMapper<RestModel> {
 			result.add(row);
 			model = response.next();
 		}
+		// a streamed response may only know its statistics once all the rows have been read
+		restStatisticsModel.setStatistics(model.getStats());
 		restStatisticsModel.setResult(result);
 		return (Iterable<T>) Collections.singletonList(restStatisticsModel);
 	}
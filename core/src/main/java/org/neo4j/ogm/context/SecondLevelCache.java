@@ -0,0 +1,413 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import java.lang.reflect.Array;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.model.Property;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.PropertyModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+/**
+ * A cache of the graphs loaded for single entities, shared by all the sessions of a
+ * {@link org.neo4j.ogm.session.SessionFactory}, so that loading an entity by id or by primary index again, even from
+ * another session, is answered without a round trip to the database.
+ *
+ * Each snapshot holds copies of the nodes and relationships, with their properties, returned when an entity was
+ * loaded to some depth, keyed by the type of the entity, the id or primary index value it was loaded by, and the
+ * depth. Snapshots are mapped into the {@link MappingContext} of a session exactly like the response they were taken
+ * from, and no entity is ever shared between sessions.
+ *
+ * Whenever a session writes a node or a relationship, every snapshot holding it is evicted. Writes the sessions do
+ * not know the targets of, such as Cypher queries that update the graph, evict every snapshot, while changes made to
+ * the database by other applications are only picked up when their snapshots expire. The cache holds at most
+ * cache.size snapshots, each for at most cache.ttl seconds.
+ *
+ * Lookups take no lock, so the sessions of a factory never wait on one another to read the cache. Caching and
+ * evicting snapshots are serialized, as they keep the snapshots of each node and relationship indexed. Beyond the
+ * maximum size, snapshots are evicted with the clock algorithm of {@link org.neo4j.ogm.utils.BoundedCache}: one that
+ * has been read since the eviction sweep last passed over it is given a second chance, so frequently read snapshots
+ * stay cached, although the one evicted is not always the least recently used.
+ *
+ * A cache of maximum size 0 is disabled: it never holds anything.
+ *
+ * @author Mark Angrish
+ */
+public class SecondLevelCache {
+
+    /**
+     * A cache that never holds anything, used by sessions that aren't given one.
+     */
+    public static final SecondLevelCache DISABLED = new SecondLevelCache(0, 0);
+
+    private final int maximumSize;
+    private final long timeToLive;
+
+    private final ConcurrentMap<Key, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Key>> snapshotsOfNodes = new HashMap<>();
+    private final Map<Long, Set<Key>> snapshotsOfRelationships = new HashMap<>();
+
+    private volatile long generation;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * @param maximumSize the maximum number of snapshots held, or 0 to disable the cache
+     * @param timeToLive the number of seconds a snapshot is held for, or 0 to hold it until it is evicted
+     */
+    public SecondLevelCache(int maximumSize, long timeToLive) {
+        if (maximumSize < 0 || timeToLive < 0) {
+            throw new IllegalArgumentException("The size and time to live of a second-level cache can't be negative");
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLive = TimeUnit.SECONDS.toNanos(timeToLive);
+    }
+
+    public boolean isEnabled() {
+        return maximumSize > 0;
+    }
+
+    /**
+     * Returns a count of the evictions so far, to be read before loading an entity and passed on to
+     * {@link #put(Class, Object, int, Iterable, long)}, which then only caches its graph if nothing was evicted
+     * meanwhile: the graph may have been read before a write that evicted it.
+     *
+     * @return the current generation of the cache
+     */
+    public long generation() {
+        return generation;
+    }
+
+    /**
+     * Returns a copy of the graph last loaded for an entity, if it is cached and hasn't expired.
+     *
+     * @param type the type of the entity
+     * @param id the id or primary index value the entity is loaded by
+     * @param depth the depth the entity is loaded to
+     * @return the graph of the entity, or null if it isn't cached
+     */
+    public GraphModel get(Class<?> type, Object id, int depth) {
+        if (!isEnabled()) {
+            return null;
+        }
+        Key key = new Key(type.getName(), id, depth);
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && timeToLive > 0 && now() - snapshot.created > timeToLive) {
+            synchronized (this) {
+                // unless it has been replaced meanwhile
+                if (snapshots.get(key) == snapshot) {
+                    remove(key);
+                }
+            }
+            snapshot = null;
+        }
+        if (snapshot == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        snapshot.referenced = true;
+        hits.incrementAndGet();
+        return snapshot.copy();
+    }
+
+    /**
+     * Caches a copy of the graph loaded for an entity, unless something has been evicted since the given generation.
+     *
+     * @param type the type of the entity
+     * @param id the id or primary index value the entity was loaded by
+     * @param depth the depth the entity was loaded to
+     * @param graphModels the graph of the entity, as returned by the database
+     * @param generation the generation of the cache read before the entity was loaded
+     */
+    public void put(Class<?> type, Object id, int depth, Iterable<GraphModel> graphModels, long generation) {
+        if (!isEnabled()) {
+            return;
+        }
+        Snapshot snapshot = new Snapshot(graphModels, now());
+        if (snapshot.nodes.isEmpty() && snapshot.relationships.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            if (generation != this.generation) {
+                return;
+            }
+            Key key = new Key(type.getName(), id, depth);
+            remove(key);
+            snapshots.put(key, snapshot);
+            for (NodeModel node : snapshot.nodes) {
+                index(snapshotsOfNodes, node.getId(), key);
+            }
+            for (RelationshipModel relationship : snapshot.relationships) {
+                index(snapshotsOfRelationships, relationship.getId(), key);
+            }
+            evictBeyondMaximumSize(key);
+        }
+    }
+
+    /**
+     * Evicts every snapshot holding any of the given nodes or relationships.
+     *
+     * @param nodeIds the ids of the nodes written
+     * @param relationshipIds the ids of the relationships written
+     */
+    public void evict(Collection<Long> nodeIds, Collection<Long> relationshipIds) {
+        if (!isEnabled()) {
+            return;
+        }
+        synchronized (this) {
+            generation++;
+            for (Long nodeId : nodeIds) {
+                evict(snapshotsOfNodes.get(nodeId));
+            }
+            for (Long relationshipId : relationshipIds) {
+                evict(snapshotsOfRelationships.get(relationshipId));
+            }
+        }
+    }
+
+    /**
+     * Evicts every snapshot.
+     */
+    public synchronized void evictAll() {
+        generation++;
+        evictions.addAndGet(snapshots.size());
+        snapshots.clear();
+        snapshotsOfNodes.clear();
+        snapshotsOfRelationships.clear();
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    protected long now() {
+        return System.nanoTime();
+    }
+
+    private void evict(Set<Key> keys) {
+        if (keys != null) {
+            for (Key key : new ArrayList<>(keys)) {
+                if (remove(key)) {
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private void evictBeyondMaximumSize(Key cached) {
+        // two passes always find a victim other than the snapshot just cached: the first clears every reference bit
+        for (int pass = 0; pass < 2 && snapshots.size() > maximumSize; pass++) {
+            Iterator<Map.Entry<Key, Snapshot>> iterator = snapshots.entrySet().iterator();
+            while (iterator.hasNext() && snapshots.size() > maximumSize) {
+                Map.Entry<Key, Snapshot> candidate = iterator.next();
+                if (candidate.getKey().equals(cached)) {
+                    continue;
+                }
+                if (candidate.getValue().referenced) {
+                    candidate.getValue().referenced = false;
+                } else if (remove(candidate.getKey())) {
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private boolean remove(Key key) {
+        Snapshot snapshot = snapshots.remove(key);
+        if (snapshot == null) {
+            return false;
+        }
+        unindex(key, snapshot);
+        return true;
+    }
+
+    private void unindex(Key key, Snapshot snapshot) {
+        for (NodeModel node : snapshot.nodes) {
+            unindex(snapshotsOfNodes, node.getId(), key);
+        }
+        for (RelationshipModel relationship : snapshot.relationships) {
+            unindex(snapshotsOfRelationships, relationship.getId(), key);
+        }
+    }
+
+    private static void index(Map<Long, Set<Key>> index, Long id, Key key) {
+        Set<Key> keys = index.get(id);
+        if (keys == null) {
+            keys = new HashSet<>(2);
+            index.put(id, keys);
+        }
+        keys.add(key);
+    }
+
+    private static void unindex(Map<Long, Set<Key>> index, Long id, Key key) {
+        Set<Key> keys = index.get(id);
+        if (keys != null && keys.remove(key) && keys.isEmpty()) {
+            index.remove(id);
+        }
+    }
+
+    private static final class Key {
+
+        private final String type;
+        private final Object id;
+        private final int depth;
+
+        private Key(String type, Object id, int depth) {
+            this.type = type;
+            this.id = id;
+            this.depth = depth;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return depth == key.depth && type.equals(key.type) && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * type.hashCode() + id.hashCode()) + depth;
+        }
+    }
+
+    /**
+     * The distinct nodes and relationships of the graph of an entity, copied so that neither the response they were
+     * read from nor the entities they are mapped to share any mutable property value with them.
+     */
+    private static final class Snapshot {
+
+        private final List<NodeModel> nodes = new ArrayList<>();
+        private final List<RelationshipModel> relationships = new ArrayList<>();
+        private final long created;
+        private volatile boolean referenced;
+
+        private Snapshot(Iterable<GraphModel> graphModels, long created) {
+            this.created = created;
+            Set<Long> nodeIds = new HashSet<>();
+            Set<Long> relationshipIds = new HashSet<>();
+            for (GraphModel graphModel : graphModels) {
+                for (Node node : graphModel.getNodes()) {
+                    if (nodeIds.add(node.getId())) {
+                        nodes.add(copy(node));
+                    }
+                }
+                for (Edge relationship : graphModel.getRelationships()) {
+                    if (relationshipIds.add(relationship.getId())) {
+                        relationships.add(copy(relationship));
+                    }
+                }
+            }
+        }
+
+        private GraphModel copy() {
+            NodeModel[] nodeModels = new NodeModel[nodes.size()];
+            for (int i = 0; i < nodeModels.length; i++) {
+                nodeModels[i] = copy(nodes.get(i));
+            }
+            RelationshipModel[] relationshipModels = new RelationshipModel[relationships.size()];
+            for (int i = 0; i < relationshipModels.length; i++) {
+                relationshipModels[i] = copy(relationships.get(i));
+            }
+            DefaultGraphModel graphModel = new DefaultGraphModel();
+            graphModel.setNodes(nodeModels);
+            graphModel.setRelationships(relationshipModels);
+            return graphModel;
+        }
+
+        private static NodeModel copy(Node node) {
+            NodeModel nodeModel = new NodeModel();
+            nodeModel.setId(node.getId());
+            nodeModel.setLabels(node.getLabels() == null ? null : node.getLabels().clone());
+            nodeModel.setPropertyList(copy(node.getPropertyList()));
+            return nodeModel;
+        }
+
+        private static RelationshipModel copy(Edge relationship) {
+            RelationshipModel relationshipModel = new RelationshipModel();
+            relationshipModel.setId(relationship.getId());
+            relationshipModel.setType(relationship.getType());
+            relationshipModel.setStartNode(relationship.getStartNode());
+            relationshipModel.setEndNode(relationship.getEndNode());
+            relationshipModel.setPropertyList(copy(relationship.getPropertyList()));
+            return relationshipModel;
+        }
+
+        private static List<Property<String, Object>> copy(List<Property<String, Object>> properties) {
+            List<Property<String, Object>> copy = new ArrayList<>(properties.size());
+            for (Property<String, Object> property : properties) {
+                copy.add(new PropertyModel<>(property.getKey(), copy(property.getValue())));
+            }
+            return copy;
+        }
+
+        private static Object copy(Object value) {
+            if (value instanceof List) {
+                List<Object> copy = new ArrayList<>();
+                for (Object element : (List<?>) value) {
+                    copy.add(copy(element));
+                }
+                return copy;
+            }
+            if (value instanceof Map) {
+                Map<Object, Object> copy = new HashMap<>();
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    copy.put(entry.getKey(), copy(entry.getValue()));
+                }
+                return copy;
+            }
+            if (value != null && value.getClass().isArray()) {
+                int length = Array.getLength(value);
+                Object copy = Array.newInstance(value.getClass().getComponentType(), length);
+                for (int i = 0; i < length; i++) {
+                    Array.set(copy, i, copy(Array.get(value, i)));
+                }
+                return copy;
+            }
+            return value;
+        }
+    }
+}
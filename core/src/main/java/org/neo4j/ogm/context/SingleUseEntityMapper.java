@@ -35,6 +35,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Adam George
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class SingleUseEntityMapper {
 
@@ -98,7 +99,7 @@ public class SingleUseEntityMapper {
 
 	// TODO: the following is all pretty much identical to GraphEntityMapper so should probably be refactored
 	private void writeProperty(ClassInfo classInfo, Object instance, Map.Entry<String, Object> property) {
-		PropertyWriter writer = EntityAccessManager.getPropertyWriter(classInfo, property.getKey());
+		PropertyWriter writer = metadata.entityAccessManager().getPropertyWriter(classInfo, property.getKey());
 
 		if (writer == null) {
 			FieldInfo fieldInfo = classInfo.relationshipFieldByName(property.getKey());
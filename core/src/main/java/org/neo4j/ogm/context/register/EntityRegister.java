@@ -13,47 +13,51 @@
 
 package org.neo4j.ogm.context.register;
 
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Maps the graph ids of entities to the entities, keeping the ids unboxed.
+ *
  * @author Vince Bickers
  * @author Mark Angrish
  */
-public class EntityRegister<T> {
+public class EntityRegister {
 
     private final Logger LOGGER = LoggerFactory.getLogger(EntityRegister.class);
 
-    private final Map<T, Object> register = new HashMap<>();
+    private final LongObjectMap<Object> register = new LongObjectMap<>();
 
-    public Object get(T id) {
+    public Object get(long id) {
         return register.get(id);
     }
 
-    public boolean add(T id, Object entity) {
+    public boolean add(long id, Object entity) {
         final Object existing = register.get(id);
 
         if (existing != null) {
-            LOGGER.debug("Object already in node registry: {}, {}", id, entity);
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Object already in node registry: {}, {}", id, entity);
+            }
             return false;
         }
 
         register.put(id, entity);
-        LOGGER.debug("Added object to node registry: {}, {}", id, entity);
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Added object to node registry: {}, {}", id, entity);
+        }
         return true;
     }
 
-    public boolean contains(T id) {
+    public boolean contains(long id) {
         return register.containsKey(id);
     }
 
 
-    public void remove(T id) {
-        LOGGER.debug("Removed object with id {}", id);
+    public void remove(long id) {
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Removed object with id {}", id);
+        }
         register.remove(id);
     }
 
@@ -62,7 +66,10 @@ public class EntityRegister<T> {
         register.clear();
     }
 
-    public Iterator<T> iterator() {
-        return register.keySet().iterator();
+    /**
+     * @return the ids of the registered entities, copied so that entities may be removed while the ids are visited
+     */
+    public long[] ids() {
+        return register.keys();
     }
 }
@@ -13,9 +13,6 @@
 
 package org.neo4j.ogm.context.register;
 
-import java.util.HashMap;
-import java.util.Map;
-
 import org.neo4j.ogm.context.LabelHistory;
 
 /**
@@ -25,13 +22,13 @@ import org.neo4j.ogm.context.LabelHistory;
 public class LabelHistoryRegister {
 
     //TODO: When CYPHER supports REMOVE ALL labels, we can stop tracking label changes
-    private final Map<Long, LabelHistory> register = new HashMap<>();
+    private final LongObjectMap<LabelHistory> register = new LongObjectMap<>();
 
     public void clear() {
         register.clear();
     }
 
-    public LabelHistory get(Long identity) {
+    public LabelHistory get(long identity) {
 
         LabelHistory labelHistory = register.get(identity);
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context.register;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maps the ids of node entities loaded by id to the depth they were loaded to, along with the ids of the nodes loaded
+ * with them.
+ *
+ * The depth of an entity is forgotten as soon as any of the nodes loaded with it is forgotten, as the entity may then
+ * no longer reach everything that was loaded with it. A depth of -1 is infinite, and covers any other depth.
+ *
+ * @author Mark Angrish
+ */
+public class LoadedDepthRegister {
+
+    private final Map<Long, Integer> depths = new HashMap<>();
+    private final Map<Long, Set<Long>> nodesOfEntities = new HashMap<>();
+    private final Map<Long, Set<Long>> entitiesOfNodes = new HashMap<>();
+
+    /**
+     * @param id the id of a node entity
+     * @param depth a depth
+     * @return whether the entity was loaded to at least the given depth
+     */
+    public boolean covers(Long id, int depth) {
+        Integer loaded = depths.get(id);
+        return loaded != null && (loaded < 0 || (depth >= 0 && loaded >= depth));
+    }
+
+    /**
+     * Records the depth a node entity was loaded to, unless it was already loaded deeper.
+     *
+     * @param id the id of the node entity
+     * @param depth the depth it was loaded to
+     * @param nodeIds the ids of the nodes loaded with it
+     */
+    public void add(Long id, int depth, Collection<Long> nodeIds) {
+        if (covers(id, depth)) {
+            return;
+        }
+        remove(id);
+        Set<Long> nodes = new HashSet<>(nodeIds);
+        nodes.add(id);
+        depths.put(id, depth);
+        nodesOfEntities.put(id, nodes);
+        for (Long nodeId : nodes) {
+            Set<Long> entities = entitiesOfNodes.get(nodeId);
+            if (entities == null) {
+                entities = new HashSet<>(2);
+                entitiesOfNodes.put(nodeId, entities);
+            }
+            entities.add(id);
+        }
+    }
+
+    /**
+     * Forgets the depth of every entity loaded with the given node.
+     *
+     * @param nodeId the id of the node
+     */
+    public void forget(Long nodeId) {
+        Set<Long> entities = entitiesOfNodes.get(nodeId);
+        if (entities != null) {
+            for (Long id : new ArrayList<>(entities)) {
+                remove(id);
+            }
+        }
+    }
+
+    public void clear() {
+        depths.clear();
+        nodesOfEntities.clear();
+        entitiesOfNodes.clear();
+    }
+
+    private void remove(Long id) {
+        depths.remove(id);
+        Set<Long> nodes = nodesOfEntities.remove(id);
+        if (nodes != null) {
+            for (Long nodeId : nodes) {
+                Set<Long> entities = entitiesOfNodes.get(nodeId);
+                if (entities != null && entities.remove(id) && entities.isEmpty()) {
+                    entitiesOfNodes.remove(nodeId);
+                }
+            }
+        }
+    }
+}
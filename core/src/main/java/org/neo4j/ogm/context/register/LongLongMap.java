@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context.register;
+
+import java.util.Arrays;
+
+/**
+ * A map from primitive <code>long</code> keys to primitive <code>long</code> values.
+ *
+ * Entries are stored in two parallel arrays with open addressing and linear probing, like {@link LongObjectMap}.
+ * A key of 0 marks a free slot, so an entry for the key 0 itself is held outside the arrays. The map is not
+ * thread-safe.
+ *
+ * @author Mark Angrish
+ */
+public class LongLongMap {
+
+    private static final int MINIMUM_CAPACITY = 16;
+    private static final long FREE = 0L;
+
+    private long[] keys;
+    private long[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    private boolean hasFreeKey;
+    private long freeKeyValue;
+
+    public LongLongMap() {
+        allocate(MINIMUM_CAPACITY);
+    }
+
+    /**
+     * @param key the key
+     * @param missing the value to return if the key is not mapped
+     * @return the value mapped to the key, or <code>missing</code> if there is none
+     */
+    public long get(long key, long missing) {
+        if (key == FREE) {
+            return hasFreeKey ? freeKeyValue : missing;
+        }
+        int slot = LongObjectMap.slot(key, mask);
+        long candidate;
+        while ((candidate = keys[slot]) != FREE) {
+            if (candidate == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return missing;
+    }
+
+    public boolean containsKey(long key) {
+        if (key == FREE) {
+            return hasFreeKey;
+        }
+        int slot = LongObjectMap.slot(key, mask);
+        long candidate;
+        while ((candidate = keys[slot]) != FREE) {
+            if (candidate == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    public void put(long key, long value) {
+        if (key == FREE) {
+            if (!hasFreeKey) {
+                hasFreeKey = true;
+                size++;
+            }
+            freeKeyValue = value;
+            return;
+        }
+        int slot = LongObjectMap.slot(key, mask);
+        long candidate;
+        while ((candidate = keys[slot]) != FREE) {
+            if (candidate == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries, giving back the memory of a map that had grown large.
+     */
+    public void clear() {
+        if (keys.length > MINIMUM_CAPACITY) {
+            allocate(MINIMUM_CAPACITY);
+        } else {
+            Arrays.fill(keys, FREE);
+        }
+        hasFreeKey = false;
+        size = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key != FREE) {
+                int slot = LongObjectMap.slot(key, mask);
+                while (keys[slot] != FREE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = key;
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity / 4 * 3;
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context.register;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A map from primitive <code>long</code> keys to non-null objects.
+ *
+ * Entries are stored in two parallel arrays with open addressing and linear probing, so an entry costs one array slot
+ * for the key and one for the value rather than a boxed key and a map entry object. A null value marks a free slot,
+ * which is why null values can't be stored. The map is not thread-safe.
+ *
+ * @author Mark Angrish
+ */
+public class LongObjectMap<V> {
+
+    private static final int MINIMUM_CAPACITY = 16;
+
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int resizeAt;
+    private int size;
+
+    public LongObjectMap() {
+        allocate(MINIMUM_CAPACITY);
+    }
+
+    public V get(long key) {
+        int slot = slot(key, mask);
+        Object value;
+        while ((value = values[slot]) != null) {
+            if (keys[slot] == key) {
+                return (V) value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps the key to the value, replacing any value already mapped to the key.
+     *
+     * @param key the key
+     * @param value the value, which must not be null
+     * @return the value previously mapped to the key, or null if there was none
+     */
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("A LongObjectMap can't hold null values");
+        }
+        int slot = slot(key, mask);
+        Object existing;
+        while ((existing = values[slot]) != null) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return (V) existing;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        if (++size > resizeAt) {
+            rehash(values.length * 2);
+        }
+        return null;
+    }
+
+    /**
+     * Removes the mapping for the key, if there is one.
+     *
+     * @param key the key
+     * @return the value that was mapped to the key, or null if there was none
+     */
+    public V remove(long key) {
+        int slot = slot(key, mask);
+        Object value;
+        while ((value = values[slot]) != null) {
+            if (keys[slot] == key) {
+                size--;
+                shiftBack(slot);
+                return (V) value;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes all entries, giving back the memory of a map that had grown large.
+     */
+    public void clear() {
+        if (values.length > MINIMUM_CAPACITY) {
+            allocate(MINIMUM_CAPACITY);
+        } else {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * @return a copy of the keys, which is unaffected by later changes to the map
+     */
+    public long[] keys() {
+        long[] copy = new long[size];
+        int i = 0;
+        for (int slot = 0; slot < values.length; slot++) {
+            if (values[slot] != null) {
+                copy[i++] = keys[slot];
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * @return a copy of the values, which is unaffected by later changes to the map
+     */
+    public List<V> values() {
+        List<V> copy = new ArrayList<>(size);
+        for (Object value : values) {
+            if (value != null) {
+                copy.add((V) value);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Closes the gap left by a removed entry by moving back any following entries of the same probe sequence,
+     * so lookups never need to skip over deleted slots.
+     */
+    private void shiftBack(int gap) {
+        values[gap] = null;
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            Object value = values[slot];
+            if (value == null) {
+                return;
+            }
+            int home = slot(keys[slot], mask);
+            // an entry may only move back if its home slot does not lie cyclically between the gap and its slot
+            boolean movable = gap <= slot ? (home <= gap || home > slot) : (home <= gap && home > slot);
+            if (movable) {
+                keys[gap] = keys[slot];
+                values[gap] = value;
+                values[slot] = null;
+                gap = slot;
+            }
+        }
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            Object value = oldValues[i];
+            if (value != null) {
+                int slot = slot(oldKeys[i], mask);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = value;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = capacity / 4 * 3;
+    }
+
+    static int slot(long key, int mask) {
+        // ids are mostly sequential, so spread them over the whole table
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context.register;
+
+import java.util.*;
+
+import org.neo4j.ogm.context.MappedRelationship;
+
+/**
+ * Holds the relationships known to a mapping context, indexed by the ids of their start and end nodes and by the id
+ * of the relationship entity they map, if any.
+ *
+ * Looking up the relationships of one node or one relationship entity costs time proportional to their number, not
+ * to the size of the register. Every lookup returns a copy, and {@link #relationships()} iterates over a snapshot,
+ * so relationships may be added and removed while the results are being visited. The register is not thread-safe.
+ *
+ * @author Mark Angrish
+ */
+public class RelationshipRegister {
+
+    private final Set<MappedRelationship> relationships = new LinkedHashSet<>();
+    private final LongObjectMap<List<MappedRelationship>> byStartNode = new LongObjectMap<>();
+    private final LongObjectMap<List<MappedRelationship>> byEndNode = new LongObjectMap<>();
+    private final LongObjectMap<List<MappedRelationship>> byRelationshipEntity = new LongObjectMap<>();
+
+    private final Set<MappedRelationship> view = new AbstractSet<MappedRelationship>() {
+
+        @Override
+        public Iterator<MappedRelationship> iterator() {
+            final Iterator<MappedRelationship> snapshot = new ArrayList<>(relationships).iterator();
+            return new Iterator<MappedRelationship>() {
+
+                private MappedRelationship last;
+
+                @Override
+                public boolean hasNext() {
+                    return snapshot.hasNext();
+                }
+
+                @Override
+                public MappedRelationship next() {
+                    last = snapshot.next();
+                    return last;
+                }
+
+                @Override
+                public void remove() {
+                    if (last == null) {
+                        throw new IllegalStateException();
+                    }
+                    RelationshipRegister.this.remove(last);
+                    last = null;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return relationships.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return relationships.contains(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return o instanceof MappedRelationship && RelationshipRegister.this.remove((MappedRelationship) o);
+        }
+
+        @Override
+        public void clear() {
+            RelationshipRegister.this.clear();
+        }
+    };
+
+    public boolean add(MappedRelationship relationship) {
+        if (!relationships.add(relationship)) {
+            return false;
+        }
+        index(byStartNode, relationship.getStartNodeId(), relationship);
+        index(byEndNode, relationship.getEndNodeId(), relationship);
+        if (relationship.getRelationshipId() != null) {
+            index(byRelationshipEntity, relationship.getRelationshipId(), relationship);
+        }
+        return true;
+    }
+
+    public boolean remove(MappedRelationship relationship) {
+        if (!relationships.remove(relationship)) {
+            return false;
+        }
+        unindex(byStartNode, relationship.getStartNodeId(), relationship);
+        unindex(byEndNode, relationship.getEndNodeId(), relationship);
+        if (relationship.getRelationshipId() != null) {
+            unindex(byRelationshipEntity, relationship.getRelationshipId(), relationship);
+        }
+        return true;
+    }
+
+    public boolean contains(MappedRelationship relationship) {
+        return relationships.contains(relationship);
+    }
+
+    /**
+     * @param nodeId the id of a node
+     * @return the relationships starting or ending at the node, each listed once
+     */
+    public List<MappedRelationship> relationshipsOf(long nodeId) {
+        List<MappedRelationship> outgoing = byStartNode.get(nodeId);
+        List<MappedRelationship> incoming = byEndNode.get(nodeId);
+        List<MappedRelationship> result = new ArrayList<>((outgoing == null ? 0 : outgoing.size()) + (incoming == null ? 0 : incoming.size()));
+        if (outgoing != null) {
+            result.addAll(outgoing);
+        }
+        if (incoming != null) {
+            for (MappedRelationship relationship : incoming) {
+                // a relationship from the node to itself is already listed as outgoing
+                if (relationship.getStartNodeId() != nodeId) {
+                    result.add(relationship);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param relationshipId the id of a relationship entity
+     * @return the relationships mapping the relationship entity
+     */
+    public List<MappedRelationship> relationshipsOfRelationshipEntity(long relationshipId) {
+        List<MappedRelationship> mapped = byRelationshipEntity.get(relationshipId);
+        return mapped == null ? new ArrayList<MappedRelationship>(0) : new ArrayList<>(mapped);
+    }
+
+    /**
+     * @return a live view of the register. Its iterators visit a snapshot, and removing through them, or through
+     * the view itself, removes from the register.
+     */
+    public Set<MappedRelationship> relationships() {
+        return view;
+    }
+
+    public int size() {
+        return relationships.size();
+    }
+
+    public void clear() {
+        relationships.clear();
+        byStartNode.clear();
+        byEndNode.clear();
+        byRelationshipEntity.clear();
+    }
+
+    private static void index(LongObjectMap<List<MappedRelationship>> index, long id, MappedRelationship relationship) {
+        List<MappedRelationship> indexed = index.get(id);
+        if (indexed == null) {
+            indexed = new ArrayList<>(2);
+            index.put(id, indexed);
+        }
+        indexed.add(relationship);
+    }
+
+    private static void unindex(LongObjectMap<List<MappedRelationship>> index, long id, MappedRelationship relationship) {
+        List<MappedRelationship> indexed = index.get(id);
+        if (indexed != null) {
+            indexed.remove(relationship);
+            if (indexed.isEmpty()) {
+                index.remove(id);
+            }
+        }
+    }
+}
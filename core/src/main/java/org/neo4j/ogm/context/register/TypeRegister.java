@@ -13,6 +13,7 @@
 
 package org.neo4j.ogm.context.register;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -29,7 +30,7 @@ import org.neo4j.ogm.MetaData;
  */
 public class TypeRegister {
 
-    private final Map<Class<?>, Map<Object, Object>> register = new HashMap<>();
+    private final Map<Class<?>, LongObjectMap<Object>> register = new HashMap<>();
 
     /**
      * Finds the map associated with an entity's class and removes the entity's id from the map (if found)
@@ -38,9 +39,9 @@ public class TypeRegister {
      * @param type the class of the entity to be removed
      * @param id the id of the entity to be removed
      */
-    public void remove(MetaData metaData, Class type, Object id) {
+    public void remove(MetaData metaData, Class type, long id) {
 
-        Map<Object, Object> entities = register.get(type);
+        LongObjectMap<Object> entities = register.get(type);
 
         if (entities != null) {
             if (type.getSuperclass() != null && metaData != null && metaData.classInfo(type.getSuperclass().getName()) != null && !type.getSuperclass().getName().equals("java.lang.Object")) {
@@ -51,13 +52,14 @@ public class TypeRegister {
     }
 
     /**
-     * Returns an immutable map of the objects associated with the given type
+     * Returns a copy of the objects associated with the given type
      *
-     * @param type the class whose map entries we want to return
-     * @return the map's entries
+     * @param type the class whose objects we want to return
+     * @return the objects
      */
-    public Map<Object, Object> get(Class<?> type) {
-        return Collections.unmodifiableMap(objectMap(type));
+    public Collection<Object> get(Class<?> type) {
+        LongObjectMap<Object> objectMap = register.get(type);
+        return objectMap != null ? objectMap.values() : Collections.emptyList();
     }
 
     /**
@@ -75,7 +77,7 @@ public class TypeRegister {
      * @param entity the entity to be added
      * @param id the id of the entity to be added
      */
-    public void add(MetaData metaData, Class type, Object entity, Object id) {
+    public void add(MetaData metaData, Class type, Object entity, long id) {
         objectMap(type).put(id, entity);
         if (type.getSuperclass() != null
                 && metaData != null
@@ -102,10 +104,10 @@ public class TypeRegister {
         register.keySet().remove(type);
     }
 
-    private Map<Object, Object> objectMap(Class<?> type) {
-        Map<Object, Object> objectMap = register.get(type);
+    private LongObjectMap<Object> objectMap(Class<?> type) {
+        LongObjectMap<Object> objectMap = register.get(type);
         if (objectMap == null) {
-            objectMap = new HashMap<>();
+            objectMap = new LongObjectMap<>();
             register.put(type, objectMap);
         }
         return objectMap;
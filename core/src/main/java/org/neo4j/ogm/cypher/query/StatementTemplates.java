@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.query;
+
+import java.util.Arrays;
+
+import org.neo4j.ogm.utils.BoundedCache;
+
+/**
+ * A cache of the Cypher generated for loading and saving entities.
+ *
+ * The text of a statement only depends on what it does and on its shape: the labels or relationship type it matches,
+ * the depth it loads to, the properties it sets. Values are always passed as parameters. Each distinct statement is
+ * therefore rendered once and then shared, which saves formatting it again on every request, and keeps the text sent
+ * for a given shape byte-identical, so the database finds it in its own query plan cache.
+ *
+ * The cache is bounded, and only ever holds strings keyed by strings and numbers, so it is shared by all sessions.
+ *
+ * @author Mark Angrish
+ */
+public final class StatementTemplates {
+
+    /**
+     * Renders the Cypher of one kind of statement from its shape.
+     */
+    public interface Template {
+
+        /**
+         * @param shape the values that vary the text of the statement, as passed to {@link #cypher(Template, Object...)}
+         * @return the Cypher of the statement
+         */
+        String render(Object[] shape);
+    }
+
+    /**
+     * The maximum number of statements held.
+     */
+    public static final int MAXIMUM_SIZE = 10000;
+
+    private static final BoundedCache<Key, String> CACHE = new BoundedCache<>(MAXIMUM_SIZE);
+
+    private static final BoundedCache.Loader<Key, String> LOADER = new BoundedCache.Loader<Key, String>() {
+
+        @Override
+        public String load(Key key) {
+            return key.template.render(key.shape);
+        }
+    };
+
+    private StatementTemplates() {
+    }
+
+    /**
+     * Returns the Cypher of a statement, rendering it with the given template the first time it is asked for.
+     *
+     * @param template the template of the kind of statement
+     * @param shape the values that vary the text of the statement: strings, numbers, or arrays or lists of them
+     * @return the Cypher of the statement
+     */
+    public static String cypher(Template template, Object... shape) {
+        return CACHE.get(new Key(template, shape), LOADER);
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    public static long hits() {
+        return CACHE.hits();
+    }
+
+    public static long misses() {
+        return CACHE.misses();
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    private static final class Key {
+
+        private final Template template;
+        private final Object[] shape;
+        private final int hash;
+
+        private Key(Template template, Object[] shape) {
+            this.template = template;
+            this.shape = shape;
+            this.hash = 31 * template.hashCode() + Arrays.deepHashCode(shape);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return template == key.template && Arrays.deepEquals(shape, key.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -17,6 +17,8 @@ import java.net.URI;
 
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.config.DriverConfiguration;
+import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.transaction.TransactionManager;
 
 /**
@@ -40,7 +42,13 @@ import org.neo4j.ogm.transaction.TransactionManager;
  *
  * setConfig("credentials", new UsernamePasswordCredentials("bilbo", "hobbit")
  *
+ * Drivers that route reads balance read-only transactions across the endpoints listed, comma separated, under
+ * the key "read.URIs", for example:
+ *
+ * setConfig("read.URIs", "bolt://replica1:7687,bolt://replica2:7687")
+ *
  * @author vince
+ * @author Mark Angrish
  */
 public abstract class AbstractConfigurableDriver implements Driver {
 
@@ -65,6 +73,23 @@ public abstract class AbstractConfigurableDriver implements Driver {
         this.transactionManager = transactionManager;
     }
 
+    @Override
+    public Transaction newTransaction(Transaction.Type type, String bookmark) {
+        return newTransaction(transactionManager, type, bookmark);
+    }
+
+    @Override
+    public Request request() {
+        return request(transactionManager);
+    }
+
+    /**
+     * @return whether read-only transactions are balanced across read endpoints of their own
+     */
+    public boolean routesReads() {
+        return false;
+    }
+
     private void setCredentials() {
         if (driverConfig.getCredentials() == null && driverConfig.getURI() != null) {
             try {
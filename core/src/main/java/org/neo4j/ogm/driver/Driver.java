@@ -27,12 +27,34 @@ public interface Driver extends AutoCloseable, LoadableService {
 
     void configure(DriverConfiguration config);
 
+    /**
+     * Opens a transaction managed by the transaction manager set with {@link #setTransactionManager(TransactionManager)}.
+     */
     Transaction newTransaction(Transaction.Type type, String bookmark);
 
+    /**
+     * Opens a transaction managed by the given transaction manager, which is told when it is committed or rolled back.
+     * Each session passes its own, so that sessions sharing the driver on different threads never see each other's.
+     */
+    Transaction newTransaction(TransactionManager transactionManager, Transaction.Type type, String bookmark);
+
     void close();
 
+    /**
+     * Makes requests in the current transaction of the transaction manager set with
+     * {@link #setTransactionManager(TransactionManager)}.
+     */
     Request request();
 
+    /**
+     * Makes requests in the current transaction of the given transaction manager, or in a transaction of their own
+     * managed by it if there is none.
+     */
+    Request request(TransactionManager transactionManager);
+
+    /**
+     * Sets the transaction manager of the transactions and requests not made for a session in particular.
+     */
     void setTransactionManager(TransactionManager tx);
 
     DriverConfiguration getConfiguration();
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The read endpoints of a driver, across which read-only transactions are balanced in turn.
+ *
+ * An endpoint that fails is left out of the rotation for the retry interval, after which it is tried again. When every
+ * endpoint is left out, {@link #next()} returns null and the driver falls back to its write endpoint.
+ *
+ * @param <T> whatever a driver uses to reach an endpoint
+ * @author Mark Angrish
+ */
+public class ReadEndpoints<T> {
+
+    private final List<T> endpoints;
+    private final boolean[] down;
+    private final long[] downUntil;
+    private final long retryInterval;
+    private int next;
+
+    /**
+     * @param endpoints the read endpoints
+     * @param retrySeconds how long a failed endpoint is left out of the rotation for
+     */
+    public ReadEndpoints(List<T> endpoints, int retrySeconds) {
+        this.endpoints = new ArrayList<>(endpoints);
+        this.down = new boolean[endpoints.size()];
+        this.downUntil = new long[endpoints.size()];
+        this.retryInterval = TimeUnit.SECONDS.toNanos(retrySeconds);
+    }
+
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    public List<T> all() {
+        return Collections.unmodifiableList(endpoints);
+    }
+
+    /**
+     * @return the next endpoint not left out of the rotation, or null if there is none
+     */
+    public synchronized T next() {
+        long now = now();
+        for (int i = 0; i < endpoints.size(); i++) {
+            int index = (next + i) % endpoints.size();
+            if (!down[index] || now - downUntil[index] >= 0) {
+                down[index] = false;
+                next = (index + 1) % endpoints.size();
+                return endpoints.get(index);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Leaves an endpoint out of the rotation for the retry interval.
+     *
+     * @param endpoint the endpoint that failed
+     */
+    public synchronized void failed(T endpoint) {
+        int index = endpoints.indexOf(endpoint);
+        if (index >= 0) {
+            down[index] = true;
+            downUntil[index] = now() + retryInterval;
+        }
+    }
+
+    /**
+     * @return the number of endpoints currently left out of the rotation
+     */
+    public synchronized int failed() {
+        long now = now();
+        int failed = 0;
+        for (int i = 0; i < down.length; i++) {
+            if (down[i] && now - downUntil[i] < 0) {
+                failed++;
+            }
+        }
+        return failed;
+    }
+
+    protected long now() {
+        return System.nanoTime();
+    }
+}
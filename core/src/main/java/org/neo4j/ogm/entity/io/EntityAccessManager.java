@@ -16,11 +16,10 @@ import java.util.*;
 import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.StartNode;
-import org.neo4j.ogm.context.DirectedRelationship;
-import org.neo4j.ogm.context.DirectedRelationshipForType;
 import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.utils.BoundedCache;
 import org.neo4j.ogm.utils.ClassUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,28 +37,62 @@ import org.slf4j.LoggerFactory;
  * use methods in preference to field access, because in many cases hydrating an object means more than just assigning values to
  * fields.
  *
+ * Resolved accessors are held in bounded, concurrent {@link BoundedCache}s. Each {@link org.neo4j.ogm.MetaData} owns
+ * its own manager, so the caches are safe to share between the sessions of a SessionFactory and are released along
+ * with it.
+ *
  * @author Adam George
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class EntityAccessManager {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(EntityAccessManager.class);
 
-	//TODO make these LRU caches with configurable size
-	private static Map<ClassInfo, Map<DirectedRelationship, RelationalReader>> relationalReaderCache = new HashMap<>();
-	private static Map<ClassInfo, Map<DirectedRelationshipForType, RelationalWriter>> relationalWriterCache = new HashMap<>();
-	private static Map<ClassInfo, Map<DirectedRelationshipForType, RelationalWriter>> iterableWriterCache = new HashMap<>();
-	private static Map<ClassInfo, Map<DirectedRelationshipForType, RelationalReader>> iterableReaderCache = new HashMap<>();
-	private static Map<ClassInfo, Map<Class, RelationalWriter>> relationshipEntityWriterCache = new HashMap<>();
-	private static Map<ClassInfo, Map<String, EntityAccess>> propertyWriterCache = new HashMap<>();
-	private static Map<ClassInfo, Map<String, PropertyReader>> propertyReaderCache = new HashMap<>();
-	private static Map<ClassInfo, Collection<PropertyReader>> propertyReaders = new HashMap<>();
-	private static Map<ClassInfo, PropertyReader> identityPropertyReaderCache = new HashMap<>();
-	private static Map<ClassInfo, Collection<RelationalReader>> relationalReaders = new HashMap<>();
+	/**
+	 * The default maximum number of accessors held by each cache.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 10000;
 
 	private static final boolean STRICT_MODE = true; //strict mode for matching readers and writers, will only look for explicit annotations
 	private static final boolean INFERRED_MODE = false; //inferred mode for matching readers and writers, will infer the relationship type from the getter/setter
 
+	private final BoundedCache<Key, RelationalReader> relationalReaderCache;
+	private final BoundedCache<Key, RelationalWriter> relationalWriterCache;
+	private final BoundedCache<Key, RelationalWriter> iterableWriterCache;
+	private final BoundedCache<Key, RelationalReader> iterableReaderCache;
+	private final BoundedCache<Key, RelationalWriter> relationshipEntityWriterCache;
+	private final BoundedCache<Key, EntityAccess> propertyWriterCache;
+	private final BoundedCache<Key, PropertyReader> propertyReaderCache;
+	private final BoundedCache<ClassInfo, Collection<PropertyReader>> propertyReaders;
+	private final BoundedCache<ClassInfo, PropertyReader> identityPropertyReaderCache;
+	private final BoundedCache<ClassInfo, Collection<RelationalReader>> relationalReaders;
+	private final BoundedCache<ClassInfo, RelationalReader> startNodeReaderCache;
+	private final BoundedCache<ClassInfo, RelationalReader> endNodeReaderCache;
+
+	private final List<BoundedCache<?, ?>> caches = new ArrayList<>();
+
+	public EntityAccessManager() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * @param cacheSize the maximum number of accessors held by each of the manager's caches
+	 */
+	public EntityAccessManager(int cacheSize) {
+		relationalReaderCache = cache(cacheSize);
+		relationalWriterCache = cache(cacheSize);
+		iterableWriterCache = cache(cacheSize);
+		iterableReaderCache = cache(cacheSize);
+		relationshipEntityWriterCache = cache(cacheSize);
+		propertyWriterCache = cache(cacheSize);
+		propertyReaderCache = cache(cacheSize);
+		propertyReaders = cache(cacheSize);
+		identityPropertyReaderCache = cache(cacheSize);
+		relationalReaders = cache(cacheSize);
+		startNodeReaderCache = cache(cacheSize);
+		endNodeReaderCache = cache(cacheSize);
+	}
 
 	/**
 	 * Used internally to hide differences in object construction from strategy algorithm.
@@ -69,45 +102,42 @@ public class EntityAccessManager {
 		T makeFieldAccessor(FieldInfo fieldInfo);
 	}
 
-	public static EntityAccess getPropertyWriter(final ClassInfo classInfo, String propertyName) {
-		if (!propertyWriterCache.containsKey(classInfo)) {
-			propertyWriterCache.put(classInfo, new HashMap<String, EntityAccess>());
-		}
-		Map<String, EntityAccess> entityAccessMap = propertyWriterCache.get(classInfo);
-		if (entityAccessMap.containsKey(propertyName)) {
-			return propertyWriterCache.get(classInfo).get(propertyName);
-		}
+	public EntityAccess getPropertyWriter(ClassInfo classInfo, String propertyName) {
+		return propertyWriterCache.get(new Key(classInfo, propertyName, null, null), propertyWriterLoader);
+	}
 
-		EntityAccess propertyWriter = determinePropertyAccessor(classInfo, propertyName, new AccessorFactory<EntityAccess>() {
+	private final BoundedCache.Loader<Key, EntityAccess> propertyWriterLoader = new BoundedCache.Loader<Key, EntityAccess>() {
 
-			@Override
-			public EntityAccess makeFieldAccessor(FieldInfo fieldInfo) {
-				return new FieldWriter(classInfo, fieldInfo);
-			}
-		});
-		propertyWriterCache.get(classInfo).put(propertyName, propertyWriter);
-		return propertyWriter;
-	}
+		@Override
+		public EntityAccess load(final Key key) {
+			return determinePropertyAccessor(key.classInfo, key.name, new AccessorFactory<EntityAccess>() {
 
-	public static PropertyReader getPropertyReader(final ClassInfo classInfo, String propertyName) {
-		if (!propertyReaderCache.containsKey(classInfo)) {
-			propertyReaderCache.put(classInfo, new HashMap<String, PropertyReader>());
-		}
-		if (propertyReaderCache.get(classInfo).containsKey(propertyName)) {
-			return propertyReaderCache.get(classInfo).get(propertyName);
+				@Override
+				public EntityAccess makeFieldAccessor(FieldInfo fieldInfo) {
+					return new FieldWriter(key.classInfo, fieldInfo);
+				}
+			});
 		}
+	};
 
-		PropertyReader propertyReader = determinePropertyAccessor(classInfo, propertyName, new AccessorFactory<PropertyReader>() {
-
-			@Override
-			public PropertyReader makeFieldAccessor(FieldInfo fieldInfo) {
-				return new FieldReader(classInfo, fieldInfo);
-			}
-		});
-		propertyReaderCache.get(classInfo).put(propertyName, propertyReader);
-		return propertyReader;
+	public PropertyReader getPropertyReader(ClassInfo classInfo, String propertyName) {
+		return propertyReaderCache.get(new Key(classInfo, propertyName, null, null), propertyReaderLoader);
 	}
 
+	private final BoundedCache.Loader<Key, PropertyReader> propertyReaderLoader = new BoundedCache.Loader<Key, PropertyReader>() {
+
+		@Override
+		public PropertyReader load(final Key key) {
+			return determinePropertyAccessor(key.classInfo, key.name, new AccessorFactory<PropertyReader>() {
+
+				@Override
+				public PropertyReader makeFieldAccessor(FieldInfo fieldInfo) {
+					return new FieldReader(key.classInfo, fieldInfo);
+				}
+			});
+		}
+	};
+
 	private static <T> T determinePropertyAccessor(ClassInfo classInfo, String propertyName, AccessorFactory<T> factory) {
 
 		// fall back to the field if method cannot be found
@@ -122,24 +152,27 @@ public class EntityAccessManager {
 		return null;
 	}
 
-	public static RelationalWriter getRelationalWriter(ClassInfo classInfo, String relationshipType, String relationshipDirection, Object scalarValue) {
-		if (!relationalWriterCache.containsKey(classInfo)) {
-			relationalWriterCache.put(classInfo, new HashMap<DirectedRelationshipForType, RelationalWriter>());
-		}
-		DirectedRelationshipForType directedRelationship = new DirectedRelationshipForType(relationshipType, relationshipDirection, scalarValue.getClass());
-		if (relationalWriterCache.get(classInfo).containsKey(directedRelationship)) {
-			return relationalWriterCache.get(classInfo).get(directedRelationship);
+	public RelationalWriter getRelationalWriter(ClassInfo classInfo, String relationshipType, String relationshipDirection, Object scalarValue) {
+		return relationalWriterCache.get(new Key(classInfo, relationshipType, relationshipDirection, scalarValue.getClass()), relationalWriterLoader);
+	}
+
+	private final BoundedCache.Loader<Key, RelationalWriter> relationalWriterLoader = new BoundedCache.Loader<Key, RelationalWriter>() {
+
+		@Override
+		public RelationalWriter load(Key key) {
+			return determineRelationalWriter(key.classInfo, key.name, key.direction, key.type);
 		}
+	};
+
+	private static RelationalWriter determineRelationalWriter(ClassInfo classInfo, String relationshipType, String relationshipDirection, Class<?> scalarType) {
 
 		// 2nd, try to find a scalar or vector field explicitly annotated as the neo4j relationship type and direction
 		for (FieldInfo fieldInfo : classInfo.candidateRelationshipFields(relationshipType, relationshipDirection, STRICT_MODE)) {
 			if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-				if (fieldInfo.isTypeOf(scalarValue.getClass()) ||
-						fieldInfo.isParameterisedTypeOf(scalarValue.getClass()) ||
-						fieldInfo.isArrayOf(scalarValue.getClass())) {
-					FieldWriter fieldWriter = new FieldWriter(classInfo, fieldInfo);
-					relationalWriterCache.get(classInfo).put(directedRelationship, fieldWriter);
-					return fieldWriter;
+				if (fieldInfo.isTypeOf(scalarType) ||
+						fieldInfo.isParameterisedTypeOf(scalarType) ||
+						fieldInfo.isArrayOf(scalarType)) {
+					return new FieldWriter(classInfo, fieldInfo);
 				}
 			}
 		}
@@ -151,12 +184,10 @@ public class EntityAccessManager {
 			// 4th, try to find a scalar or vector field annotated as the neo4j relationship type and direction, allowing for implied relationships
 			for (FieldInfo fieldInfo : classInfo.candidateRelationshipFields(relationshipType, relationshipDirection, INFERRED_MODE)) {
 				if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-					if (fieldInfo.isTypeOf(scalarValue.getClass()) ||
-							fieldInfo.isParameterisedTypeOf(scalarValue.getClass()) ||
-							fieldInfo.isArrayOf(scalarValue.getClass())) {
-						FieldWriter fieldWriter = new FieldWriter(classInfo, fieldInfo);
-						relationalWriterCache.get(classInfo).put(directedRelationship, fieldWriter);
-						return fieldWriter;
+					if (fieldInfo.isTypeOf(scalarType) ||
+							fieldInfo.isParameterisedTypeOf(scalarType) ||
+							fieldInfo.isArrayOf(scalarType)) {
+						return new FieldWriter(classInfo, fieldInfo);
 					}
 				}
 			}
@@ -164,46 +195,44 @@ public class EntityAccessManager {
 			// 6th, try to find a "XYZ" field name where XYZ is derived from the relationship type
 			for (FieldInfo fieldInfo : classInfo.candidateRelationshipFields(relationshipType, relationshipDirection, INFERRED_MODE)) {
 				if (fieldInfo != null) {
-					if (fieldInfo.isTypeOf(scalarValue.getClass()) ||
-							fieldInfo.isParameterisedTypeOf(scalarValue.getClass()) ||
-							fieldInfo.isArrayOf(scalarValue.getClass())) {
-						FieldWriter fieldWriter = new FieldWriter(classInfo, fieldInfo);
-						relationalWriterCache.get(classInfo).put(directedRelationship, fieldWriter);
-						return fieldWriter;
+					if (fieldInfo.isTypeOf(scalarType) ||
+							fieldInfo.isParameterisedTypeOf(scalarType) ||
+							fieldInfo.isArrayOf(scalarType)) {
+						return new FieldWriter(classInfo, fieldInfo);
 					}
 				}
 			}
 
 			// 8th, try to find a unique field that has the same type as the parameter
-			List<FieldInfo> fieldInfos = classInfo.findFields(scalarValue.getClass());
+			List<FieldInfo> fieldInfos = classInfo.findFields(scalarType);
 			if (fieldInfos.size() == 1) {
 				FieldInfo candidateFieldInfo = fieldInfos.iterator().next();
 				if (!candidateFieldInfo.relationshipDirection(Relationship.UNDIRECTED).equals(Relationship.INCOMING)) {
-					FieldWriter fieldWriter = new FieldWriter(classInfo, candidateFieldInfo);
-					relationalWriterCache.get(classInfo).put(directedRelationship, fieldWriter);
-					return fieldWriter;
+					return new FieldWriter(classInfo, candidateFieldInfo);
 				}
 			}
 		}
-		relationalWriterCache.get(classInfo).put(directedRelationship, null);
 		return null;
 	}
 
-	public static RelationalReader getRelationalReader(ClassInfo classInfo, String relationshipType, String relationshipDirection) {
-		if (!relationalReaderCache.containsKey(classInfo)) {
-			relationalReaderCache.put(classInfo, new HashMap<DirectedRelationship, RelationalReader>());
-		}
-		DirectedRelationship directedRelationship = new DirectedRelationship(relationshipType, relationshipDirection);
-		if (relationalReaderCache.get(classInfo).containsKey(directedRelationship)) {
-			return relationalReaderCache.get(classInfo).get(directedRelationship);
+	public RelationalReader getRelationalReader(ClassInfo classInfo, String relationshipType, String relationshipDirection) {
+		return relationalReaderCache.get(new Key(classInfo, relationshipType, relationshipDirection, null), relationalReaderLoader);
+	}
+
+	private final BoundedCache.Loader<Key, RelationalReader> relationalReaderLoader = new BoundedCache.Loader<Key, RelationalReader>() {
+
+		@Override
+		public RelationalReader load(Key key) {
+			return determineRelationalReader(key.classInfo, key.name, key.direction);
 		}
+	};
+
+	private static RelationalReader determineRelationalReader(ClassInfo classInfo, String relationshipType, String relationshipDirection) {
 
 		// 2nd, try to find a field explicitly annotated with the neo4j relationship type and direction
 		FieldInfo fieldInfo = classInfo.relationshipField(relationshipType, relationshipDirection, STRICT_MODE);
 		if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-			FieldReader fieldReader = new FieldReader(classInfo, fieldInfo);
-			relationalReaderCache.get(classInfo).put(directedRelationship, fieldReader);
-			return fieldReader;
+			return new FieldReader(classInfo, fieldInfo);
 		}
 
 		//If the direction is INCOMING, then the annotation should have been present and we should have found a match already.
@@ -213,172 +242,230 @@ public class EntityAccessManager {
 			// 4th, try to find a field  annotated with the neo4j relationship type and direction, allowing for implied relationships
 			fieldInfo = classInfo.relationshipField(relationshipType, relationshipDirection, INFERRED_MODE);
 			if (fieldInfo != null && !fieldInfo.getAnnotations().isEmpty()) {
-				FieldReader fieldReader = new FieldReader(classInfo, fieldInfo);
-				relationalReaderCache.get(classInfo).put(directedRelationship, fieldReader);
-				return fieldReader;
+				return new FieldReader(classInfo, fieldInfo);
 			}
 
 			// 6th, try to find a "XYZ" field name where XYZ is derived from the relationship type
 			if (fieldInfo != null) {
-				FieldReader fieldReader = new FieldReader(classInfo, fieldInfo);
-				relationalReaderCache.get(classInfo).put(directedRelationship, fieldReader);
-				return fieldReader;
+				return new FieldReader(classInfo, fieldInfo);
 			}
 		}
-		relationalReaderCache.get(classInfo).put(directedRelationship, null);
 		return null;
 	}
 
-	public static Collection<PropertyReader> getPropertyReaders(ClassInfo classInfo) {
-		// do we care about "implicit" fields?  i.e., setX/getX with no matching X field
-		if (propertyReaders.containsKey(classInfo)) {
-			return propertyReaders.get(classInfo);
-		}
-		Collection<PropertyReader> readers = new ArrayList<>();
-		for (FieldInfo fieldInfo : classInfo.propertyFields()) {
-			readers.add(new FieldReader(classInfo, fieldInfo)); //otherwise use the field
-		}
-		propertyReaders.put(classInfo, readers);
-		return readers;
+	public Collection<PropertyReader> getPropertyReaders(ClassInfo classInfo) {
+		return propertyReaders.get(classInfo, propertyReadersLoader);
 	}
 
-	public static Collection<RelationalReader> getRelationalReaders(ClassInfo classInfo) {
-		if (relationalReaders.containsKey(classInfo)) {
-			return relationalReaders.get(classInfo);
-		}
-		Collection<RelationalReader> readers = new ArrayList<>();
+	private final BoundedCache.Loader<ClassInfo, Collection<PropertyReader>> propertyReadersLoader = new BoundedCache.Loader<ClassInfo, Collection<PropertyReader>>() {
 
-		for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
-			readers.add(new FieldReader(classInfo, fieldInfo));
+		@Override
+		public Collection<PropertyReader> load(ClassInfo classInfo) {
+			// do we care about "implicit" fields?  i.e., setX/getX with no matching X field
+			Collection<PropertyReader> readers = new ArrayList<>();
+			for (FieldInfo fieldInfo : classInfo.propertyFields()) {
+				readers.add(new FieldReader(classInfo, fieldInfo)); //otherwise use the field
+			}
+			return readers;
 		}
-		relationalReaders.put(classInfo, readers);
-		return readers;
+	};
+
+	public Collection<RelationalReader> getRelationalReaders(ClassInfo classInfo) {
+		return relationalReaders.get(classInfo, relationalReadersLoader);
 	}
 
+	private final BoundedCache.Loader<ClassInfo, Collection<RelationalReader>> relationalReadersLoader = new BoundedCache.Loader<ClassInfo, Collection<RelationalReader>>() {
 
-	public static RelationalWriter getIterableWriter(ClassInfo classInfo, Class<?> parameterType, String relationshipType, String relationshipDirection) {
-		if (!iterableWriterCache.containsKey(classInfo)) {
-			iterableWriterCache.put(classInfo, new HashMap<DirectedRelationshipForType, RelationalWriter>());
-		}
-		DirectedRelationshipForType directedRelationshipForType = new DirectedRelationshipForType(relationshipType, relationshipDirection, parameterType);
-		if (iterableWriterCache.get(classInfo).containsKey(directedRelationshipForType)) {
-			return iterableWriterCache.get(classInfo).get(directedRelationshipForType);
+		@Override
+		public Collection<RelationalReader> load(ClassInfo classInfo) {
+			Collection<RelationalReader> readers = new ArrayList<>();
+			for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
+				readers.add(new FieldReader(classInfo, fieldInfo));
+			}
+			return readers;
 		}
+	};
 
-		//2nd find a field annotated with type and direction
-		FieldInfo fieldInfo = getIterableFieldInfo(classInfo, parameterType, relationshipType, relationshipDirection, STRICT_MODE);
-		if (fieldInfo != null) {
-			FieldWriter fieldWriter = new FieldWriter(classInfo, fieldInfo);
-			cacheIterableFieldWriter(classInfo, parameterType, relationshipType, relationshipDirection, directedRelationshipForType, fieldInfo, fieldWriter);
-			return fieldWriter;
-		}
+	public RelationalWriter getIterableWriter(ClassInfo classInfo, Class<?> parameterType, String relationshipType, String relationshipDirection) {
+		return iterableWriterCache.get(new Key(classInfo, relationshipType, relationshipDirection, parameterType), iterableWriterLoader);
+	}
 
-		//If relationshipDirection=INCOMING, we should have found an annotated field already
+	private final BoundedCache.Loader<Key, RelationalWriter> iterableWriterLoader = new BoundedCache.Loader<Key, RelationalWriter>() {
 
-		if (!relationshipDirection.equals(Relationship.INCOMING)) {
+		@Override
+		public RelationalWriter load(Key key) {
+			ClassInfo classInfo = key.classInfo;
 
-			//4th find a field with implied type and direction
-			fieldInfo = getIterableFieldInfo(classInfo, parameterType, relationshipType, relationshipDirection, INFERRED_MODE);
+			//2nd find a field annotated with type and direction
+			FieldInfo fieldInfo = getIterableFieldInfo(classInfo, key.type, key.name, key.direction, STRICT_MODE);
 			if (fieldInfo != null) {
 				FieldWriter fieldWriter = new FieldWriter(classInfo, fieldInfo);
-				cacheIterableFieldWriter(classInfo, parameterType, relationshipType, relationshipDirection, directedRelationshipForType, fieldInfo, fieldWriter);
+				cacheIterableFieldWriter(key, fieldInfo, fieldWriter);
 				return fieldWriter;
 			}
-		}
-		iterableWriterCache.get(classInfo).put(directedRelationshipForType, null);
-		return null;
-	}
 
+			//If relationshipDirection=INCOMING, we should have found an annotated field already
 
-	public static RelationalReader getIterableReader(ClassInfo classInfo, Class<?> parameterType, String relationshipType, String relationshipDirection) {
-		if (!iterableReaderCache.containsKey(classInfo)) {
-			iterableReaderCache.put(classInfo, new HashMap<DirectedRelationshipForType, RelationalReader>());
-		}
-		DirectedRelationshipForType directedRelationshipForType = new DirectedRelationshipForType(relationshipType, relationshipDirection, parameterType);
-		if (iterableReaderCache.get(classInfo).containsKey(directedRelationshipForType)) {
-			return iterableReaderCache.get(classInfo).get(directedRelationshipForType);
-		}
+			if (!key.direction.equals(Relationship.INCOMING)) {
 
-		//2nd find a field annotated with type and direction
-		FieldInfo fieldInfo = getIterableFieldInfo(classInfo, parameterType, relationshipType, relationshipDirection, STRICT_MODE);
-		if (fieldInfo != null) {
-			FieldReader fieldReader = new FieldReader(classInfo, fieldInfo);
-			iterableReaderCache.get(classInfo).put(directedRelationshipForType, fieldReader);
-			return fieldReader;
+				//4th find a field with implied type and direction
+				fieldInfo = getIterableFieldInfo(classInfo, key.type, key.name, key.direction, INFERRED_MODE);
+				if (fieldInfo != null) {
+					FieldWriter fieldWriter = new FieldWriter(classInfo, fieldInfo);
+					cacheIterableFieldWriter(key, fieldInfo, fieldWriter);
+					return fieldWriter;
+				}
+			}
+			return null;
 		}
+	};
 
-		//If relationshipDirection=INCOMING, we should have found an annotated field already
+	public RelationalReader getIterableReader(ClassInfo classInfo, Class<?> parameterType, String relationshipType, String relationshipDirection) {
+		return iterableReaderCache.get(new Key(classInfo, relationshipType, relationshipDirection, parameterType), iterableReaderLoader);
+	}
 
-		if (!relationshipDirection.equals(Relationship.INCOMING)) {
-			//4th find a field with implied type and direction
-			fieldInfo = getIterableFieldInfo(classInfo, parameterType, relationshipType, relationshipDirection, INFERRED_MODE);
+	private final BoundedCache.Loader<Key, RelationalReader> iterableReaderLoader = new BoundedCache.Loader<Key, RelationalReader>() {
+
+		@Override
+		public RelationalReader load(Key key) {
+			ClassInfo classInfo = key.classInfo;
+
+			//2nd find a field annotated with type and direction
+			FieldInfo fieldInfo = getIterableFieldInfo(classInfo, key.type, key.name, key.direction, STRICT_MODE);
 			if (fieldInfo != null) {
-				FieldReader fieldReader = new FieldReader(classInfo, fieldInfo);
-				iterableReaderCache.get(classInfo).put(directedRelationshipForType, fieldReader);
-				return fieldReader;
+				return new FieldReader(classInfo, fieldInfo);
 			}
+
+			//If relationshipDirection=INCOMING, we should have found an annotated field already
+
+			if (!key.direction.equals(Relationship.INCOMING)) {
+				//4th find a field with implied type and direction
+				fieldInfo = getIterableFieldInfo(classInfo, key.type, key.name, key.direction, INFERRED_MODE);
+				if (fieldInfo != null) {
+					return new FieldReader(classInfo, fieldInfo);
+				}
+			}
+			return null;
 		}
-		iterableReaderCache.get(classInfo).put(directedRelationshipForType, null);
-		return null;
+	};
+
+	public PropertyReader getIdentityPropertyReader(ClassInfo classInfo) {
+		return identityPropertyReaderCache.get(classInfo, identityPropertyReaderLoader);
 	}
 
-	public static PropertyReader getIdentityPropertyReader(ClassInfo classInfo) {
-		PropertyReader propertyReader = identityPropertyReaderCache.get(classInfo);
-		if (propertyReader != null) {
-			return propertyReader;
+	private final BoundedCache.Loader<ClassInfo, PropertyReader> identityPropertyReaderLoader = new BoundedCache.Loader<ClassInfo, PropertyReader>() {
+
+		@Override
+		public PropertyReader load(ClassInfo classInfo) {
+			return new FieldReader(classInfo, classInfo.identityField());
 		}
-		propertyReader = new FieldReader(classInfo, classInfo.identityField());
-		identityPropertyReaderCache.put(classInfo, propertyReader);
-		return propertyReader;
+	};
+
+	public RelationalReader getEndNodeReader(ClassInfo relationshipEntityClassInfo) {
+		return endNodeReaderCache.get(relationshipEntityClassInfo, endNodeReaderLoader);
 	}
 
-	public static RelationalReader getEndNodeReader(ClassInfo relationshipEntityClassInfo) {
-		for (FieldInfo fieldInfo : relationshipEntityClassInfo.relationshipFields()) {
-			if (fieldInfo.getAnnotations().get(EndNode.class.getCanonicalName()) != null) {
-				return new FieldReader(relationshipEntityClassInfo, fieldInfo);
+	private final BoundedCache.Loader<ClassInfo, RelationalReader> endNodeReaderLoader = new BoundedCache.Loader<ClassInfo, RelationalReader>() {
+
+		@Override
+		public RelationalReader load(ClassInfo relationshipEntityClassInfo) {
+			for (FieldInfo fieldInfo : relationshipEntityClassInfo.relationshipFields()) {
+				if (fieldInfo.getAnnotations().get(EndNode.class.getCanonicalName()) != null) {
+					return new FieldReader(relationshipEntityClassInfo, fieldInfo);
+				}
 			}
+			LOGGER.warn("Failed to find an @EndNode on {}", relationshipEntityClassInfo);
+			return null;
 		}
-		LOGGER.warn("Failed to find an @EndNode on {}", relationshipEntityClassInfo);
-		return null;
+	};
+
+	public RelationalReader getStartNodeReader(ClassInfo relationshipEntityClassInfo) {
+		return startNodeReaderCache.get(relationshipEntityClassInfo, startNodeReaderLoader);
 	}
 
-	public static RelationalReader getStartNodeReader(ClassInfo relationshipEntityClassInfo) {
-		for (FieldInfo fieldInfo : relationshipEntityClassInfo.relationshipFields()) {
-			if (fieldInfo.getAnnotations().get(StartNode.class.getCanonicalName()) != null) {
-				return new FieldReader(relationshipEntityClassInfo, fieldInfo);
+	private final BoundedCache.Loader<ClassInfo, RelationalReader> startNodeReaderLoader = new BoundedCache.Loader<ClassInfo, RelationalReader>() {
+
+		@Override
+		public RelationalReader load(ClassInfo relationshipEntityClassInfo) {
+			for (FieldInfo fieldInfo : relationshipEntityClassInfo.relationshipFields()) {
+				if (fieldInfo.getAnnotations().get(StartNode.class.getCanonicalName()) != null) {
+					return new FieldReader(relationshipEntityClassInfo, fieldInfo);
+				}
 			}
+			LOGGER.warn("Failed to find an @StartNode on {}", relationshipEntityClassInfo);
+			return null;
 		}
-		LOGGER.warn("Failed to find an @StartNode on {}", relationshipEntityClassInfo);
-		return null;
-	}
+	};
 
-	public static RelationalWriter getRelationalEntityWriter(ClassInfo classInfo, Class entityAnnotation) {
+	public RelationalWriter getRelationalEntityWriter(ClassInfo classInfo, Class entityAnnotation) {
 		if (entityAnnotation.getName() == null) {
 			throw new RuntimeException(entityAnnotation.getSimpleName() + " is not defined on " + classInfo.name());
 		}
+		return relationshipEntityWriterCache.get(new Key(classInfo, null, null, entityAnnotation), relationalEntityWriterLoader);
+	}
 
-		if (relationshipEntityWriterCache.get(classInfo) == null) {
-			relationshipEntityWriterCache.put(classInfo, new HashMap<Class, RelationalWriter>());
+	private final BoundedCache.Loader<Key, RelationalWriter> relationalEntityWriterLoader = new BoundedCache.Loader<Key, RelationalWriter>() {
+
+		@Override
+		public RelationalWriter load(Key key) {
+			//Find annotated field
+			for (FieldInfo fieldInfo : key.classInfo.relationshipFields()) {
+				if (fieldInfo.getAnnotations().get(key.type.getName()) != null) {
+					return new FieldWriter(key.classInfo, fieldInfo);
+				}
+			}
+			return null;
 		}
-		if (relationshipEntityWriterCache.get(classInfo).containsKey(entityAnnotation)) {
-			return relationshipEntityWriterCache.get(classInfo).get(entityAnnotation);
+	};
+
+	/**
+	 * @return the number of accessor lookups answered from the caches
+	 */
+	public long cacheHits() {
+		long hits = 0;
+		for (BoundedCache<?, ?> cache : caches) {
+			hits += cache.hits();
 		}
+		return hits;
+	}
 
-		//Find annotated field
-		FieldInfo field = null;
-		for (FieldInfo fieldInfo : classInfo.relationshipFields()) {
-			if (fieldInfo.getAnnotations().get(entityAnnotation.getName()) != null) {
-				field = fieldInfo;
-				break;
-			}
+	/**
+	 * @return the number of accessor lookups that had to resolve the accessor from the class metadata
+	 */
+	public long cacheMisses() {
+		long misses = 0;
+		for (BoundedCache<?, ?> cache : caches) {
+			misses += cache.misses();
 		}
-		if (field != null) {
-			FieldWriter fieldWriter = new FieldWriter(classInfo, field);
-			relationshipEntityWriterCache.get(classInfo).put(entityAnnotation, fieldWriter);
-			return fieldWriter;
+		return misses;
+	}
+
+	/**
+	 * @return the number of accessors dropped from the caches to keep them within their maximum size
+	 */
+	public long cacheEvictions() {
+		long evictions = 0;
+		for (BoundedCache<?, ?> cache : caches) {
+			evictions += cache.evictions();
 		}
-		relationshipEntityWriterCache.get(classInfo).put(entityAnnotation, null);
-		return null;
+		return evictions;
+	}
+
+	/**
+	 * @return the number of accessors currently cached
+	 */
+	public int cacheSize() {
+		int size = 0;
+		for (BoundedCache<?, ?> cache : caches) {
+			size += cache.size();
+		}
+		return size;
+	}
+
+	private <K, V> BoundedCache<K, V> cache(int cacheSize) {
+		BoundedCache<K, V> cache = new BoundedCache<>(cacheSize);
+		caches.add(cache);
+		return cache;
 	}
 
 	private static FieldInfo getIterableFieldInfo(ClassInfo classInfo, Class<?> parameterType, String relationshipType, String relationshipDirection, boolean strict) {
@@ -416,11 +503,56 @@ public class EntityAccessManager {
 		return null;
 	}
 
-	private static void cacheIterableFieldWriter(ClassInfo classInfo, Class<?> parameterType, String relationshipType, String relationshipDirection, DirectedRelationshipForType directedRelationshipForType, FieldInfo fieldInfo, FieldWriter fieldWriter) {
-		if (fieldInfo.isParameterisedTypeOf(parameterType)) {
+	private void cacheIterableFieldWriter(Key key, FieldInfo fieldInfo, FieldWriter fieldWriter) {
+		if (fieldInfo.isParameterisedTypeOf(key.type)) {
 			//Cache the writer for the superclass used in the type param
-			directedRelationshipForType = new DirectedRelationshipForType(relationshipType, relationshipDirection, ClassUtils.getType(fieldInfo.getTypeDescriptor()));
+			Key typeParameterKey = new Key(key.classInfo, key.name, key.direction, ClassUtils.getType(fieldInfo.getTypeDescriptor()));
+			if (!typeParameterKey.equals(key)) {
+				iterableWriterCache.put(typeParameterKey, fieldWriter);
+			}
+		}
+	}
+
+	/**
+	 * Identifies a cached accessor by the class it belongs to and whichever of the property or relationship name,
+	 * relationship direction and value type the lookup depends on.
+	 */
+	private static final class Key {
+
+		private final ClassInfo classInfo;
+		private final String name;
+		private final String direction;
+		private final Class<?> type;
+
+		private Key(ClassInfo classInfo, String name, String direction, Class<?> type) {
+			this.classInfo = classInfo;
+			this.name = name;
+			this.direction = direction;
+			this.type = type;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) o;
+			return classInfo == key.classInfo
+					&& (name == null ? key.name == null : name.equals(key.name))
+					&& (direction == null ? key.direction == null : direction.equals(key.direction))
+					&& type == key.type;
+		}
+
+		@Override
+		public int hashCode() {
+			int result = System.identityHashCode(classInfo);
+			result = 31 * result + (name != null ? name.hashCode() : 0);
+			result = 31 * result + (direction != null ? direction.hashCode() : 0);
+			result = 31 * result + (type != null ? type.hashCode() : 0);
+			return result;
 		}
-		iterableWriterCache.get(classInfo).put(directedRelationshipForType, fieldWriter);
 	}
 }
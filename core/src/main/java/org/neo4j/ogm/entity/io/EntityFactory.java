@@ -12,10 +12,11 @@
 package org.neo4j.ogm.entity.io;
 
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
 
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.classloader.MetaDataClassLoader;
@@ -29,10 +30,24 @@ import org.neo4j.ogm.model.Node;
  * A metadata-driven factory class for creating node and relationship entities.
  *
  * @author Adam George
+ * @author Mark Angrish
  */
 public class EntityFactory {
 
-    private final Map<String, String> taxaLeafClass = new HashMap<>();
+    // held against each class, so the constructors are released along with the domain classes
+    private static final ClassValue<MethodHandle> defaultConstructors = new ClassValue<MethodHandle>() {
+
+        @Override
+        protected MethodHandle computeValue(Class<?> type) {
+            try {
+                Constructor<?> constructor = type.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor).asType(MethodType.methodType(Object.class));
+            } catch (SecurityException | IllegalArgumentException | ReflectiveOperationException e) {
+                throw new MappingException("Unable to instantiate " + type, e);
+            }
+        }
+    };
 
     private final MetaData metadata;
 
@@ -112,27 +127,23 @@ public class EntityFactory {
     }
 
     private String resolve(String... taxa) {
-
-        String fqn = taxaLeafClass.get(Arrays.toString(taxa));
-
-        if (fqn == null) {
-            ClassInfo classInfo = metadata.resolve(taxa);
-            if (classInfo != null) {
-                taxaLeafClass.put(Arrays.toString(taxa), fqn=classInfo.name());
-            } else {
-                throw new BaseClassNotFoundException(Arrays.toString(taxa));
-            }
+        ClassInfo classInfo = metadata.resolve(taxa);
+        if (classInfo == null) {
+            throw new BaseClassNotFoundException(Arrays.toString(taxa));
         }
-        return fqn;
+        return classInfo.name();
     }
 
     private static <T> T instantiate(Class<T> loadedClass) {
+        MethodHandle defaultConstructor = defaultConstructors.get(loadedClass);
         try {
-            Constructor<T> defaultConstructor = loadedClass.getDeclaredConstructor();
-            defaultConstructor.setAccessible(true);
-            return defaultConstructor.newInstance();
-        } catch (SecurityException | IllegalArgumentException | ReflectiveOperationException e) {
+            return loadedClass.cast((Object) defaultConstructor.invokeExact());
+        } catch (Exception e) {
             throw new MappingException("Unable to instantiate " + loadedClass, e);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new MappingException("Unable to instantiate " + loadedClass, new RuntimeException(t));
         }
     }
 
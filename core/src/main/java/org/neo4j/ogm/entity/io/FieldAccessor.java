@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.entity.io;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reads and writes a single field of an entity. An accessor is created once per field, so the field is only
+ * opened up and looked up once rather than on every access.
+ *
+ * Access goes through method handles bound to the field. Whether a field is accessed through a handle or reflectively
+ * is decided once, when its accessor is created. Reflection is used where a handle can't be created (a final field
+ * can't be given a setter handle, for example) and to write primitive fields, because reflection widens the value
+ * written, such as an Integer written to a long field, where a handle would reject it.
+ *
+ * @author Mark Angrish
+ */
+public final class FieldAccessor {
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    // held against the declaring class, so the accessors are released along with the domain classes
+    private static final ClassValue<ConcurrentMap<Field, FieldAccessor>> accessors = new ClassValue<ConcurrentMap<Field, FieldAccessor>>() {
+
+        @Override
+        protected ConcurrentMap<Field, FieldAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private final Field field;
+    private final MethodHandle getter;
+    private final MethodHandle setter;
+
+    private FieldAccessor(Field field) {
+        field.setAccessible(true);
+        this.field = field;
+        // static fields take no instance, so they are always accessed reflectively
+        boolean instanceField = !Modifier.isStatic(field.getModifiers());
+        this.getter = instanceField ? getter(field) : null;
+        this.setter = instanceField && !field.getType().isPrimitive() ? setter(field) : null;
+    }
+
+    /**
+     * Returns the accessor for the given field, creating it the first time the field is seen.
+     *
+     * @param field the field to access
+     * @return the {@link FieldAccessor} for the field
+     */
+    public static FieldAccessor forField(Field field) {
+        ConcurrentMap<Field, FieldAccessor> declared = accessors.get(field.getDeclaringClass());
+        FieldAccessor accessor = declared.get(field);
+        if (accessor == null) {
+            accessor = new FieldAccessor(field);
+            FieldAccessor existing = declared.putIfAbsent(field, accessor);
+            if (existing != null) {
+                return existing;
+            }
+        }
+        return accessor;
+    }
+
+    public Object read(Object instance) {
+        if (getter != null) {
+            try {
+                return (Object) getter.invokeExact(instance);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+        try {
+            return field.get(instance);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public void write(Object instance, Object value) {
+        if (setter != null) {
+            try {
+                setter.invokeExact(instance, value);
+                return;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+        try {
+            field.set(instance, value);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static MethodHandle getter(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle setter(Field field) {
+        try {
+            return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+}
@@ -23,20 +23,21 @@ import org.neo4j.ogm.metadata.ObjectAnnotations;
 /**
  * @author Adam George
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class FieldReader implements RelationalReader, PropertyReader {
 
-    private final ClassInfo classInfo;
     private final FieldInfo fieldInfo;
+    private final FieldAccessor accessor;
 
     public FieldReader(ClassInfo classInfo, FieldInfo fieldInfo) {
-        this.classInfo = classInfo;
         this.fieldInfo = fieldInfo;
+        this.accessor = FieldAccessor.forField(classInfo.getField(fieldInfo));
     }
 
     @Override
     public Object read(Object instance) {
-        return FieldWriter.read(classInfo.getField(fieldInfo), instance);
+        return accessor.read(instance);
     }
 
     @Override
@@ -45,7 +46,7 @@ public class FieldReader implements RelationalReader, PropertyReader {
             throw new IllegalStateException(
                     "The readComposite method should be used for fields with a CompositeAttributeConverter");
         }
-        Object value = FieldWriter.read(classInfo.getField(fieldInfo), instance);
+        Object value = accessor.read(instance);
         if (fieldInfo.hasPropertyConverter()) {
             value = fieldInfo.getPropertyConverter().toGraphProperty(value);
         }
@@ -58,7 +59,7 @@ public class FieldReader implements RelationalReader, PropertyReader {
             throw new IllegalStateException(
                     "readComposite should only be used when a field is annotated with a CompositeAttributeConverter");
         }
-        Object value = FieldWriter.read(classInfo.getField(fieldInfo), instance);
+        Object value = accessor.read(instance);
         return fieldInfo.getCompositeConverter().toGraphProperties(value);
     }
 
@@ -22,35 +22,27 @@ import org.neo4j.ogm.utils.ClassUtils;
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class FieldWriter extends EntityAccess {
 
     private final FieldInfo fieldInfo;
-    private final Field field;
+    private final FieldAccessor accessor;
     private final Class<?> fieldType;
 
     public FieldWriter(ClassInfo classInfo, FieldInfo fieldInfo) {
         this.fieldInfo = fieldInfo;
-        this.field = classInfo.getField(fieldInfo);
-        this.fieldType = this.field.getType();
+        Field field = classInfo.getField(fieldInfo);
+        this.accessor = FieldAccessor.forField(field);
+        this.fieldType = field.getType();
     }
 
     public static void write(Field field, Object instance, Object value) {
-        try {
-            field.setAccessible(true);
-            field.set(instance, value);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        FieldAccessor.forField(field).write(instance, value);
     }
 
     public static Object read(Field field, Object instance) {
-        try {
-            field.setAccessible(true);
-            return field.get(instance);
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
+        return FieldAccessor.forField(field).read(instance);
     }
 
     @Override
@@ -58,14 +50,14 @@ public class FieldWriter extends EntityAccess {
 
         if (fieldInfo.hasPropertyConverter()) {
             value = fieldInfo.getPropertyConverter().toEntityAttribute(value);
-            FieldWriter.write(field, instance, value);
+            accessor.write(instance, value);
         }
         else {
             if (fieldInfo.isScalar()) {
                 String descriptor = fieldInfo.getTypeDescriptor();
                 value = Utils.coerceTypes(ClassUtils.getType(descriptor), value);
             }
-            FieldWriter.write(field, instance, value);
+            accessor.write(instance, value);
         }
     }
 
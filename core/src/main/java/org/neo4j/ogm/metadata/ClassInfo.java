@@ -90,6 +90,8 @@ public interface ClassInfo {
 
 	Collection<FieldInfo> relationshipFields();
 
+	Collection<String> lazyRelationshipTypes();
+
 	List<FieldInfo> findIterableFields(Class<?> parameterType);
 
 	List<FieldInfo> findIterableFields(Class<?> parameterType, String relationshipType, String relationshipDirection, boolean strict);
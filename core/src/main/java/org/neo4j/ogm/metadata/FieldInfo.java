@@ -54,6 +54,8 @@ public interface FieldInfo {
 
 	String relationshipDirection(String defaultDirection);
 
+	boolean isLazy();
+
 	boolean isScalar();
 
 	Class<?> convertedType();
@@ -46,11 +46,12 @@ public class LegacyClassInfo implements ClassInfo {
 	private AnnotationsInfo annotationsInfo = new LegacyAnnotationsInfo();
 	private LegacyInterfacesInfo interfacesInfo = new LegacyInterfacesInfo();
 	private ClassInfo directSuperclass;
-	private Map<Class, List<FieldInfo>> iterableFieldsForType = new HashMap<>();
+	private Map<Class, List<FieldInfo>> iterableFieldsForType = new ConcurrentHashMap<>();
 	private Map<FieldInfo, Field> fieldInfoFields = new ConcurrentHashMap<>();
 	private volatile Set<FieldInfo> fieldInfos;
 	private volatile Map<String, FieldInfo> propertyFields;
 	private volatile Map<String, FieldInfo> indexFields;
+	private volatile RelationshipFieldIndex relationshipFieldIndex;
 	private volatile FieldInfo identityField = null;
 	private volatile FieldInfo primaryIndexField = null;
 	private volatile FieldInfo labelField = null;
@@ -444,24 +445,20 @@ public class LegacyClassInfo implements ClassInfo {
 	 * A relationship field is any field annotated with @Relationship, or any field that cannot be mapped to a
 	 * node property. The identity field is not a relationship field.
 	 *
-	 * @return A Collection of LegacyFieldInfo objects describing the classInfo's relationship fields
+	 * @return An unmodifiable Collection of LegacyFieldInfo objects describing the classInfo's relationship fields
 	 */
 	public Collection<FieldInfo> relationshipFields() {
-		FieldInfo identityField = identityFieldOrNull();
-		Set<FieldInfo> fieldInfos = new HashSet<>();
-		for (FieldInfo fieldInfo : fieldsInfo().fields()) {
-			if (fieldInfo != identityField) {
-				AnnotationInfo annotationInfo = fieldInfo.getAnnotations().get(Relationship.class.getCanonicalName());
-				if (annotationInfo == null) {
-					if (!((LegacyFieldInfo)fieldInfo).persistableAsProperty()) {
-						fieldInfos.add(fieldInfo);
-					}
-				} else {
-					fieldInfos.add(fieldInfo);
-				}
-			}
-		}
-		return fieldInfos;
+		return relationshipFieldIndex().fields();
+	}
+
+	/**
+	 * The relationship types that are only mapped by lazy relationship fields, and so need not be traversed when
+	 * loading instances of this class.
+	 *
+	 * @return An unmodifiable Collection of relationship types
+	 */
+	public Collection<String> lazyRelationshipTypes() {
+		return relationshipFieldIndex().lazyTypes();
 	}
 
 	/**
@@ -471,12 +468,7 @@ public class LegacyClassInfo implements ClassInfo {
 	 * @return A LegacyFieldInfo object describing the required relationship field, or null if it doesn't exist.
 	 */
 	public FieldInfo relationshipField(String relationshipName) {
-		for (FieldInfo fieldInfo : relationshipFields()) {
-			if (fieldInfo.relationship().equalsIgnoreCase(relationshipName)) {
-				return fieldInfo;
-			}
-		}
-		return null;
+		return relationshipFieldIndex().fieldByType(relationshipName);
 	}
 
 	/**
@@ -488,16 +480,7 @@ public class LegacyClassInfo implements ClassInfo {
 	 * @return A LegacyFieldInfo object describing the required relationship field, or null if it doesn't exist.
 	 */
 	public FieldInfo relationshipField(String relationshipName, String relationshipDirection, boolean strict) {
-		for (FieldInfo fieldInfo : relationshipFields()) {
-			String relationship = strict ? ((LegacyFieldInfo)fieldInfo).relationshipTypeAnnotation() : fieldInfo.relationship();
-			if (relationshipName.equalsIgnoreCase(relationship)) {
-				if (((fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING) || fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.UNDIRECTED)) && (relationshipDirection.equals(Relationship.INCOMING)))
-						|| (relationshipDirection.equals(Relationship.OUTGOING) && !(fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING)))) {
-					return fieldInfo;
-				}
-			}
-		}
-		return null;
+		return relationshipFieldIndex().field(relationshipName, relationshipDirection, strict);
 	}
 
 	/**
@@ -506,21 +489,11 @@ public class LegacyClassInfo implements ClassInfo {
 	 * @param relationshipName the relationshipName of the field to find
 	 * @param relationshipDirection the direction of the relationship
 	 * @param strict if true, does not infer relationship type but looks for it in the @Relationship annotation. Null if missing. If false, infers relationship type from LegacyFieldInfo
-	 * @return Set of  LegacyFieldInfo objects describing the required relationship field, or empty set if it doesn't exist.
+	 * @return Unmodifiable set of LegacyFieldInfo objects describing the required relationship field, or empty set if it doesn't exist.
 	 */
 	@Override
 	public Set<FieldInfo> candidateRelationshipFields(String relationshipName, String relationshipDirection, boolean strict) {
-		Set<FieldInfo> candidateFields = new HashSet<>();
-		for (FieldInfo fieldInfo : relationshipFields()) {
-			String relationship = strict ? ((LegacyFieldInfo)fieldInfo).relationshipTypeAnnotation() : fieldInfo.relationship();
-			if (relationshipName.equalsIgnoreCase(relationship)) {
-				if (((fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING) || fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.UNDIRECTED)) && (relationshipDirection.equals(Relationship.INCOMING)))
-						|| (relationshipDirection.equals(Relationship.OUTGOING) && !(fieldInfo.relationshipDirection(Relationship.OUTGOING).equals(Relationship.INCOMING)))) {
-					candidateFields.add(fieldInfo);
-				}
-			}
-		}
-		return candidateFields;
+		return relationshipFieldIndex().candidates(relationshipName, relationshipDirection, strict);
 	}
 
 	/**
@@ -530,14 +503,52 @@ public class LegacyClassInfo implements ClassInfo {
 	 * @return A LegacyFieldInfo object describing the required relationship field, or null if it doesn't exist.
 	 */
 	public FieldInfo relationshipFieldByName(String fieldName) {
-		for (FieldInfo fieldInfo : relationshipFields()) {
-			if (fieldInfo.getName().equalsIgnoreCase(fieldName)) {
-				return fieldInfo;
+		return relationshipFieldIndex().fieldByName(fieldName);
+	}
+
+	/**
+	 * Freezes the relationship fields into lookup tables. Called once the domain has been post-processed, after which
+	 * the fields of the class no longer change.
+	 */
+	void indexRelationshipFields() {
+		relationshipFieldIndex = new RelationshipFieldIndex(collectRelationshipFields());
+	}
+
+	private RelationshipFieldIndex relationshipFieldIndex() {
+		RelationshipFieldIndex index = relationshipFieldIndex;
+		if (index == null) {
+			// only a class that has not been through LegacyDomainInfo.finish() gets here
+			try {
+				lock.lock();
+				index = relationshipFieldIndex;
+				if (index == null) {
+					index = new RelationshipFieldIndex(collectRelationshipFields());
+					relationshipFieldIndex = index;
+				}
+			} finally {
+				lock.unlock();
 			}
 		}
-		return null;
+		return index;
 	}
 
+	private Collection<FieldInfo> collectRelationshipFields() {
+		FieldInfo identityField = identityFieldOrNull();
+		List<FieldInfo> fieldInfos = new ArrayList<>();
+		for (FieldInfo fieldInfo : fieldsInfo().fields()) {
+			if (fieldInfo != identityField) {
+				AnnotationInfo annotationInfo = fieldInfo.getAnnotations().get(Relationship.class.getCanonicalName());
+				if (annotationInfo == null) {
+					if (!((LegacyFieldInfo)fieldInfo).persistableAsProperty()) {
+						fieldInfos.add(fieldInfo);
+					}
+				} else {
+					fieldInfos.add(fieldInfo);
+				}
+			}
+		}
+		return fieldInfos;
+	}
 
 	public Field getField(FieldInfo fieldInfo) {
 		Field field = fieldInfoFields.get(fieldInfo);
@@ -5,9 +5,11 @@ import java.io.InputStream;
 import java.util.*;
 
 import org.neo4j.ogm.annotation.typeconversion.Convert;
+import org.neo4j.ogm.classloader.ClassLoaderResolver;
 import org.neo4j.ogm.exception.MappingException;
 import org.neo4j.ogm.metadata.*;
 import org.neo4j.ogm.metadata.impl.legacy.scanner.ClassPathScanner;
+import org.neo4j.ogm.metadata.impl.legacy.scanner.MetaDataIndex;
 import org.neo4j.ogm.typeconversion.ConversionCallbackRegistry;
 import org.neo4j.ogm.typeconversion.ConvertibleTypes;
 import org.neo4j.ogm.typeconversion.ProxyAttributeConverter;
@@ -129,6 +131,10 @@ public class LegacyDomainInfo implements DomainInfo {
 		LOGGER.debug("Registering converters and deregistering transient fields....");
 		postProcessFields(transientClassesRemoved);
 
+		for (ClassInfo classInfo : classNameToClassInfo.values()) {
+			((LegacyClassInfo) classInfo).indexRelationshipFields();
+		}
+
 		LOGGER.info("Post-processing complete");
 	}
 
@@ -207,8 +213,10 @@ public class LegacyDomainInfo implements DomainInfo {
 	}
 
 	public void process(final InputStream inputStream) throws IOException {
+		process(new LegacyClassInfo(inputStream));
+	}
 
-		LegacyClassInfo classInfo = new LegacyClassInfo(inputStream);
+	public void process(LegacyClassInfo classInfo) {
 
 		String className = classInfo.name();
 		String superclassName = classInfo.superclassName();
@@ -258,7 +266,29 @@ public class LegacyDomainInfo implements DomainInfo {
 			classPaths.add(path);
 		}
 
-		new ClassPathScanner().scan(classPaths, this);
+		if (!loadIndex()) {
+			new ClassPathScanner().scan(classPaths, this);
+		}
+	}
+
+	// reads the domain classes listed in the metadata indexes rather than scanning the classpath for them, if every
+	// location of the packages of the domain is indexed and up to date
+	private boolean loadIndex() {
+		List<LegacyClassInfo> classInfos;
+		try {
+			classInfos = MetaDataIndex.read(ClassLoaderResolver.resolve(), classPaths);
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		}
+		if (classInfos == null) {
+			return false;
+		}
+		LOGGER.info("Reading the domain classes listed in {}", MetaDataIndex.RESOURCE);
+		for (LegacyClassInfo classInfo : classInfos) {
+			process(classInfo);
+		}
+		finish();
+		return true;
 	}
 
 	public ClassInfo getClass(String fqn) {
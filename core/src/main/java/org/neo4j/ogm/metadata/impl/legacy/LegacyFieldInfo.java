@@ -212,6 +212,14 @@ public class LegacyFieldInfo implements FieldInfo {
 		throw new RuntimeException("relationship direction call invalid");
 	}
 
+	public boolean isLazy() {
+		if (!persistableAsProperty() && annotations != null) {
+			AnnotationInfo annotationInfo = annotations.get(Relationship.class.getCanonicalName());
+			return annotationInfo != null && Boolean.parseBoolean(annotationInfo.get("lazy", "false"));
+		}
+		return false;
+	}
+
 	public boolean isTypeOf(Class<?> type) {
 
 		while (type != null) {
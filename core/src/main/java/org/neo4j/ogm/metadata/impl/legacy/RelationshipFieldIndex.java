@@ -0,0 +1,248 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.impl.legacy;
+
+import java.util.*;
+
+import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.metadata.AnnotationInfo;
+import org.neo4j.ogm.metadata.FieldInfo;
+import org.neo4j.ogm.utils.RelationshipUtils;
+
+/**
+ * Immutable lookup tables over the relationship fields of a class.
+ *
+ * Relationship types and field names are matched ignoring case, as the linear scans they replace did. The tables
+ * are keyed with a case-insensitive ordering, so a lookup neither lower-cases nor allocates a key.
+ *
+ * The fields of each relationship type are held in a {@link Bucket}, with unmodifiable sets of the candidates for
+ * each direction, strict and inferred, which lookups return as they are. The direction of a field, and whether its
+ * type is annotated, can still change after the domain has been loaded: {@link LegacyAnnotationInfo#get(String, String)}
+ * records the default it is first asked with, and the lookups must see them as the field readers and writers do. So
+ * the candidates of a type are only frozen once every field of the type has both recorded, which for most types is
+ * when the index is built and otherwise at a later lookup. Until then each lookup works out its candidates, recording
+ * just what the linear scan it replaces did.
+ *
+ * @author Mark Angrish
+ */
+class RelationshipFieldIndex {
+
+    private final Collection<FieldInfo> fields;
+    private final Map<String, FieldInfo> fieldsByName;
+    private final Map<String, Bucket> fieldsByType;
+    private final Set<String> lazyTypes;
+
+    /**
+     * @param relationshipFields the relationship fields of the class, in the order in which lookups should find them
+     */
+    RelationshipFieldIndex(Collection<FieldInfo> relationshipFields) {
+        this.fields = Collections.unmodifiableSet(new LinkedHashSet<>(relationshipFields));
+
+        Map<String, FieldInfo> byName = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, List<FieldInfo>> byType = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        Map<String, Bucket> buckets = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+
+        for (FieldInfo fieldInfo : fields) {
+            if (!byName.containsKey(fieldInfo.getName())) {
+                byName.put(fieldInfo.getName(), fieldInfo);
+            }
+
+            String relationshipType = relationshipType((LegacyFieldInfo) fieldInfo);
+            if (relationshipType == null) {
+                // an annotated field that maps to a property has no relationship type, so no lookup can match it
+                continue;
+            }
+            List<FieldInfo> typed = byType.get(relationshipType);
+            if (typed == null) {
+                typed = new ArrayList<>(1);
+                byType.put(relationshipType, typed);
+            }
+            typed.add(fieldInfo);
+        }
+
+        Set<String> lazy = new LinkedHashSet<>();
+        for (Map.Entry<String, List<FieldInfo>> typed : byType.entrySet()) {
+            if (allLazy(typed.getValue())) {
+                lazy.add(relationshipType((LegacyFieldInfo) typed.getValue().get(0)));
+            }
+            buckets.put(typed.getKey(), new Bucket(typed.getKey(), typed.getValue()));
+        }
+
+        this.fieldsByName = Collections.unmodifiableMap(byName);
+        this.fieldsByType = Collections.unmodifiableMap(buckets);
+        this.lazyTypes = Collections.unmodifiableSet(lazy);
+    }
+
+    Collection<FieldInfo> fields() {
+        return fields;
+    }
+
+    /**
+     * @return the relationship types that are only mapped by lazy fields
+     */
+    Set<String> lazyTypes() {
+        return lazyTypes;
+    }
+
+    FieldInfo fieldByName(String fieldName) {
+        return fieldName == null ? null : fieldsByName.get(fieldName);
+    }
+
+    FieldInfo fieldByType(String relationshipType) {
+        Bucket bucket = bucket(relationshipType);
+        return bucket == null ? null : bucket.fields.get(0);
+    }
+
+    FieldInfo field(String relationshipType, String relationshipDirection, boolean strict) {
+        Set<FieldInfo> candidates = candidates(relationshipType, relationshipDirection, strict);
+        return candidates.isEmpty() ? null : candidates.iterator().next();
+    }
+
+    /**
+     * @return an unmodifiable set of the fields of a relationship type that can be traversed in a direction
+     */
+    Set<FieldInfo> candidates(String relationshipType, String relationshipDirection, boolean strict) {
+        Bucket bucket = bucket(relationshipType);
+        if (bucket == null) {
+            return Collections.emptySet();
+        }
+        Candidates candidates = bucket.candidates();
+        if (candidates == null) {
+            return Candidates.matching(bucket.fields, relationshipType, relationshipDirection, strict);
+        }
+        return candidates.get(relationshipDirection, strict);
+    }
+
+    private Bucket bucket(String relationshipType) {
+        return relationshipType == null ? null : fieldsByType.get(relationshipType);
+    }
+
+    private static boolean matches(FieldInfo fieldInfo, String relationshipType, String relationshipDirection, boolean strict) {
+        if (strict && !relationshipType.equalsIgnoreCase(((LegacyFieldInfo) fieldInfo).relationshipTypeAnnotation())) {
+            return false;
+        }
+        String direction = fieldInfo.relationshipDirection(Relationship.OUTGOING);
+        // an incoming or undirected field matches an INCOMING lookup; any field that is not incoming matches OUTGOING
+        return ((direction.equals(Relationship.INCOMING) || direction.equals(Relationship.UNDIRECTED)) && relationshipDirection.equals(Relationship.INCOMING))
+                || (relationshipDirection.equals(Relationship.OUTGOING) && !direction.equals(Relationship.INCOMING));
+    }
+
+    private static boolean allLazy(List<FieldInfo> fieldInfos) {
+        for (FieldInfo fieldInfo : fieldInfos) {
+            if (!fieldInfo.isLazy()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The type {@link LegacyFieldInfo#relationship()} returns, read without recording the inferred type on the
+     * annotation, which would make a strict lookup treat it as annotated.
+     */
+    private static String relationshipType(LegacyFieldInfo fieldInfo) {
+        if (fieldInfo.persistableAsProperty()) {
+            return null;
+        }
+        AnnotationInfo annotationInfo = fieldInfo.getAnnotations().get(Relationship.class.getCanonicalName());
+        String relationshipType = annotationInfo == null ? null : ((LegacyAnnotationInfo) annotationInfo).get("type");
+        return relationshipType != null ? relationshipType : RelationshipUtils.inferRelationshipType(fieldInfo.getName());
+    }
+
+    /**
+     * @return whether neither the direction nor the annotated type of a field can change any more
+     */
+    private static boolean settled(FieldInfo fieldInfo) {
+        LegacyAnnotationInfo annotationInfo = (LegacyAnnotationInfo) fieldInfo.getAnnotations().get(Relationship.class.getCanonicalName());
+        return annotationInfo == null || (annotationInfo.get("direction") != null && annotationInfo.get("type") != null);
+    }
+
+    /**
+     * The fields of one relationship type.
+     */
+    private static class Bucket {
+
+        private final String relationshipType;
+        private final List<FieldInfo> fields;
+        private volatile Candidates candidates;
+
+        Bucket(String relationshipType, List<FieldInfo> fields) {
+            this.relationshipType = relationshipType;
+            this.fields = Collections.unmodifiableList(fields);
+            if (allSettled()) {
+                this.candidates = new Candidates(relationshipType, fields);
+            }
+        }
+
+        /**
+         * @return the candidates of the type, or null while a field of the type can still change
+         */
+        Candidates candidates() {
+            Candidates frozen = candidates;
+            if (frozen == null && allSettled()) {
+                // settled fields record nothing more when matched, so any thread freezing them freezes the same sets
+                frozen = new Candidates(relationshipType, fields);
+                candidates = frozen;
+            }
+            return frozen;
+        }
+
+        private boolean allSettled() {
+            for (FieldInfo fieldInfo : fields) {
+                if (!settled(fieldInfo)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The fields of one relationship type that can be traversed in each direction.
+     */
+    private static class Candidates {
+
+        private final Set<FieldInfo> incoming;
+        private final Set<FieldInfo> outgoing;
+        private final Set<FieldInfo> strictIncoming;
+        private final Set<FieldInfo> strictOutgoing;
+
+        Candidates(String relationshipType, List<FieldInfo> fields) {
+            this.incoming = matching(fields, relationshipType, Relationship.INCOMING, false);
+            this.outgoing = matching(fields, relationshipType, Relationship.OUTGOING, false);
+            this.strictIncoming = matching(fields, relationshipType, Relationship.INCOMING, true);
+            this.strictOutgoing = matching(fields, relationshipType, Relationship.OUTGOING, true);
+        }
+
+        Set<FieldInfo> get(String relationshipDirection, boolean strict) {
+            if (Relationship.INCOMING.equals(relationshipDirection)) {
+                return strict ? strictIncoming : incoming;
+            }
+            if (Relationship.OUTGOING.equals(relationshipDirection)) {
+                return strict ? strictOutgoing : outgoing;
+            }
+            return Collections.emptySet();
+        }
+
+        private static Set<FieldInfo> matching(List<FieldInfo> fields, String relationshipType, String relationshipDirection, boolean strict) {
+            Set<FieldInfo> matching = new LinkedHashSet<>();
+            for (FieldInfo fieldInfo : fields) {
+                if (matches(fieldInfo, relationshipType, relationshipDirection, strict)) {
+                    matching.add(fieldInfo);
+                }
+            }
+            return matching.isEmpty() ? Collections.<FieldInfo>emptySet() : Collections.unmodifiableSet(matching);
+        }
+    }
+}
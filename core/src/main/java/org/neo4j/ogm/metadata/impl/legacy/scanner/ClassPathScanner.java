@@ -17,39 +17,63 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 import java.util.zip.ZipInputStream;
 
+import org.neo4j.ogm.metadata.impl.legacy.LegacyClassInfo;
 import org.neo4j.ogm.metadata.impl.legacy.LegacyDomainInfo;
 import org.neo4j.ogm.utils.ClassUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Reads the classes of the domain packages from the classpath.
+ *
+ * Each classpath element holding a domain package is scanned on a thread of its own, and the classes read from it
+ * are handed to the {@link LegacyDomainInfo} on the calling thread once every element has been scanned. Only the
+ * entries of an archive whose names match one of the domain packages are read at all.
+ *
  * @author Vince Bickers
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class ClassPathScanner {
 
 	private List<String> classPaths;
-	private LegacyDomainInfo processor;
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ClassPathScanner.class);
 
+	private static final ThreadFactory SCANNER_THREADS = new ThreadFactory() {
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "neo4j-ogm-classpath-scanner");
+			thread.setDaemon(true);
+			return thread;
+		}
+	};
+
 
-	private void scanFile(File file, String relativePath) throws IOException {
+	private void scanFile(File file, String relativePath, List<LegacyClassInfo> classInfos) throws IOException {
 		if (relativePath.endsWith(".class")) {
 			try (InputStream inputStream = new FileInputStream(file)) {
-				processor.process(inputStream);
+				classInfos.add(new LegacyClassInfo(inputStream));
 			}
 		}
 	}
 
-	private void scanFolder(File folder, int prefixSize) throws IOException {
+	private void scanFolder(File folder, int prefixSize, List<LegacyClassInfo> classInfos) throws IOException {
 
 		String absolutePath = folder.getPath();
 		String relativePath = prefixSize > absolutePath.length() ? "" : absolutePath.substring(prefixSize);
@@ -58,48 +82,45 @@ public class ClassPathScanner {
 		if (subFiles != null) {
 			for (final File subFile : subFiles) {
 				if (subFile.isDirectory()) {
-					scanFolder(subFile, prefixSize);
+					scanFolder(subFile, prefixSize, classInfos);
 				} else if (subFile.isFile()) {
 					String leafSuffix = "/" + subFile.getName();
-					scanFile(subFile, relativePath + leafSuffix);
+					scanFile(subFile, relativePath + leafSuffix, classInfos);
 				}
 			}
 		}
 	}
 
 
-	private void scanZipFile(final ZipFile zipFile) throws IOException {
+	private void scanZipFile(final ZipFile zipFile, List<LegacyClassInfo> classInfos) throws IOException {
 		LOGGER.debug("Scanning zipFile {}", zipFile.getName());
-		for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements(); ) {
-			final ZipEntry entry = entries.nextElement();
-			if (!entry.isDirectory()) {
-				try (InputStream inputStream = zipFile.getInputStream(entry)) {
-					if (entry.getName().endsWith(".class")) {
-						scanClassFileEntry(inputStream, entry);
+		try {
+			for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements(); ) {
+				final ZipEntry entry = entries.nextElement();
+				if (!entry.isDirectory()) {
+					// the entries that cannot hold domain classes are never opened
+					if (isDomainClass(entry.getName())) {
+						try (InputStream inputStream = zipFile.getInputStream(entry)) {
+							scanClassFileEntry(inputStream, entry, classInfos);
+						}
 					} else if (isArchive(entry.getName())) {
-						scanZippedEntry(inputStream, entry);
+						try (InputStream inputStream = zipFile.getInputStream(entry)) {
+							scanZippedEntry(inputStream, entry, classInfos);
+						}
 					}
 				}
 			}
+		} finally {
+			zipFile.close();
 		}
 	}
 
-	private void scanClassFileEntry(InputStream inputStream, ZipEntry entry) throws IOException {
-
-		String name = entry.getName();
-
-		LOGGER.debug("Scanning class entry: {}", name);
-
-		for (String pathToScan : classPaths) {
-			if (name.contains(pathToScan)) {
-				LOGGER.debug("{} found in {}", pathToScan, name);
-				processor.process(inputStream);
-				break;
-			}
-		}
+	private void scanClassFileEntry(InputStream inputStream, ZipEntry entry, List<LegacyClassInfo> classInfos) throws IOException {
+		LOGGER.debug("Scanning class entry: {}", entry.getName());
+		classInfos.add(new LegacyClassInfo(inputStream));
 	}
 
-	private void scanZippedEntry(InputStream inputStream, ZipEntry entry) throws IOException {
+	private void scanZippedEntry(InputStream inputStream, ZipEntry entry, List<LegacyClassInfo> classInfos) throws IOException {
 
 		String name = entry.getName();
 
@@ -110,20 +131,59 @@ public class ClassPathScanner {
 
 		while (zipEntry != null) {
 			if (!zipEntry.isDirectory()) {
-				if (zipEntry.getName().endsWith(".class")) {
-					scanClassFileEntry(zipInputStream, zipEntry);
+				if (isDomainClass(zipEntry.getName())) {
+					scanClassFileEntry(zipInputStream, zipEntry, classInfos);
 				} else if (isArchive(zipEntry.getName())) {
-					scanZippedEntry(zipInputStream, zipEntry);
+					scanZippedEntry(zipInputStream, zipEntry, classInfos);
 				}
 			}
 			zipEntry = zipInputStream.getNextEntry();
 		}
 	}
 
+	private boolean isDomainClass(String name) {
+		if (name.endsWith(".class")) {
+			for (String pathToScan : classPaths) {
+				if (name.contains(pathToScan)) {
+					LOGGER.debug("{} found in {}", pathToScan, name);
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private List<LegacyClassInfo> scanElement(File classPathElement) throws IOException {
+		List<LegacyClassInfo> classInfos = new ArrayList<>();
+		String path = classPathElement.getPath();
+		if (classPathElement.isDirectory()) {
+			scanFolder(classPathElement, path.length() + 1, classInfos);
+		} else if (classPathElement.isFile()) {
+			if (isArchive(path)) {
+				scanZipFile(new ZipFile(classPathElement), classInfos);
+			} else {
+				scanFile(classPathElement, classPathElement.getName(), classInfos);
+			}
+		}
+		return classInfos;
+	}
+
 	public void scan(List<String> classPaths, LegacyDomainInfo processor) {
+		for (LegacyClassInfo classInfo : read(classPaths)) {
+			processor.process(classInfo);
+		}
+		processor.finish();
+	}
+
+	/**
+	 * Reads the classes in the given packages from every classpath element that holds them.
+	 *
+	 * @param classPaths the packages to read, as resource paths ending in a slash
+	 * @return the classes read, in the order of the classpath elements they were found in
+	 */
+	public List<LegacyClassInfo> read(List<String> classPaths) {
 
 		this.classPaths = classPaths;
-		this.processor = processor;
 
 		Set<File> classPathElements = getUniqueClasspathElements(classPaths);
 
@@ -132,22 +192,49 @@ public class ClassPathScanner {
 			LOGGER.debug(classPathElement.getPath());
 		}
 
+		List<LegacyClassInfo> classInfos = new ArrayList<>();
 		try {
-			for (File classPathElement : classPathElements) {
-				String path = classPathElement.getPath();
-				if (classPathElement.isDirectory()) {
-					scanFolder(classPathElement, path.length() + 1);
-				} else if (classPathElement.isFile()) {
-					if (isArchive(path)) {
-						scanZipFile(new ZipFile(classPathElement));
-					} else {
-						scanFile(classPathElement, classPathElement.getName());
-					}
+			if (classPathElements.size() < 2) {
+				for (File classPathElement : classPathElements) {
+					classInfos.addAll(scanElement(classPathElement));
+				}
+				return classInfos;
+			}
+
+			int threads = Math.min(classPathElements.size(), Runtime.getRuntime().availableProcessors());
+			ExecutorService executor = Executors.newFixedThreadPool(threads, SCANNER_THREADS);
+			try {
+				List<Future<List<LegacyClassInfo>>> scans = new ArrayList<>();
+				for (final File classPathElement : classPathElements) {
+					scans.add(executor.submit(new Callable<List<LegacyClassInfo>>() {
+
+						@Override
+						public List<LegacyClassInfo> call() throws IOException {
+							return scanElement(classPathElement);
+						}
+					}));
 				}
+				for (Future<List<LegacyClassInfo>> scan : scans) {
+					classInfos.addAll(scan.get());
+				}
+			} finally {
+				executor.shutdownNow();
 			}
-			processor.finish();
+			return classInfos;
 		} catch (IOException e) {
 			throw new RuntimeException(e);
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException(e);
 		}
 	}
 
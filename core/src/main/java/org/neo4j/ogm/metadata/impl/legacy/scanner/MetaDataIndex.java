@@ -0,0 +1,325 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata.impl.legacy.scanner;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.neo4j.ogm.metadata.impl.legacy.LegacyClassInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the classes of one or more domain packages, generated when the application is built, so that the
+ * domain classes can be read directly rather than by scanning the classpath for them.
+ *
+ * Each {@value #RESOURCE} resource on the classpath indexes the directory or archive it is found in, and only that.
+ * It lists the packages it was generated for and the class files found in them:
+ *
+ * <pre>
+ * package org/neo4j/ogm/domain/forum/
+ * class org/neo4j/ogm/domain/forum/Topic.class
+ * </pre>
+ *
+ * The indexes are only used if every location of every package of the domain has one that covers the package, and
+ * none of them is out of date: a class it lists can no longer be found, or a class or package directory it lists has
+ * been modified after the index was written. Otherwise the classpath is scanned as usual. The index is generated with
+ * {@link #main(String[])}, for example by the exec-maven-plugin in the process-classes phase, with the output
+ * directory of the build and the domain packages as arguments.
+ *
+ * @author Mark Angrish
+ */
+public class MetaDataIndex {
+
+    public static final String RESOURCE = "META-INF/neo4j-ogm/metadata.index";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetaDataIndex.class);
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String PACKAGE = "package ";
+    private static final String CLASS = "class ";
+
+    private final URL root;
+    private final long lastModified;
+    private final Set<String> packages = new LinkedHashSet<>();
+    private final Set<String> classes = new LinkedHashSet<>();
+
+    private MetaDataIndex(URL root, long lastModified) {
+        this.root = root;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Reads the classes in the given packages from the indexes visible to a class loader.
+     *
+     * @param classLoader the class loader of the domain
+     * @param classPaths the packages of the domain, as resource paths ending in a slash
+     * @return the classes read, or null if the packages are not all indexed or an index is out of date, in which case
+     * the classpath must be scanned instead
+     * @throws IOException if an index or a class cannot be read
+     */
+    public static List<LegacyClassInfo> read(ClassLoader classLoader, List<String> classPaths) throws IOException {
+        List<MetaDataIndex> indexes;
+        try {
+            indexes = load(classLoader);
+        } catch (IOException e) {
+            LOGGER.warn("The metadata index could not be read, the classpath will be scanned instead: {}", e.getMessage());
+            return null;
+        }
+        if (indexes.isEmpty()) {
+            return null;
+        }
+
+        Set<MetaDataIndex> covering = new LinkedHashSet<>();
+        for (String classPath : classPaths) {
+            Enumeration<URL> locations = classLoader.getResources(classPath);
+            while (locations.hasMoreElements()) {
+                URL location = locations.nextElement();
+                MetaDataIndex index = indexOf(indexes, location);
+                if (index == null || !index.covers(classPath)) {
+                    LOGGER.info("{} is not in a metadata index, the classpath will be scanned instead", location);
+                    return null;
+                }
+                covering.add(index);
+            }
+        }
+
+        List<LegacyClassInfo> classInfos = new ArrayList<>();
+        for (MetaDataIndex index : covering) {
+            if (!index.read(classPaths, classInfos)) {
+                return null;
+            }
+        }
+        return classInfos;
+    }
+
+    /**
+     * Reads the index resources visible to a class loader.
+     *
+     * @param classLoader the class loader of the domain
+     * @return the index of each directory or archive that has one, which is empty if there are none
+     * @throws IOException if an index cannot be read
+     */
+    public static List<MetaDataIndex> load(ClassLoader classLoader) throws IOException {
+        List<MetaDataIndex> indexes = new ArrayList<>();
+        Enumeration<URL> resources = classLoader.getResources(RESOURCE);
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            String url = resource.toExternalForm();
+            if (!url.endsWith(RESOURCE)) {
+                LOGGER.warn("The metadata index {} is ignored, its location cannot be told", resource);
+                continue;
+            }
+            LOGGER.debug("Reading metadata index {}", resource);
+            MetaDataIndex index = new MetaDataIndex(new URL(resource, url.substring(0, url.length() - RESOURCE.length())), lastModified(resource));
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(PACKAGE)) {
+                        index.packages.add(packageName(line.substring(PACKAGE.length()).trim()));
+                    } else if (line.startsWith(CLASS)) {
+                        index.classes.add(line.substring(CLASS.length()).trim());
+                    }
+                }
+            }
+            indexes.add(index);
+        }
+        return indexes;
+    }
+
+    // the index of the directory or archive a location is in
+    private static MetaDataIndex indexOf(List<MetaDataIndex> indexes, URL location) {
+        for (MetaDataIndex index : indexes) {
+            if (location.toExternalForm().startsWith(index.root.toExternalForm())) {
+                return index;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param classPath a package of the domain, as a resource path ending in a slash
+     * @return true if the package is, or is inside, a package of this index
+     */
+    public boolean covers(String classPath) {
+        String packageName = packageName(classPath);
+        for (String indexed : packages) {
+            if (contains(indexed, packageName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // reads the classes of this index in the given packages, unless the index is out of date
+    private boolean read(List<String> classPaths, List<LegacyClassInfo> classInfos) throws IOException {
+        List<URL> resources = new ArrayList<>();
+        Set<String> directories = new LinkedHashSet<>();
+        for (String resource : classes) {
+            String directory = resource.substring(0, resource.lastIndexOf('/') + 1);
+            if (inPackages(packageName(directory), classPaths)) {
+                resources.add(new URL(root, resource));
+                directories.add(directory);
+            }
+        }
+        for (String classPath : classPaths) {
+            if (covers(classPath)) {
+                directories.add(classPath);
+            }
+        }
+
+        for (URL resource : resources) {
+            if (isModified(resource, true)) {
+                return false;
+            }
+        }
+        // a class added to or removed from a package modifies its directory, if the archive has an entry for it
+        for (String directory : directories) {
+            if (isModified(new URL(root, directory), false)) {
+                return false;
+            }
+        }
+
+        for (URL resource : resources) {
+            try (InputStream inputStream = resource.openStream()) {
+                classInfos.add(new LegacyClassInfo(inputStream));
+            }
+        }
+        return true;
+    }
+
+    private boolean isModified(URL resource, boolean required) {
+        long modified;
+        try {
+            modified = lastModified(resource);
+        } catch (IOException e) {
+            if (required) {
+                LOGGER.warn("{} is listed in the metadata index but cannot be found, the classpath will be scanned instead", resource);
+            }
+            return required;
+        }
+        if (modified > lastModified) {
+            LOGGER.info("{} has been modified since the metadata index was written, the classpath will be scanned instead", resource);
+            return true;
+        }
+        return false;
+    }
+
+    // the time a file or archive entry was last modified, or 0 if it is not known
+    private static long lastModified(URL resource) throws IOException {
+        if ("file".equals(resource.getProtocol())) {
+            try {
+                File file = new File(resource.toURI());
+                if (!file.exists()) {
+                    throw new IOException(file + " does not exist");
+                }
+                return file.lastModified();
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+        URLConnection connection = resource.openConnection();
+        if (connection instanceof JarURLConnection) {
+            // only the central directory of the archive is read, the entry is not opened
+            return ((JarURLConnection) connection).getJarEntry().getTime();
+        }
+        return connection.getLastModified();
+    }
+
+    private static boolean inPackages(String packageName, List<String> classPaths) {
+        for (String classPath : classPaths) {
+            if (contains(packageName(classPath), packageName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // whether a package is, or is inside, another, matching whole segments of the name
+    private static boolean contains(String outer, String packageName) {
+        return outer.equals(packageName) || packageName.startsWith(outer + ".");
+    }
+
+    private static String packageName(String path) {
+        String packageName = path.replace('/', '.');
+        return packageName.endsWith(".") ? packageName.substring(0, packageName.length() - 1) : packageName;
+    }
+
+    /**
+     * Writes an index of the given packages.
+     *
+     * @param writer the writer to write the index to
+     * @param classPaths the packages, as resource paths ending in a slash
+     * @param classInfos the classes found in the packages
+     * @throws IOException if the index cannot be written
+     */
+    public static void write(Writer writer, List<String> classPaths, List<LegacyClassInfo> classInfos) throws IOException {
+        writer.write("# neo4j-ogm metadata index, generated by " + MetaDataIndex.class.getName() + "\n");
+        for (String classPath : classPaths) {
+            writer.write(PACKAGE + classPath + "\n");
+        }
+        for (LegacyClassInfo classInfo : classInfos) {
+            if (classInfo.name() != null) {
+                writer.write(CLASS + classInfo.name().replace('.', '/') + ".class\n");
+            }
+        }
+    }
+
+    /**
+     * Scans the classpath for the classes of the given packages and writes their index under a directory.
+     *
+     * @param args the directory to write {@value #RESOURCE} under, typically the output directory of the build,
+     *             followed by the domain packages
+     * @throws IOException if the index cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: MetaDataIndex <output directory> <package>...");
+        }
+
+        List<String> classPaths = new ArrayList<>();
+        for (String packageName : Arrays.asList(args).subList(1, args.length)) {
+            String path = packageName.replace(".", "/");
+            classPaths.add(path.endsWith("/") ? path : path.concat("/"));
+        }
+
+        List<LegacyClassInfo> classInfos = new ClassPathScanner().read(classPaths);
+
+        File index = new File(args[0], RESOURCE);
+        File directory = index.getParentFile();
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new IOException("Cannot create " + directory);
+        }
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(index), UTF_8)) {
+            write(writer, classPaths, classInfos);
+        }
+        LOGGER.info("{} classes indexed in {}", classInfos.size(), index);
+    }
+}
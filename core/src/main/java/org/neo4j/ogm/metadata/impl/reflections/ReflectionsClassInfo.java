@@ -204,6 +204,11 @@ public class ReflectionsClassInfo implements ClassInfo {
 		return null;
 	}
 
+	@Override
+	public Collection<String> lazyRelationshipTypes() {
+		return null;
+	}
+
 	@Override
 	public List<FieldInfo> findIterableFields(Class<?> parameterType) {
 		return null;
@@ -17,6 +17,7 @@ import java.util.ServiceConfigurationError;
 import java.util.ServiceLoader;
 
 import org.neo4j.ogm.compiler.Compiler;
+import org.neo4j.ogm.compiler.CompilerFactory;
 import org.neo4j.ogm.config.CompilerConfiguration;
 import org.neo4j.ogm.exception.ServiceNotFoundException;
 import org.slf4j.Logger;
@@ -35,8 +36,9 @@ import org.slf4j.LoggerFactory;
  * In the event that a requested compiler cannot be found, the default one will be selected
  *
  * @author vince
+ * @author Mark Angrish
  */
-abstract class CompilerService {
+public abstract class CompilerService {
 
     private static final Logger logger = LoggerFactory.getLogger(CompilerService.class);
 
@@ -74,4 +76,15 @@ abstract class CompilerService {
         return load(compilerClassName);
     }
 
+    /**
+     * Looks up the Cypher Compiler named by the specified CompilerConfiguration once, and returns a factory of
+     * new instances of it
+     *
+     * @param configuration an instance of {@link CompilerConfiguration} naming the compiler
+     * @return a {@link CompilerFactory} of the named {@link Compiler} if found, otherwise throws a ServiceNotFoundException
+     */
+    public static CompilerFactory factory(CompilerConfiguration configuration) {
+        return new CompilerFactory(load(configuration).getClass());
+    }
+
 }
@@ -19,6 +19,7 @@ import java.util.Properties;
 
 import org.neo4j.ogm.classloader.ClassLoaderResolver;
 import org.neo4j.ogm.compiler.Compiler;
+import org.neo4j.ogm.compiler.CompilerFactory;
 import org.neo4j.ogm.config.Configuration;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.autoindex.AutoIndexMode;
@@ -44,7 +45,11 @@ import org.slf4j.LoggerFactory;
  * various components - Driver, Compiler, etc. Please refer to the relevant configuration
  * for each of these.
  *
+ * A {@link org.neo4j.ogm.session.SessionFactory} built from a Driver and a Configuration of its own owns its driver
+ * and compiler factory instead, and does not use the ones held here.
+ *
  * @author vince
+ * @author Mark Angrish
  */
 public class Components {
 
@@ -54,6 +59,7 @@ public class Components {
 
     private static Configuration configuration = new Configuration();
     private static Driver driver;
+    private static CompilerFactory compilerFactory;
 
     /**
      * Configure the OGM from a pre-built Configuration class
@@ -112,8 +118,21 @@ public class Components {
      *
      * @return an instance of the {@link Compiler} to be used by the OGM
      */
-    public synchronized static Compiler compiler() {
-        return getCompiler();
+    public static Compiler compiler() {
+        return compilerFactory().newCompiler();
+    }
+
+    /**
+     * Returns the factory of the compilers to be used by the OGM, looking the compiler up again only when the
+     * configured compiler class changes
+     *
+     * @return the {@link CompilerFactory} to be used by the OGM
+     */
+    public synchronized static CompilerFactory compilerFactory() {
+        if (compilerFactory == null || !compilerFactory.compilerClass().getName().equals(configuration.compilerConfiguration().getCompilerClassName())) {
+            compilerFactory = CompilerService.factory(configuration.compilerConfiguration());
+        }
+        return compilerFactory;
     }
 
     /**
@@ -158,18 +177,6 @@ public class Components {
         setDriver (DriverService.load(configuration.driverConfiguration()));
     }
 
-    /**
-     * Obtains the Cypher compiler to be used by the OGM
-     *
-     * @return an instance of {@link Compiler}
-     */
-    private static Compiler getCompiler() {
-        if (configuration.compilerConfiguration().getCompilerClassName() == null) {
-            autoConfigure();
-        }
-        return CompilerService.load(configuration.compilerConfiguration());
-    }
-
     /**
      * Tries to locate the default configuration file resource and return it as an InputStream
      *
@@ -226,19 +233,7 @@ public class Components {
      * @return the major.minor part of the neo4.version property string, as a double, or 9.9 if not configured
      */
     public static double neo4jVersion() {
-        String neo4jVersion = (String) configuration.get("neo4j.version");
-        if (neo4jVersion != null) {
-            try {
-                String[] versionElements = neo4jVersion.split("\\.");
-                if (versionElements.length < 2) {
-                    throw new NumberFormatException();
-                }
-                return new Double(versionElements[0] + "." + versionElements[1]);
-            } catch (NumberFormatException nfe) {
-                logger.warn("Configuration property 'neo4j.version' is not in the correct form: expected something like '2.3', but got '{}' instead", neo4jVersion);
-            }
-        }
-        return 9.9; // unknown version
+        return configuration.sessionConfiguration().getNeo4jVersion();
     }
 
     /**
@@ -250,6 +245,7 @@ public class Components {
             driver.close();
             driver = null;
         }
+        compilerFactory = null;
         configuration.clear();
     }
 
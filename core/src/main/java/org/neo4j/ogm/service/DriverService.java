@@ -59,13 +59,14 @@ public class DriverService {
     }
 
     /**
-     * Loads and initialises a Driver using the specified DriverConfiguration
+     * Loads and initialises a Driver using the specified DriverConfiguration. If it names no driver class, the
+     * driver serving the scheme of its URI is loaded.
      *
      * @param configuration an instance of {@link DriverConfiguration} with which to configure the driver
      * @return the named {@link Driver} if found, otherwise throws a ServiceNotFoundException
      */
     public static Driver load(DriverConfiguration configuration) {
-        String driverClassName = configuration.getDriverClassName();
+        String driverClassName = configuration.resolveDriverClassName();
         Driver driver = load(driverClassName);
         driver.configure(configuration);
         return driver;
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import org.neo4j.ogm.model.Result;
+
+/**
+ * Runs {@link Session} operations without blocking the caller. Each operation is handed to the bounded pool of
+ * threads of the {@link SessionFactory} that opened this session, and its outcome is returned as a {@link Future}.
+ *
+ * Every operation runs in a session and a transaction of its own, so any number of them can be in flight at once.
+ * The caller's transaction, if any, is never used, and the entities returned by different operations are distinct
+ * objects, even when they represent the same node. An object passed to {@link #saveAsync(Object)} is therefore saved
+ * as if it had been detached: its properties and the relationships it holds are written, but relationships it no
+ * longer holds are not deleted.
+ *
+ * Entities returned by an operation must not be modified or saved before its future has completed.
+ *
+ * Submitting an operation never blocks. An operation submitted while async.queue.size operations are already waiting
+ * for a thread, or once the session factory is closed, is rejected with a
+ * {@link java.util.concurrent.RejectedExecutionException}.
+ *
+ * @author Mark Angrish
+ */
+public interface AsyncSession {
+
+	<T, ID extends Serializable> Future<T> loadAsync(Class<T> type, ID id);
+
+	<T, ID extends Serializable> Future<T> loadAsync(Class<T> type, ID id, int depth);
+
+	<T, ID extends Serializable> Future<Collection<T>> loadAllAsync(Class<T> type, Collection<ID> ids);
+
+	<T, ID extends Serializable> Future<Collection<T>> loadAllAsync(Class<T> type, Collection<ID> ids, int depth);
+
+	<T> Future<Collection<T>> loadAllAsync(Class<T> type);
+
+	<T> Future<Collection<T>> loadAllAsync(Class<T> type, int depth);
+
+	/**
+	 * Saves an object, and the objects reachable from it, without blocking the caller.
+	 *
+	 * @param object The object to save.
+	 * @param <T> A domain object.
+	 * @return A future of the object, whose identity has been set once the future has completed.
+	 */
+	<T> Future<T> saveAsync(T object);
+
+	<T> Future<T> saveAsync(T object, int depth);
+
+	/**
+	 * Runs a cypher statement without blocking the caller. See {@link Session#query(Class, String, Map)}.
+	 *
+	 * @param objectType The type that should be returned from the query.
+	 * @param cypher The parametrizable cypher to execute.
+	 * @param parameters Any parameters to attach to the cypher.
+	 * @param <T> A domain object or scalar.
+	 * @return A future of the domain objects or scalars returned by the query.
+	 */
+	<T> Future<Iterable<T>> queryAsync(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
+	/**
+	 * Runs a cypher statement without blocking the caller. See {@link Session#query(String, Map, boolean)}.
+	 *
+	 * @param cypher The parametrisable cypher to execute.
+	 * @param parameters Any parameters to attach to the cypher.
+	 * @param readOnly true if the query is readOnly, false otherwise
+	 * @return A future of the {@link Result} of the query.
+	 */
+	Future<Result> queryAsync(String cypher, Map<String, ?> parameters, boolean readOnly);
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.neo4j.ogm.model.Result;
+
+/**
+ * The {@link AsyncSession} opened by a {@link SessionFactory}.
+ *
+ * Each operation opens a {@link Neo4jSession} on the thread that runs it. A session's transaction is looked up by
+ * the drivers through the thread it was opened on, so it never leaks between the caller and the worker, nor from one
+ * operation to the next one run by the same worker.
+ *
+ * @author Mark Angrish
+ */
+public class Neo4jAsyncSession implements AsyncSession {
+
+    private final SessionFactory sessionFactory;
+    private final ExecutorService executor;
+
+    public Neo4jAsyncSession(SessionFactory sessionFactory, ExecutorService executor) {
+        this.sessionFactory = sessionFactory;
+        this.executor = executor;
+    }
+
+    @Override
+    public <T, ID extends Serializable> Future<T> loadAsync(final Class<T> type, final ID id) {
+        return submit(new Operation<T>() {
+            @Override
+            T run(Session session) {
+                return session.load(type, id);
+            }
+        });
+    }
+
+    @Override
+    public <T, ID extends Serializable> Future<T> loadAsync(final Class<T> type, final ID id, final int depth) {
+        return submit(new Operation<T>() {
+            @Override
+            T run(Session session) {
+                return session.load(type, id, depth);
+            }
+        });
+    }
+
+    @Override
+    public <T, ID extends Serializable> Future<Collection<T>> loadAllAsync(final Class<T> type, final Collection<ID> ids) {
+        return submit(new Operation<Collection<T>>() {
+            @Override
+            Collection<T> run(Session session) {
+                return session.loadAll(type, ids);
+            }
+        });
+    }
+
+    @Override
+    public <T, ID extends Serializable> Future<Collection<T>> loadAllAsync(final Class<T> type, final Collection<ID> ids, final int depth) {
+        return submit(new Operation<Collection<T>>() {
+            @Override
+            Collection<T> run(Session session) {
+                return session.loadAll(type, ids, depth);
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<Collection<T>> loadAllAsync(final Class<T> type) {
+        return submit(new Operation<Collection<T>>() {
+            @Override
+            Collection<T> run(Session session) {
+                return session.loadAll(type);
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<Collection<T>> loadAllAsync(final Class<T> type, final int depth) {
+        return submit(new Operation<Collection<T>>() {
+            @Override
+            Collection<T> run(Session session) {
+                return session.loadAll(type, depth);
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<T> saveAsync(final T object) {
+        return submit(new Operation<T>() {
+            @Override
+            T run(Session session) {
+                session.save(object);
+                return object;
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<T> saveAsync(final T object, final int depth) {
+        return submit(new Operation<T>() {
+            @Override
+            T run(Session session) {
+                session.save(object, depth);
+                return object;
+            }
+        });
+    }
+
+    @Override
+    public <T> Future<Iterable<T>> queryAsync(final Class<T> objectType, final String cypher, final Map<String, ?> parameters) {
+        return submit(new Operation<Iterable<T>>() {
+            @Override
+            Iterable<T> run(Session session) {
+                return session.query(objectType, cypher, parameters);
+            }
+        });
+    }
+
+    @Override
+    public Future<Result> queryAsync(final String cypher, final Map<String, ?> parameters, final boolean readOnly) {
+        return submit(new Operation<Result>() {
+            @Override
+            Result run(Session session) {
+                return session.query(cypher, parameters, readOnly);
+            }
+        });
+    }
+
+    private <R> Future<R> submit(final Operation<R> operation) {
+        return executor.submit(new Callable<R>() {
+            @Override
+            public R call() {
+                Neo4jSession session = (Neo4jSession) sessionFactory.openSession();
+                try {
+                    return operation.run(session);
+                } finally {
+                    // the worker goes on to run other operations, so it must not stay bound to this one's transaction
+                    session.transactionManager().clear();
+                }
+            }
+        });
+    }
+
+    private abstract static class Operation<R> {
+
+        abstract R run(Session session);
+    }
+}
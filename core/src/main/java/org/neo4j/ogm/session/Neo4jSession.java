@@ -15,6 +15,7 @@ package org.neo4j.ogm.session;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -24,25 +25,33 @@ import org.neo4j.ogm.annotation.EndNode;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.annotation.StartNode;
+import org.neo4j.ogm.compiler.CompilerFactory;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.context.LazyLoader;
 import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortClause;
 import org.neo4j.ogm.cypher.query.SortOrder;
+import org.neo4j.ogm.driver.AbstractConfigurableDriver;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.metadata.AnnotationInfo;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.request.Request;
+import org.neo4j.ogm.service.Components;
 import org.neo4j.ogm.session.delegates.*;
 import org.neo4j.ogm.session.event.Event;
+import org.neo4j.ogm.session.event.BatchEventDispatcher;
 import org.neo4j.ogm.session.event.EventListener;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
 import org.neo4j.ogm.session.request.strategy.impl.RelationshipQueryStatements;
 import org.neo4j.ogm.session.transaction.DefaultTransactionManager;
+import org.neo4j.ogm.transaction.AbstractTransaction;
 import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.RelationshipUtils;
 import org.slf4j.Logger;
@@ -60,7 +69,10 @@ public class Neo4jSession implements Session {
 
     private final MetaData metaData;
     private final MappingContext mappingContext;
+    private final SecondLevelCache secondLevelCache;
     private final DefaultTransactionManager txManager;
+    private final Configuration configuration;
+    private final CompilerFactory compilerFactory;
 
     private final LoadOneDelegate loadOneHandler = new LoadOneDelegate(this);
     private final LoadByTypeDelegate loadByTypeHandler = new LoadByTypeDelegate(this);
@@ -71,23 +83,45 @@ public class Neo4jSession implements Session {
     private final ExecuteQueriesDelegate executeQueriesDelegate = new ExecuteQueriesDelegate(this);
     private final TransactionsDelegate transactionsDelegate = new TransactionsDelegate(this);
     private final GraphIdDelegate graphIdDelegate = new GraphIdDelegate(this);
+    private final LoadRelatedDelegate loadRelatedDelegate = new LoadRelatedDelegate(this);
 
     private Driver driver;
     private String bookmark;
 
     private List<EventListener> registeredEventListeners = new LinkedList<>();
+    private final BatchEventDispatcher batchEventDispatcher;
 
     public Neo4jSession(MetaData metaData, Driver driver) {
+        this(metaData, driver, Collections.<EventListener>emptyList());
+    }
+
+    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners) {
+        this(metaData, driver, eventListeners, null, SecondLevelCache.DISABLED, null, null);
+    }
+
+    /**
+     * Opens a session sharing the driver, listeners, second-level cache, configuration and compiler factory of the
+     * given session factory.
+     *
+     * @param sessionFactory the session factory opening this session
+     */
+    Neo4jSession(SessionFactory sessionFactory) {
+        this(sessionFactory.metaData(), sessionFactory.driver(), sessionFactory.eventListeners(), sessionFactory.batchEventDispatcher(),
+                sessionFactory.secondLevelCache(), sessionFactory.configuration(), sessionFactory.compilerFactory());
+    }
+
+    private Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners, BatchEventDispatcher batchEventDispatcher,
+                         SecondLevelCache secondLevelCache, Configuration configuration, CompilerFactory compilerFactory) {
 
         this.metaData = metaData;
         this.driver = driver;
+        this.configuration = configuration;
+        this.compilerFactory = compilerFactory;
+        this.batchEventDispatcher = batchEventDispatcher;
 
         this.mappingContext = new MappingContext(metaData);
+        this.secondLevelCache = secondLevelCache;
         this.txManager = new DefaultTransactionManager(this, driver);
-    }
-
-    public Neo4jSession(MetaData metaData, Driver driver, List<EventListener> eventListeners) {
-        this(metaData, driver);
         registeredEventListeners.addAll(eventListeners);
     }
 
@@ -123,9 +157,21 @@ public class Neo4jSession implements Session {
         }
     }
 
+    /**
+     * Notifies the batch event listeners of the session factory of all the events of one lifecycle phase of a save or
+     * delete at once. The {@link EventListener}s of this session are notified of each event as it is raised instead.
+     *
+     * @param events the events of the phase, which must all have the same lifecycle
+     */
+    public void notifyBatchListeners(List<Event> events) {
+        if (batchEventDispatcher != null) {
+            batchEventDispatcher.dispatch(events);
+        }
+    }
+
     @Override
     public boolean eventsEnabled() {
-        return registeredEventListeners.size() > 0;
+        return registeredEventListeners.size() > 0 || (batchEventDispatcher != null && !batchEventDispatcher.isEmpty());
     }
 
     @Override
@@ -280,6 +326,26 @@ public class Neo4jSession implements Session {
         return loadByTypeHandler.loadAll(type, filters, sortOrder, pagination, depth);
     }
 
+    @Override
+    public <T> ResultIterator<T> streamAll(Class<T> type) {
+        return loadByTypeHandler.streamAll(type);
+    }
+
+    @Override
+    public <T> ResultIterator<T> streamAll(Class<T> type, int depth) {
+        return loadByTypeHandler.streamAll(type, depth);
+    }
+
+    @Override
+    public <T> ResultIterator<T> streamAll(Class<T> type, Filters filters, int depth) {
+        return loadByTypeHandler.streamAll(type, filters, depth);
+    }
+
+    @Override
+    public <T> ResultIterator<T> streamAll(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+        return loadByTypeHandler.streamAll(type, filters, sortOrder, depth);
+    }
+
 
     /*
      *----------------------------------------------------------------------------------------------------------
@@ -387,6 +453,11 @@ public class Neo4jSession implements Session {
         return executeQueriesDelegate.query(type, cypher, parameters);
     }
 
+    @Override
+    public <T> ResultIterator<T> stream(Class<T> type, String cypher, Map<String, ?> parameters) {
+        return executeQueriesDelegate.stream(type, cypher, parameters);
+    }
+
     @Override
     public Result query(String cypher, Map<String, ?> parameters) {
         return executeQueriesDelegate.query(cypher, parameters);
@@ -507,7 +578,7 @@ public class Neo4jSession implements Session {
             return new RelationshipQueryStatements<>();
         } else {
             final FieldInfo fieldInfo = metaData.classInfo(type.getName()).primaryIndexField();
-            return new NodeQueryStatements<>(fieldInfo != null ? fieldInfo.getName() : null);
+            return new NodeQueryStatements<>(fieldInfo != null ? fieldInfo.getName() : null, metaData.classInfo(type.getName()).lazyRelationshipTypes(), configuration().sessionConfiguration().getLoadStrategy());
         }
     }
 
@@ -515,10 +586,49 @@ public class Neo4jSession implements Session {
         return metaData.entityType(name);
     }
 
+    public LazyLoader lazyLoader() {
+        return loadRelatedDelegate;
+    }
+
     public MappingContext context() {
         return mappingContext;
     }
 
+    public SecondLevelCache secondLevelCache() {
+        return secondLevelCache;
+    }
+
+    /**
+     * Evicts the graphs holding any of the given nodes or relationships from the second-level cache. Within a
+     * transaction they are evicted again when it commits, as other sessions may cache the versions committed before
+     * until then.
+     *
+     * @param nodeIds the ids of the nodes written
+     * @param relationshipIds the ids of the relationships written
+     */
+    public void evictFromSecondLevelCache(Collection<Long> nodeIds, Collection<Long> relationshipIds) {
+        if (secondLevelCache.isEnabled()) {
+            secondLevelCache.evict(nodeIds, relationshipIds);
+            Transaction tx = getTransaction();
+            if (tx != null) {
+                ((AbstractTransaction) tx).registerWritten(nodeIds, relationshipIds);
+            }
+        }
+    }
+
+    /**
+     * Evicts every graph from the second-level cache, again when the current transaction commits, if any.
+     */
+    public void evictAllFromSecondLevelCache() {
+        if (secondLevelCache.isEnabled()) {
+            secondLevelCache.evictAll();
+            Transaction tx = getTransaction();
+            if (tx != null) {
+                ((AbstractTransaction) tx).registerWrittenAll();
+            }
+        }
+    }
+
     public MetaData metaData() {
         return metaData;
     }
@@ -529,7 +639,28 @@ public class Neo4jSession implements Session {
     }
 
     public Request requestHandler() {
-        return driver.request();
+        return driver.request(txManager);
+    }
+
+    /**
+     * @return the configuration this session was opened with
+     */
+    public Configuration configuration() {
+        return configuration != null ? configuration : Components.getConfiguration();
+    }
+
+    /**
+     * @return the factory of the compilers of the saves of this session, or null if they come from the {@link Components}
+     */
+    public CompilerFactory compilerFactory() {
+        return compilerFactory;
+    }
+
+    /**
+     * @return whether the driver of this session balances read-only transactions across read endpoints of their own
+     */
+    public boolean routesReads() {
+        return driver instanceof AbstractConfigurableDriver && ((AbstractConfigurableDriver) driver).routesReads();
     }
 
     public DefaultTransactionManager transactionManager() {
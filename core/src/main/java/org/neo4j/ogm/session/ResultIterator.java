@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session;
+
+import java.util.Iterator;
+
+/**
+ * An {@link Iterator} over the results of a query that maps each result as the rows describing it are read from
+ * the database, rather than reading the whole response up front.
+ *
+ * The underlying response, and any transaction opened just to run the query, stay open until the iterator has been
+ * exhausted or closed, so an iterator should always be closed, preferably with try-with-resources.
+ *
+ * @param <T> The type of the results
+ * @author Mark Angrish
+ */
+public interface ResultIterator<T> extends Iterator<T>, AutoCloseable {
+
+    /**
+     * Releases the underlying response. Closing an iterator more than once has no effect.
+     */
+    @Override
+    void close();
+}
@@ -131,6 +131,34 @@ public interface Session {
 
 	<T> Collection<T> loadAll(Class<T> type, Filters filters, SortOrder sortOrder, Pagination pagination, int depth);
 
+	/**
+	 * Streams all the entities of the given type, hydrated to the default depth. See
+	 * {@link #streamAll(Class, Filters, SortOrder, int)}.
+	 */
+	<T> ResultIterator<T> streamAll(Class<T> type);
+
+	<T> ResultIterator<T> streamAll(Class<T> type, int depth);
+
+	<T> ResultIterator<T> streamAll(Class<T> type, Filters filters, int depth);
+
+	/**
+	 * Streams the entities of the given type that match the filters, in the given order. Unlike
+	 * {@link #loadAll(Class, Filters, SortOrder, Pagination, int)}, the result is not read up front: each entity is
+	 * hydrated to the requested depth as the rows describing it arrive from the database, so a result of any size can
+	 * be walked through without holding it all in memory.
+	 *
+	 * Streamed entities are registered with this session like loaded ones. When walking a very large result, calling
+	 * {@link #clear()} now and then keeps the session from growing with it; entities already returned are unaffected.
+	 *
+	 * @param type The type of entity to stream.
+	 * @param filters The filters the entities must match.
+	 * @param sortOrder The order in which to return the entities.
+	 * @param depth The depth to which each entity is hydrated.
+	 * @param <T> A domain object.
+	 * @return An iterator over the entities, which must be closed once it is no longer needed.
+	 */
+	<T> ResultIterator<T> streamAll(Class<T> type, Filters filters, SortOrder sortOrder, int depth);
+
 	<T> void save(T object);
 
 	<T> void save(T object, int depth);
@@ -187,6 +215,22 @@ public interface Session {
 	 */
 	<T> Iterable<T> query(Class<T> objectType, String cypher, Map<String, ?> parameters);
 
+	/**
+	 * Given a cypher statement this method will return an iterator over domain objects or scalars (depending on the
+	 * parametrized type), which maps each row as it arrives from the database rather than reading the whole result
+	 * up front. A domain object is returned from the first row it appears in; relationships to it in later rows are
+	 * still mapped onto the same object.
+	 *
+	 * @param objectType The type that should be returned from the query.
+	 * @param cypher The parametrizable cypher to execute.
+	 * @param parameters Any parameters to attach to the cypher.
+	 *
+	 * @param <T> A domain object or scalar.
+	 *
+	 * @return An iterator over the domain objects or scalars, which must be closed once it is no longer needed.
+	 */
+	<T> ResultIterator<T> stream(Class<T> objectType, String cypher, Map<String, ?> parameters);
+
 	/**
 	 * Given a cypher statement this method will return a Result object containing a collection of Map's which represent Neo4j
 	 * objects as properties, along with query statistics if applicable.
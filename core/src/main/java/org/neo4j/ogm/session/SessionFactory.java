@@ -16,34 +16,81 @@ package org.neo4j.ogm.session;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.autoindex.AutoIndexManager;
+import org.neo4j.ogm.compiler.CompilerFactory;
 import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.config.DriverConfiguration;
+import org.neo4j.ogm.config.SessionConfiguration;
+import org.neo4j.ogm.context.SecondLevelCache;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.service.CompilerService;
 import org.neo4j.ogm.service.Components;
+import org.neo4j.ogm.service.DriverService;
+import org.neo4j.ogm.session.event.BatchEventDispatcher;
+import org.neo4j.ogm.session.event.BatchEventListener;
 import org.neo4j.ogm.session.event.EventListener;
+import org.neo4j.ogm.utils.ExecutorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Used to create {@link Session} instances for interacting with Neo4j.
  *
+ * A SessionFactory built from a {@link Driver} and a {@link Configuration} owns that driver and the compiler factory
+ * made from the configuration, so that factories with different configurations can be used side by side. Any other
+ * SessionFactory uses the driver, compiler and configuration held by the {@link Components}.
+ *
  * @author Vince Bickers
  * @author Luanne Misquitta
  * @author Mark Angrish
  */
 public class SessionFactory {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionFactory.class);
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+
     private final MetaData metaData;
+    private final Configuration configuration;
+    private final Driver driver;
+    private final CompilerFactory compilerFactory;
     private final AutoIndexManager autoIndexManager;
     private final List<EventListener> eventListeners;
+    private final BatchEventDispatcher batchEventDispatcher;
+    private final SecondLevelCache secondLevelCache;
+    private ExecutorService asyncExecutor;
 
     private SessionFactory(Configuration configuration, MetaData metaData) {
         if (configuration != null) {
             Components.configure(configuration);
         }
         this.metaData = metaData;
-        this.autoIndexManager = new AutoIndexManager(this.metaData, Components.driver());
+        this.configuration = null;
+        this.driver = null;
+        this.compilerFactory = null;
+        this.autoIndexManager = new AutoIndexManager(this.metaData, driver(), configuration());
         this.autoIndexManager.build();
         this.eventListeners = new CopyOnWriteArrayList<>();
+        SessionConfiguration sessionConfiguration = configuration().sessionConfiguration();
+        this.batchEventDispatcher = new BatchEventDispatcher(sessionConfiguration.getEventsQueueSize());
+        this.secondLevelCache = new SecondLevelCache(sessionConfiguration.getCacheSize(), sessionConfiguration.getCacheTtl());
+    }
+
+    private SessionFactory(Driver driver, Configuration configuration, MetaData metaData) {
+        this.metaData = metaData;
+        this.configuration = configuration;
+        this.driver = driver;
+        this.compilerFactory = CompilerService.factory(configuration.compilerConfiguration());
+        this.autoIndexManager = new AutoIndexManager(this.metaData, driver, configuration);
+        this.autoIndexManager.build();
+        this.eventListeners = new CopyOnWriteArrayList<>();
+        SessionConfiguration sessionConfiguration = configuration.sessionConfiguration();
+        this.batchEventDispatcher = new BatchEventDispatcher(sessionConfiguration.getEventsQueueSize());
+        this.secondLevelCache = new SecondLevelCache(sessionConfiguration.getCacheSize(), sessionConfiguration.getCacheTtl());
     }
 
     /**
@@ -64,7 +111,8 @@ public class SessionFactory {
 
     /**
      * Constructs a new {@link SessionFactory} by initialising the object-graph mapping meta-data from the given list of domain
-     * object packages, and also sets the configuration to be used.
+     * object packages, and also sets the configuration to be used. The configuration replaces the one held by the
+     * {@link Components}, and so applies to every SessionFactory that uses them.
      * <p>
      * The package names passed to this constructor should not contain wildcards or trailing full stops, for example,
      * "org.springframework.data.neo4j.example.domain" would be fine.  The default behaviour is for sub-packages to be scanned
@@ -79,6 +127,24 @@ public class SessionFactory {
         this(configuration, new MetaData(packages));
     }
 
+    /**
+     * Constructs a new {@link SessionFactory} by initialising the object-graph mapping meta-data from the given list of domain
+     * object packages. Its sessions connect with the given driver, and read their settings and compiler from the given
+     * configuration, leaving the {@link Components} untouched. The driver belongs to this SessionFactory alone, and is
+     * closed when it is.
+     * <p>
+     * The driver is usually loaded from the same configuration, with {@link DriverService#load(DriverConfiguration)}.
+     * </p>
+     * Indexes will also be checked or built if configured.
+     *
+     * @param driver The driver to connect with
+     * @param configuration The configuration to use
+     * @param packages The packages to scan for domain objects
+     */
+    public SessionFactory(Driver driver, Configuration configuration, String... packages) {
+        this(driver, configuration, new MetaData(packages));
+    }
+
     /**
      * Retrieves the meta-data that was built up when this {@link SessionFactory} was constructed.
      *
@@ -96,7 +162,67 @@ public class SessionFactory {
      * @return A new {@link Session}
      */
     public Session openSession() {
-        return new Neo4jSession(metaData, Components.driver(), eventListeners);
+        return new Neo4jSession(this);
+    }
+
+    /**
+     * Retrieves the configuration of this {@link SessionFactory}.
+     *
+     * @return The {@link Configuration} it owns, or the one of the {@link Components} if it was constructed without a driver
+     */
+    public Configuration configuration() {
+        return configuration != null ? configuration : Components.getConfiguration();
+    }
+
+    /**
+     * Retrieves the driver the sessions of this {@link SessionFactory} connect with.
+     *
+     * @return The {@link Driver} it owns, or the one of the {@link Components} if it was constructed without one
+     */
+    public Driver driver() {
+        return driver != null ? driver : Components.driver();
+    }
+
+    List<EventListener> eventListeners() {
+        return eventListeners;
+    }
+
+    BatchEventDispatcher batchEventDispatcher() {
+        return batchEventDispatcher;
+    }
+
+    CompilerFactory compilerFactory() {
+        return compilerFactory != null ? compilerFactory : Components.compilerFactory();
+    }
+
+    /**
+     * Retrieves the second-level cache shared by the sessions of this {@link SessionFactory}, which holds the graphs
+     * of the entities loaded by id or by primary index when cache.size is configured.
+     * Evicting everything from it is how changes made to the database by other applications are picked up before
+     * cache.ttl expires.
+     *
+     * @return The {@link SecondLevelCache}, which is disabled unless cache.size is configured
+     */
+    public SecondLevelCache secondLevelCache() {
+        return secondLevelCache;
+    }
+
+    /**
+     * Opens a new {@link AsyncSession}, whose operations run on a pool of async.pool.size threads shared by all the
+     * asynchronous sessions of this {@link SessionFactory}. Operations submitted while all the threads are busy wait
+     * for one to become free, in a queue of async.queue.size operations. Submitting an operation never blocks: while
+     * the queue is full, or once this SessionFactory is closed, it throws a
+     * {@link java.util.concurrent.RejectedExecutionException}, and it is up to the caller to slow down and try again.
+     *
+     * @return A new {@link AsyncSession}
+     */
+    public synchronized AsyncSession openAsyncSession() {
+        if (asyncExecutor == null) {
+            SessionConfiguration sessionConfiguration = configuration().sessionConfiguration();
+            asyncExecutor = ExecutorUtils.newRejectingExecutor("neo4j-ogm-async-session", sessionConfiguration.getAsyncPoolSize(),
+                    sessionConfiguration.getAsyncQueueSize(), "asynchronous operations");
+        }
+        return new Neo4jAsyncSession(this, asyncExecutor);
     }
 
     /**
@@ -117,6 +243,69 @@ public class SessionFactory {
         eventListeners.remove(eventListener);
     }
 
+    /**
+     * Registers the specified listener on all <code>Session</code> events generated from <code>this SessionFactory</code>,
+     * to be told of all the objects affected by each phase of a save or delete at once. The listener is called on
+     * the thread doing the save or delete.
+     *
+     * @param eventListener The batch event listener to register.
+     */
+    public void register(BatchEventListener eventListener) {
+        register(eventListener, false);
+    }
+
+    /**
+     * Registers the specified listener on all <code>Session</code> events generated from <code>this SessionFactory</code>,
+     * to be told of all the objects affected by each phase of a save or delete at once.
+     * An asynchronous listener is called on a thread of its own, after the save or delete has moved on, so it cannot
+     * change what is saved, and it should not read the objects it is told of while the application may change them.
+     * At most events.queue.size batches of events wait to be delivered before saves and deletes wait for room.
+     *
+     * @param eventListener The batch event listener to register.
+     * @param async Whether to call the listener asynchronously.
+     */
+    public void register(BatchEventListener eventListener, boolean async) {
+        batchEventDispatcher.register(eventListener, async);
+    }
+
+    /**
+     * Removes the specified batch listener from <code>this SessionFactory</code>.
+     *
+     * @param eventListener The batch event listener to deregister.
+     */
+    public void deregister(BatchEventListener eventListener) {
+        batchEventDispatcher.deregister(eventListener);
+    }
+
+    /**
+     * Stops the threads of the asynchronous sessions once the operations already submitted have run. A driver this
+     * {@link SessionFactory} owns is closed after those operations, which are given up to 30 seconds to finish before
+     * the ones still running are interrupted. The events already raised are given up to 30 seconds to be delivered to
+     * the asynchronous listeners before their thread stops.
+     */
     public void close() {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = asyncExecutor;
+            asyncExecutor = null;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            if (driver != null) {
+                try {
+                    if (!executor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                        LOGGER.warn("Asynchronous operations still running after {} seconds are interrupted", CLOSE_TIMEOUT_SECONDS);
+                        executor.shutdownNow();
+                    }
+                } catch (InterruptedException e) {
+                    executor.shutdownNow();
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        batchEventDispatcher.close(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (driver != null) {
+            driver.close();
+        }
     }
 }
@@ -31,12 +31,17 @@ import org.neo4j.ogm.session.event.PersistenceEvent;
 import org.neo4j.ogm.session.request.strategy.DeleteStatements;
 import org.neo4j.ogm.session.request.strategy.impl.NodeDeleteStatements;
 import org.neo4j.ogm.session.request.strategy.impl.RelationshipDeleteStatements;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Vince Bickers
+ * @author Mark Angrish
  */
 public class DeleteDelegate {
 
+	private static final Logger logger = LoggerFactory.getLogger(DeleteDelegate.class);
+
 	private final Neo4jSession session;
 
 	public DeleteDelegate(Neo4jSession neo4jSession) {
@@ -61,8 +66,10 @@ public class DeleteDelegate {
 
 		if (!list.isEmpty()) {
 			Set<Object> allNeighbours = new HashSet<>();
-			for (T element : list) {
-				allNeighbours.addAll(session.context().neighbours(element));
+			if (session.eventsEnabled()) {
+				for (T element : list) {
+					allNeighbours.addAll(session.context().neighbours(element));
+				}
 			}
 			deleteOneOrMoreObjects(allNeighbours, list);
 		}
@@ -72,24 +79,40 @@ public class DeleteDelegate {
 		if (object.getClass().isArray() || Iterable.class.isAssignableFrom(object.getClass())) {
 			deleteAll(object);
 		} else {
-			deleteOneOrMoreObjects(session.context().neighbours(object), Collections.singletonList(object));
+			Set<Object> neighbours = session.eventsEnabled() ? session.context().neighbours(object) : Collections.<Object>emptySet();
+			deleteOneOrMoreObjects(neighbours, Collections.singletonList(object));
 		}
 	}
 
-	// TODO : this is being done in multiple requests at the moment, one per object. Why not put them in a single request?
+	/**
+	 * Deletes the given objects with at most two requests: one deleting all the node entities, and one deleting all
+	 * the relationship entities, each matching the ids to delete from a single list parameter.
+	 *
+	 * The relationship entities are deleted first, because deleting a node also deletes all its relationships.
+	 * Events are still raised, and the mapping context still updated, for each object in turn, and the batch event
+	 * listeners are told of all the objects of each phase at once.
+	 *
+	 * @param neighbours the objects related to the objects being deleted, which are notified as being saved
+	 * @param objects the objects to delete
+	 */
 	private void deleteOneOrMoreObjects(Set<Object> neighbours, List<?> objects) {
 
 		Set<Object> notified = new HashSet();
 
 		if (session.eventsEnabled()) {
+			List<Event> events = new ArrayList<>();
 			for (Object affectedObject : neighbours) {
 				if (!notified.contains(affectedObject)) {
-					session.notifyListeners(new PersistenceEvent(affectedObject, Event.TYPE.PRE_SAVE));
+					fire(events, affectedObject, Event.TYPE.PRE_SAVE);
 					notified.add(affectedObject);
 				}
 			}
+			session.notifyBatchListeners(events);
 		}
 
+		Map<Long, Object> nodeEntities = new LinkedHashMap<>();
+		Map<Long, Object> relationshipEntities = new LinkedHashMap<>();
+
 		for (Object object : objects) {
 
 			ClassInfo classInfo = session.metaData().classInfo(object);
@@ -99,25 +122,10 @@ public class DeleteDelegate {
 				Field identityField = classInfo.getField(classInfo.identityField());
 				Long identity = (Long) FieldWriter.read(identityField, object);
 				if (identity != null) {
-					Statement request = getDeleteStatementsBasedOnType(object.getClass()).delete(identity);
-					if (session.eventsEnabled()) {
-						if (!notified.contains(object)) {
-							session.notifyListeners(new PersistenceEvent(object, Event.TYPE.PRE_DELETE));
-							notified.add(object);
-						}
-					}
-					RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
-					try (Response<RowModel> response = session.requestHandler().execute(query)) {
-						if (session.metaData().isRelationshipEntity(classInfo.name())) {
-							session.detachRelationshipEntity(identity);
-						} else {
-							session.detachNodeEntity(identity);
-						}
-						if (session.eventsEnabled()) {
-							if (notified.contains(object)) {
-								session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
-							}
-						}
+					if (session.metaData().isRelationshipEntity(classInfo.name())) {
+						relationshipEntities.put(identity, object);
+					} else {
+						nodeEntities.put(identity, object);
 					}
 				}
 			} else {
@@ -125,25 +133,99 @@ public class DeleteDelegate {
 			}
 		}
 
+		deleteObjects(relationshipEntities, new RelationshipDeleteStatements(), true, notified);
+		deleteObjects(nodeEntities, new NodeDeleteStatements(), false, notified);
+
 		if (session.eventsEnabled()) {
+			List<Event> events = new ArrayList<>();
 			for (Object affectedObject : neighbours) {
 				if (notified.contains(affectedObject)) {
-					session.notifyListeners(new PersistenceEvent(affectedObject, Event.TYPE.POST_SAVE));
+					fire(events, affectedObject, Event.TYPE.POST_SAVE);
+				}
+			}
+			session.notifyBatchListeners(events);
+		}
+	}
+
+	private void deleteObjects(Map<Long, Object> objects, DeleteStatements deleteStatements, boolean isRelationshipEntity, Set<Object> notified) {
+
+		if (objects.isEmpty()) {
+			return;
+		}
+
+		if (session.eventsEnabled()) {
+			List<Event> events = new ArrayList<>();
+			for (Object object : objects.values()) {
+				if (!notified.contains(object)) {
+					fire(events, object, Event.TYPE.PRE_DELETE);
+					notified.add(object);
+				}
+			}
+			session.notifyBatchListeners(events);
+		}
+
+		Statement request = deleteStatements.delete(new ArrayList<>(objects.keySet()));
+		RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
+		try (Response<RowModel> response = session.requestHandler().execute(query)) {
+			List<Event> events = new ArrayList<>();
+			if (isRelationshipEntity) {
+				session.evictFromSecondLevelCache(Collections.<Long>emptySet(), objects.keySet());
+			} else {
+				session.evictFromSecondLevelCache(objects.keySet(), Collections.<Long>emptySet());
+			}
+			for (Map.Entry<Long, Object> entry : objects.entrySet()) {
+				if (isRelationshipEntity) {
+					session.detachRelationshipEntity(entry.getKey());
+				} else {
+					session.detachNodeEntity(entry.getKey());
+				}
+				if (session.eventsEnabled()) {
+					if (notified.contains(entry.getValue())) {
+						fire(events, entry.getValue(), Event.TYPE.POST_DELETE);
+					}
 				}
 			}
+			session.notifyBatchListeners(events);
 		}
 	}
 
+	// notifies the event listeners of the event at once, and adds it to the events the batch listeners are told of
+	private void fire(List<Event> events, Object object, Event.TYPE lifecycle) {
+		Event event = new PersistenceEvent(object, lifecycle);
+		session.notifyListeners(event);
+		events.add(event);
+	}
+
+	private void fire(Object object, Event.TYPE lifecycle) {
+		List<Event> events = new ArrayList<>(1);
+		fire(events, object, lifecycle);
+		session.notifyBatchListeners(events);
+	}
+
 	public <T> void deleteAll(Class<T> type) {
 		ClassInfo classInfo = session.metaData().classInfo(type.getName());
 		if (classInfo != null) {
+			int batchSize = session.configuration().sessionConfiguration().getDeleteBatchSize();
+			if (batchSize > 0) {
+				fire(type, Event.TYPE.PRE_DELETE);
+				String entityType = session.entityType(classInfo.name());
+				long deleted = deleteAllInBatches(type, entityType, batchSize);
+				logger.info("Deleted {} objects of type {} in batches of {}", deleted, entityType, batchSize);
+				session.evictAllFromSecondLevelCache();
+				session.context().removeType(type);
+				if (session.eventsEnabled()) {
+					fire(type, Event.TYPE.POST_DELETE);
+				}
+				return;
+			}
 			Statement request = getDeleteStatementsBasedOnType(type).delete(session.entityType(classInfo.name()));
 			RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
-			session.notifyListeners(new PersistenceEvent(type, Event.TYPE.PRE_DELETE));
+			fire(type, Event.TYPE.PRE_DELETE);
 			try (Response<RowModel> response = session.requestHandler().execute(query)) {
+				session.evictAllFromSecondLevelCache();
 				session.context().removeType(type);
 				if (session.eventsEnabled()) {
-					session.notifyListeners(new PersistenceEvent(type, Event.TYPE.POST_DELETE));
+					fire(type, Event.TYPE.POST_DELETE);
 				}
 			}
 		} else {
@@ -151,6 +233,35 @@ public class DeleteDelegate {
 		}
 	}
 
+	/**
+	 * Deletes all the objects with a label or relationship type, at most batchSize objects per request, until a
+	 * request deletes fewer objects than that. Unless a transaction is open, each request runs in its own transaction,
+	 * so the database never holds more than one batch of deletes in memory.
+	 *
+	 * @param type the class of the objects to delete
+	 * @param entityType the label or relationship type of the objects to delete
+	 * @param batchSize the maximum number of objects deleted per request
+	 * @return the number of objects deleted
+	 */
+	private long deleteAllInBatches(Class type, String entityType, int batchSize) {
+		Statement request = getDeleteStatementsBasedOnType(type).deleteAndCount(entityType, batchSize);
+		RowModelRequest query = new DefaultRowModelRequest(request.getStatement(), request.getParameters());
+		long deleted = 0;
+		long count;
+		do {
+			count = 0;
+			try (Response<RowModel> response = session.requestHandler().execute(query)) {
+				RowModel rowModel = response.next();
+				if (rowModel != null) {
+					count = ((Number) rowModel.getValues()[0]).longValue();
+				}
+			}
+			deleted += count;
+			logger.debug("Deleted {} objects of type {} in a batch of {}, {} so far", count, entityType, batchSize, deleted);
+		} while (count >= batchSize);
+		return deleted;
+	}
+
 	public <T> Object delete(Class<T> clazz, Iterable<Filter> filters, boolean listResults) {
 
 		ClassInfo classInfo = session.metaData().classInfo(clazz.getSimpleName());
@@ -159,14 +270,26 @@ public class DeleteDelegate {
 
 			session.resolvePropertyAnnotations(clazz, filters);
 
-			CypherQuery query;
+			DeleteStatements deleteStatements;
 
 			if (classInfo.isRelationshipEntity()) {
-				query = new RelationshipDeleteStatements().deleteAndList(classInfo.neo4jName(), filters);
+				deleteStatements = new RelationshipDeleteStatements();
 			} else {
-				query = new NodeDeleteStatements().deleteAndList(classInfo.neo4jName(), filters);
+				deleteStatements = new NodeDeleteStatements();
+			}
+
+			int batchSize = session.configuration().sessionConfiguration().getDeleteBatchSize();
+			if (batchSize > 0) {
+				CypherQuery query = deleteStatements.deleteAndList(classInfo.neo4jName(), filters, batchSize);
+				List<Long> ids = listInBatches(query, classInfo.isRelationshipEntity(), batchSize);
+				if (listResults) {
+					return ids;
+				}
+				return (long) ids.size();
 			}
 
+			CypherQuery query = deleteStatements.deleteAndList(classInfo.neo4jName(), filters);
+
 			if (listResults) {
 				return list(query, classInfo.isRelationshipEntity());
 			}
@@ -176,6 +299,27 @@ public class DeleteDelegate {
 		throw new RuntimeException(clazz.getName() + " is not a persistable class");
 	}
 
+	/**
+	 * Executes a query deleting at most batchSize objects matching some filter criteria until it deletes fewer objects
+	 * than that, invoking post-delete housekeeping after each request, and returning a list of all the deleted objects.
+	 * Unless a transaction is open, each request runs in its own transaction.
+	 *
+	 * @param query the CypherQuery that will delete at most batchSize objects according to some filter criteria
+	 * @param isRelationshipEntity whether the objects being deleted are relationship entities
+	 * @param batchSize the maximum number of objects deleted per request
+	 * @return a {@link List} of object ids that were deleted
+	 */
+	private List<Long> listInBatches(CypherQuery query, boolean isRelationshipEntity, int batchSize) {
+		List<Long> ids = new ArrayList();
+		List<Long> batch;
+		do {
+			batch = list(query, isRelationshipEntity);
+			ids.addAll(batch);
+			logger.debug("Deleted {} objects in a batch of {}, {} so far", batch.size(), batchSize, ids.size());
+		} while (batch.size() >= batchSize);
+		return ids;
+	}
+
 	/**
 	 * Executes a delete query in which objects of a specific type will be deleted according to some filter criteria,
 	 * invoking post-delete housekeeping after the query completes, and returning a list of deleted objects to the caller.
@@ -188,11 +332,13 @@ public class DeleteDelegate {
 		String resultKey = isRelationshipEntity ? "ID(r0)" : "ID(n)";
 		Result result = session.query(query.getStatement(), query.getParameters());
 		List<Long> ids = new ArrayList();
+		List<Event> events = new ArrayList<>();
 		for (Map<String, Object> resultEntry : result) {
 			Long deletedObjectId = Long.parseLong(resultEntry.get(resultKey).toString());
-			postDelete(deletedObjectId, isRelationshipEntity);
+			postDelete(deletedObjectId, isRelationshipEntity, events);
 			ids.add(deletedObjectId);
 		}
+		session.notifyBatchListeners(events);
 		return ids;
 	}
 
@@ -208,11 +354,13 @@ public class DeleteDelegate {
 		String resultKey = isRelationshipEntity ? "ID(r0)" : "ID(n)";
 		Result result = session.query(query.getStatement(), query.getParameters());
 		long count = 0;
+		List<Event> events = new ArrayList<>();
 		for (Map<String, Object> resultEntry : result) {
 			Long deletedObjectId = Long.parseLong(resultEntry.get(resultKey).toString());
-			postDelete(deletedObjectId, isRelationshipEntity);
+			postDelete(deletedObjectId, isRelationshipEntity, events);
 			count++;
 		}
+		session.notifyBatchListeners(events);
 		return count;
 	}
 
@@ -229,8 +377,9 @@ public class DeleteDelegate {
 	 *
 	 * @param identity the id of the object that was deleted
 	 * @param isRelationshipEntity true if it was an edge that was deleted
+	 * @param events the POST_DELETE events raised so far, to tell the batch event listeners of once the query is done
 	 */
-	private void postDelete(Long identity, boolean isRelationshipEntity) {
+	private void postDelete(Long identity, boolean isRelationshipEntity, List<Event> events) {
 
 		Object object;
 
@@ -246,7 +395,7 @@ public class DeleteDelegate {
 			}
 		}
 		if (session.eventsEnabled() && object != null) {
-			session.notifyListeners(new PersistenceEvent(object, Event.TYPE.POST_DELETE));
+			fire(events, object, Event.TYPE.POST_DELETE);
 		}
 	}
 
@@ -254,6 +403,7 @@ public class DeleteDelegate {
 		Statement stmt = new NodeDeleteStatements().deleteAll();
 		RowModelRequest query = new DefaultRowModelRequest(stmt.getStatement(), stmt.getParameters());
 		session.requestHandler().execute(query).close();
+		session.evictAllFromSecondLevelCache();
 		session.context().clear();
 	}
 
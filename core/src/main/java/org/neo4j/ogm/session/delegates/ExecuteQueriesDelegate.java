@@ -30,6 +30,7 @@ import org.neo4j.ogm.cypher.query.DefaultRowModelRequest;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
 import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.QueryStatistics;
 import org.neo4j.ogm.model.RestModel;
 import org.neo4j.ogm.model.Result;
 import org.neo4j.ogm.model.RowModel;
@@ -39,18 +40,22 @@ import org.neo4j.ogm.request.RowModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.response.model.QueryResultModel;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.ResultIterator;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.session.request.strategy.impl.CountStatements;
+import org.neo4j.ogm.transaction.Transaction;
 import org.neo4j.ogm.utils.ClassUtils;
 
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
  * @author Jasper Blues
+ * @author Mark Angrish
  */
 public class ExecuteQueriesDelegate {
 
 	private static final Pattern WRITE_CYPHER_KEYWORDS = Pattern.compile("\\b(CREATE|MERGE|SET|DELETE|REMOVE|DROP)\\b");
+	private static final Pattern MAYBE_WRITE_CYPHER_KEYWORDS = Pattern.compile("\\b(CALL|LOAD\\s+CSV|FOREACH)\\b");
 
 	private final Neo4jSession session;
 
@@ -75,7 +80,7 @@ public class ExecuteQueriesDelegate {
 	}
 
 	public Result query(String cypher, Map<String, ?> parameters) {
-		return query(cypher, parameters, isReadOnly(cypher));
+		return query(cypher, parameters, !mayWrite(cypher));
 	}
 
 	public <T> Iterable<T> query(Class<T> type, String cypher, Map<String, ?> parameters) {
@@ -83,13 +88,42 @@ public class ExecuteQueriesDelegate {
 		if (type == null || type.equals(Void.class)) {
 			throw new RuntimeException("Supplied type must not be null or void.");
 		}
-		return executeAndMap(type, cypher, parameters, new EntityRowModelMapper());
+		Iterable<T> results = executeAndMap(type, cypher, parameters, new EntityRowModelMapper());
+		evictIfWriting(cypher);
+		return results;
+	}
+
+	public <T> ResultIterator<T> stream(Class<T> type, String cypher, Map<String, ?> parameters) {
+		validateQuery(cypher, parameters, false); //we'll allow modifying statements
+		if (type == null || type.equals(Void.class)) {
+			throw new RuntimeException("Supplied type must not be null or void.");
+		}
+		if (session.metaData().classInfo(type.getSimpleName()) != null) {
+			GraphModelRequest request = new DefaultGraphModelRequest(cypher, parameters);
+			Response<GraphModel> response = session.requestHandler().execute(request);
+			evictIfWriting(cypher);
+			return new GraphEntityIterator<>(type, response, session.metaData(), session.context(), true);
+		} else {
+			RowModelRequest request = new DefaultRowModelRequest(cypher, parameters);
+			Response<RowModel> response = session.requestHandler().execute(request);
+			evictIfWriting(cypher);
+			return new EntityRowIterator<>(type, response);
+		}
 	}
 
 	public Result query(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
 		validateQuery(cypher, parameters, readOnly);
 
+		if (readOnly && session.getTransaction() == null && session.routesReads()) {
+			// only a read-only transaction is sent to a read endpoint
+			try (Transaction tx = session.beginTransaction(Transaction.Type.READ_ONLY)) {
+				Result result = query(cypher, parameters, true);
+				tx.commit();
+				return result;
+			}
+		}
+
 		RestModelRequest request = new DefaultRestModelRequest(cypher, parameters);
 		ResponseMapper mapper = new RestModelMapper(new GraphEntityMapper(session.metaData(), session.context()), session.metaData());
 
@@ -97,6 +131,9 @@ public class ExecuteQueriesDelegate {
 			Iterable<RestStatisticsModel> mappedModel = mapper.map(null, response);
 			RestStatisticsModel restStatisticsModel = mappedModel.iterator().next();
 
+			// the response has been read in full, so its statistics are final
+			evictIfWriting(cypher, restStatisticsModel.getStatistics());
+
 			if (readOnly) {
 				return new QueryResultModel(restStatisticsModel.getResult(), null);
 			} else {
@@ -194,11 +231,38 @@ public class ExecuteQueriesDelegate {
 		return Long.parseLong(resultMap.get(resultKey).toString());
 	}
 
+	private void evictIfWriting(String cypher) {
+		evictIfWriting(cypher, null);
+	}
+
+	/**
+	 * Evicts everything from the second-level cache after a query that may have written to the graph, and forgets
+	 * the depths entities were loaded to, as there is no telling what it wrote. A query may have written when its
+	 * statistics report updates, or when it calls a procedure or otherwise contains a clause that can write.
+	 *
+	 * @param cypher the query that ran
+	 * @param statistics the statistics of the query once its results were read, or null if none are available
+	 */
+	private void evictIfWriting(String cypher, QueryStatistics statistics) {
+		if (mayWrite(cypher) || (statistics != null && statistics.containsUpdates())) {
+			session.context().clearLoadedDepths();
+			session.evictAllFromSecondLevelCache();
+		}
+	}
+
 	private boolean isReadOnly(String cypher) {
 		Matcher matcher = WRITE_CYPHER_KEYWORDS.matcher(cypher.toUpperCase());
 		return !matcher.find();
 	}
 
+	/**
+	 * Procedures may write without any writing keyword appearing in the query, so a query calling one is treated
+	 * as writing, as are LOAD CSV and FOREACH.
+	 */
+	private boolean mayWrite(String cypher) {
+		return !isReadOnly(cypher) || MAYBE_WRITE_CYPHER_KEYWORDS.matcher(cypher.toUpperCase()).find();
+	}
+
 	private void validateQuery(String cypher, Map<String, ?> parameters, boolean readOnly) {
 
 		if (readOnly && !isReadOnly(cypher)) {
@@ -14,13 +14,13 @@
 package org.neo4j.ogm.session.delegates;
 
 
-import org.neo4j.ogm.entity.io.EntityAccessManager;
 import org.neo4j.ogm.exception.MappingException;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.session.Neo4jSession;
 
 /**
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class GraphIdDelegate {
 
@@ -35,7 +35,7 @@ public class GraphIdDelegate {
 			ClassInfo classInfo = session.metaData().classInfo(possibleEntity);
 			try {
 				if (classInfo != null) {
-					Object id = EntityAccessManager.getIdentityPropertyReader(classInfo).readProperty(possibleEntity);
+					Object id = session.metaData().entityAccessManager().getIdentityPropertyReader(classInfo).readProperty(possibleEntity);
 					if (id != null) {
 						return (long) id;
 					}
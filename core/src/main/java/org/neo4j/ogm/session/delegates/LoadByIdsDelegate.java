@@ -21,7 +21,6 @@ import org.neo4j.ogm.context.GraphEntityMapper;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.cypher.query.SortOrder;
-import org.neo4j.ogm.entity.io.EntityAccessManager;
 import org.neo4j.ogm.entity.io.FieldReader;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -34,6 +33,7 @@ import org.neo4j.ogm.session.request.strategy.QueryStatements;
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class LoadByIdsDelegate {
 
@@ -54,7 +54,7 @@ public class LoadByIdsDelegate {
 				.setPagination(pagination);
 
 		try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) qry)) {
-			Iterable<T> mapped = new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+			Iterable<T> mapped = new GraphEntityMapper(session.metaData(), session.context(), session.lazyLoader()).map(type, response);
 			Set<T> results = new LinkedHashSet<>();
 			for (T entity : mapped) {
 				if (includeMappedEntity(ids, entity)) {
@@ -104,7 +104,7 @@ public class LoadByIdsDelegate {
 				return true;
 			}
 		}
-		Object id = EntityAccessManager.getIdentityPropertyReader(classInfo).readProperty(mapped);
+		Object id = session.metaData().entityAccessManager().getIdentityPropertyReader(classInfo).readProperty(mapped);
 		return ids.contains(id);
 	}
 }
@@ -14,7 +14,9 @@ package org.neo4j.ogm.session.delegates;
 
 import java.util.Collection;
 
+import org.neo4j.ogm.context.GraphEntityIterator;
 import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.GraphRowListEntityIterator;
 import org.neo4j.ogm.context.GraphRowListModelMapper;
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.Filters;
@@ -28,11 +30,13 @@ import org.neo4j.ogm.request.GraphModelRequest;
 import org.neo4j.ogm.request.GraphRowListModelRequest;
 import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.ResultIterator;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class LoadByTypeDelegate {
 
@@ -62,12 +66,12 @@ public class LoadByTypeDelegate {
 
 			if (depth == 0 || (pagination == null && sortOrder.toString().length() == 0)) { //if there is no sorting or paging or the depth=0, we don't want the row response back as well
 				try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) qry)) {
-					return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+					return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context(), session.lazyLoader()).map(type, response);
 				}
 			} else {
 				DefaultGraphRowListModelRequest graphRowListModelRequest = new DefaultGraphRowListModelRequest(qry.getStatement(), qry.getParameters());
 				try (Response<GraphRowListModel> response = session.requestHandler().execute(graphRowListModelRequest)) {
-					return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context()).map(type, response);
+					return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context(), session.lazyLoader()).map(type, response);
 				}
 			}
 		} else {
@@ -80,17 +84,64 @@ public class LoadByTypeDelegate {
 
 			if (depth != 0) {
 				try (Response<GraphRowListModel> response = session.requestHandler().execute((GraphRowListModelRequest) query)) {
-					return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context()).map(type, response);
+					return (Collection<T>) new GraphRowListModelMapper(session.metaData(), session.context(), session.lazyLoader()).map(type, response);
 				}
 			} else {
 				try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) query)) {
-					return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
+					return (Collection<T>) new GraphEntityMapper(session.metaData(), session.context(), session.lazyLoader()).map(type, response);
 				}
 			}
 		}
 	}
 
 
+	/**
+	 * Streams the entities of a type, hydrating each one as the rows describing it are read.
+	 *
+	 * The filtered form of the load query is always used, because at any depth other than 0 its rows carry the id of
+	 * the entity they describe, which tells the iterator when an entity is complete. The iterator needs all the rows
+	 * of an entity to be consecutive, which Cypher only guarantees when the rows are ordered, so the rows of node
+	 * entities are ordered by the given sort order and then by entity id. The query for relationship entities already
+	 * returns a single row per entity.
+	 */
+	public <T> ResultIterator<T> streamAll(Class<T> type, Filters filters, SortOrder sortOrder, int depth) {
+
+		String entityType = session.entityType(type.getName());
+		QueryStatements queryStatements = session.queryStatementsFor(type);
+
+		session.resolvePropertyAnnotations(type, sortOrder);
+		session.resolvePropertyAnnotations(type, filters);
+
+		PagingAndSortingQuery query = queryStatements.findByType(entityType, filters, depth)
+				.setSortOrder(sortOrder);
+
+		if (depth != 0) {
+			if (!session.metaData().isRelationshipEntity(type.getName())) {
+				String ordering = sortOrder.toString().replace("$", "n");
+				ordering = ordering.isEmpty() ? " ORDER BY ID(n)" : ordering + ", ID(n)";
+				query = new DefaultGraphRowListModelRequest(query.getStatement() + ordering, query.getParameters());
+			}
+			Response<GraphRowListModel> response = session.requestHandler().execute((GraphRowListModelRequest) query);
+			return new GraphRowListEntityIterator<>(type, response, session.metaData(), session.context(), session.lazyLoader());
+		} else {
+			// every row holds a single entity
+			Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) query);
+			return new GraphEntityIterator<>(type, response, session.metaData(), session.context(), false, session.lazyLoader());
+		}
+	}
+
+	public <T> ResultIterator<T> streamAll(Class<T> type) {
+		return streamAll(type, new Filters(), new SortOrder(), 1);
+	}
+
+	public <T> ResultIterator<T> streamAll(Class<T> type, int depth) {
+		return streamAll(type, new Filters(), new SortOrder(), depth);
+	}
+
+	public <T> ResultIterator<T> streamAll(Class<T> type, Filters filters, int depth) {
+		return streamAll(type, filters, new SortOrder(), depth);
+	}
+
 	public <T> Collection<T> loadAll(Class<T> type) {
 		return loadAll(type, new Filters(), new SortOrder(), null, 1);
 	}
@@ -13,9 +13,14 @@
 package org.neo4j.ogm.session.delegates;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -25,6 +30,9 @@ import org.neo4j.ogm.response.Response;
 import org.neo4j.ogm.session.Neo4jException;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
+import org.neo4j.ogm.transaction.AbstractTransaction;
+import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.utils.EntityUtils;
 
 /**
  * @author Vince Bickers
@@ -42,19 +50,86 @@ public class LoadOneDelegate {
 		return load(type, id, 1);
 	}
 
+	/**
+	 * Loads an entity to the given depth, mapping its graph from the second-level cache, or else from the database.
+	 *
+	 * With load.from.context set, a node entity this session already loaded by id to at least that depth is returned
+	 * as it is instead: loading it again would only map what the mapping context already holds, apart from what other
+	 * sessions have written since.
+	 */
 	public <T, ID extends Serializable> T load(Class<T> type, ID id, int depth) {
 
-		final FieldInfo primaryIndexField = session.metaData().classInfo(type.getName()).primaryIndexField();
+		ClassInfo classInfo = session.metaData().classInfo(type.getName());
+		final FieldInfo primaryIndexField = classInfo.primaryIndexField();
 		if (primaryIndexField != null && !primaryIndexField.isTypeOf(id.getClass())) {
 			throw new Neo4jException("Supplied id does not match primary index type on supplied class.");
 		}
 
+		boolean fromContext = !classInfo.isRelationshipEntity() && session.configuration().sessionConfiguration().getLoadFromContext();
+		if (fromContext) {
+			T loaded = lookup(type, id);
+			if (loaded != null && session.context().isLoadedToDepth(EntityUtils.identity(loaded, session.metaData()), depth)) {
+				return loaded;
+			}
+		}
+
+		GraphEntityMapper mapper = new GraphEntityMapper(session.metaData(), session.context(), session.lazyLoader());
+		Set<Long> nodeIds = new LinkedHashSet<>();
+		Set<Long> edgeIds = new LinkedHashSet<>();
+
+		SecondLevelCache secondLevelCache = session.secondLevelCache();
+		Transaction tx = session.getTransaction();
+		if (secondLevelCache.isEnabled() && (tx == null || !((AbstractTransaction) tx).written())) {
+			loadThroughCache(secondLevelCache, mapper, type, id, depth, tx == null, nodeIds, edgeIds);
+		} else {
+			loadFromDatabase(mapper, type, id, depth, null, nodeIds, edgeIds);
+		}
+
+		T entity = lookup(type, id);
+		if (entity != null && fromContext) {
+			session.context().registerLoadedDepth(EntityUtils.identity(entity, session.metaData()), depth, nodeIds);
+		}
+		return entity;
+	}
+
+	/**
+	 * Maps the graph of the entity from the second-level cache if it is there, or else loads it from the database
+	 * and caches it. The cache is bypassed by transactions that have written anything, which must read their own
+	 * writes, and only graphs read outside a transaction are cached, as a transaction may see writes it hasn't
+	 * committed yet.
+	 */
+	private <T, ID extends Serializable> void loadThroughCache(SecondLevelCache secondLevelCache, GraphEntityMapper mapper, Class<T> type, ID id, int depth, boolean cacheable, Set<Long> nodeIds, Set<Long> edgeIds) {
+
+		GraphModel cached = secondLevelCache.get(type, id, depth);
+		if (cached != null) {
+			mapper.map(type, cached, nodeIds, edgeIds);
+			return;
+		}
+
+		long generation = secondLevelCache.generation();
+		List<GraphModel> graphModels = cacheable ? new ArrayList<GraphModel>() : null;
+		loadFromDatabase(mapper, type, id, depth, graphModels, nodeIds, edgeIds);
+		if (cacheable) {
+			secondLevelCache.put(type, id, depth, graphModels, generation);
+		}
+	}
+
+	/**
+	 * Maps the graph of the entity as it is read from the database, keeping the models read if a list is given.
+	 */
+	private <T, ID extends Serializable> void loadFromDatabase(GraphEntityMapper mapper, Class<T> type, ID id, int depth, List<GraphModel> graphModels, Set<Long> nodeIds, Set<Long> edgeIds) {
+
 		QueryStatements queryStatements = session.queryStatementsFor(type);
 		PagingAndSortingQuery qry = queryStatements.findOne(id, depth);
 
 		try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) qry)) {
-			new GraphEntityMapper(session.metaData(), session.context()).map(type, response);
-			return lookup(type, id);
+			GraphModel graphModel;
+			while ((graphModel = response.next()) != null) {
+				mapper.map(type, graphModel, nodeIds, edgeIds);
+				if (graphModels != null) {
+					graphModels.add(graphModel);
+				}
+			}
 		}
 	}
 
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.delegates;
+
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.context.GraphEntityMapper;
+import org.neo4j.ogm.context.LazyLoader;
+import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.exception.MappingException;
+import org.neo4j.ogm.model.Edge;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.request.GraphModelRequest;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
+import org.neo4j.ogm.utils.EntityUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Loads the lazy relationship collections of the entities loaded by a session, when they are first used.
+ *
+ * The related entities are read a page of {@link #PAGE_SIZE} relationships at a time, so that an entity with a very
+ * large number of relationships never has to be held in a single response. Each page starts after the largest
+ * relationship id of the page before it.
+ *
+ * @author Mark Angrish
+ */
+public class LoadRelatedDelegate implements LazyLoader {
+
+    public static final int PAGE_SIZE = 1000;
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadRelatedDelegate.class);
+
+    private final Neo4jSession session;
+
+    public LoadRelatedDelegate(Neo4jSession session) {
+        this.session = session;
+    }
+
+    @Override
+    public void load(Object owner, String relationshipType, String relationshipDirection) {
+
+        MetaData metaData = session.metaData();
+        MappingContext context = session.context();
+        Long id = EntityUtils.identity(owner, metaData);
+
+        // the relationships are mapped onto the entity held in the mapping context for the node
+        Object current = context.getNodeEntity(id);
+        if (current == null) {
+            context.addNodeEntity(owner, id);
+        } else if (current != owner) {
+            throw new MappingException("The relationships of " + owner + " cannot be loaded: another instance of node " + id + " has since been loaded into the session");
+        }
+
+        NodeQueryStatements<Long> queryStatements = new NodeQueryStatements<>();
+        GraphEntityMapper mapper = new GraphEntityMapper(metaData, context, this);
+
+        long lastId = -1;
+        int loaded = 0;
+        int rows;
+        do {
+            PagingAndSortingQuery qry = queryStatements.findRelated(id, relationshipType, relationshipDirection, lastId, PAGE_SIZE);
+            rows = 0;
+            try (Response<GraphModel> response = session.requestHandler().execute((GraphModelRequest) qry)) {
+                GraphModel graphModel;
+                while ((graphModel = response.next()) != null) {
+                    for (Edge edge : graphModel.getRelationships()) {
+                        lastId = Math.max(lastId, edge.getId());
+                    }
+                    mapper.map(owner.getClass(), graphModel);
+                    rows++;
+                }
+            }
+            loaded += rows;
+        } while (rows == PAGE_SIZE);
+
+        logger.debug("loaded {} relationships: ({})-{}-{}-()", loaded, id, relationshipType, relationshipDirection);
+    }
+}
@@ -15,7 +15,9 @@ package org.neo4j.ogm.session.delegates;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 import org.neo4j.ogm.compiler.CompileContext;
 import org.neo4j.ogm.context.EntityGraphMapper;
@@ -27,6 +29,7 @@ import org.neo4j.ogm.session.request.RequestExecutor;
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class SaveDelegate {
 
@@ -44,7 +47,8 @@ public class SaveDelegate {
 
 	public <T> void save(T object, int depth) {
 
-		SaveEventDelegate eventsDelegate = new SaveEventDelegate(session);
+		// copying the relationships of the mapping context and walking the graph is only worth it for listeners
+		SaveEventDelegate eventsDelegate = session.eventsEnabled() ? new SaveEventDelegate(session) : null;
 
 		if (object.getClass().isArray() || Iterable.class.isAssignableFrom(object.getClass())) {
 			Collection<T> objects;
@@ -58,30 +62,32 @@ public class SaveDelegate {
 			} else {
 				objects = (Collection<T>) object;
 			}
-			List<CompileContext> contexts = new ArrayList<>();
-			for (Object element : objects) {
-				if (session.eventsEnabled()) {
-					eventsDelegate.preSave(object);
-				}
-				contexts.add(new EntityGraphMapper(session.metaData(), session.context()).map(element, depth));
+			if (eventsDelegate != null) {
+				eventsDelegate.preSave(objects);
 			}
-			requestExecutor.executeSave(contexts);
-			if (session.eventsEnabled()) {
+			EntityGraphMapper mapper = new EntityGraphMapper(session.metaData(), session.context(), session.compilerFactory());
+			int batchSize = session.configuration().sessionConfiguration().getSaveBatchSize();
+			if (batchSize == 0 || objects.size() <= batchSize) {
+				requestExecutor.executeSave(mapper.mapAll(objects, depth));
+			} else {
+				requestExecutor.executeSave(new BatchIterator(mapper, objects, batchSize, depth));
+			}
+			if (eventsDelegate != null) {
 				eventsDelegate.postSave();
 			}
 		} else {
 			ClassInfo classInfo = session.metaData().classInfo(object);
 			if (classInfo != null) {
 
-				if (session.eventsEnabled()) {
+				if (eventsDelegate != null) {
 					eventsDelegate.preSave(object);
 				}
 
-				CompileContext context = new EntityGraphMapper(session.metaData(), session.context()).map(object, depth);
+				CompileContext context = new EntityGraphMapper(session.metaData(), session.context(), session.compilerFactory()).map(object, depth);
 
 				requestExecutor.executeSave(context);
 
-				if (session.eventsEnabled()) {
+				if (eventsDelegate != null) {
 					eventsDelegate.postSave();
 				}
 			} else {
@@ -89,4 +95,45 @@ public class SaveDelegate {
 			}
 		}
 	}
+
+	/**
+	 * Maps a large collection one batch at a time. A batch is only mapped once the previous batch has been saved,
+	 * so that objects shared between batches are known to the mapping context and are not created twice.
+	 */
+	private static class BatchIterator implements Iterator<CompileContext> {
+
+		private final EntityGraphMapper mapper;
+		private final Iterator<?> objects;
+		private final int batchSize;
+		private final int depth;
+
+		BatchIterator(EntityGraphMapper mapper, Collection<?> objects, int batchSize, int depth) {
+			this.mapper = mapper;
+			this.objects = objects.iterator();
+			this.batchSize = batchSize;
+			this.depth = depth;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return objects.hasNext();
+		}
+
+		@Override
+		public CompileContext next() {
+			if (!objects.hasNext()) {
+				throw new NoSuchElementException();
+			}
+			List<Object> batch = new ArrayList<>(batchSize);
+			while (objects.hasNext() && batch.size() < batchSize) {
+				batch.add(objects.next());
+			}
+			return mapper.mapAll(batch, depth);
+		}
+
+		@Override
+		public void remove() {
+			throw new UnsupportedOperationException();
+		}
+	}
 }
@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.neo4j.ogm.utils.ExecutorUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers the events of each lifecycle phase of a save or delete to the {@link BatchEventListener}s registered on a
+ * session factory.
+ *
+ * Synchronous listeners are called on the thread doing the save or delete, before it goes on. Asynchronous listeners
+ * are called one batch at a time, in the order the batches were raised, on a single thread of their own. At most
+ * queueSize batches wait for that thread: a save or delete raising another one waits until there is room.
+ * Once the dispatcher is closed, asynchronous listeners are called on the thread doing the save or delete instead,
+ * after the batches raised before have been delivered or given up on.
+ *
+ * @author Mark Angrish
+ */
+public class BatchEventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchEventDispatcher.class);
+
+    private final int queueSize;
+    private final List<BatchEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<BatchEventListener> asyncListeners = new CopyOnWriteArrayList<>();
+    private ThreadPoolExecutor executor;
+    private boolean closed;
+    private volatile Thread eventThread;
+
+    /**
+     * @param queueSize the maximum number of batches waiting to be delivered to the asynchronous listeners
+     */
+    public BatchEventDispatcher(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public void register(BatchEventListener listener, boolean async) {
+        if (async) {
+            asyncListeners.add(listener);
+        } else {
+            listeners.add(listener);
+        }
+    }
+
+    public void deregister(BatchEventListener listener) {
+        listeners.remove(listener);
+        asyncListeners.remove(listener);
+    }
+
+    public boolean isEmpty() {
+        return listeners.isEmpty() && asyncListeners.isEmpty();
+    }
+
+    /**
+     * @param events the events of one lifecycle phase, which must all have the same lifecycle
+     */
+    public void dispatch(List<Event> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        final List<Event> batch = Collections.unmodifiableList(new ArrayList<>(events));
+        for (BatchEventListener listener : listeners) {
+            deliver(listener, batch);
+        }
+        if (!asyncListeners.isEmpty()) {
+            final List<BatchEventListener> recipients = new ArrayList<>(asyncListeners);
+            Runnable delivery = new Runnable() {
+                @Override
+                public void run() {
+                    eventThread = Thread.currentThread();
+                    for (BatchEventListener listener : recipients) {
+                        try {
+                            deliver(listener, batch);
+                        } catch (RuntimeException e) {
+                            logger.warn("Event listener {} failed on {} events", listener, batch.size(), e);
+                        }
+                    }
+                }
+            };
+            ThreadPoolExecutor executor = executor();
+            if (executor != null) {
+                try {
+                    executor.execute(delivery);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // closed meanwhile: the batches queued before are delivered first
+                    awaitTermination(executor);
+                }
+            }
+            delivery.run();
+        }
+    }
+
+    /**
+     * Waits up to the given time for the batches already raised to be delivered to the asynchronous listeners, then
+     * stops their thread, interrupting it if it is still busy.
+     *
+     * @param timeout the longest time to wait
+     * @param unit the unit of the timeout
+     */
+    public void close(long timeout, TimeUnit unit) {
+        ThreadPoolExecutor executor;
+        synchronized (this) {
+            closed = true;
+            executor = this.executor;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(timeout, unit)) {
+                    logger.warn("Event listeners still busy after {} {}, {} batches of events are not delivered",
+                            timeout, unit, executor.shutdownNow().size());
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // the executor of the asynchronous listeners, shut down once closed, or null if closed before any was needed
+    private synchronized ThreadPoolExecutor executor() {
+        if (executor == null && !closed) {
+            executor = ExecutorUtils.newWaitingExecutor("neo4j-ogm-events", 1, queueSize, "event deliveries");
+        }
+        return executor;
+    }
+
+    private void awaitTermination(ThreadPoolExecutor executor) {
+        if (Thread.currentThread() == eventThread) {
+            return; // an asynchronous listener raising events cannot wait for itself
+        }
+        try {
+            // close() stops the thread, interrupting it if need be, once its timeout has passed
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void deliver(BatchEventListener listener, List<Event> events) {
+        switch (events.get(0).getLifeCycle()) {
+            case PRE_SAVE:
+                listener.onPreSave(events);
+                break;
+            case POST_SAVE:
+                listener.onPostSave(events);
+                break;
+            case PRE_DELETE:
+                listener.onPreDelete(events);
+                break;
+            case POST_DELETE:
+                listener.onPostDelete(events);
+                break;
+            default:
+                logger.warn("Event not recognised: {}", events.get(0));
+        }
+    }
+}
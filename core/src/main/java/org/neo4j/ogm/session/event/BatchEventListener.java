@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.event;
+
+import java.util.List;
+
+/**
+ * Receives the events of a save or delete all at once, with one call per lifecycle phase listing the event raised
+ * for every object affected in that phase, rather than one call per object as an {@link EventListener} does.
+ *
+ * @author Mark Angrish
+ */
+public interface BatchEventListener {
+
+    void onPreSave(List<Event> events);
+    void onPostSave(List<Event> events);
+    void onPreDelete(List<Event> events);
+    void onPostDelete(List<Event> events);
+
+}
@@ -16,8 +16,8 @@ package org.neo4j.ogm.session.event;
 import java.util.*;
 
 import org.neo4j.ogm.annotation.Relationship;
+import org.neo4j.ogm.context.LazyCollection;
 import org.neo4j.ogm.context.MappedRelationship;
-import org.neo4j.ogm.entity.io.EntityAccessManager;
 import org.neo4j.ogm.entity.io.RelationalReader;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.session.Neo4jSession;
@@ -28,6 +28,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * @author vince
+ * @author Mark Angrish
  */
 public final class SaveEventDelegate {
 
@@ -39,6 +40,7 @@ public final class SaveEventDelegate {
     private Set<MappedRelationship> registeredRelationships = new HashSet<>();
     private Set<MappedRelationship> addedRelationships = new HashSet<>();
     private Set<MappedRelationship> deletedRelationships = new HashSet<>();
+    private List<Event> events = new ArrayList<>();
 
 
     public SaveEventDelegate(Neo4jSession session) {
@@ -66,12 +68,14 @@ public final class SaveEventDelegate {
         else {
             preSaveCheck(object);
         }
+        flush();
     }
 
     public void postSave() {
         for (Object object : this.preSaved) {
             fire(Event.TYPE.POST_SAVE, object);
         }
+        flush();
     }
 
     private void preSaveCheck(Object object) {
@@ -111,7 +115,17 @@ public final class SaveEventDelegate {
 
     }
     private void fire(Event.TYPE eventType, Object object) {
-        this.session.notifyListeners(new PersistenceEvent(object, eventType));
+        Event event = new PersistenceEvent(object, eventType);
+        this.session.notifyListeners(event);
+        this.events.add(event);
+    }
+
+    // notifies the batch listeners of the events fired since the last flush, all from the same phase of the save
+    private void flush() {
+        if (!this.events.isEmpty()) {
+            this.session.notifyBatchListeners(this.events);
+            this.events = new ArrayList<>();
+        }
     }
 
     private boolean preSaveFired(Object object) {
@@ -176,6 +190,10 @@ public final class SaveEventDelegate {
             // build the set of mapped relationships for this object. if there any new ones, the object is dirty
             for (RelationalReader reader : relationalReaders(parent)) {
 
+                if (isUnloaded(reader.read(parent))) {
+                    continue;
+                }
+
                 clearPreviousRelationships(parent, reader);
 
                 for (MappedRelationship mappable : map(parent, reader)) {
@@ -275,11 +293,11 @@ public final class SaveEventDelegate {
 
         if (parentClassInfo != null) {
 
-            for (RelationalReader reader : EntityAccessManager.getRelationalReaders(parentClassInfo)) {
+            for (RelationalReader reader : this.session.metaData().entityAccessManager().getRelationalReaders(parentClassInfo)) {
 
                 Object reference = reader.read(parent);
 
-                if (reference != null) {
+                if (reference != null && !isUnloaded(reference)) {
                     if (reference.getClass().isArray()) {
                         addChildren(children, Collections.singletonList(reference));
                     } else if (Collection.class.isAssignableFrom(reference.getClass())) {
@@ -294,6 +312,11 @@ public final class SaveEventDelegate {
         return children;
     }
 
+    // a lazy collection that has not been loaded cannot have been changed
+    private boolean isUnloaded(Object reference) {
+        return reference instanceof LazyCollection && !((LazyCollection) reference).isLoaded();
+    }
+
     private void addChildren(Collection children, Collection references) {
         for (Object reference : references) {
             addChild(children, reference);
@@ -306,7 +329,7 @@ public final class SaveEventDelegate {
 
 
     private Collection<RelationalReader> relationalReaders(Object object) {
-        return EntityAccessManager.getRelationalReaders(this.session.metaData().classInfo(object));
+        return this.session.metaData().entityAccessManager().getRelationalReaders(this.session.metaData().classInfo(object));
     }
 
 
@@ -367,11 +390,11 @@ public final class SaveEventDelegate {
 
             else {
                 // graph relationship is transitive across the RE domain object
-                Object startNode =  EntityAccessManager.getStartNodeReader(referenceInfo).read(reference);
+                Object startNode =  this.session.metaData().entityAccessManager().getStartNodeReader(referenceInfo).read(reference);
                 ClassInfo startNodeInfo = this.session.metaData().classInfo(startNode);
                 Long startNodeId = EntityUtils.identity(startNode, session.metaData());
 
-                Object endNode =  EntityAccessManager.getEndNodeReader(referenceInfo).read(reference);
+                Object endNode =  this.session.metaData().entityAccessManager().getEndNodeReader(referenceInfo).read(reference);
                 ClassInfo endNodeInfo = this.session.metaData().classInfo(endNode);
                 Long endNodeId = EntityUtils.identity(endNode, session.metaData());
 
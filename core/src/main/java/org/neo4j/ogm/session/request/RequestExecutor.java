@@ -15,15 +15,20 @@ package org.neo4j.ogm.session.request;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.neo4j.ogm.annotation.RelationshipEntity;
 import org.neo4j.ogm.compiler.CompileContext;
 import org.neo4j.ogm.compiler.Compiler;
+import org.neo4j.ogm.context.Mappable;
 import org.neo4j.ogm.context.MappedRelationship;
 import org.neo4j.ogm.context.MappingContext;
 import org.neo4j.ogm.context.TransientRelationship;
-import org.neo4j.ogm.entity.io.EntityAccessManager;
 import org.neo4j.ogm.entity.io.FieldWriter;
 import org.neo4j.ogm.entity.io.PropertyReader;
 import org.neo4j.ogm.metadata.ClassInfo;
@@ -43,6 +48,7 @@ import org.slf4j.LoggerFactory;
  * @author Luanne Misquitta
  * @author Vince Bickers
  * @author Jasper Blues
+ * @author Mark Angrish
  */
 public class RequestExecutor {
 
@@ -68,13 +74,13 @@ public class RequestExecutor {
 
 
 	/**
-	 * Execute a save request.
-	 * Decides how the request is split depending upon characteristics of what is to be saved.
-	 * Processes the response(s) and updates the mapping context.
+	 * Execute a save request made up of several CompileContexts in a single transaction.
+	 * Each context is executed and the mapping context updated before the next one is taken from the iterator,
+	 * so a context may be compiled lazily against the identities assigned by the contexts before it.
 	 *
 	 * @param contexts the CompileContexts for this request
 	 */
-	public void executeSave(List<CompileContext> contexts) {
+	public void executeSave(Iterator<CompileContext> contexts) {
 
 		boolean newTransaction = false;
 		Transaction tx = session.getTransaction();
@@ -84,8 +90,8 @@ public class RequestExecutor {
 			newTransaction = true;
 		}
 
-		for (CompileContext context : contexts) {
-			executeSave(context, false);
+		while (contexts.hasNext()) {
+			executeSave(contexts.next(), false);
 		}
 
 		if (newTransaction) {
@@ -184,7 +190,7 @@ public class RequestExecutor {
 			if (!(obj instanceof TransientRelationship)) {
 				ClassInfo classInfo = session.metaData().classInfo(obj);
 				if (!classInfo.isRelationshipEntity()) {
-					PropertyReader idReader = EntityAccessManager.getIdentityPropertyReader(classInfo);
+					PropertyReader idReader = session.metaData().entityAccessManager().getIdentityPropertyReader(classInfo);
 					Long id = (Long) idReader.readProperty(obj);
 					if (id != null) {
 						LOGGER.debug("updating existing node id: {}, {}", id, obj);
@@ -300,6 +306,52 @@ public class RequestExecutor {
 		updateNodeEntities(context, session, entityReferenceMappings);
 		updateRelationshipEntities(context, session, relReferenceMappings);
 		updateRelationships(context, session, relReferenceMappings);
+
+		evictFromSecondLevelCache(context, relReferenceMappings);
+	}
+
+	/**
+	 * Evicts everything written by a request from the second-level cache: the existing entities saved, the end nodes
+	 * of the relationships created or deleted, and the relationships created or updated.
+	 *
+	 * @param context the compile context
+	 * @param relRefMappings mapping of relationship reference used in the compile context and the relationship id from the database
+	 */
+	private void evictFromSecondLevelCache(CompileContext context, List<ReferenceMapping> relRefMappings) {
+		if (!session.secondLevelCache().isEnabled()) {
+			return;
+		}
+
+		Set<Long> nodeIds = new HashSet<>();
+		Set<Long> relationshipIds = new HashSet<>();
+
+		for (Object obj : context.registry()) {
+			if (obj instanceof TransientRelationship) {
+				TransientRelationship transientRelationship = (TransientRelationship) obj;
+				nodeIds.add(context.getId(transientRelationship.getSrc()));
+				nodeIds.add(context.getId(transientRelationship.getTgt()));
+			} else {
+				ClassInfo classInfo = session.metaData().classInfo(obj);
+				PropertyReader idReader = session.metaData().entityAccessManager().getIdentityPropertyReader(classInfo);
+				Long id = (Long) idReader.readProperty(obj);
+				if (id != null) {
+					if (classInfo.isRelationshipEntity()) {
+						relationshipIds.add(id);
+					} else {
+						nodeIds.add(id);
+					}
+				}
+			}
+		}
+		for (Mappable deletedRelationship : context.getDeletedRelationships()) {
+			nodeIds.add(deletedRelationship.getStartNodeId());
+			nodeIds.add(deletedRelationship.getEndNodeId());
+		}
+		for (ReferenceMapping referenceMapping : relRefMappings) {
+			relationshipIds.add(referenceMapping.id);
+		}
+
+		session.evictFromSecondLevelCache(nodeIds, relationshipIds);
 	}
 
 	/**
@@ -310,17 +362,33 @@ public class RequestExecutor {
 	 * @param relRefMappings mapping of relationship reference used in the compile context and the relationship id from the database
 	 */
 	private void updateRelationships(CompileContext context, Neo4jSession session, List<ReferenceMapping> relRefMappings) {
+		if (relRefMappings.isEmpty()) {
+			return;
+		}
+
+		// index the transient relationships by reference, a collection save can register a great many of them
+		Map<Long, List<TransientRelationship>> transientRelationships = new HashMap<>();
+		for (Object obj : context.registry()) {
+			if (obj instanceof TransientRelationship) {
+				TransientRelationship transientRelationship = (TransientRelationship) obj;
+				List<TransientRelationship> withRef = transientRelationships.get(transientRelationship.getRef());
+				if (withRef == null) {
+					withRef = new ArrayList<>(1);
+					transientRelationships.put(transientRelationship.getRef(), withRef);
+				}
+				withRef.add(transientRelationship);
+			}
+		}
+
 		for (ReferenceMapping referenceMapping : relRefMappings) {
-			for (Object obj : context.registry()) {
-				if (obj instanceof TransientRelationship) {
-					TransientRelationship transientRelationship = (TransientRelationship) obj;
-					if (referenceMapping.ref.equals(transientRelationship.getRef())) {
-						MappedRelationship mappedRelationship = new MappedRelationship(context.getId(transientRelationship.getSrc()), transientRelationship.getRel(), context.getId(transientRelationship.getTgt()), transientRelationship.getSrcClass(), transientRelationship.getTgtClass());
-						if (session.context().getRelationshipEntity(referenceMapping.id) != null) {
-							mappedRelationship.setRelationshipId(referenceMapping.id);
-						}
-						session.context().addRelationship(mappedRelationship);
+			List<TransientRelationship> withRef = transientRelationships.get(referenceMapping.ref);
+			if (withRef != null) {
+				for (TransientRelationship transientRelationship : withRef) {
+					MappedRelationship mappedRelationship = new MappedRelationship(context.getId(transientRelationship.getSrc()), transientRelationship.getRel(), context.getId(transientRelationship.getTgt()), transientRelationship.getSrcClass(), transientRelationship.getTgtClass());
+					if (session.context().getRelationshipEntity(referenceMapping.id) != null) {
+						mappedRelationship.setRelationshipId(referenceMapping.id);
 					}
+					session.context().addRelationship(mappedRelationship);
 				}
 			}
 		}
@@ -22,6 +22,7 @@ import org.neo4j.ogm.cypher.query.CypherQuery;
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public interface DeleteStatements {
 
@@ -78,6 +79,14 @@ public interface DeleteStatements {
      */
     CypherQuery deleteAndList(String type);
 
+    /**
+     * construct a query to delete at most limit objects with the specified label or relationship type and return a count of deleted objects
+     * @param type the label attached to the object, or the relationship type
+     * @param limit the maximum number of objects to delete
+     * @return a {@link CypherQuery}
+     */
+    CypherQuery deleteAndCount(String type, int limit);
+
     /**
      * construct queries to delete all objects with the specified label that match the specified filters
      * @param type the label value or relationship type to filter on
@@ -105,4 +114,13 @@ public interface DeleteStatements {
 
     CypherQuery deleteAndList(String type, Iterable<Filter> filters);
 
+    /**
+     * construct queries to delete at most limit objects with the specified label that match the specified filters and return a list of deleted object ids
+     * @param type the label value or relationship type to filter on
+     * @param filters parameters to filter on
+     * @param limit the maximum number of objects to delete
+     * @return a {@link CypherQuery}
+     */
+    CypherQuery deleteAndList(String type, Iterable<Filter> filters, int limit);
+
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.request.strategy;
+
+/**
+ * Denotes the shapes of the queries that load entities to a depth greater than zero.
+ *
+ * @author Mark Angrish
+ */
+public enum LoadStrategy {
+
+	/**
+	 * Returns every path from each entity loaded up to the depth requested. Paths sharing nodes and relationships
+	 * return them again, once per path.
+	 */
+	PATH("path"),
+
+	/**
+	 * Expands from each entity loaded one hop at a time, returning the distinct nodes and relationships reached by
+	 * each hop. Queries that sort or page their entities, or filter them, still return paths.
+	 */
+	FETCH_PLAN("fetch_plan");
+
+	/**
+	 * Parses an option name into the Enumeration type it represents.
+	 *
+	 * @param name The lowercase name to parse.
+	 *
+	 * @return The <code>LoadStrategy</code> this name represents.
+	 */
+	public static LoadStrategy fromString(String name) {
+		if (name != null) {
+			for (LoadStrategy strategy : LoadStrategy.values()) {
+				if (name.equalsIgnoreCase(strategy.name)) {
+					return strategy;
+				}
+			}
+		}
+		return null;
+	}
+
+	private final String name;
+
+	LoadStrategy(String name) {
+		this.name = name;
+	}
+
+	public String getName() {
+		return name;
+	}
+}
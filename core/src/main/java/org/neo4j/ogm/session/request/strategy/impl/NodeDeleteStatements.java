@@ -13,6 +13,8 @@
 package org.neo4j.ogm.session.request.strategy.impl;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
@@ -24,6 +26,7 @@ import org.neo4j.ogm.session.request.strategy.DeleteStatements;
 
 /**
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class NodeDeleteStatements implements DeleteStatements {
 
@@ -35,7 +38,7 @@ public class NodeDeleteStatements implements DeleteStatements {
 
     @Override
     public CypherQuery delete(Collection<Long> ids) {
-        return new DefaultRowModelRequest("MATCH (n) WHERE ID(n) in { ids } OPTIONAL MATCH (n)-[r0]-() DELETE r0, n", Utils.map("ids", ids));
+        return new DefaultRowModelRequest("UNWIND { ids } AS id MATCH (n) WHERE ID(n) = id OPTIONAL MATCH (n)-[r0]-() DELETE r0, n", Utils.map("ids", ids));
     }
 
     @Override
@@ -68,6 +71,11 @@ public class NodeDeleteStatements implements DeleteStatements {
         return new DefaultRowModelRequest(String.format("MATCH (n:`%s`) OPTIONAL MATCH (n)-[r0]-() DELETE r0, n RETURN ID(n)", label), Utils.map());
     }
 
+    @Override
+    public CypherQuery deleteAndCount(String label, int limit) {
+        return new DefaultRowModelRequest(String.format("MATCH (n:`%s`) WITH n LIMIT { limit } OPTIONAL MATCH (n)-[r0]-() DELETE r0, n RETURN COUNT(DISTINCT n)", label), Utils.map("limit", limit));
+    }
+
     @Override
     public CypherQuery delete(String label, Iterable<Filter> filters) {
         FilteredQuery query = FilteredQueryBuilder.buildNodeQuery(label, filters);
@@ -87,4 +95,13 @@ public class NodeDeleteStatements implements DeleteStatements {
         FilteredQuery query = FilteredQueryBuilder.buildNodeQuery(label, filters);
         query.setReturnClause(" OPTIONAL MATCH (n)-[r0]-() DELETE r0, n RETURN ID(n)");
         return new DefaultRowModelRequest(query.statement(), query.parameters());    }
+
+    @Override
+    public CypherQuery deleteAndList(String label, Iterable<Filter> filters, int limit) {
+        FilteredQuery query = FilteredQueryBuilder.buildNodeQuery(label, filters);
+        query.setReturnClause(" WITH DISTINCT n LIMIT { limit } OPTIONAL MATCH (n)-[r0]-() DELETE r0, n RETURN DISTINCT ID(n)");
+        Map<String, Object> parameters = new HashMap<>(query.parameters());
+        parameters.put("limit", limit);
+        return new DefaultRowModelRequest(query.statement(), parameters);
+    }
 }
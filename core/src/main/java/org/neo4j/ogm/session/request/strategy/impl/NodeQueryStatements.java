@@ -14,25 +14,45 @@
 package org.neo4j.ogm.session.request.strategy.impl;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
+import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.StatementTemplates;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.session.request.FilteredQuery;
 import org.neo4j.ogm.session.request.FilteredQueryBuilder;
+import org.neo4j.ogm.session.request.strategy.LoadStrategy;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 
 /**
+ * The Cypher of each kind of query is rendered once per label and depth, see {@link StatementTemplates}.
+ *
+ * Relationships of the lazily loaded types of the entity being loaded are not followed from it: they are loaded a page
+ * at a time by {@link #findRelated(Serializable, String, String, long, int)} once their collection is first used.
+ *
+ * With the {@link LoadStrategy#FETCH_PLAN} strategy, an entity is loaded to a depth by expanding its graph one hop at a
+ * time, collecting the distinct relationships and nodes each hop reaches, rather than by matching every path up to
+ * that depth, of which there can be many more than there are nodes and relationships on them.
+ *
  * @author Vince Bickers
  * @author Luanne Misquitta
  * @author Mark Angrish
  */
 public class NodeQueryStatements<ID extends Serializable> implements QueryStatements<ID> {
 
+    private static final String LAZY_TYPES_EXCLUDED = " WHERE NONE(r IN relationships(p)[0..1] WHERE type(r) IN { lazyTypes })";
+    private static final String LAZY_TYPES_NOT_EXPANDED = " WHERE NOT type(r) IN { lazyTypes }";
+
     private String primaryIndex;
+    private Collection<String> lazyTypes = Collections.emptySet();
+    private LoadStrategy loadStrategy = LoadStrategy.PATH;
 
     public NodeQueryStatements() {
         // do nothing...
@@ -42,21 +62,41 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         this.primaryIndex = primaryIndex;
     }
 
+    /**
+     * @param primaryIndex the property of the primary index of the entity loaded, or null to load it by id
+     * @param lazyTypes the types of the relationships not to be followed from the entity loaded
+     */
+    public NodeQueryStatements(String primaryIndex, Collection<String> lazyTypes) {
+        this.primaryIndex = primaryIndex;
+        if (lazyTypes != null) {
+            this.lazyTypes = lazyTypes;
+        }
+    }
+
+    /**
+     * @param primaryIndex the property of the primary index of the entity loaded, or null to load it by id
+     * @param lazyTypes the types of the relationships not to be followed from the entity loaded
+     * @param loadStrategy the shape of the queries loading entities to a depth greater than zero
+     */
+    public NodeQueryStatements(String primaryIndex, Collection<String> lazyTypes, LoadStrategy loadStrategy) {
+        this(primaryIndex, lazyTypes);
+        if (loadStrategy != null) {
+            this.loadStrategy = loadStrategy;
+        }
+    }
+
     @Override
     public PagingAndSortingQuery findOne(ID id, int depth) {
         int max = max(depth);
         int min = min(max);
         if (depth < 0) {
-            return InfiniteDepthReadStrategy.findOne(id, primaryIndex);
+            return InfiniteDepthReadStrategy.findOne(id, primaryIndex, lazyTypesExcluded(), parameters("id", id));
         }
         if (max > 0) {
-            String qry;
             if (primaryIndex != null) {
-                qry = String.format("MATCH (n) WHERE n." + primaryIndex + " = { id } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", min, max);
-            } else {
-                qry = String.format("MATCH (n) WHERE ID(n) = { id } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", min, max);
+                return load(Template.FIND_ONE_BY_PRIMARY_INDEX, FetchPlan.FIND_ONE_BY_PRIMARY_INDEX, min, max, parameters("id", id), primaryIndex);
             }
-            return new DefaultGraphModelRequest(qry, Utils.map("id", id));
+            return load(Template.FIND_ONE, FetchPlan.FIND_ONE, min, max, parameters("id", id));
         } else {
             return DepthZeroReadStrategy.findOne(id, primaryIndex);
         }
@@ -67,11 +107,10 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         int max = max(depth);
         int min = min(max);
         if (depth < 0) {
-            return InfiniteDepthReadStrategy.findAll(ids);
+            return InfiniteDepthReadStrategy.findAll(lazyTypesExcluded(), parameters("ids", ids));
         }
         if (max > 0) {
-            String qry = String.format("MATCH (n) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", min, max);
-            return new DefaultGraphModelRequest(qry, Utils.map("ids", ids));
+            return load(Template.FIND_ALL, FetchPlan.FIND_ALL, min, max, parameters("ids", ids));
         } else {
             return DepthZeroReadStrategy.findAll(ids);
         }
@@ -82,11 +121,10 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         int max = max(depth);
         int min = min(max);
         if (depth < 0) {
-            return InfiniteDepthReadStrategy.findAllByLabel(label, ids);
+            return InfiniteDepthReadStrategy.findAllByLabel(label, lazyTypesExcluded(), parameters("ids", ids));
         }
         if (max > 0) {
-            String qry = String.format("MATCH (n:`%s`) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", label, min, max);
-            return new DefaultGraphModelRequest(qry, Utils.map("ids", ids));
+            return load(Template.FIND_ALL_BY_LABEL, FetchPlan.FIND_ALL_BY_LABEL, min, max, parameters("ids", ids), label);
         } else {
             return DepthZeroReadStrategy.findAllByLabel(label, ids);
         }
@@ -102,11 +140,10 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         int max = max(depth);
         int min = min(max);
         if (depth < 0) {
-            return InfiniteDepthReadStrategy.findByLabel(label);
+            return InfiniteDepthReadStrategy.findByLabel(label, lazyTypesExcluded(), parameters());
         }
         if (max > 0) {
-            String qry = String.format("MATCH (n:`%s`) WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p", label, min, max);
-            return new DefaultGraphModelRequest(qry, Utils.map());
+            return load(Template.FIND_BY_LABEL, FetchPlan.FIND_BY_LABEL, min, max, parameters(), label);
         } else {
             return DepthZeroReadStrategy.findByLabel(label);
         }
@@ -117,17 +154,87 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         int max = max(depth);
         int min = min(max);
         if (depth < 0) {
-            return InfiniteDepthReadStrategy.findByProperties(label, parameters);
+            FilteredQuery query = InfiniteDepthReadStrategy.findByProperties(label, parameters, lazyTypesExcluded());
+            return new DefaultGraphRowListModelRequest(query.statement(), withLazyTypes(query.parameters()));
         }
         if (max > 0) {
             FilteredQuery query = FilteredQueryBuilder.buildNodeQuery(label, parameters);
-            query.setReturnClause(String.format("WITH n MATCH p=(n)-[*%d..%d]-(m) RETURN p, ID(n)", min, max));
-            return new DefaultGraphRowListModelRequest(query.statement(), query.parameters());
+            query.setReturnClause(StatementTemplates.cypher(Template.RETURN_PATHS_WITH_ID, min, max, lazyTypesExcluded()));
+            return new DefaultGraphRowListModelRequest(query.statement(), withLazyTypes(query.parameters()));
         } else {
             return DepthZeroReadStrategy.findByProperties(label, parameters);
         }
     }
 
+    /**
+     * Finds a page of the entities related to an entity by relationships of one type, in the order of the ids of the
+     * relationships. The page starts after the last relationship of the previous page rather than skipping the
+     * relationships before it, so that reading each page costs the same however many pages were read before.
+     *
+     * @param id the id of the entity
+     * @param type the type of the relationships
+     * @param direction the direction of the relationships from the entity, see {@link Relationship}
+     * @param lastId the largest id of the relationships already found, or -1 for the first page
+     * @param limit the maximum number of relationships to return
+     * @return a query returning one path per relationship found
+     */
+    public PagingAndSortingQuery findRelated(ID id, String type, String direction, long lastId, int limit) {
+        Template template;
+        if (Relationship.INCOMING.equals(direction)) {
+            template = Template.FIND_RELATED_INCOMING;
+        } else if (Relationship.UNDIRECTED.equals(direction)) {
+            template = Template.FIND_RELATED_UNDIRECTED;
+        } else {
+            template = Template.FIND_RELATED_OUTGOING;
+        }
+        String qry = StatementTemplates.cypher(template, type);
+        return new DefaultGraphModelRequest(qry, Utils.map("id", id, "lastId", lastId, "limit", limit));
+    }
+
+    /**
+     * Builds the request loading entities to a depth greater than zero with the configured {@link LoadStrategy}.
+     *
+     * @param paths the template of the query matching paths
+     * @param fetchPlan the template of the query expanding hops
+     * @param min the minimum depth
+     * @param max the maximum depth
+     * @param parameters the parameters of the query
+     * @param match the values filling the match of the entities loaded
+     * @return the request
+     */
+    private DefaultGraphModelRequest load(Template paths, FetchPlan fetchPlan, int min, int max, Map<String, Object> parameters, Object... match) {
+        String qry = StatementTemplates.cypher(paths, shape(match, min, max, lazyTypesExcluded()));
+        if (loadStrategy == LoadStrategy.FETCH_PLAN) {
+            return new FetchPlanRequest(qry, StatementTemplates.cypher(fetchPlan, shape(match, max, lazyTypesNotExpanded())), parameters);
+        }
+        return new DefaultGraphModelRequest(qry, parameters);
+    }
+
+    private static Object[] shape(Object[] match, Object... rest) {
+        Object[] shape = Arrays.copyOf(match, match.length + rest.length);
+        System.arraycopy(rest, 0, shape, match.length, rest.length);
+        return shape;
+    }
+
+    private String lazyTypesNotExpanded() {
+        return lazyTypes.isEmpty() ? "" : LAZY_TYPES_NOT_EXPANDED;
+    }
+
+    private String lazyTypesExcluded() {
+        return lazyTypes.isEmpty() ? "" : LAZY_TYPES_EXCLUDED;
+    }
+
+    private Map<String, Object> parameters(Object... keysAndValues) {
+        return withLazyTypes(Utils.map(keysAndValues));
+    }
+
+    private Map<String, Object> withLazyTypes(Map<String, Object> parameters) {
+        if (!lazyTypes.isEmpty()) {
+            parameters.put("lazyTypes", lazyTypes);
+        }
+        return parameters;
+    }
+
     private int min(int depth) {
         return Math.min(0, depth);
     }
@@ -136,6 +243,100 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         return Math.max(0, depth);
     }
 
+    private enum Template implements StatementTemplates.Template {
+
+        FIND_ONE("MATCH (n) WHERE ID(n) = { id } WITH n MATCH p=(n)-[*%d..%d]-(m)%s RETURN p"),
+        FIND_ONE_BY_PRIMARY_INDEX("MATCH (n) WHERE n.%s = { id } WITH n MATCH p=(n)-[*%d..%d]-(m)%s RETURN p"),
+        FIND_ALL("MATCH (n) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*%d..%d]-(m)%s RETURN p"),
+        FIND_ALL_BY_LABEL("MATCH (n:`%s`) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*%d..%d]-(m)%s RETURN p"),
+        FIND_BY_LABEL("MATCH (n:`%s`) WITH n MATCH p=(n)-[*%d..%d]-(m)%s RETURN p"),
+        RETURN_PATHS_WITH_ID("WITH n MATCH p=(n)-[*%d..%d]-(m)%s RETURN p, ID(n)"),
+        FIND_ALL_BY_LABEL_AT_DEPTH_ZERO("MATCH (n:`%s`) WHERE ID(n) IN { ids } RETURN n"),
+        FIND_BY_LABEL_AT_DEPTH_ZERO("MATCH (n:`%s`) RETURN n"),
+        FIND_ALL_BY_LABEL_AT_INFINITE_DEPTH("MATCH (n:`%s`) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*0..]-(m)%s RETURN p"),
+        FIND_BY_LABEL_AT_INFINITE_DEPTH("MATCH (n:`%s`) WITH n MATCH p=(n)-[*0..]-(m)%s RETURN p"),
+        FIND_RELATED_OUTGOING("MATCH p=(n)-[r:`%s`]->() WHERE ID(n) = { id } AND ID(r) > { lastId } WITH p, r ORDER BY ID(r) LIMIT { limit } RETURN p"),
+        FIND_RELATED_INCOMING("MATCH p=(n)<-[r:`%s`]-() WHERE ID(n) = { id } AND ID(r) > { lastId } WITH p, r ORDER BY ID(r) LIMIT { limit } RETURN p"),
+        FIND_RELATED_UNDIRECTED("MATCH p=(n)-[r:`%s`]-() WHERE ID(n) = { id } AND ID(r) > { lastId } WITH p, r ORDER BY ID(r) LIMIT { limit } RETURN p");
+
+        private final String format;
+
+        Template(String format) {
+            this.format = format;
+        }
+
+        @Override
+        public String render(Object[] shape) {
+            return String.format(format, shape);
+        }
+    }
+
+    /**
+     * The templates of the queries expanding the graph of each entity matched one hop at a time. Each hop matches
+     * the relationships of the nodes first reached by the hop before it, or of the entity itself for the first hop.
+     * Only the relationships and nodes no earlier hop found are carried on, and only those nodes are expanded by the
+     * next hop. A query returns one row per entity, holding the nodes and relationships of all the hops, each once.
+     * Filtered loads do not use a fetch plan, and still match paths.
+     */
+    private enum FetchPlan implements StatementTemplates.Template {
+
+        FIND_ONE("MATCH (n) WHERE ID(n) = { id }"),
+        FIND_ONE_BY_PRIMARY_INDEX("MATCH (n) WHERE n.%s = { id }"),
+        FIND_ALL("MATCH (n) WHERE ID(n) IN { ids }"),
+        FIND_ALL_BY_LABEL("MATCH (n:`%s`) WHERE ID(n) IN { ids }"),
+        FIND_BY_LABEL("MATCH (n:`%s`)");
+
+        private final String match;
+
+        FetchPlan(String match) {
+            this.match = match;
+        }
+
+        /**
+         * @param shape the values filling the match, followed by the depth and the condition on the first hop
+         */
+        @Override
+        public String render(Object[] shape) {
+            int depth = (Integer) shape[shape.length - 2];
+            String firstHopCondition = (String) shape[shape.length - 1];
+
+            StringBuilder cypher = new StringBuilder(String.format(match, Arrays.copyOf(shape, shape.length - 2)));
+            cypher.append(" WITH n, [n] AS frontier, [n] AS nodes, [] AS rels");
+            for (int hop = 0; hop < depth; hop++) {
+                // a hop with nothing to expand still has to return a row, or the entity would be lost
+                cypher.append(" UNWIND CASE size(frontier) WHEN 0 THEN [null] ELSE frontier END AS s OPTIONAL MATCH (s)-[r]-(m)")
+                        .append(hop == 0 ? firstHopCondition : "")
+                        .append(" WITH n, nodes, rels, collect(DISTINCT r) AS hopRels, collect(DISTINCT m) AS hopNodes")
+                        .append(" WITH n, nodes, rels + [x IN hopRels WHERE NOT x IN rels] AS rels, [x IN hopNodes WHERE NOT x IN nodes] AS frontier")
+                        .append(" WITH n, nodes + frontier AS nodes, rels, frontier");
+            }
+            return cypher.append(" RETURN nodes, rels").toString();
+        }
+    }
+
+    /**
+     * A request running a fetch plan, unless its entities are sorted or paged. The entities of a fetch plan are not
+     * returned in any particular order, and sorting or paging them requires their ids in rows of their own, so the
+     * paths are matched instead.
+     */
+    private static class FetchPlanRequest extends DefaultGraphModelRequest {
+
+        private final String fetchPlan;
+
+        FetchPlanRequest(String paths, String fetchPlan, Map<String, ?> parameters) {
+            super(paths, parameters);
+            this.fetchPlan = fetchPlan;
+        }
+
+        @Override
+        public String getStatement() {
+            if (page() == null && sortOrder().toString().length() == 0) {
+                return fetchPlan;
+            }
+            return super.getStatement();
+        }
+    }
+
     private static class DepthZeroReadStrategy {
 
         public static <ID extends Serializable> DefaultGraphModelRequest findOne(ID id, String primaryIndex) {
@@ -150,12 +351,12 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
         }
 
         public static <ID extends Serializable> DefaultGraphModelRequest findAllByLabel(String label, Collection<ID> ids) {
-            return new DefaultGraphModelRequest(String.format("MATCH (n:`%s`) WHERE ID(n) IN { ids } RETURN n", label), Utils.map("ids", ids));
+            return new DefaultGraphModelRequest(StatementTemplates.cypher(Template.FIND_ALL_BY_LABEL_AT_DEPTH_ZERO, label), Utils.map("ids", ids));
         }
 
 
         public static DefaultGraphModelRequest findByLabel(String label) {
-            return new DefaultGraphModelRequest(String.format("MATCH (n:`%s`) RETURN n", label), Utils.map());
+            return new DefaultGraphModelRequest(StatementTemplates.cypher(Template.FIND_BY_LABEL_AT_DEPTH_ZERO, label), Utils.map());
         }
 
         public static DefaultGraphModelRequest findByProperties(String label, Filters parameters) {
@@ -167,29 +368,29 @@ public class NodeQueryStatements<ID extends Serializable> implements QueryStatem
 
     private static class InfiniteDepthReadStrategy {
 
-        public static <ID extends Serializable> DefaultGraphModelRequest findOne(ID id, String primaryIndex) {
+        public static DefaultGraphModelRequest findOne(Object id, String primaryIndex, String lazyTypesExcluded, Map<String, Object> parameters) {
             if (primaryIndex != null) {
-                return new DefaultGraphModelRequest("MATCH (n) WHERE n." + primaryIndex + " = { id } WITH n MATCH p=(n)-[*0..]-(m) RETURN p", Utils.map("id", id));
+                return new DefaultGraphModelRequest("MATCH (n) WHERE n." + primaryIndex + " = { id } WITH n MATCH p=(n)-[*0..]-(m)" + lazyTypesExcluded + " RETURN p", parameters);
             }
-            return new DefaultGraphModelRequest("MATCH (n) WHERE ID(n) = { id } WITH n MATCH p=(n)-[*0..]-(m) RETURN p", Utils.map("id", id));
+            return new DefaultGraphModelRequest("MATCH (n) WHERE ID(n) = { id } WITH n MATCH p=(n)-[*0..]-(m)" + lazyTypesExcluded + " RETURN p", parameters);
         }
 
-        public static <ID extends Serializable> DefaultGraphModelRequest findAll(Collection<ID> ids) {
-            return new DefaultGraphModelRequest("MATCH (n) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*0..]-(m) RETURN p", Utils.map("ids", ids));
+        public static DefaultGraphModelRequest findAll(String lazyTypesExcluded, Map<String, Object> parameters) {
+            return new DefaultGraphModelRequest("MATCH (n) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*0..]-(m)" + lazyTypesExcluded + " RETURN p", parameters);
         }
 
-        public static <ID extends Serializable> DefaultGraphModelRequest findAllByLabel(String label, Collection<ID> ids) {
-            return new DefaultGraphModelRequest(String.format("MATCH (n:`%s`) WHERE ID(n) IN { ids } WITH n MATCH p=(n)-[*0..]-(m) RETURN p", label), Utils.map("ids", ids));
+        public static DefaultGraphModelRequest findAllByLabel(String label, String lazyTypesExcluded, Map<String, Object> parameters) {
+            return new DefaultGraphModelRequest(StatementTemplates.cypher(Template.FIND_ALL_BY_LABEL_AT_INFINITE_DEPTH, label, lazyTypesExcluded), parameters);
         }
 
-        public static  DefaultGraphModelRequest findByLabel(String label) {
-            return new DefaultGraphModelRequest(String.format("MATCH (n:`%s`) WITH n MATCH p=(n)-[*0..]-(m) RETURN p", label), Utils.map());
+        public static  DefaultGraphModelRequest findByLabel(String label, String lazyTypesExcluded, Map<String, Object> parameters) {
+            return new DefaultGraphModelRequest(StatementTemplates.cypher(Template.FIND_BY_LABEL_AT_INFINITE_DEPTH, label, lazyTypesExcluded), parameters);
         }
 
-        public static  DefaultGraphRowListModelRequest findByProperties(String label, Filters parameters) {
+        public static FilteredQuery findByProperties(String label, Filters parameters, String lazyTypesExcluded) {
             FilteredQuery query = FilteredQueryBuilder.buildNodeQuery(label, parameters);
-            query.setReturnClause(" WITH n MATCH p=(n)-[*0..]-(m) RETURN p, ID(n)");
-            return new DefaultGraphRowListModelRequest(query.statement(), query.parameters());
+            query.setReturnClause(" WITH n MATCH p=(n)-[*0..]-(m)" + lazyTypesExcluded + " RETURN p, ID(n)");
+            return query;
         }
     }
 }
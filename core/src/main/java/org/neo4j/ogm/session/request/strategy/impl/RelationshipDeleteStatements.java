@@ -15,6 +15,8 @@ package org.neo4j.ogm.session.request.strategy.impl;
 
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.neo4j.ogm.cypher.Filter;
 import org.neo4j.ogm.cypher.query.CypherQuery;
@@ -27,6 +29,7 @@ import org.neo4j.ogm.session.request.strategy.DeleteStatements;
 /**
  * @author Luanne Misquitta
  * @author Jasper Blues
+ * @author Mark Angrish
  */
 public class RelationshipDeleteStatements implements DeleteStatements {
 
@@ -35,7 +38,7 @@ public class RelationshipDeleteStatements implements DeleteStatements {
     }
 
     public CypherQuery delete(Collection<Long> ids) {
-        return new DefaultRowModelRequest("MATCH (n)-[r0]->() WHERE ID(r0) IN { ids } DELETE r0", Utils.map("ids", ids));
+        return new DefaultRowModelRequest("UNWIND { ids } AS id MATCH (n)-[r0]->() WHERE ID(r0) = id DELETE r0", Utils.map("ids", ids));
     }
 
     public CypherQuery deleteAll() {
@@ -66,6 +69,11 @@ public class RelationshipDeleteStatements implements DeleteStatements {
         return new DefaultRowModelRequest(String.format("MATCH (n)-[r0:`%s`]-() DELETE r0 RETURN ID(r0)", type), Utils.map());
     }
 
+    @Override
+    public CypherQuery deleteAndCount(String type, int limit) {
+        return new DefaultRowModelRequest(String.format("MATCH (n)-[r0:`%s`]->() WITH r0 LIMIT { limit } DELETE r0 RETURN COUNT(r0)", type), Utils.map("limit", limit));
+    }
+
     @Override
     public CypherQuery delete(String type, Iterable<Filter> filters) {
         FilteredQuery query = FilteredQueryBuilder.buildRelationshipQuery(type, filters);
@@ -86,4 +94,13 @@ public class RelationshipDeleteStatements implements DeleteStatements {
         query.setReturnClause(" DELETE r0 RETURN ID(r0)");
         return new DefaultRowModelRequest(query.statement(), query.parameters());
     }
+
+    @Override
+    public CypherQuery deleteAndList(String type, Iterable<Filter> filters, int limit) {
+        FilteredQuery query = FilteredQueryBuilder.buildRelationshipQuery(type, filters);
+        query.setReturnClause(" WITH DISTINCT r0 LIMIT { limit } DELETE r0 RETURN ID(r0)");
+        Map<String, Object> parameters = new HashMap<>(query.parameters());
+        parameters.put("limit", limit);
+        return new DefaultRowModelRequest(query.statement(), parameters);
+    }
 }
@@ -20,6 +20,7 @@ import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.DefaultGraphModelRequest;
 import org.neo4j.ogm.cypher.query.DefaultGraphRowListModelRequest;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.StatementTemplates;
 import org.neo4j.ogm.exception.InvalidDepthException;
 import org.neo4j.ogm.session.Utils;
 import org.neo4j.ogm.session.request.FilteredQuery;
@@ -27,7 +28,10 @@ import org.neo4j.ogm.session.request.FilteredQueryBuilder;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 
 /**
+ * The Cypher of each kind of query is rendered once per type and depth, see {@link StatementTemplates}.
+ *
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class RelationshipQueryStatements<ID extends Serializable> implements QueryStatements<ID> {
 
@@ -52,7 +56,7 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
         int max = max(depth);
         int min = min(max);
         if (max > 0) {
-            String qry = String.format(MATCH_WITH_ID + MATCH_PATHS,min,max,min,max);
+            String qry = StatementTemplates.cypher(Template.FIND_ONE, min, max, min, max);
             return new DefaultGraphModelRequest(qry, Utils.map("id", id));
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
@@ -64,7 +68,7 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
         int max = max(depth);
         int min = min(max);
         if (max > 0) {
-            String qry = String.format(MATCH_WITH_IDS + MATCH_PATHS_WITH_REL_ID, min,max,min,max);
+            String qry = StatementTemplates.cypher(Template.FIND_ALL, min, max, min, max);
             return new DefaultGraphModelRequest(qry, Utils.map("ids", ids));
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
@@ -76,7 +80,7 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
         int max = max(depth);
         int min = min(max);
         if (max > 0) {
-            String qry = String.format(MATCH_WITH_TYPE_AND_IDS + MATCH_PATHS_WITH_REL_ID, type,min,max,max,max);
+            String qry = StatementTemplates.cypher(Template.FIND_ALL_BY_TYPE, type, min, max, max, max);
             return new DefaultGraphModelRequest(qry, Utils.map("ids", ids));
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
@@ -92,7 +96,7 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
     public PagingAndSortingQuery findByType(String type, int depth) {
         int max = max(depth);
         if (max > 0) {
-           String qry = String.format("MATCH ()-[r0:`%s`]-() " + MATCH_PATHS_WITH_REL_ID, type, 0, max, 0, max);
+           String qry = StatementTemplates.cypher(Template.FIND_BY_TYPE, type, 0, max, 0, max);
             return new DefaultGraphModelRequest(qry, Utils.map());
         } else {
             throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
@@ -106,7 +110,7 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
 		int min = min(max);
 		if (max > 0) {
             FilteredQuery query = FilteredQueryBuilder.buildRelationshipQuery(type, parameters);
-			query.setReturnClause(String.format(MATCH_PATHS_WITH_REL_ID, min, max, min, max));
+			query.setReturnClause(StatementTemplates.cypher(Template.RETURN_PATHS_WITH_ID, min, max, min, max));
 			return new DefaultGraphRowListModelRequest(query.statement(), query.parameters());
 		} else {
 			throw new InvalidDepthException("Cannot load a relationship entity with depth 0 i.e. no start or end node");
@@ -120,4 +124,24 @@ public class RelationshipQueryStatements<ID extends Serializable> implements Que
     private int max(int depth) {
 		return Math.max(0, depth);
 	}
+
+    private enum Template implements StatementTemplates.Template {
+
+        FIND_ONE(MATCH_WITH_ID + MATCH_PATHS),
+        FIND_ALL(MATCH_WITH_IDS + MATCH_PATHS_WITH_REL_ID),
+        FIND_ALL_BY_TYPE(MATCH_WITH_TYPE_AND_IDS + MATCH_PATHS_WITH_REL_ID),
+        FIND_BY_TYPE("MATCH ()-[r0:`%s`]-() " + MATCH_PATHS_WITH_REL_ID),
+        RETURN_PATHS_WITH_ID(MATCH_PATHS_WITH_REL_ID);
+
+        private final String format;
+
+        Template(String format) {
+            this.format = format;
+        }
+
+        @Override
+        public String render(Object[] shape) {
+            return String.format(format, shape);
+        }
+    }
 }
@@ -13,6 +13,7 @@
 
 package org.neo4j.ogm.session.transaction;
 
+import org.neo4j.ogm.context.SecondLevelCache;
 import org.neo4j.ogm.driver.Driver;
 import org.neo4j.ogm.exception.TransactionManagerException;
 import org.neo4j.ogm.service.Components;
@@ -25,6 +26,7 @@ import org.neo4j.ogm.transaction.TransactionManager;
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class DefaultTransactionManager implements TransactionManager {
 
@@ -39,7 +41,6 @@ public class DefaultTransactionManager implements TransactionManager {
 
 	public DefaultTransactionManager(Session session, Driver driver) {
 		this.driver = driver;
-		this.driver.setTransactionManager(this);
 		this.session = session;
 
 		TRANSACTION_THREAD_LOCAL.remove();
@@ -68,7 +69,7 @@ public class DefaultTransactionManager implements TransactionManager {
 	 */
 	public Transaction openTransaction(Transaction.Type type) {
 		if (TRANSACTION_THREAD_LOCAL.get() == null) {
-			TRANSACTION_THREAD_LOCAL.set(driver.newTransaction(type, session != null ? session.getLastBookmark(): null));
+			TRANSACTION_THREAD_LOCAL.set(driver.newTransaction(this, type, session != null ? session.getLastBookmark(): null));
 		} else {
 			((AbstractTransaction) TRANSACTION_THREAD_LOCAL.get()).extend(type);
 		}
@@ -100,7 +101,8 @@ public class DefaultTransactionManager implements TransactionManager {
 	 * Commits the specified TRANSACTION_THREAD_LOCAL.
 	 * The actual job of committing the TRANSACTION_THREAD_LOCAL is left to the relevant driver. if
 	 * this is successful, the TRANSACTION_THREAD_LOCAL is detached from this thread.
-	 * If the specified TRANSACTION_THREAD_LOCAL is not the correct one for this thread, throws an exception
+	 * If the specified TRANSACTION_THREAD_LOCAL is not the correct one for this thread, throws an exception.
+	 * Anything written in the TRANSACTION_THREAD_LOCAL is evicted from the second-level cache once more.
 	 *
 	 * @param tx the TRANSACTION_THREAD_LOCAL to commit
 	 */
@@ -109,6 +111,16 @@ public class DefaultTransactionManager implements TransactionManager {
 			throw new TransactionManagerException("Transaction is not current for this thread");
 		}
 		TRANSACTION_THREAD_LOCAL.remove();
+
+		if (session != null) {
+			AbstractTransaction committed = (AbstractTransaction) tx;
+			SecondLevelCache secondLevelCache = ((Neo4jSession) session).secondLevelCache();
+			if (committed.writtenAll()) {
+				secondLevelCache.evictAll();
+			} else if (!committed.writtenNodes().isEmpty() || !committed.writtenRelationships().isEmpty()) {
+				secondLevelCache.evict(committed.writtenNodes(), committed.writtenRelationships());
+			}
+		}
 	}
 
 	/**
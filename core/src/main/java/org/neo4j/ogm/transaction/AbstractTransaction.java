@@ -15,7 +15,10 @@ package org.neo4j.ogm.transaction;
 
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.neo4j.ogm.exception.TransactionException;
@@ -24,6 +27,7 @@ import org.slf4j.LoggerFactory;
 
 /**
  * @author vince
+ * @author Mark Angrish
  */
 public abstract class AbstractTransaction implements Transaction {
 
@@ -48,6 +52,13 @@ public abstract class AbstractTransaction implements Transaction {
      * a subsequent save request to operate correctly */
     private List<Object> registeredNew = new ArrayList<>();
 
+    /* The nodes and relationships written in this transaction are evicted from the second-level cache as they are
+     * written, and registered here to be evicted again once it commits: until then, other sessions still read the
+     * versions committed before, and may cache them again. */
+    private final Set<Long> writtenNodes = new HashSet<>();
+    private final Set<Long> writtenRelationships = new HashSet<>();
+    private boolean writtenAll;
+
     private Transaction.Status status = Transaction.Status.OPEN;
     protected Transaction.Type type = Type.READ_WRITE;
 
@@ -159,6 +170,35 @@ public abstract class AbstractTransaction implements Transaction {
         return registeredNew;
     }
 
+    public void registerWritten(Collection<Long> nodeIds, Collection<Long> relationshipIds) {
+        writtenNodes.addAll(nodeIds);
+        writtenRelationships.addAll(relationshipIds);
+    }
+
+    public void registerWrittenAll() {
+        writtenAll = true;
+    }
+
+    public Set<Long> writtenNodes() {
+        return writtenNodes;
+    }
+
+    public Set<Long> writtenRelationships() {
+        return writtenRelationships;
+    }
+
+    public boolean writtenAll() {
+        return writtenAll;
+    }
+
+    /**
+     * @return whether anything has been written in this transaction, in which case it can't read from the
+     * second-level cache
+     */
+    public boolean written() {
+        return writtenAll || !writtenNodes.isEmpty() || !writtenRelationships.isEmpty();
+    }
+
     // for testing
     public void reOpen() {
         status = Status.OPEN;
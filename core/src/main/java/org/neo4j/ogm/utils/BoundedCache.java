@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A concurrent cache with a maximum size, holding values that are cheap to work out again, such as resolved entity
+ * accessors or rendered statements.
+ *
+ * Lookups never block one another. A value is resolved by the caller that misses, so two threads missing on the same
+ * key at the same time may both resolve it; the first value stored wins. The values are cheap to resolve twice, and
+ * this keeps a global lock off the read path.
+ *
+ * Once the cache grows beyond its maximum size, entries are evicted with the clock algorithm: an entry that has been
+ * read since the eviction sweep last passed over it is given a second chance, so frequently used values stay cached.
+ * Null values, meaning for example "no accessor exists", are cached like any other value. Nothing is cached when the
+ * loader throws, so a failed lookup is tried again next time.
+ *
+ * @author Mark Angrish
+ */
+public class BoundedCache<K, V> {
+
+    /**
+     * Resolves the value of a key that is not cached.
+     */
+    public interface Loader<K, V> {
+
+        V load(K key);
+    }
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final int maximumSize;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public BoundedCache(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("The maximum size of a bounded cache must be positive, but was " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+    }
+
+    /**
+     * Returns the cached value of the given key, resolving and caching it with the given loader on a miss.
+     *
+     * @param key the key to look up
+     * @param loader resolves the value if it is not cached
+     * @return the value, which may be null
+     */
+    public V get(K key, Loader<K, V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            entry.referenced = true;
+            hits.incrementAndGet();
+            return entry.value;
+        }
+        misses.incrementAndGet();
+        entry = new Entry<>(loader.load(key));
+        Entry<V> existing = entries.putIfAbsent(key, entry);
+        if (existing != null) {
+            return existing.value;
+        }
+        if (entries.size() > maximumSize) {
+            evict();
+        }
+        return entry.value;
+    }
+
+    /**
+     * Caches a value for a key without touching the hit and miss counts.
+     *
+     * @param key the key
+     * @param value the value, which may be null
+     */
+    public void put(K key, V value) {
+        if (entries.put(key, new Entry<>(value)) == null && entries.size() > maximumSize) {
+            evict();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int maximumSize() {
+        return maximumSize;
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long misses() {
+        return misses.get();
+    }
+
+    public long evictions() {
+        return evictions.get();
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    private void evict() {
+        // two passes always find a victim: the first clears every reference bit it passes over
+        for (int pass = 0; pass < 2 && entries.size() > maximumSize; pass++) {
+            Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext() && entries.size() > maximumSize) {
+                Map.Entry<K, Entry<V>> candidate = iterator.next();
+                Entry<V> entry = candidate.getValue();
+                if (entry.referenced) {
+                    entry.referenced = false;
+                } else if (entries.remove(candidate.getKey(), entry)) {
+                    evictions.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private volatile boolean referenced;
+
+        private Entry(V value) {
+            this.value = value;
+        }
+    }
+}
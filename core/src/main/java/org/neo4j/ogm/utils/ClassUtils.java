@@ -24,10 +24,26 @@ import org.neo4j.ogm.service.ResourceService;
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public abstract class ClassUtils {
 
-    private static Map<String, Class<?>> descriptorTypeMappings = new HashMap<>();
+    private static final int DESCRIPTOR_TYPES_SIZE = 10000;
+
+    private static final BoundedCache<String, Class<?>> descriptorTypeMappings = new BoundedCache<>(DESCRIPTOR_TYPES_SIZE);
+
+    private static final BoundedCache.Loader<String, Class<?>> descriptorTypeLoader = new BoundedCache.Loader<String, Class<?>>() {
+
+        @Override
+        public Class<?> load(String descriptor) {
+            try {
+                return computeType(descriptor);
+            } catch (Throwable t) {
+                // thrown on through the cache, so that a class that cannot be loaded yet is looked up again next time
+                throw new UnresolvedTypeException(t);
+            }
+        }
+    };
 
     @SuppressWarnings("serial")
     private static final Map<String, Class<?>> PRIMITIVE_TYPE_MAP = new HashMap<String, Class<?>>() {{
@@ -49,19 +65,14 @@ public abstract class ClassUtils {
      * @return reified class for the parameter or null
      */
     public static Class<?> getType(String descriptor) {
-        if (descriptorTypeMappings.containsKey(descriptor)) {
-            return descriptorTypeMappings.get(descriptor);
+        if (descriptor == null) {
+            return null;
         }
-        Class<?> type;
         try {
-            type = computeType(descriptor);
-        }
-        catch (Throwable t) {
-            //return null and swallow the exception
+            return descriptorTypeMappings.get(descriptor, descriptorTypeLoader);
+        } catch (UnresolvedTypeException e) {
             return null;
         }
-        descriptorTypeMappings.put(descriptor, type);
-        return type;
     }
 
     private static Class<?> computeType(String descriptor) throws ClassNotFoundException {
@@ -77,7 +88,7 @@ public abstract class ClassUtils {
 
 
         if (descriptor.contains(":")) {
-            return getType(descriptor.substring(descriptor.indexOf(":") + 1));
+            return computeType(descriptor.substring(descriptor.indexOf(":") + 1));
         }
 
         // generic types and wildcards are replaced by Object in the compiler
@@ -87,7 +98,7 @@ public abstract class ClassUtils {
 
         // function returns - strip off, and pass in the just the type part
         if(descriptor.startsWith("()")) {
-            return getType(descriptor.substring(2));
+            return computeType(descriptor.substring(2));
         }
 
         // type is a function parameter?
@@ -175,4 +186,10 @@ public abstract class ClassUtils {
         return pathFiles;
     }
 
+    private static class UnresolvedTypeException extends RuntimeException {
+
+        UnresolvedTypeException(Throwable cause) {
+            super(cause);
+        }
+    }
 }
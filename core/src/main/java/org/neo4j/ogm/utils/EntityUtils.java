@@ -14,7 +14,6 @@ package org.neo4j.ogm.utils;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.neo4j.ogm.MetaData;
-import org.neo4j.ogm.entity.io.EntityAccessManager;
 import org.neo4j.ogm.entity.io.FieldReader;
 import org.neo4j.ogm.metadata.ClassInfo;
 import org.neo4j.ogm.metadata.FieldInfo;
@@ -25,13 +24,14 @@ import java.util.Collection;
  * The utility methods here will all throw a <code>NullPointerException</code> if invoked with <code>null</code>.
  *
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class EntityUtils {
 
     public static Long identity(Object entity, MetaData metaData) {
 
         ClassInfo classInfo = metaData.classInfo(entity);
-        Object id = EntityAccessManager.getIdentityPropertyReader(classInfo).readProperty(entity);
+        Object id = metaData.entityAccessManager().getIdentityPropertyReader(classInfo).readProperty(entity);
         return (id == null ? -System.identityHashCode(entity) : (Long) id);
     }
 
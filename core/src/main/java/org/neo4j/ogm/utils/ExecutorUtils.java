@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.utils;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creates the thread pools of a session factory. Their threads are daemons, so that an application which does not
+ * close its session factory can still exit, and at most a given number of tasks wait in their queues.
+ *
+ * @author Mark Angrish
+ */
+public final class ExecutorUtils {
+
+    private static final long OFFER_INTERVAL_MILLISECONDS = 100;
+
+    private ExecutorUtils() {
+    }
+
+    /**
+     * Creates a pool that rejects a task submitted while its queue is full, leaving it to the caller to slow down.
+     *
+     * @param threadName the name of the threads of the pool
+     * @param threads the number of threads of the pool
+     * @param queueSize the maximum number of tasks waiting for a thread
+     * @param tasks what the tasks are, as reported when one is rejected
+     * @return the pool
+     */
+    public static ThreadPoolExecutor newRejectingExecutor(String threadName, int threads, final int queueSize, final String tasks) {
+        return newExecutor(threadName, threads, queueSize, new RejectedExecutionHandler() {
+
+            @Override
+            public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+                if (executor.isShutdown()) {
+                    throw new RejectedExecutionException("No more " + tasks + " can be run once the session factory is closed");
+                }
+                throw new RejectedExecutionException("No more " + tasks + " can be run while " + queueSize + " are waiting");
+            }
+        });
+    }
+
+    /**
+     * Creates a pool where submitting a task while its queue is full waits for room. A task submitted once the pool
+     * is shut down is rejected, including one that was queued as the pool shut down, which is taken back out rather
+     * than left behind for threads which may already have stopped.
+     *
+     * @param threadName the name of the threads of the pool
+     * @param threads the number of threads of the pool
+     * @param queueSize the maximum number of tasks waiting for a thread
+     * @param tasks what the tasks are, as reported when one is rejected
+     * @return the pool
+     */
+    public static ThreadPoolExecutor newWaitingExecutor(String threadName, int threads, int queueSize, final String tasks) {
+        return newExecutor(threadName, threads, queueSize, new RejectedExecutionHandler() {
+
+            @Override
+            public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+                try {
+                    do {
+                        if (executor.isShutdown()) {
+                            throw new RejectedExecutionException("No more " + tasks + " can be run once the session factory is closed");
+                        }
+                    } while (!executor.getQueue().offer(runnable, OFFER_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RejectedExecutionException("Interrupted while waiting to run " + tasks, e);
+                }
+                if (executor.isShutdown() && executor.remove(runnable)) {
+                    throw new RejectedExecutionException("No more " + tasks + " can be run once the session factory is closed");
+                }
+            }
+        });
+    }
+
+    private static ThreadPoolExecutor newExecutor(final String threadName, int threads, int queueSize, RejectedExecutionHandler handler) {
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(queueSize),
+                new ThreadFactory() {
+
+                    @Override
+                    public Thread newThread(Runnable runnable) {
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    }
+                }, handler);
+    }
+}
@@ -15,6 +15,13 @@ package org.neo4j.ogm;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.domain.cineasts.partial.Actor;
@@ -25,6 +32,7 @@ import org.neo4j.ogm.metadata.ClassInfo;
 
 /**
  * @author Vince Bickers
+ * @author Mark Angrish
  */
 public class MetaDataTest {
 
@@ -44,6 +52,17 @@ public class MetaDataTest {
         assertEquals("org.neo4j.ogm.domain.forum.Topic", metaData.classInfo("Topic").name());
     }
 
+    /**
+     * A class can be found by its fully qualified name, or a name qualified by part of its package
+     */
+    @Test
+    public void testClassInfoByQualifiedName() {
+        assertEquals("org.neo4j.ogm.domain.forum.Topic", metaData.classInfo("org.neo4j.ogm.domain.forum.Topic").name());
+        assertEquals("org.neo4j.ogm.domain.forum.Topic", metaData.classInfo("forum.Topic").name());
+        assertNull(metaData.classInfo("rum.Topic"));
+        assertNull(metaData.classInfo("Nonexistent"));
+    }
+
     /**
      * A class can be found via its annotated label
      */
@@ -147,4 +166,39 @@ public class MetaDataTest {
     public void testNonMemberAndMemberTaxa() {
         assertEquals("org.neo4j.ogm.domain.forum.SilverMembership", metaData.resolve("Silver", "Pewter", "Tin").name());
     }
+
+    /**
+     * Lookups by many threads at once all see the same classes
+     */
+    @Test
+    public void testConcurrentLookups() throws Exception {
+        final MetaData shared = new MetaData("org.neo4j.ogm.domain.forum", "org.neo4j.ogm.domain.pizza", "org.neo4j.ogm.metadata", "org.neo4j.ogm.domain.canonical", "org.neo4j.ogm.domain.hierarchy.domain");
+        final String[] names = {"Topic", "User", "Bronze", "MEMBER_OF", "org.neo4j.ogm.domain.forum.Member", "Knight"};
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<ClassInfo[]>> lookups = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                lookups.add(executor.submit(new Callable<ClassInfo[]>() {
+                    @Override
+                    public ClassInfo[] call() {
+                        ClassInfo[] found = new ClassInfo[names.length + 1];
+                        for (int j = 0; j < names.length; j++) {
+                            found[j] = shared.classInfo(names[j]);
+                        }
+                        found[names.length] = shared.resolve("Login", "User");
+                        return found;
+                    }
+                }));
+            }
+            ClassInfo[] expected = lookups.get(0).get();
+            for (Future<ClassInfo[]> lookup : lookups) {
+                assertArrayEquals(expected, lookup.get());
+            }
+            assertEquals("org.neo4j.ogm.domain.forum.Member", expected[1].name());
+            assertNull(expected[5]);
+        } finally {
+            executor.shutdown();
+        }
+    }
 }
@@ -21,6 +21,7 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.neo4j.ogm.MetaData;
 import org.neo4j.ogm.annotation.Property;
 import org.neo4j.ogm.annotation.Relationship;
 import org.neo4j.ogm.domain.forum.ForumTopicLink;
@@ -44,6 +45,7 @@ import org.neo4j.ogm.metadata.impl.legacy.LegacyDomainInfo;
 public class EntityAccessManagerTest {
 
 	private DomainInfo domainInfo;
+	private EntityAccessManager entityAccessManager;
 
 	@Before
 	public void setup() {
@@ -52,6 +54,7 @@ public class EntityAccessManagerTest {
 				"org.neo4j.ogm.domain.satellites",
 				"org.neo4j.ogm.annotations"
 		);
+		entityAccessManager = new EntityAccessManager();
 	}
 
 
@@ -60,7 +63,7 @@ public class EntityAccessManagerTest {
 		ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
 
 		// testProp matches the setter/getter name but because the field is annotated then it should be used instead
-		EntityAccess objectAccess = EntityAccessManager.getPropertyWriter(classInfo, "testProp");
+		EntityAccess objectAccess = entityAccessManager.getPropertyWriter(classInfo, "testProp");
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 
 		DummyDomainObject domainObject = new DummyDomainObject();
@@ -76,7 +79,7 @@ public class EntityAccessManagerTest {
 		ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
 		DummyDomainObject domainObject = new DummyDomainObject();
 
-		EntityAccess objectAccess = EntityAccessManager.getPropertyWriter(classInfo, "testIgnored");
+		EntityAccess objectAccess = entityAccessManager.getPropertyWriter(classInfo, "testIgnored");
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		assertTrue(objectAccess instanceof FieldWriter);
 		assertEquals(String.class, objectAccess.type());
@@ -92,13 +95,13 @@ public class EntityAccessManagerTest {
 		domainObject.propertyWithoutAccessorMethods = 9;
 
 		// test writing via field
-		EntityAccess writer = EntityAccessManager.getPropertyWriter(classInfo, "propertyWithoutAccessorMethods");
+		EntityAccess writer = entityAccessManager.getPropertyWriter(classInfo, "propertyWithoutAccessorMethods");
 		assertNotNull("The resultant writer shouldn't be null", writer);
 		writer.write(domainObject, 27);
 		assertEquals(27, domainObject.propertyWithoutAccessorMethods);
 
 		// test reading via field
-		PropertyReader reader = EntityAccessManager.getPropertyReader(classInfo, "propertyWithoutAccessorMethods");
+		PropertyReader reader = entityAccessManager.getPropertyReader(classInfo, "propertyWithoutAccessorMethods");
 		assertNotNull("The resultant reader shouldn't be null", reader);
 		assertEquals(domainObject.propertyWithoutAccessorMethods, reader.readProperty(domainObject));
 	}
@@ -107,7 +110,7 @@ public class EntityAccessManagerTest {
 	public void shouldRetrieveObjectAccessForWritingIterableObject() {
 		ClassInfo classInfo = this.domainInfo.getClass(Program.class.getName());
 
-		RelationalWriter iterableAccess = EntityAccessManager.getIterableWriter(classInfo, Satellite.class, "satellites", Relationship.OUTGOING);
+		RelationalWriter iterableAccess = entityAccessManager.getIterableWriter(classInfo, Satellite.class, "satellites", Relationship.OUTGOING);
 		assertNotNull("The resultant object accessor shouldn't be null", iterableAccess);
 		Program spaceProgramme = new Program();
 		iterableAccess.write(spaceProgramme, Arrays.asList(new Satellite()));
@@ -123,7 +126,7 @@ public class EntityAccessManagerTest {
 		Satellite singleSatellite = new Satellite();
 
 		// the SATELLITES type matches the setter that takes an Iterable argument
-		RelationalWriter objectAccess = EntityAccessManager.getRelationalWriter(classInfo, "SATELLITES", Relationship.OUTGOING, singleSatellite);
+		RelationalWriter objectAccess = entityAccessManager.getRelationalWriter(classInfo, "SATELLITES", Relationship.OUTGOING, singleSatellite);
 		assertNull("A compatible object accessor shouldn't have been found", objectAccess);
 	}
 
@@ -133,7 +136,7 @@ public class EntityAccessManagerTest {
 		ClassInfo classInfo = this.domainInfo.getClass(Member.class.getName());
 		List<? extends Activity> parameter = Arrays.asList(new Comment());
 
-		RelationalWriter objectAccess = EntityAccessManager.getRelationalWriter(classInfo, "HAS_ACTIVITY", Relationship.OUTGOING, new Comment());
+		RelationalWriter objectAccess = entityAccessManager.getRelationalWriter(classInfo, "HAS_ACTIVITY", Relationship.OUTGOING, new Comment());
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		Member member = new Member();
 		objectAccess.write(member, parameter);
@@ -147,14 +150,14 @@ public class EntityAccessManagerTest {
 
 		Member parameter = new Member();
 
-		RelationalWriter objectAccess = EntityAccessManager.getRelationalWriter(classInfo, "CONTAINS", Relationship.OUTGOING, parameter);
+		RelationalWriter objectAccess = entityAccessManager.getRelationalWriter(classInfo, "CONTAINS", Relationship.OUTGOING, parameter);
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		DummyDomainObject domainObject = new DummyDomainObject();
 		objectAccess.write(domainObject, parameter);
 		assertEquals(domainObject.member, parameter);
 
 		Member otherMember = new Member();
-		objectAccess = EntityAccessManager.getRelationalWriter(classInfo, "REGISTERED", Relationship.OUTGOING, otherMember);
+		objectAccess = entityAccessManager.getRelationalWriter(classInfo, "REGISTERED", Relationship.OUTGOING, otherMember);
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		domainObject = new DummyDomainObject();
 		objectAccess.write(domainObject, otherMember);
@@ -169,7 +172,7 @@ public class EntityAccessManagerTest {
 		Location satelliteLocation = new Location();
 		satelliteLocation.setName("Outer Space");
 
-		RelationalWriter objectAccess = EntityAccessManager.getRelationalWriter(classInfo, "LOCATION", Relationship.OUTGOING, satelliteLocation);
+		RelationalWriter objectAccess = entityAccessManager.getRelationalWriter(classInfo, "LOCATION", Relationship.OUTGOING, satelliteLocation);
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		Satellite satellite = new Satellite();
 		objectAccess.write(satellite, satelliteLocation);
@@ -183,7 +186,7 @@ public class EntityAccessManagerTest {
 		Topic favouriteTopic = new Topic();
 
 		// NB: the setter is called setTopic here, so a relationship type of just "TOPIC" would choose the setter
-		RelationalWriter objectAccess = EntityAccessManager.getRelationalWriter(classInfo, "FAVOURITE_TOPIC", Relationship.OUTGOING, favouriteTopic);
+		RelationalWriter objectAccess = entityAccessManager.getRelationalWriter(classInfo, "FAVOURITE_TOPIC", Relationship.OUTGOING, favouriteTopic);
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		DummyDomainObject domainObject = new DummyDomainObject();
 		objectAccess.write(domainObject, favouriteTopic);
@@ -197,7 +200,7 @@ public class EntityAccessManagerTest {
 		ClassInfo classInfo = this.domainInfo.getClass(DummyDomainObject.class.getName());
 		Post forumPost = new Post();
 
-		RelationalWriter objectAccess = EntityAccessManager.getRelationalWriter(classInfo, "UTTER_RUBBISH", Relationship.OUTGOING, forumPost);
+		RelationalWriter objectAccess = entityAccessManager.getRelationalWriter(classInfo, "UTTER_RUBBISH", Relationship.OUTGOING, forumPost);
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		DummyDomainObject domainObject = new DummyDomainObject();
 		objectAccess.write(domainObject, forumPost);
@@ -211,7 +214,7 @@ public class EntityAccessManagerTest {
 		DummyDomainObject domainObject = new DummyDomainObject();
 		domainObject.annotatedTestProperty = "more arbitrary text";
 
-		PropertyReader objectAccess = EntityAccessManager.getPropertyReader(classInfo, "testProp");
+		PropertyReader objectAccess = entityAccessManager.getPropertyReader(classInfo, "testProp");
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		assertEquals(domainObject.annotatedTestProperty, objectAccess.readProperty(domainObject));
 	}
@@ -222,9 +225,9 @@ public class EntityAccessManagerTest {
 
 		DummyDomainObject domainObject = new DummyDomainObject();
 		domainObject.propertyWithDifferentAnnotatedGetter = "more arbitrary text";
-		Collection<PropertyReader> readers = EntityAccessManager.getPropertyReaders(classInfo);
+		Collection<PropertyReader> readers = entityAccessManager.getPropertyReaders(classInfo);
 
-		PropertyReader objectAccess = EntityAccessManager.getPropertyReader(classInfo, "differentAnnotationOnGetter");
+		PropertyReader objectAccess = entityAccessManager.getPropertyReader(classInfo, "differentAnnotationOnGetter");
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		assertEquals(domainObject.propertyWithDifferentAnnotatedGetter, objectAccess.readProperty(domainObject));
 
@@ -242,7 +245,7 @@ public class EntityAccessManagerTest {
 		DummyDomainObject domainObject = new DummyDomainObject();
 		domainObject.nonAnnotatedTestProperty = new Double(30.16);
 
-		PropertyReader objectAccess = EntityAccessManager.getPropertyReader(classInfo, "nonAnnotatedTestProperty");
+		PropertyReader objectAccess = entityAccessManager.getPropertyReader(classInfo, "nonAnnotatedTestProperty");
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		assertEquals(domainObject.nonAnnotatedTestProperty, objectAccess.readProperty(domainObject));
 	}
@@ -253,7 +256,7 @@ public class EntityAccessManagerTest {
 		Member member = new Member();
 		member.setActivityList(Arrays.<Activity>asList(new Comment()));
 
-		RelationalReader reader = EntityAccessManager.getRelationalReader(classInfo, "HAS_ACTIVITY", Relationship.OUTGOING);
+		RelationalReader reader = entityAccessManager.getRelationalReader(classInfo, "HAS_ACTIVITY", Relationship.OUTGOING);
 		assertNotNull("The resultant object reader shouldn't be null", reader);
 		assertSame(member.getActivityList(), reader.read(member));
 		assertEquals("HAS_ACTIVITY", reader.relationshipType());
@@ -267,12 +270,12 @@ public class EntityAccessManagerTest {
 		domainObject.member = new Member();
 		domainObject.registeredMember = new Member();
 
-		RelationalReader reader = EntityAccessManager.getRelationalReader(classInfo, "CONTAINS", Relationship.OUTGOING);
+		RelationalReader reader = entityAccessManager.getRelationalReader(classInfo, "CONTAINS", Relationship.OUTGOING);
 		assertNotNull("The resultant object reader shouldn't be null", reader);
 		assertSame(domainObject.member, reader.read(domainObject));
 		assertEquals("CONTAINS", reader.relationshipType());
 
-		reader = EntityAccessManager.getRelationalReader(classInfo, "REGISTERED", Relationship.OUTGOING);
+		reader = entityAccessManager.getRelationalReader(classInfo, "REGISTERED", Relationship.OUTGOING);
 		assertNotNull("The resultant object reader shouldn't be null", reader);
 		assertSame(domainObject.registeredMember, reader.read(domainObject));
 		assertEquals("REGISTERED", reader.relationshipType());
@@ -287,7 +290,7 @@ public class EntityAccessManagerTest {
 		satelliteLocation.setName("Outer Space");
 		satellite.setLocation(satelliteLocation);
 
-		RelationalReader reader = EntityAccessManager.getRelationalReader(classInfo, "LOCATION", Relationship.OUTGOING);
+		RelationalReader reader = entityAccessManager.getRelationalReader(classInfo, "LOCATION", Relationship.OUTGOING);
 		assertNotNull("The resultant object accessor shouldn't be null", reader);
 		assertSame(satellite.getLocation(), reader.read(satellite));
 		assertEquals("LOCATION", reader.relationshipType());
@@ -300,7 +303,7 @@ public class EntityAccessManagerTest {
 		DummyDomainObject domainObject = new DummyDomainObject();
 		domainObject.postWithoutAccessorMethods = new Post();
 
-		RelationalReader reader = EntityAccessManager.getRelationalReader(classInfo, "POST_WITHOUT_ACCESSOR_METHODS", Relationship.OUTGOING);
+		RelationalReader reader = entityAccessManager.getRelationalReader(classInfo, "POST_WITHOUT_ACCESSOR_METHODS", Relationship.OUTGOING);
 		assertNotNull("The resultant object accessor shouldn't be null", reader);
 		assertSame(domainObject.postWithoutAccessorMethods, reader.read(domainObject));
 		assertEquals("POST_WITHOUT_ACCESSOR_METHODS", reader.relationshipType());
@@ -314,7 +317,7 @@ public class EntityAccessManagerTest {
 		DummyDomainObject domainObject = new DummyDomainObject();
 		domainObject.setId(id);
 
-		PropertyReader idReader = EntityAccessManager.getIdentityPropertyReader(classInfo);
+		PropertyReader idReader = entityAccessManager.getIdentityPropertyReader(classInfo);
 		assertNotNull("The resultant ID reader shouldn't be null", idReader);
 		assertEquals(id, idReader.readProperty(domainObject));
 	}
@@ -332,7 +335,7 @@ public class EntityAccessManagerTest {
 		domainObject.naturalSatellites = new ArrayList<>();
 		domainObject.artificialSatellites = Collections.singletonList(new Satellite());
 
-		Collection<RelationalReader> relationalAccessors = EntityAccessManager.getRelationalReaders(classInfo);
+		Collection<RelationalReader> relationalAccessors = entityAccessManager.getRelationalReaders(classInfo);
 		assertNotNull("The resultant list of object accessors shouldn't be null", relationalAccessors);
 		assertEquals("An unexpected number of accessors was returned", 7, relationalAccessors.size());
 
@@ -356,7 +359,7 @@ public class EntityAccessManagerTest {
 	public void shouldRetrieveAppropriateObjectAccessToEndNodeAttributeOnRelationshipEntity() {
 		ClassInfo relationshipEntityClassInfo = domainInfo.getClass(ForumTopicLink.class.getName());
 
-		RelationalReader endNodeReader = EntityAccessManager.getEndNodeReader(relationshipEntityClassInfo);
+		RelationalReader endNodeReader = entityAccessManager.getEndNodeReader(relationshipEntityClassInfo);
 		assertNotNull("The resultant end node reader shouldn't be null", endNodeReader);
 
 		ForumTopicLink forumTopicLink = new ForumTopicLink();
@@ -368,7 +371,7 @@ public class EntityAccessManagerTest {
 	@Test
 	public void shouldReturnNullOnAttemptToAccessNonExistentEndNodeAttributeOnRelationshipEntity() {
 		ClassInfo classInfoOfNonRelationshipEntity = domainInfo.getClass(Member.class.getName());
-		assertNull(EntityAccessManager.getEndNodeReader(classInfoOfNonRelationshipEntity));
+		assertNull(entityAccessManager.getEndNodeReader(classInfoOfNonRelationshipEntity));
 	}
 
 	/**
@@ -382,7 +385,7 @@ public class EntityAccessManagerTest {
 		List<Satellite> natural = new ArrayList<>();
 		natural.add(new Satellite());
 
-		RelationalWriter objectAccess = EntityAccessManager.getIterableWriter(classInfo, Satellite.class, "NATURAL", Relationship.OUTGOING);
+		RelationalWriter objectAccess = entityAccessManager.getIterableWriter(classInfo, Satellite.class, "NATURAL", Relationship.OUTGOING);
 		assertNotNull("The resultant object accessor shouldn't be null", objectAccess);
 		DummyDomainObject domainObject = new DummyDomainObject();
 		objectAccess.write(domainObject, natural);
@@ -401,7 +404,7 @@ public class EntityAccessManagerTest {
 		List<Satellite> natural = new ArrayList<>();
 		natural.add(new Satellite());
 
-		RelationalReader relationalReader = EntityAccessManager.getIterableReader(classInfo, Satellite.class, "NATURAL", Relationship.OUTGOING);
+		RelationalReader relationalReader = entityAccessManager.getIterableReader(classInfo, Satellite.class, "NATURAL", Relationship.OUTGOING);
 		assertNotNull("The resultant object accessor shouldn't be null", relationalReader);
 		DummyDomainObject domainObject = new DummyDomainObject();
 		domainObject.naturalSatellites = natural;
@@ -409,6 +412,23 @@ public class EntityAccessManagerTest {
 		assertEquals(natural, o);
 	}
 
+	@Test
+	public void shouldKeepAccessorsPerMetaData() {
+		MetaData metaData = new MetaData("org.neo4j.ogm.domain.forum");
+		MetaData otherMetaData = new MetaData("org.neo4j.ogm.domain.forum");
+		ClassInfo classInfo = metaData.classInfo(Member.class.getName());
+
+		EntityAccessManager entityAccessManager = metaData.entityAccessManager();
+		PropertyReader reader = entityAccessManager.getIdentityPropertyReader(classInfo);
+
+		assertSame(reader, entityAccessManager.getIdentityPropertyReader(classInfo));
+		assertEquals(1, entityAccessManager.cacheHits());
+		assertEquals(1, entityAccessManager.cacheMisses());
+		assertEquals(1, entityAccessManager.cacheSize());
+		assertNotSame(entityAccessManager, otherMetaData.entityAccessManager());
+		assertEquals(0, otherMetaData.entityAccessManager().cacheSize());
+	}
+
 	/**
 	 * Domain object exhibiting various annotation configurations on its properties for test purposes.
 	 */
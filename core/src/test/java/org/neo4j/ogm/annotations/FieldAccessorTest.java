@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.annotations;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+import org.neo4j.ogm.entity.io.FieldAccessor;
+
+/**
+ * @author Mark Angrish
+ */
+public class FieldAccessorTest {
+
+	@Test
+	public void shouldReadAndWritePrivateFields() throws Exception {
+		Subject subject = new Subject();
+		FieldAccessor accessor = FieldAccessor.forField(Subject.class.getDeclaredField("name"));
+
+		accessor.write(subject, "Sheila");
+
+		assertEquals("Sheila", accessor.read(subject));
+		assertEquals("Sheila", subject.name);
+	}
+
+	@Test
+	public void shouldCreateOneAccessorPerField() throws Exception {
+		Field field = Subject.class.getDeclaredField("name");
+		assertSame(FieldAccessor.forField(field), FieldAccessor.forField(Subject.class.getDeclaredField("name")));
+	}
+
+	@Test
+	public void shouldWidenPrimitivesLikeReflection() throws Exception {
+		Subject subject = new Subject();
+		FieldAccessor accessor = FieldAccessor.forField(Subject.class.getDeclaredField("count"));
+
+		accessor.write(subject, 42);
+
+		assertEquals(42L, subject.count);
+		assertEquals(42L, accessor.read(subject));
+	}
+
+	@Test
+	public void shouldWriteFinalFieldsReflectively() throws Exception {
+		Subject subject = new Subject();
+		FieldAccessor accessor = FieldAccessor.forField(Subject.class.getDeclaredField("id"));
+
+		accessor.write(subject, 7L);
+
+		assertEquals(7L, accessor.read(subject));
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void shouldRejectNullForPrimitiveFields() throws Exception {
+		FieldAccessor.forField(Subject.class.getDeclaredField("count")).write(new Subject(), null);
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void shouldRejectInstancesOfOtherClasses() throws Exception {
+		FieldAccessor.forField(Subject.class.getDeclaredField("name")).read("not a subject");
+	}
+
+	@Test(expected = ClassCastException.class)
+	public void shouldReportValuesOfTheWrongTypeFromTheHandle() throws Exception {
+		FieldAccessor.forField(Subject.class.getDeclaredField("name")).write(new Subject(), 42);
+	}
+
+	static class Subject {
+
+		private final Long id = null;
+		private String name;
+		private long count;
+	}
+}
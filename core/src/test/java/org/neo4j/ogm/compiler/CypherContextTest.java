@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.compiler;
+
+import static org.junit.Assert.*;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.context.MappedRelationship;
+import org.neo4j.ogm.context.register.RelationshipRegister;
+
+/**
+ * @author Mark Angrish
+ */
+public class CypherContextTest {
+
+    private RelationshipRegister known;
+    private CypherContext context;
+
+    @Before
+    public void setUp() {
+        known = new RelationshipRegister();
+        context = new CypherContext(new MultiStatementCypherCompiler());
+    }
+
+    @Test
+    public void shouldTreatKnownRelationshipsAsRegistered() {
+        MappedRelationship relationship = relationship(1L, "KNOWS", 2L);
+        known.add(relationship);
+        context.registerRelationships(known);
+
+        assertTrue(context.removeRegisteredRelationship(relationship(1L, "KNOWS", 2L)));
+        assertFalse(context.removeRegisteredRelationship(relationship));
+
+        context.registerRelationship(relationship);
+        assertTrue(context.removeRegisteredRelationship(relationship));
+        assertEquals(1, known.size());
+    }
+
+    @Test
+    public void shouldRegisterRelationshipsUnknownToTheMappingContext() {
+        context.registerRelationships(known);
+
+        assertFalse(context.removeRegisteredRelationship(relationship(1L, "KNOWS", 2L)));
+        context.registerRelationship(relationship(1L, "KNOWS", 2L));
+        assertTrue(context.removeRegisteredRelationship(relationship(1L, "KNOWS", 2L)));
+        assertTrue(known.relationships().isEmpty());
+    }
+
+    @Test
+    public void shouldDeregisterOnlyTheMatchingRelationshipsOfANode() {
+        known.add(relationship(1L, "KNOWS", 2L));
+        known.add(relationship(1L, "KNOWS", 3L));
+        known.add(relationship(1L, "LIKES", 2L));
+        known.add(relationship(4L, "KNOWS", 1L));
+        context.registerRelationships(known);
+
+        assertTrue(context.deregisterOutgoingRelationships(1L, "KNOWS", Object.class));
+        assertEquals(2, context.getDeletedRelationships().size());
+
+        assertFalse(context.removeRegisteredRelationship(relationship(1L, "KNOWS", 2L)));
+        assertFalse(context.removeRegisteredRelationship(relationship(1L, "KNOWS", 3L)));
+        assertTrue(context.removeRegisteredRelationship(relationship(1L, "LIKES", 2L)));
+        assertTrue(context.removeRegisteredRelationship(relationship(4L, "KNOWS", 1L)));
+    }
+
+    @Test
+    public void shouldRestoreRelationshipsDeregisteredTwice() {
+        known.add(relationship(1L, "KNOWS", 2L));
+        context.registerRelationships(known);
+
+        assertTrue(context.deregisterIncomingRelationships(2L, "KNOWS", Object.class, false));
+        context.registerRelationship(relationship(1L, "KNOWS", 2L));
+
+        assertFalse(context.deregisterIncomingRelationships(2L, "KNOWS", Object.class, false));
+        assertTrue(context.removeRegisteredRelationship(relationship(1L, "KNOWS", 2L)));
+        assertTrue(context.deregisterIncomingRelationships(3L, "KNOWS", Object.class, false));
+    }
+
+    private static MappedRelationship relationship(long startNodeId, String type, long endNodeId) {
+        return new MappedRelationship(startNodeId, type, endNodeId, Object.class, Object.class);
+    }
+}
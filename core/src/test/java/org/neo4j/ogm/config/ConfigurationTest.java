@@ -13,10 +13,13 @@
 
 package org.neo4j.ogm.config;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
 import org.neo4j.ogm.autoindex.AutoIndexMode;
+import org.neo4j.ogm.session.request.strategy.LoadStrategy;
 
 /**
  * @author vince
@@ -53,6 +56,66 @@ public class ConfigurationTest {
         assertEquals("/tmp/cert", configuration.driverConfiguration().getTrustCertFile());
     }
 
+    @Test
+    public void shouldConfigureReadEndpoints() {
+        Configuration configuration = new Configuration();
+        assertEquals(0, configuration.driverConfiguration().getReadURIs().length);
+        assertEquals(Integer.valueOf(30), configuration.driverConfiguration().getReadRetryInterval());
+
+        configuration.driverConfiguration().setReadURIs("bolt://replica1:7687", "bolt://replica2:7687");
+        configuration.driverConfiguration().setReadRetryInterval(10);
+        assertArrayEquals(new String[] {"bolt://replica1:7687", "bolt://replica2:7687"}, configuration.driverConfiguration().getReadURIs());
+        assertEquals(Integer.valueOf(10), configuration.driverConfiguration().getReadRetryInterval());
+
+        configuration = new Configuration();
+        configuration.set("read.URIs", "bolt://replica1:7687, bolt://replica3:7687");
+        assertArrayEquals(new String[] {"bolt://replica1:7687", "bolt://replica3:7687"}, configuration.driverConfiguration().getReadURIs());
+    }
+
+    @Test
+    public void shouldConfigureSessionSettings() {
+        Configuration configuration = new Configuration();
+        assertEquals(0, configuration.sessionConfiguration().getSaveBatchSize());
+        assertEquals(1000, configuration.sessionConfiguration().getAsyncQueueSize());
+        assertEquals(LoadStrategy.PATH, configuration.sessionConfiguration().getLoadStrategy());
+        assertEquals(9.9, configuration.sessionConfiguration().getNeo4jVersion(), 0);
+
+        configuration.sessionConfiguration().setSaveBatchSize(100).setAsyncQueueSize(10).setLoadStrategy(LoadStrategy.FETCH_PLAN);
+        configuration.set("neo4j.version", "3.0.4");
+        configuration.set("cache.size", "not a number");
+        assertEquals(100, configuration.sessionConfiguration().getSaveBatchSize());
+        assertEquals(10, configuration.sessionConfiguration().getAsyncQueueSize());
+        assertEquals(LoadStrategy.FETCH_PLAN, configuration.sessionConfiguration().getLoadStrategy());
+        assertEquals(3.0, configuration.sessionConfiguration().getNeo4jVersion(), 0);
+        assertEquals(0, configuration.sessionConfiguration().getCacheSize());
+    }
+
+    @Test
+    public void shouldReadTheNumericSessionSettingsAlike() {
+        Configuration configuration = new Configuration();
+        configuration.set("save.batch.size", " 50 ");
+        configuration.set("delete.batch.size", "-1");
+        configuration.set("events.queue.size", "ten");
+        configuration.set("cache.ttl", "86400");
+        assertEquals(50, configuration.sessionConfiguration().getSaveBatchSize());
+        assertEquals(0, configuration.sessionConfiguration().getDeleteBatchSize());
+        assertEquals(1000, configuration.sessionConfiguration().getEventsQueueSize());
+        assertEquals(86400, configuration.sessionConfiguration().getCacheTtl());
+    }
+
+    @Test
+    public void shouldResolveTheDriverFromTheSchemeOfTheURI() {
+        Configuration configuration = new Configuration();
+        assertNull(configuration.driverConfiguration().resolveDriverClassName());
+
+        configuration.set("URI", "bolt://localhost:7687");
+        assertNull(configuration.driverConfiguration().getDriverClassName());
+        assertEquals("org.neo4j.ogm.drivers.bolt.driver.BoltDriver", configuration.driverConfiguration().resolveDriverClassName());
+
+        configuration.driverConfiguration().setDriverClassName("driver");
+        assertEquals("driver", configuration.driverConfiguration().resolveDriverClassName());
+    }
+
     @Test
     public void shouldConfigureCredentialsFromURI() {
         Configuration configuration = new Configuration();
@@ -16,6 +16,7 @@ package org.neo4j.ogm.context;
 import static org.junit.Assert.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Before;
@@ -163,4 +164,56 @@ public class MappingContextTest {
         assertFalse(mappingContext.isDirty(immigration));
     }
 
+    @Test
+    public void shouldKnowTheDepthAnEntityWasLoadedTo() {
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        Policy policy = new Policy("healthcare");
+        policy.setId(2L);
+
+        mappingContext.addNodeEntity(jim, jim.getId());
+        mappingContext.addNodeEntity(policy, policy.getId());
+        mappingContext.registerLoadedDepth(jim.getId(), 1, Arrays.asList(jim.getId(), policy.getId()));
+
+        assertTrue(mappingContext.isLoadedToDepth(jim.getId(), 0));
+        assertTrue(mappingContext.isLoadedToDepth(jim.getId(), 1));
+        assertFalse(mappingContext.isLoadedToDepth(jim.getId(), 2));
+        assertFalse(mappingContext.isLoadedToDepth(jim.getId(), -1));
+        assertFalse(mappingContext.isLoadedToDepth(policy.getId(), 0));
+
+        mappingContext.registerLoadedDepth(jim.getId(), 0, Arrays.asList(jim.getId()));
+        assertTrue(mappingContext.isLoadedToDepth(jim.getId(), 1));
+
+        mappingContext.registerLoadedDepth(jim.getId(), -1, Arrays.asList(jim.getId(), policy.getId()));
+        assertTrue(mappingContext.isLoadedToDepth(jim.getId(), 5));
+    }
+
+    @Test
+    public void shouldForgetTheDepthOfAnEntityWhenAnythingLoadedWithItIsRemoved() {
+        Person jim = new Person("jim");
+        jim.setId(1L);
+        Policy policy = new Policy("healthcare");
+        policy.setId(2L);
+        MappedRelationship influences = new MappedRelationship(jim.getId(), "INFLUENCES", policy.getId(), Person.class, Policy.class);
+
+        mappingContext.addNodeEntity(jim, jim.getId());
+        mappingContext.addNodeEntity(policy, policy.getId());
+        mappingContext.addRelationship(influences);
+        mappingContext.registerLoadedDepth(jim.getId(), 1, Arrays.asList(jim.getId(), policy.getId()));
+        mappingContext.removeNodeEntity(policy, policy.getId());
+        assertFalse(mappingContext.isLoadedToDepth(jim.getId(), 1));
+
+        mappingContext.addNodeEntity(policy, policy.getId());
+        mappingContext.registerLoadedDepth(jim.getId(), 1, Arrays.asList(jim.getId(), policy.getId()));
+        mappingContext.removeRelationship(influences);
+        assertFalse(mappingContext.isLoadedToDepth(jim.getId(), 1));
+
+        mappingContext.registerLoadedDepth(jim.getId(), 1, Arrays.asList(jim.getId(), policy.getId()));
+        mappingContext.detachNodeEntity(policy.getId());
+        assertFalse(mappingContext.isLoadedToDepth(jim.getId(), 1));
+
+        mappingContext.registerLoadedDepth(jim.getId(), 1, Arrays.asList(jim.getId()));
+        mappingContext.clear();
+        assertFalse(mappingContext.isLoadedToDepth(jim.getId(), 1));
+    }
 }
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.domain.education.Teacher;
+import org.neo4j.ogm.model.GraphModel;
+import org.neo4j.ogm.model.Node;
+import org.neo4j.ogm.response.model.DefaultGraphModel;
+import org.neo4j.ogm.response.model.NodeModel;
+import org.neo4j.ogm.response.model.RelationshipModel;
+
+/**
+ * @author Mark Angrish
+ */
+public class SecondLevelCacheTest {
+
+    private static final List<Long> NONE = Collections.emptyList();
+
+    @Test
+    public void shouldHandOutACopyOfTheGraphCached() {
+        SecondLevelCache cache = new SecondLevelCache(10, 0);
+        List<String> subjects = new ArrayList<>(Arrays.asList("maths"));
+
+        cache.put(Teacher.class, 1L, 1, graph(teacher(1L, "Miss White", subjects)), cache.generation());
+        subjects.add("physics");
+
+        GraphModel first = cache.get(Teacher.class, 1L, 1);
+        GraphModel second = cache.get(Teacher.class, 1L, 1);
+        Node node = first.getNodes().iterator().next();
+
+        assertEquals(1, first.getNodes().size());
+        assertEquals("Miss White", ((NodeModel) node).property("name"));
+        assertEquals(Arrays.asList("maths"), ((NodeModel) node).property("subjects"));
+        assertNotSame(node, second.getNodes().iterator().next());
+        assertNotSame(((NodeModel) node).property("subjects"), ((NodeModel) second.getNodes().iterator().next()).property("subjects"));
+        assertEquals(2, cache.hits());
+    }
+
+    @Test
+    public void shouldKeyGraphsByTypeIdAndDepth() {
+        SecondLevelCache cache = new SecondLevelCache(10, 0);
+
+        cache.put(Teacher.class, "Miss White", 1, graph(teacher(1L, "Miss White", null)), cache.generation());
+
+        assertNotNull(cache.get(Teacher.class, "Miss White", 1));
+        assertNull(cache.get(Teacher.class, "Miss White", 2));
+        assertNull(cache.get(Teacher.class, 1L, 1));
+        assertNull(cache.get(Object.class, "Miss White", 1));
+        assertEquals(3, cache.misses());
+    }
+
+    @Test
+    public void shouldMapACachedGraphToDistinctEntitiesInEachSession() {
+        MetaData metaData = new MetaData("org.neo4j.ogm.domain.education");
+        SecondLevelCache cache = new SecondLevelCache(10, 0);
+        cache.put(Teacher.class, 1L, 1, graph(teacher(1L, "Miss White", null)), cache.generation());
+
+        MappingContext one = new MappingContext(metaData);
+        MappingContext other = new MappingContext(metaData);
+        new GraphEntityMapper(metaData, one).map(Teacher.class, cache.get(Teacher.class, 1L, 1));
+        new GraphEntityMapper(metaData, other).map(Teacher.class, cache.get(Teacher.class, 1L, 1));
+
+        Teacher teacher = (Teacher) one.getNodeEntity(1L);
+        assertEquals("Miss White", teacher.getName());
+        assertEquals("Miss White", ((Teacher) other.getNodeEntity(1L)).getName());
+        assertNotSame(teacher, other.getNodeEntity(1L));
+    }
+
+    @Test
+    public void shouldEvictEveryGraphHoldingANodeWritten() {
+        SecondLevelCache cache = new SecondLevelCache(10, 0);
+        cache.put(Teacher.class, 1L, 1, graph(teacher(1L, "Miss White", null), teacher(2L, "Mr Black", null)), cache.generation());
+        cache.put(Teacher.class, 2L, 0, graph(teacher(2L, "Mr Black", null)), cache.generation());
+        cache.put(Teacher.class, 3L, 0, graph(teacher(3L, "Mrs Jones", null)), cache.generation());
+
+        cache.evict(Arrays.asList(2L), NONE);
+
+        assertNull(cache.get(Teacher.class, 1L, 1));
+        assertNull(cache.get(Teacher.class, 2L, 0));
+        assertNotNull(cache.get(Teacher.class, 3L, 0));
+        assertEquals(2, cache.evictions());
+    }
+
+    @Test
+    public void shouldEvictEveryGraphHoldingARelationshipWritten() {
+        SecondLevelCache cache = new SecondLevelCache(10, 0);
+        DefaultGraphModel graph = new DefaultGraphModel();
+        graph.setNodes(new NodeModel[] {teacher(1L, "Miss White", null), teacher(2L, "Mr Black", null)});
+        RelationshipModel relationship = new RelationshipModel();
+        relationship.setId(7L);
+        relationship.setType("KNOWS");
+        relationship.setStartNode(1L);
+        relationship.setEndNode(2L);
+        graph.setRelationships(new RelationshipModel[] {relationship});
+        cache.put(Teacher.class, 1L, 1, Collections.<GraphModel>singletonList(graph), cache.generation());
+        cache.put(Teacher.class, 1L, 0, graph(teacher(1L, "Miss White", null)), cache.generation());
+
+        cache.evict(NONE, Arrays.asList(7L));
+
+        assertNull(cache.get(Teacher.class, 1L, 1));
+        assertNotNull(cache.get(Teacher.class, 1L, 0));
+    }
+
+    @Test
+    public void shouldNotCacheAGraphReadBeforeAnEviction() {
+        SecondLevelCache cache = new SecondLevelCache(10, 0);
+        long generation = cache.generation();
+
+        cache.evict(Arrays.asList(5L), NONE);
+        cache.put(Teacher.class, 1L, 1, graph(teacher(1L, "Miss White", null)), generation);
+
+        assertNull(cache.get(Teacher.class, 1L, 1));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldEvictAGraphNotReadSinceItWasCachedBeyondTheMaximumSize() {
+        SecondLevelCache cache = new SecondLevelCache(2, 0);
+        cache.put(Teacher.class, 1L, 0, graph(teacher(1L, "Miss White", null)), cache.generation());
+        cache.put(Teacher.class, 2L, 0, graph(teacher(2L, "Mr Black", null)), cache.generation());
+        cache.get(Teacher.class, 1L, 0);
+
+        cache.put(Teacher.class, 3L, 0, graph(teacher(3L, "Mrs Jones", null)), cache.generation());
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get(Teacher.class, 1L, 0));
+        assertNull(cache.get(Teacher.class, 2L, 0));
+        assertNotNull(cache.get(Teacher.class, 3L, 0));
+        assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    public void shouldLookUpGraphsWhileAnotherThreadHoldsTheCache() throws Exception {
+        final SecondLevelCache cache = new SecondLevelCache(10, 0);
+        cache.put(Teacher.class, 1L, 0, graph(teacher(1L, "Miss White", null)), cache.generation());
+
+        final AtomicReference<GraphModel> found = new AtomicReference<>();
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                found.set(cache.get(Teacher.class, 1L, 0));
+            }
+        });
+        synchronized (cache) {
+            reader.start();
+            reader.join(10000);
+            assertFalse("a lookup should not wait for a write to the cache", reader.isAlive());
+        }
+        assertNotNull(found.get());
+        assertEquals(1, cache.hits());
+    }
+
+    @Test
+    public void shouldExpireGraphsAfterTheirTimeToLive() {
+        final long[] now = {0};
+        SecondLevelCache cache = new SecondLevelCache(10, 60) {
+            @Override
+            protected long now() {
+                return now[0];
+            }
+        };
+        cache.put(Teacher.class, 1L, 0, graph(teacher(1L, "Miss White", null)), cache.generation());
+
+        now[0] = 59000000000L;
+        assertNotNull(cache.get(Teacher.class, 1L, 0));
+
+        now[0] = 61000000000L;
+        assertNull(cache.get(Teacher.class, 1L, 0));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void shouldNeverHoldAnythingWhenDisabled() {
+        SecondLevelCache cache = SecondLevelCache.DISABLED;
+        cache.put(Teacher.class, 1L, 0, graph(teacher(1L, "Miss White", null)), cache.generation());
+
+        assertFalse(cache.isEnabled());
+        assertNull(cache.get(Teacher.class, 1L, 0));
+        assertEquals(0, cache.size());
+    }
+
+    private static NodeModel teacher(Long id, String name, List<String> subjects) {
+        NodeModel node = new NodeModel();
+        node.setId(id);
+        node.setLabels(new String[] {"Teacher"});
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("name", name);
+        if (subjects != null) {
+            properties.put("subjects", subjects);
+        }
+        node.setProperties(properties);
+        return node;
+    }
+
+    private static List<GraphModel> graph(NodeModel... nodes) {
+        DefaultGraphModel graph = new DefaultGraphModel();
+        graph.setNodes(nodes);
+        return Collections.<GraphModel>singletonList(graph);
+    }
+}
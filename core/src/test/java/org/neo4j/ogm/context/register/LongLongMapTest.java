@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.context.register;
+
+import static org.junit.Assert.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Angrish
+ */
+public class LongLongMapTest {
+
+    @Test
+    public void shouldHoldTheZeroKey() {
+        LongLongMap map = new LongLongMap();
+
+        assertFalse(map.containsKey(0L));
+        assertEquals(-1L, map.get(0L, -1L));
+
+        map.put(0L, 7L);
+        map.put(0L, 8L);
+
+        assertTrue(map.containsKey(0L));
+        assertEquals(8L, map.get(0L, -1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void shouldBehaveLikeAHashMapThroughGrowth() {
+        LongLongMap map = new LongLongMap();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 50000; i++) {
+            long key = random.nextLong() % 20000;
+            long value = random.nextLong();
+            map.put(key, value);
+            expected.put(key, value);
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Long, Long> entry : expected.entrySet()) {
+            assertTrue(map.containsKey(entry.getKey()));
+            assertEquals(entry.getValue().longValue(), map.get(entry.getKey(), 0L));
+        }
+    }
+
+    @Test
+    public void shouldBeEmptyAfterClear() {
+        LongLongMap map = new LongLongMap();
+        for (long key = 0; key < 1000; key++) {
+            map.put(key, key * 31);
+        }
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertFalse(map.containsKey(0L));
+        assertFalse(map.containsKey(500L));
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+package org.neo4j.ogm.context.register;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Angrish
+ */
+public class LongObjectMapTest {
+
+    @Test
+    public void shouldPutGetAndRemove() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        assertNull(map.put(0L, "zero"));
+        assertNull(map.put(-1L, "minus one"));
+        assertEquals("zero", map.put(0L, "nought"));
+
+        assertEquals("nought", map.get(0L));
+        assertEquals("minus one", map.get(-1L));
+        assertNull(map.get(1L));
+        assertEquals(2, map.size());
+
+        assertEquals("minus one", map.remove(-1L));
+        assertNull(map.remove(-1L));
+        assertFalse(map.containsKey(-1L));
+        assertEquals(1, map.size());
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void shouldRejectNullValues() {
+        new LongObjectMap<>().put(1L, null);
+    }
+
+    @Test
+    public void shouldBehaveLikeAHashMapThroughGrowthAndRemovals() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 100000; i++) {
+            // a narrow key range forces collisions, removals and re-insertions of the same keys
+            long key = random.nextInt(5000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 0; key < 5000; key++) {
+            assertEquals(expected.get(key), map.get(key));
+        }
+        assertEquals(new HashSet<>(expected.values()), new HashSet<>(map.values()));
+        assertEquals(expected.size(), map.keys().length);
+    }
+
+    @Test
+    public void shouldAllowRemovalWhileVisitingKeys() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        for (long id = 0; id < 100; id++) {
+            map.put(id, "entity " + id);
+        }
+
+        for (long id : map.keys()) {
+            if (id % 2 == 0) {
+                map.remove(id);
+            }
+        }
+
+        assertEquals(50, map.size());
+        for (long id = 0; id < 100; id++) {
+            assertEquals(id % 2 != 0, map.containsKey(id));
+        }
+    }
+
+    @Test
+    public void shouldBeEmptyAfterClear() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        for (long id = 0; id < 1000; id++) {
+            map.put(id, "entity " + id);
+        }
+
+        map.clear();
+
+        assertTrue(map.isEmpty());
+        assertNull(map.get(10L));
+        assertEquals(0, map.keys().length);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.context.register;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.Test;
+import org.neo4j.ogm.context.MappedRelationship;
+
+/**
+ * @author Mark Angrish
+ */
+public class RelationshipRegisterTest {
+
+    private final RelationshipRegister register = new RelationshipRegister();
+
+    @Test
+    public void shouldAddEachRelationshipOnce() {
+        assertTrue(register.add(relationship(1L, "KNOWS", 2L, null)));
+        assertFalse(register.add(relationship(1L, "KNOWS", 2L, null)));
+        assertTrue(register.add(relationship(1L, "KNOWS", 2L, 10L)));
+
+        assertEquals(2, register.size());
+        assertEquals(2, register.relationshipsOf(1L).size());
+        assertEquals(2, register.relationshipsOf(2L).size());
+    }
+
+    @Test
+    public void shouldFindTheRelationshipsOfANode() {
+        MappedRelationship outgoing = relationship(1L, "KNOWS", 2L, null);
+        MappedRelationship incoming = relationship(3L, "LIKES", 1L, null);
+        MappedRelationship loop = relationship(1L, "IS", 1L, null);
+        MappedRelationship unrelated = relationship(2L, "KNOWS", 3L, null);
+        register.add(outgoing);
+        register.add(incoming);
+        register.add(loop);
+        register.add(unrelated);
+
+        assertEquals(new HashSet<>(Arrays.asList(outgoing, incoming, loop)), new HashSet<>(register.relationshipsOf(1L)));
+        assertEquals(3, register.relationshipsOf(1L).size());
+        assertTrue(register.relationshipsOf(4L).isEmpty());
+    }
+
+    @Test
+    public void shouldFindTheRelationshipsOfARelationshipEntity() {
+        MappedRelationship relationshipEntity = relationship(1L, "RATED", 2L, 10L);
+        register.add(relationshipEntity);
+        register.add(relationship(1L, "RATED", 3L, null));
+
+        assertEquals(Collections.singletonList(relationshipEntity), register.relationshipsOfRelationshipEntity(10L));
+        assertTrue(register.relationshipsOfRelationshipEntity(11L).isEmpty());
+
+        register.remove(relationshipEntity);
+        assertTrue(register.relationshipsOfRelationshipEntity(10L).isEmpty());
+    }
+
+    @Test
+    public void shouldUnindexRemovedRelationships() {
+        MappedRelationship relationship = relationship(1L, "KNOWS", 2L, null);
+        register.add(relationship);
+
+        assertTrue(register.remove(relationship(1L, "KNOWS", 2L, null)));
+        assertFalse(register.remove(relationship));
+        assertFalse(register.contains(relationship));
+        assertTrue(register.relationshipsOf(1L).isEmpty());
+        assertTrue(register.relationshipsOf(2L).isEmpty());
+    }
+
+    @Test
+    public void shouldAllowChangesWhileIterating() {
+        for (long i = 0; i < 10; i++) {
+            register.add(relationship(i, "NEXT", i + 1, null));
+        }
+
+        int visited = 0;
+        Iterator<MappedRelationship> iterator = register.relationships().iterator();
+        while (iterator.hasNext()) {
+            MappedRelationship relationship = iterator.next();
+            visited++;
+            for (MappedRelationship neighbour : register.relationshipsOf(relationship.getEndNodeId())) {
+                register.remove(neighbour);
+            }
+            register.add(relationship(100L + visited, "NEW", 0L, null));
+        }
+
+        assertEquals(10, visited);
+        assertEquals(10, register.size());
+        assertEquals(10, register.relationshipsOf(0L).size());
+    }
+
+    @Test
+    public void shouldRemoveThroughTheIteratorOfTheView() {
+        register.add(relationship(1L, "KNOWS", 2L, null));
+        register.add(relationship(2L, "KNOWS", 3L, null));
+
+        Iterator<MappedRelationship> iterator = register.relationships().iterator();
+        iterator.next();
+        iterator.remove();
+
+        assertEquals(1, register.relationships().size());
+        assertTrue(register.relationshipsOf(1L).isEmpty());
+        assertEquals(1, register.relationshipsOf(2L).size());
+    }
+
+    private static MappedRelationship relationship(long startNodeId, String type, long endNodeId, Long relationshipId) {
+        return new MappedRelationship(startNodeId, type, endNodeId, relationshipId, Object.class, Object.class);
+    }
+}
@@ -859,6 +859,35 @@ public class CypherCompilerTest {
         }
     }
 
+    @Test
+    public void shouldMapCollectionIntoSingleContextWithoutDuplicatingSharedObjects() {
+
+        Student sheila = new Student("Sheila");
+        Course physics = new Course("Physics");
+        Course maths = new Course("Maths");
+        physics.setStudents(Arrays.asList(sheila));
+        maths.setStudents(Arrays.asList(sheila));
+
+        Compiler compiler = new EntityGraphMapper(mappingMetadata, mappingContext).mapAll(Arrays.asList(physics, maths), -1).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+        assertTrue(compiler.hasStatementsDependentOnNewNodes());
+
+        List<Statement> createNodeStatements = compiler.createNodesStatements();
+        assertEquals(2, createNodeStatements.size());
+        for (Statement statement : createNodeStatements) {
+            List rows = (List) statement.getParameters().get("rows");
+            if (statement.getStatement().contains("Student")) {
+                assertEquals(1, rows.size());
+            } else {
+                assertEquals(2, rows.size());
+            }
+        }
+
+        List<Statement> createRelStatements = compiler.createRelationshipsStatements();
+        assertEquals(1, createRelStatements.size());
+        assertEquals(2, ((List) createRelStatements.get(0).getParameters().get("rows")).size());
+    }
+
     private Compiler mapAndCompile(Object object) {
         CompileContext context = this.mapper.map(object);
         Compiler compiler =  context.getCompiler();
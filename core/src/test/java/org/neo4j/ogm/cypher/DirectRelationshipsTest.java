@@ -13,10 +13,12 @@
 package org.neo4j.ogm.cypher;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.After;
 import org.junit.Before;
@@ -462,6 +464,53 @@ public class DirectRelationshipsTest {
         assertEquals(0, statements.size());
     }
 
+    @Test
+    public void shouldDetectRemovedRelationshipsWithoutVisitingEveryRelationshipOfTheMappingContext() {
+
+        MappingContext context = new MappingContext(mappingMetadata) {
+            @Override
+            public Set<MappedRelationship> getRelationships() {
+                throw new AssertionError("a save should only look at the relationships of the objects it visits");
+            }
+        };
+
+        Folder folder = new Folder();
+        Document doc1 = new Document();
+        Document doc2 = new Document();
+
+        folder.getDocuments().add(doc1);
+        folder.getDocuments().add(doc2);
+        doc1.setFolder(folder);
+        doc2.setFolder(folder);
+
+        folder.setId(0L);
+        doc1.setId(1L);
+        doc2.setId(2L);
+
+        context.addNodeEntity(folder, folder.getId());
+        context.addNodeEntity(doc1, doc1.getId());
+        context.addNodeEntity(doc2, doc2.getId());
+        context.addRelationship(new MappedRelationship(folder.getId(), "CONTAINS", doc1.getId(), Folder.class, Document.class));
+        context.addRelationship(new MappedRelationship(folder.getId(), "CONTAINS", doc2.getId(), Folder.class, Document.class));
+        for (long id = 10; id < 1010; id += 2) {
+            context.addRelationship(new MappedRelationship(id, "CONTAINS", id + 1, Folder.class, Document.class));
+        }
+
+        doc2.setFolder(null);
+        folder.getDocuments().remove(doc2);
+
+        Compiler compiler = new EntityGraphMapper(mappingMetadata, context).map(folder).getCompiler();
+        compiler.useStatementFactory(new RowStatementFactory());
+
+        List<Statement> statements = compiler.deleteRelationshipStatements();
+        assertEquals(1, statements.size());
+        assertEquals("UNWIND {rows} as row MATCH (startNode) WHERE ID(startNode) = row.startNodeId MATCH (endNode) WHERE ID(endNode) = row.endNodeId MATCH (startNode)-[rel:`CONTAINS`]->(endNode) DELETE rel", statements.get(0).getStatement());
+        assertEquals(1, ((List) statements.get(0).getParameters().get("rows")).size());
+        assertFalse(context.containsRelationship(new MappedRelationship(folder.getId(), "CONTAINS", doc2.getId(), Folder.class, Document.class)));
+        assertTrue(context.containsRelationship(new MappedRelationship(folder.getId(), "CONTAINS", doc1.getId(), Folder.class, Document.class)));
+        assertTrue(context.containsRelationship(new MappedRelationship(10L, "CONTAINS", 11L, Folder.class, Document.class)));
+    }
+
     private List<String> cypherStatements(List<Statement> statements) {
         List<String> cypher = new ArrayList<>(statements.size());
         for(Statement statement : statements) {
@@ -134,7 +134,7 @@ public class ParameterisedStatementTest {
     public void deleteAll() throws Exception {
         List<Long> ids = Arrays.asList(new Long[]{123L, 234L, 345L});
         statement = new NodeDeleteStatements().delete(ids);
-        assertEquals("MATCH (n) WHERE ID(n) in { ids } OPTIONAL MATCH (n)-[r0]-() DELETE r0, n", statement.getStatement());
+        assertEquals("UNWIND { ids } AS id MATCH (n) WHERE ID(n) = id OPTIONAL MATCH (n)-[r0]-() DELETE r0, n", statement.getStatement());
         assertEquals("{\"ids\":[123,234,345]}", mapper.writeValueAsString(statement.getParameters()));
     }
 
@@ -169,7 +169,7 @@ public class ParameterisedStatementTest {
     public void deleteAllRels() throws Exception {
         List<Long> ids = Arrays.asList(new Long[]{123L, 234L, 345L});
         statement = new RelationshipDeleteStatements().delete(ids);
-        assertEquals("MATCH (n)-[r0]->() WHERE ID(r0) IN { ids } DELETE r0", statement.getStatement());
+        assertEquals("UNWIND { ids } AS id MATCH (n)-[r0]->() WHERE ID(r0) = id DELETE r0", statement.getStatement());
         assertEquals("{\"ids\":[123,234,345]}", mapper.writeValueAsString(statement.getParameters()));
     }
 
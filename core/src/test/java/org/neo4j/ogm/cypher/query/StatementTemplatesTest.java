@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.cypher.query;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
+import org.neo4j.ogm.session.request.strategy.impl.RelationshipQueryStatements;
+
+/**
+ * @author Mark Angrish
+ */
+public class StatementTemplatesTest {
+
+	private static final StatementTemplates.Template LABELS = new StatementTemplates.Template() {
+
+		@Override
+		public String render(Object[] shape) {
+			StringBuilder labels = new StringBuilder();
+			for (String label : (String[]) shape[0]) {
+				labels.append(":`").append(label).append("`");
+			}
+			return "MATCH (n" + labels + ") WITH n MATCH p=(n)-[*0.." + shape[1] + "]-(m) RETURN p";
+		}
+	};
+
+	@Test
+	public void shouldRenderAStatementOncePerShape() {
+		long misses = StatementTemplates.misses();
+
+		String first = StatementTemplates.cypher(LABELS, new String[] {"Person", "Actor"}, 1);
+		String second = StatementTemplates.cypher(LABELS, new String[] {"Person", "Actor"}, 1);
+
+		assertEquals("MATCH (n:`Person`:`Actor`) WITH n MATCH p=(n)-[*0..1]-(m) RETURN p", first);
+		assertSame(first, second);
+		assertEquals(misses + 1, StatementTemplates.misses());
+	}
+
+	@Test
+	public void shouldRenderEachShapeSeparately() {
+		String person = StatementTemplates.cypher(LABELS, new String[] {"Person"}, 1);
+
+		assertEquals("MATCH (n:`Person`) WITH n MATCH p=(n)-[*0..2]-(m) RETURN p", StatementTemplates.cypher(LABELS, new String[] {"Person"}, 2));
+		assertEquals("MATCH (n:`Actor`) WITH n MATCH p=(n)-[*0..1]-(m) RETURN p", StatementTemplates.cypher(LABELS, new String[] {"Actor"}, 1));
+		assertSame(person, StatementTemplates.cypher(LABELS, new String[] {"Person"}, 1));
+	}
+
+	@Test
+	public void shouldShareTheTextOfLoadQueriesBetweenRequests() {
+		NodeQueryStatements<Long> nodeQueryStatements = new NodeQueryStatements<>();
+		assertSame(nodeQueryStatements.findByType("Orbit", 3).getStatement(), nodeQueryStatements.findByType("Orbit", 3).getStatement());
+		assertSame(nodeQueryStatements.findAll(Arrays.asList(1L, 2L), 1).getStatement(), new NodeQueryStatements<Long>().findAll(Arrays.asList(3L), 1).getStatement());
+
+		RelationshipQueryStatements<Long> relationshipQueryStatements = new RelationshipQueryStatements<>();
+		assertSame(relationshipQueryStatements.findOne(0L, 2).getStatement(), relationshipQueryStatements.findOne(1L, 2).getStatement());
+	}
+}
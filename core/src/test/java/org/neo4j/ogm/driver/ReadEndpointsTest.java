@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.driver;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Angrish
+ */
+public class ReadEndpointsTest {
+
+    @Test
+    public void shouldBalanceAcrossTheEndpointsInTurn() {
+        ReadEndpoints<String> endpoints = new ReadEndpoints<>(Arrays.asList("a", "b", "c"), 30);
+
+        assertEquals("a", endpoints.next());
+        assertEquals("b", endpoints.next());
+        assertEquals("c", endpoints.next());
+        assertEquals("a", endpoints.next());
+    }
+
+    @Test
+    public void shouldLeaveAFailedEndpointOutUntilTheRetryInterval() {
+        final long[] now = {0};
+        ReadEndpoints<String> endpoints = new ReadEndpoints<String>(Arrays.asList("a", "b"), 30) {
+            @Override
+            protected long now() {
+                return now[0];
+            }
+        };
+
+        endpoints.failed("a");
+        assertEquals(1, endpoints.failed());
+        assertEquals("b", endpoints.next());
+        assertEquals("b", endpoints.next());
+
+        now[0] = 31000000000L;
+        assertEquals(0, endpoints.failed());
+        assertEquals("a", endpoints.next());
+        assertEquals("b", endpoints.next());
+    }
+
+    @Test
+    public void shouldHaveNoEndpointWhenEveryEndpointFailed() {
+        ReadEndpoints<String> endpoints = new ReadEndpoints<>(Arrays.asList("a", "b"), 30);
+
+        endpoints.failed("a");
+        endpoints.failed("b");
+
+        assertNull(endpoints.next());
+        assertNull(new ReadEndpoints<>(Collections.<String>emptyList(), 30).next());
+    }
+}
@@ -20,6 +20,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -218,6 +219,63 @@ public class ClassInfoTest {
         assertEquals("posts", fieldInfo.getName());
     }
 
+    @Test
+    public void testRelationshipFieldsAreLookedUpIgnoringCase() {
+        ClassInfo classInfo = metaData.classInfo("Member");
+
+        assertEquals("activityList", classInfo.relationshipField("has_activity", Relationship.OUTGOING, true).getName());
+        assertEquals("followers", classInfo.relationshipField("Followers", Relationship.OUTGOING, false).getName());
+        assertEquals("activityList", classInfo.relationshipFieldByName("ACTIVITYLIST").getName());
+    }
+
+    @Test
+    public void testStrictRelationshipFieldLookupRequiresAnnotatedType() {
+        ClassInfo classInfo = metaData.classInfo("Member");
+
+        assertNull(classInfo.relationshipField("FOLLOWERS", Relationship.OUTGOING, true));
+        assertTrue(classInfo.candidateRelationshipFields("FOLLOWERS", Relationship.OUTGOING, true).isEmpty());
+        assertEquals(1, classInfo.candidateRelationshipFields("FOLLOWERS", Relationship.OUTGOING, false).size());
+    }
+
+    @Test
+    public void testOutgoingRelationshipFieldDoesNotMatchIncomingLookup() {
+        ClassInfo classInfo = metaData.classInfo("Member");
+
+        assertNull(classInfo.relationshipField("HAS_ACTIVITY", Relationship.INCOMING, true));
+        assertTrue(classInfo.candidateRelationshipFields("HAS_ACTIVITY", Relationship.INCOMING, false).isEmpty());
+    }
+
+    @Test
+    public void testRelationshipFieldCandidatesAreComputedOnce() {
+        ClassInfo classInfo = metaData.classInfo("Member");
+        // the first lookup records the default direction of the field, after which its candidates no longer change
+        classInfo.candidateRelationshipFields("HAS_ACTIVITY", Relationship.OUTGOING, true);
+        Set<FieldInfo> candidates = classInfo.candidateRelationshipFields("HAS_ACTIVITY", Relationship.OUTGOING, true);
+
+        assertEquals(1, candidates.size());
+        assertSame(candidates, classInfo.candidateRelationshipFields("has_activity", Relationship.OUTGOING, true));
+        try {
+            candidates.clear();
+            fail("Relationship field candidates should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            assertEquals(1, classInfo.candidateRelationshipFields("HAS_ACTIVITY", Relationship.OUTGOING, true).size());
+        }
+    }
+
+    @Test
+    public void testRelationshipFieldsAreComputedOnce() {
+        ClassInfo classInfo = metaData.classInfo("Member");
+        Collection<FieldInfo> fieldInfos = classInfo.relationshipFields();
+
+        assertSame(fieldInfos, classInfo.relationshipFields());
+        try {
+            fieldInfos.clear();
+            fail("Relationship fields should not be modifiable");
+        } catch (UnsupportedOperationException e) {
+            assertFalse(classInfo.relationshipFields().isEmpty());
+        }
+    }
+
     @Test
     public void testClassInfoIsFoundForFQN() {
         String fqn = "org.neo4j.ogm.domain.forum.Topic";
@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.metadata;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.neo4j.ogm.metadata.impl.legacy.LegacyClassInfo;
+import org.neo4j.ogm.metadata.impl.legacy.LegacyDomainInfo;
+import org.neo4j.ogm.metadata.impl.legacy.scanner.ClassPathScanner;
+import org.neo4j.ogm.metadata.impl.legacy.scanner.MetaDataIndex;
+
+/**
+ * @author Mark Angrish
+ */
+public class MetaDataIndexTest {
+
+    private static final String FORUM_PATH = "org/neo4j/ogm/domain/forum/";
+    private static final List<String> FORUM = Collections.singletonList(FORUM_PATH);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private ClassLoader contextClassLoader;
+
+    @Before
+    public void setUp() throws IOException {
+        contextClassLoader = Thread.currentThread().getContextClassLoader();
+        URL indexRoot = folder.getRoot().toURI().toURL();
+        Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[] {indexRoot}, contextClassLoader));
+    }
+
+    @After
+    public void tearDown() {
+        Thread.currentThread().setContextClassLoader(contextClassLoader);
+    }
+
+    @Test
+    public void shouldIndexTheClassesOfThePackages() throws IOException {
+        StringWriter index = new StringWriter();
+        MetaDataIndex.write(index, FORUM, new ClassPathScanner().read(FORUM));
+
+        assertTrue(index.toString().contains("\npackage org/neo4j/ogm/domain/forum/\n"));
+        assertTrue(index.toString().contains("\nclass org/neo4j/ogm/domain/forum/Topic.class\n"));
+    }
+
+    @Test
+    public void shouldReadTheDomainClassesListedInTheIndex() throws IOException {
+        copyForumClasses();
+        MetaDataIndex.main(new String[] {folder.getRoot().getPath(), "org.neo4j.ogm.domain.forum"});
+
+        assertNotNull(MetaDataIndex.read(Thread.currentThread().getContextClassLoader(), FORUM));
+
+        DomainInfo scanned = new LegacyDomainInfo("org.neo4j.ogm.domain.pizza");
+        DomainInfo indexed = new LegacyDomainInfo("org.neo4j.ogm.domain.forum");
+
+        assertNotNull(indexed.getClass("org.neo4j.ogm.domain.forum.Topic"));
+        assertNotNull(indexed.getClass("org.neo4j.ogm.domain.forum.activity.Post"));
+        assertEquals(4, indexed.getClassSimpleName("IMembership").directImplementingClasses().size());
+        assertNotNull(scanned.getClass("org.neo4j.ogm.domain.pizza.Pizza"));
+    }
+
+    @Test
+    public void shouldScanTheClasspathIfAPackageIsAlsoFoundOutsideTheIndexedLocation() throws IOException {
+        writeIndex("package org/neo4j/ogm/domain/forum/\nclass org/neo4j/ogm/domain/forum/Topic.class\n");
+
+        assertNull(MetaDataIndex.read(Thread.currentThread().getContextClassLoader(), FORUM));
+
+        DomainInfo domainInfo = new LegacyDomainInfo("org.neo4j.ogm.domain.forum");
+
+        assertNotNull(domainInfo.getClass("org.neo4j.ogm.domain.forum.Topic"));
+        assertNotNull(domainInfo.getClass("org.neo4j.ogm.domain.forum.Member"));
+    }
+
+    @Test
+    public void shouldScanTheClasspathIfTheIndexListsAClassThatIsGone() throws IOException {
+        copyForumClasses();
+        MetaDataIndex.main(new String[] {folder.getRoot().getPath(), "org.neo4j.ogm.domain.forum"});
+        assertTrue(new File(folder.getRoot(), FORUM_PATH + "Topic.class").delete());
+
+        assertNull(MetaDataIndex.read(Thread.currentThread().getContextClassLoader(), FORUM));
+    }
+
+    @Test
+    public void shouldScanTheClasspathIfAClassWasModifiedAfterTheIndexWasWritten() throws IOException {
+        copyForumClasses();
+        MetaDataIndex.main(new String[] {folder.getRoot().getPath(), "org.neo4j.ogm.domain.forum"});
+        File index = new File(folder.getRoot(), MetaDataIndex.RESOURCE);
+        assertTrue(new File(folder.getRoot(), FORUM_PATH + "Member.class").setLastModified(index.lastModified() + 60000));
+
+        assertNull(MetaDataIndex.read(Thread.currentThread().getContextClassLoader(), FORUM));
+    }
+
+    @Test
+    public void shouldScanTheClasspathIfAClassWasAddedAfterTheIndexWasWritten() throws IOException {
+        copyForumClasses();
+        MetaDataIndex.main(new String[] {folder.getRoot().getPath(), "org.neo4j.ogm.domain.forum"});
+        File index = new File(folder.getRoot(), MetaDataIndex.RESOURCE);
+        File forum = new File(folder.getRoot(), FORUM_PATH);
+        assertTrue(new File(forum, "Added.class").createNewFile());
+        assertTrue(forum.setLastModified(index.lastModified() + 60000));
+
+        assertNull(MetaDataIndex.read(Thread.currentThread().getContextClassLoader(), FORUM));
+    }
+
+    @Test
+    public void shouldScanTheClasspathForPackagesNotInTheIndex() throws IOException {
+        copyForumClasses();
+        MetaDataIndex.main(new String[] {folder.getRoot().getPath(), "org.neo4j.ogm.domain.forum"});
+
+        DomainInfo domainInfo = new LegacyDomainInfo("org.neo4j.ogm.domain.forum", "org.neo4j.ogm.domain.pizza");
+
+        assertNotNull(domainInfo.getClass("org.neo4j.ogm.domain.forum.Member"));
+        assertNotNull(domainInfo.getClass("org.neo4j.ogm.domain.pizza.Pizza"));
+    }
+
+    @Test
+    public void shouldOnlyCoverWholePackageNames() throws IOException {
+        writeIndex("package org/neo4j/ogm/domain/forum\n");
+
+        MetaDataIndex index = MetaDataIndex.load(Thread.currentThread().getContextClassLoader()).get(0);
+
+        assertTrue(index.covers("org/neo4j/ogm/domain/forum/"));
+        assertTrue(index.covers("org/neo4j/ogm/domain/forum/activity/"));
+        assertFalse(index.covers("org/neo4j/ogm/domain/forumextra/"));
+        assertFalse(index.covers("org/neo4j/ogm/domain/"));
+    }
+
+    @Test
+    public void shouldNotFindAnIndexIfThereIsNone() throws IOException {
+        assertTrue(MetaDataIndex.load(Thread.currentThread().getContextClassLoader()).isEmpty());
+    }
+
+    private void writeIndex(String content) throws IOException {
+        File index = new File(folder.getRoot(), MetaDataIndex.RESOURCE);
+        assertTrue(index.getParentFile().mkdirs());
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(index), "UTF-8")) {
+            writer.write(content);
+        }
+    }
+
+    // copies the forum classes under the temporary folder, and hides the originals, so that they are only found there
+    private void copyForumClasses() throws IOException {
+        for (LegacyClassInfo classInfo : new ClassPathScanner().read(FORUM)) {
+            String resource = classInfo.name().replace('.', '/') + ".class";
+            File copy = new File(folder.getRoot(), resource);
+            assertTrue(copy.getParentFile().isDirectory() || copy.getParentFile().mkdirs());
+            try (InputStream inputStream = contextClassLoader.getResourceAsStream(resource);
+                 OutputStream outputStream = new FileOutputStream(copy)) {
+                byte[] buffer = new byte[4096];
+                int read;
+                while ((read = inputStream.read(buffer)) != -1) {
+                    outputStream.write(buffer, 0, read);
+                }
+            }
+        }
+        URL indexRoot = folder.getRoot().toURI().toURL();
+        Thread.currentThread().setContextClassLoader(new URLClassLoader(new URL[] {indexRoot}, contextClassLoader) {
+
+            @Override
+            public URL getResource(String name) {
+                return name.startsWith(FORUM_PATH) ? findResource(name) : super.getResource(name);
+            }
+
+            @Override
+            public Enumeration<URL> getResources(String name) throws IOException {
+                return name.startsWith(FORUM_PATH) ? findResources(name) : super.getResources(name);
+            }
+        });
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.session.event;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Angrish
+ */
+public class BatchEventDispatcherTest {
+
+    @Test
+    public void shouldCallASynchronousListenerOnTheCallingThreadOncePerPhase() {
+        BatchEventDispatcher dispatcher = new BatchEventDispatcher(10);
+        RecordingListener listener = new RecordingListener();
+        dispatcher.register(listener, false);
+
+        dispatcher.dispatch(events(Event.TYPE.PRE_SAVE, "a", "b"));
+        dispatcher.dispatch(events(Event.TYPE.POST_SAVE, "a", "b"));
+        dispatcher.dispatch(Collections.<Event>emptyList());
+
+        assertEquals(Arrays.asList("PRE_SAVE [a, b]", "POST_SAVE [a, b]"), listener.batches);
+        assertEquals(Collections.singleton(Thread.currentThread().getName()), listener.threads());
+    }
+
+    @Test
+    public void shouldDeliverEveryBatchInOrderToAnAsynchronousListenerBeforeClosing() {
+        BatchEventDispatcher dispatcher = new BatchEventDispatcher(1);
+        RecordingListener listener = new RecordingListener();
+        dispatcher.register(listener, true);
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            dispatcher.dispatch(events(Event.TYPE.PRE_DELETE, "o" + i));
+            expected.add("PRE_DELETE [o" + i + "]");
+        }
+        dispatcher.close(10, TimeUnit.SECONDS);
+
+        assertEquals(expected, listener.batches);
+        assertEquals(Collections.singleton("neo4j-ogm-events"), listener.threads());
+    }
+
+    @Test
+    public void shouldKeepDeliveringToAnAsynchronousListenerAfterAnotherFails() {
+        BatchEventDispatcher dispatcher = new BatchEventDispatcher(10);
+        RecordingListener listener = new RecordingListener();
+        dispatcher.register(new RecordingListener() {
+            @Override
+            public void onPostDelete(List<Event> events) {
+                throw new IllegalStateException();
+            }
+        }, true);
+        dispatcher.register(listener, true);
+
+        dispatcher.dispatch(events(Event.TYPE.POST_DELETE, "a"));
+        dispatcher.dispatch(events(Event.TYPE.POST_DELETE, "b"));
+        dispatcher.close(10, TimeUnit.SECONDS);
+
+        assertEquals(Arrays.asList("POST_DELETE [a]", "POST_DELETE [b]"), listener.batches);
+    }
+
+    @Test
+    public void shouldCallAnAsynchronousListenerOnTheCallingThreadOnceClosed() {
+        BatchEventDispatcher dispatcher = new BatchEventDispatcher(10);
+        RecordingListener listener = new RecordingListener();
+        dispatcher.register(listener, true);
+        dispatcher.close(10, TimeUnit.SECONDS);
+
+        dispatcher.dispatch(events(Event.TYPE.POST_SAVE, "a"));
+
+        assertEquals(Arrays.asList("POST_SAVE [a]"), listener.batches);
+        assertEquals(Collections.singleton(Thread.currentThread().getName()), listener.threads());
+    }
+
+    @Test
+    public void shouldDeliverABatchRaisedWhileClosingAfterTheBatchesQueuedBefore() throws Exception {
+        final BatchEventDispatcher dispatcher = new BatchEventDispatcher(10);
+        final CountDownLatch release = new CountDownLatch(1);
+        RecordingListener listener = new RecordingListener() {
+            @Override
+            public void onPreSave(List<Event> events) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onPreSave(events);
+            }
+        };
+        dispatcher.register(listener, true);
+
+        dispatcher.dispatch(events(Event.TYPE.PRE_SAVE, "a"));
+        dispatcher.dispatch(events(Event.TYPE.PRE_SAVE, "b"));
+
+        Thread closer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                dispatcher.close(10, TimeUnit.SECONDS);
+            }
+        });
+        closer.start();
+        awaitBlocked(closer);
+
+        Thread raiser = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                dispatcher.dispatch(events(Event.TYPE.POST_SAVE, "c"));
+            }
+        });
+        raiser.start();
+        awaitBlocked(raiser);
+
+        release.countDown();
+        closer.join(10000);
+        raiser.join(10000);
+
+        assertEquals(Arrays.asList("PRE_SAVE [a]", "PRE_SAVE [b]", "POST_SAVE [c]"), listener.batches);
+    }
+
+    @Test
+    public void shouldBeEmptyOnceEveryListenerIsDeregistered() {
+        BatchEventDispatcher dispatcher = new BatchEventDispatcher(10);
+        RecordingListener listener = new RecordingListener();
+        assertTrue(dispatcher.isEmpty());
+
+        dispatcher.register(listener, true);
+        assertFalse(dispatcher.isEmpty());
+
+        dispatcher.deregister(listener);
+        assertTrue(dispatcher.isEmpty());
+        dispatcher.close(10, TimeUnit.SECONDS);
+    }
+
+    private static void awaitBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (thread.isAlive() && thread.getState() != Thread.State.TIMED_WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private static List<Event> events(Event.TYPE lifecycle, String... objects) {
+        List<Event> events = new ArrayList<>();
+        for (String object : objects) {
+            events.add(new PersistenceEvent(object, lifecycle));
+        }
+        return events;
+    }
+
+    private static class RecordingListener implements BatchEventListener {
+
+        private final List<String> batches = Collections.synchronizedList(new ArrayList<String>());
+        private final List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+
+        @Override
+        public void onPreSave(List<Event> events) {
+            record(events);
+        }
+
+        @Override
+        public void onPostSave(List<Event> events) {
+            record(events);
+        }
+
+        @Override
+        public void onPreDelete(List<Event> events) {
+            record(events);
+        }
+
+        @Override
+        public void onPostDelete(List<Event> events) {
+            record(events);
+        }
+
+        private void record(List<Event> events) {
+            List<Object> objects = new ArrayList<>();
+            for (Event event : events) {
+                objects.add(event.getObject());
+            }
+            batches.add(events.get(0).getLifeCycle() + " " + objects);
+            threads.add(Thread.currentThread().getName());
+        }
+
+        private Set<String> threads() {
+            return new HashSet<>(threads);
+        }
+    }
+}
@@ -36,7 +36,7 @@ public class NodeDeleteStatementsTest {
 
 	@Test
 	public void testDeleteMany() throws Exception {
-		assertEquals("MATCH (n) WHERE ID(n) in { ids } OPTIONAL MATCH (n)-[r0]-() DELETE r0, n", statements.delete(Arrays.asList(1L, 2L)).getStatement());
+		assertEquals("UNWIND { ids } AS id MATCH (n) WHERE ID(n) = id OPTIONAL MATCH (n)-[r0]-() DELETE r0, n", statements.delete(Arrays.asList(1L, 2L)).getStatement());
 	}
 
 	@Test
@@ -86,4 +86,19 @@ public class NodeDeleteStatementsTest {
 		CypherQuery query = statements.deleteAndList("INFLUENCE", new Filters().add("score", -12.2));
 		assertEquals("MATCH (n:`INFLUENCE`) WHERE n.`score` = { `score_0` }  OPTIONAL MATCH (n)-[r0]-() DELETE r0, n RETURN ID(n)", query.getStatement());
 	}
+
+	@Test
+	public void testDeleteBatchWithLabelAndCount() throws Exception {
+		CypherQuery query = statements.deleteAndCount("TRAFFIC_WARDENS", 1000);
+		assertEquals("MATCH (n:`TRAFFIC_WARDENS`) WITH n LIMIT { limit } OPTIONAL MATCH (n)-[r0]-() DELETE r0, n RETURN COUNT(DISTINCT n)", query.getStatement());
+		assertEquals(1000, query.getParameters().get("limit"));
+	}
+
+	@Test
+	public void testDeleteBatchWithLabelAndFiltersAndList() throws Exception {
+		CypherQuery query = statements.deleteAndList("INFLUENCE", new Filters().add("score", -12.2), 1000);
+		assertEquals("MATCH (n:`INFLUENCE`) WHERE n.`score` = { `score_0` }  WITH DISTINCT n LIMIT { limit } OPTIONAL MATCH (n)-[r0]-() DELETE r0, n RETURN DISTINCT ID(n)", query.getStatement());
+		assertEquals(1000, query.getParameters().get("limit"));
+		assertEquals(-12.2, query.getParameters().get("score_0"));
+	}
 }
\ No newline at end of file
@@ -16,6 +16,7 @@ package org.neo4j.ogm.session.request.strategy.impl;
 import static org.junit.Assert.*;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 
 import org.junit.Test;
@@ -27,13 +28,16 @@ import org.neo4j.ogm.cypher.function.DistanceComparison;
 import org.neo4j.ogm.cypher.function.DistanceFromPoint;
 import org.neo4j.ogm.cypher.function.FilterFunction;
 import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.exception.MissingOperatorException;
+import org.neo4j.ogm.session.request.strategy.LoadStrategy;
 import org.neo4j.ogm.session.request.strategy.QueryStatements;
 
 /**
  * @author Vince Bickers
  * @author Luanne Misquitta
  * @author Jasper Blues
+ * @author Mark Angrish
  */
 public class NodeQueryStatementsTest {
 
@@ -666,4 +670,64 @@ public class NodeQueryStatementsTest {
 		diameterParam.setComparisonOperator(ComparisonOperator.LESS_THAN);
 		queryStatements.findByType("Asteroid", new Filters().add(nameParam).add(diameterParam), 2).getStatement();
 	}
+
+	@Test
+	public void testFindOneWithoutFollowingLazyRelationships() throws Exception {
+		PagingAndSortingQuery query = new NodeQueryStatements<Long>(null, Collections.singleton("FOLLOWS")).findOne(0L, 2);
+		assertEquals("MATCH (n) WHERE ID(n) = { id } WITH n MATCH p=(n)-[*0..2]-(m) WHERE NONE(r IN relationships(p)[0..1] WHERE type(r) IN { lazyTypes }) RETURN p", query.getStatement());
+		assertEquals(Collections.singleton("FOLLOWS"), query.getParameters().get("lazyTypes"));
+	}
+
+	@Test
+	public void testFindByPropertyAtInfiniteDepthWithoutFollowingLazyRelationships() throws Exception {
+		PagingAndSortingQuery query = new NodeQueryStatements<Long>(null, Collections.singleton("FOLLOWS")).findByType("Asteroid", new Filters().add(new Filter("name", "AST-1")), -1);
+		assertEquals("MATCH (n:`Asteroid`) WHERE n.`name` = { `name_0` }  WITH n MATCH p=(n)-[*0..]-(m) WHERE NONE(r IN relationships(p)[0..1] WHERE type(r) IN { lazyTypes }) RETURN p, ID(n)", query.getStatement());
+		assertEquals(Collections.singleton("FOLLOWS"), query.getParameters().get("lazyTypes"));
+	}
+
+	@Test
+	public void testFindRelated() throws Exception {
+		PagingAndSortingQuery query = new NodeQueryStatements<Long>().findRelated(0L, "FOLLOWS", "INCOMING", 1000L, 500);
+		assertEquals("MATCH p=(n)<-[r:`FOLLOWS`]-() WHERE ID(n) = { id } AND ID(r) > { lastId } WITH p, r ORDER BY ID(r) LIMIT { limit } RETURN p", query.getStatement());
+		assertEquals(1000L, query.getParameters().get("lastId"));
+		assertEquals(500, query.getParameters().get("limit"));
+	}
+
+	@Test
+	public void testFindOneWithAFetchPlan() throws Exception {
+		PagingAndSortingQuery query = new NodeQueryStatements<Long>(null, null, LoadStrategy.FETCH_PLAN).findOne(0L, 2);
+		assertEquals("MATCH (n) WHERE ID(n) = { id } WITH n, [n] AS frontier, [n] AS nodes, [] AS rels" +
+				" UNWIND CASE size(frontier) WHEN 0 THEN [null] ELSE frontier END AS s OPTIONAL MATCH (s)-[r]-(m)" +
+				" WITH n, nodes, rels, collect(DISTINCT r) AS hopRels, collect(DISTINCT m) AS hopNodes" +
+				" WITH n, nodes, rels + [x IN hopRels WHERE NOT x IN rels] AS rels, [x IN hopNodes WHERE NOT x IN nodes] AS frontier" +
+				" WITH n, nodes + frontier AS nodes, rels, frontier" +
+				" UNWIND CASE size(frontier) WHEN 0 THEN [null] ELSE frontier END AS s OPTIONAL MATCH (s)-[r]-(m)" +
+				" WITH n, nodes, rels, collect(DISTINCT r) AS hopRels, collect(DISTINCT m) AS hopNodes" +
+				" WITH n, nodes, rels + [x IN hopRels WHERE NOT x IN rels] AS rels, [x IN hopNodes WHERE NOT x IN nodes] AS frontier" +
+				" WITH n, nodes + frontier AS nodes, rels, frontier" +
+				" RETURN nodes, rels", query.getStatement());
+	}
+
+	@Test
+	public void testFindByLabelWithAFetchPlanWithoutExpandingLazyRelationships() throws Exception {
+		PagingAndSortingQuery query = new NodeQueryStatements<Long>(null, Collections.singleton("FOLLOWS"), LoadStrategy.FETCH_PLAN).findByType("Asteroid", 1);
+		assertEquals("MATCH (n:`Asteroid`) WITH n, [n] AS frontier, [n] AS nodes, [] AS rels" +
+				" UNWIND CASE size(frontier) WHEN 0 THEN [null] ELSE frontier END AS s OPTIONAL MATCH (s)-[r]-(m) WHERE NOT type(r) IN { lazyTypes }" +
+				" WITH n, nodes, rels, collect(DISTINCT r) AS hopRels, collect(DISTINCT m) AS hopNodes" +
+				" WITH n, nodes, rels + [x IN hopRels WHERE NOT x IN rels] AS rels, [x IN hopNodes WHERE NOT x IN nodes] AS frontier" +
+				" WITH n, nodes + frontier AS nodes, rels, frontier" +
+				" RETURN nodes, rels", query.getStatement());
+		assertEquals(Collections.singleton("FOLLOWS"), query.getParameters().get("lazyTypes"));
+	}
+
+	@Test
+	public void testSortedFindByLabelWithAFetchPlanMatchesPaths() throws Exception {
+		PagingAndSortingQuery query = new NodeQueryStatements<Long>(null, null, LoadStrategy.FETCH_PLAN).findByType("Asteroid", 1);
+		assertEquals("MATCH (n:`Asteroid`) WITH n ORDER BY n.name MATCH p=(n)-[*0..1]-(m) RETURN p, ID(n)", query.setSortOrder(new SortOrder().add("name")).getStatement());
+	}
+
+	@Test
+	public void testFindAtDepthZeroWithAFetchPlan() throws Exception {
+		assertEquals("MATCH (n:`Asteroid`) RETURN n", new NodeQueryStatements<Long>(null, null, LoadStrategy.FETCH_PLAN).findByType("Asteroid", 0).getStatement());
+	}
 }
@@ -37,7 +37,7 @@ public class RelationshipDeleteStatementsTest {
 
 	@Test
 	public void testDeleteMany() throws Exception {
-		assertEquals("MATCH (n)-[r0]->() WHERE ID(r0) IN { ids } DELETE r0", statements.delete(Arrays.asList(1L, 2L)).getStatement());
+		assertEquals("UNWIND { ids } AS id MATCH (n)-[r0]->() WHERE ID(r0) = id DELETE r0", statements.delete(Arrays.asList(1L, 2L)).getStatement());
 	}
 
 	@Test
@@ -87,4 +87,18 @@ public class RelationshipDeleteStatementsTest {
 		CypherQuery query = statements.deleteAndList("INFLUENCE", new Filters().add("score", -12.2));
 		assertEquals("MATCH (n)-[r0:`INFLUENCE`]->(m) WHERE r0.`score` = { `score_0` }  DELETE r0 RETURN ID(r0)", query.getStatement());
 	}
+
+	@Test
+	public void testDeleteBatchWithTypeAndCount() throws Exception {
+		CypherQuery query = statements.deleteAndCount("INFLUENCE", 1000);
+		assertEquals("MATCH (n)-[r0:`INFLUENCE`]->() WITH r0 LIMIT { limit } DELETE r0 RETURN COUNT(r0)", query.getStatement());
+		assertEquals(1000, query.getParameters().get("limit"));
+	}
+
+	@Test
+	public void testDeleteBatchWithTypeAndFiltersAndList() throws Exception {
+		CypherQuery query = statements.deleteAndList("INFLUENCE", new Filters().add("score", -12.2), 1000);
+		assertEquals("MATCH (n)-[r0:`INFLUENCE`]->(m) WHERE r0.`score` = { `score_0` }  WITH DISTINCT r0 LIMIT { limit } DELETE r0 RETURN ID(r0)", query.getStatement());
+		assertEquals(1000, query.getParameters().get("limit"));
+	}
 }
\ No newline at end of file
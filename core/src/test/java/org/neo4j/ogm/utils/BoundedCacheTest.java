@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Angrish
+ */
+public class BoundedCacheTest {
+
+	@Test
+	public void shouldCountHitsAndMisses() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+		CountingLoader loader = new CountingLoader();
+
+		assertEquals(Integer.valueOf(5), cache.get("hello", loader));
+		assertEquals(Integer.valueOf(5), cache.get("hello", loader));
+		assertEquals(Integer.valueOf(5), cache.get("world", loader));
+
+		assertEquals(2, loader.loads.get());
+		assertEquals(1, cache.hits());
+		assertEquals(2, cache.misses());
+	}
+
+	@Test
+	public void shouldCacheNullValues() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+		final AtomicInteger loads = new AtomicInteger();
+		BoundedCache.Loader<String, Integer> loader = new BoundedCache.Loader<String, Integer>() {
+
+			@Override
+			public Integer load(String key) {
+				loads.incrementAndGet();
+				return null;
+			}
+		};
+
+		assertNull(cache.get("missing", loader));
+		assertNull(cache.get("missing", loader));
+
+		assertEquals(1, loads.get());
+		assertEquals(1, cache.hits());
+	}
+
+	@Test
+	public void shouldNotCacheAValueWhoseLoaderFailed() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(10);
+		final AtomicInteger loads = new AtomicInteger();
+		BoundedCache.Loader<String, Integer> loader = new BoundedCache.Loader<String, Integer>() {
+
+			@Override
+			public Integer load(String key) {
+				if (loads.incrementAndGet() == 1) {
+					throw new IllegalStateException("not loadable yet");
+				}
+				return 42;
+			}
+		};
+
+		try {
+			cache.get("late", loader);
+			fail("should have thrown");
+		} catch (IllegalStateException expected) {
+		}
+
+		assertEquals(0, cache.size());
+		assertEquals(Integer.valueOf(42), cache.get("late", loader));
+		assertEquals(2, loads.get());
+	}
+
+	@Test
+	public void shouldEvictBeyondTheMaximumSizeAndKeepRecentlyUsedEntries() {
+		BoundedCache<String, Integer> cache = new BoundedCache<>(3);
+		CountingLoader loader = new CountingLoader();
+
+		cache.get("a", loader);
+		cache.get("bb", loader);
+		cache.get("ccc", loader);
+		// "a" is used again, so the sweep gives it a second chance
+		cache.get("a", loader);
+		cache.get("dddd", loader);
+
+		assertEquals(3, cache.size());
+		assertEquals(1, cache.evictions());
+
+		int loads = loader.loads.get();
+		cache.get("a", loader);
+		assertEquals(loads, loader.loads.get());
+	}
+
+	@Test
+	public void shouldResolveEachKeyOnceWhenSharedBetweenThreads() throws Exception {
+		final BoundedCache<String, Integer> cache = new BoundedCache<>(1000);
+		final CountingLoader loader = new CountingLoader();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Integer>> results = new ArrayList<>();
+			for (int i = 0; i < 64; i++) {
+				results.add(executor.submit(new Callable<Integer>() {
+
+					@Override
+					public Integer call() {
+						int total = 0;
+						for (int j = 0; j < 1000; j++) {
+							total += cache.get("key" + (j % 100), loader);
+						}
+						return total;
+					}
+				}));
+			}
+			for (Future<Integer> result : results) {
+				assertEquals(Integer.valueOf(4900), result.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(100, cache.size());
+		assertEquals(64000, cache.hits() + cache.misses());
+		assertTrue(loader.loads.get() >= 100);
+	}
+
+	private static class CountingLoader implements BoundedCache.Loader<String, Integer> {
+
+		private final AtomicInteger loads = new AtomicInteger();
+
+		@Override
+		public Integer load(String key) {
+			loads.incrementAndGet();
+			return key.length();
+		}
+	}
+}
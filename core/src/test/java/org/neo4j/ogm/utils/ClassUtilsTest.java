@@ -48,4 +48,11 @@ public class ClassUtilsTest {
     public void shouldReturnNullWhenClassCannotBeLoaded() {
         assertEquals(null, ClassUtils.getType("Lorg/mozilla/javascript/xml/impl/xmlbeans/XML$XScriptAnnotation;"));
     }
+
+    @Test
+    public void shouldReturnNullWhenTheClassOfAReturnTypeCannotBeLoaded() {
+        assertNull(ClassUtils.getType("()Lorg/neo4j/ogm/domain/NotYetLoadable;"));
+        assertNull(ClassUtils.getType("()Lorg/neo4j/ogm/domain/NotYetLoadable;"));
+        assertEquals(School.class, ClassUtils.getType("()Lorg/neo4j/ogm/domain/education/School;"));
+    }
 }
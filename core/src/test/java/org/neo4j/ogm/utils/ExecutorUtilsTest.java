@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.utils;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+/**
+ * @author Mark Angrish
+ */
+public class ExecutorUtilsTest {
+
+    @Test
+    public void shouldRejectATaskSubmittedWhileTheQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ThreadPoolExecutor executor = ExecutorUtils.newRejectingExecutor("test", 1, 1, "tasks");
+        try {
+            executor.execute(blocking(release));
+            executor.execute(blocking(release));
+            try {
+                executor.execute(blocking(release));
+                fail("a task submitted while the queue is full should be rejected");
+            } catch (RejectedExecutionException expected) {
+                assertEquals("No more tasks can be run while 1 are waiting", expected.getMessage());
+            }
+        } finally {
+            release.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void shouldRejectATaskWaitingForRoomOnceShutDown() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        final ThreadPoolExecutor executor = ExecutorUtils.newWaitingExecutor("test", 1, 1, "tasks");
+        final CountDownLatch ran = new CountDownLatch(2);
+        executor.execute(counting(release, ran));
+        executor.execute(counting(release, ran));
+
+        final AtomicReference<Exception> rejected = new AtomicReference<>();
+        Thread submitter = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    executor.execute(new Runnable() {
+                        @Override
+                        public void run() {
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    rejected.set(e);
+                }
+            }
+        });
+        submitter.start();
+        Thread.sleep(200);
+        assertTrue("the submitter should wait for room", submitter.isAlive());
+
+        executor.shutdown();
+        submitter.join(10000);
+        assertNotNull(rejected.get());
+
+        release.countDown();
+        assertTrue(ran.await(10, TimeUnit.SECONDS));
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static Runnable blocking(CountDownLatch release) {
+        return counting(release, new CountDownLatch(1));
+    }
+
+    private static Runnable counting(final CountDownLatch release, final CountDownLatch ran) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                ran.countDown();
+            }
+        };
+    }
+}
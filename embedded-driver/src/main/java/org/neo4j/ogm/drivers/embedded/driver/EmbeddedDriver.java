@@ -35,6 +35,7 @@ import org.neo4j.ogm.drivers.embedded.transaction.EmbeddedTransaction;
 import org.neo4j.ogm.exception.ConnectionException;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -122,8 +123,8 @@ public class EmbeddedDriver extends AbstractConfigurableDriver {
     }
 
     @Override
-    public Transaction newTransaction(Transaction.Type type, String bookmark) {
-        return new EmbeddedTransaction(transactionManager, nativeTransaction(), type);
+    public Transaction newTransaction(TransactionManager transactionManager, Transaction.Type type, String bookmark) {
+        return new EmbeddedTransaction(transactionManager, nativeTransaction(transactionManager), type);
     }
 
     @Override
@@ -141,11 +142,11 @@ public class EmbeddedDriver extends AbstractConfigurableDriver {
     }
 
     @Override
-    public Request request() {
+    public Request request(TransactionManager transactionManager) {
         return new EmbeddedRequest(graphDatabaseService, transactionManager);
     }
 
-    private org.neo4j.graphdb.Transaction nativeTransaction() {
+    private org.neo4j.graphdb.Transaction nativeTransaction(TransactionManager transactionManager) {
 
         org.neo4j.graphdb.Transaction nativeTransaction;
 
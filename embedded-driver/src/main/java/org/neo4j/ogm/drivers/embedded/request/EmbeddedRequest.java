@@ -13,8 +13,8 @@
 
 package org.neo4j.ogm.drivers.embedded.request;
 
-import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -44,6 +44,7 @@ import org.slf4j.LoggerFactory;
 /**
  * @author vince
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class EmbeddedRequest implements Request {
 
@@ -76,51 +77,7 @@ public class EmbeddedRequest implements Request {
 
     @Override
     public Response<RowModel> execute(DefaultRequest query) {
-        //TODO this is a hack to get the embedded driver to work with executing multiple statements
-        final List<RowModel> rowmodels = new ArrayList<>();
-        String[] columns = null;
-        for (Statement statement : query.getStatements()) {
-            Result result = executeRequest(statement);
-            if (columns == null) {
-                columns = result.columns().toArray(new String[result.columns().size()]);
-            }
-            RowModelResponse rowModelResponse = new RowModelResponse(result, transactionManager);
-            RowModel model;
-            while ((model = rowModelResponse.next()) != null) {
-                rowmodels.add(model);
-            }
-            result.close();
-        }
-
-        final String[] finalColumns = columns;
-        return new Response<RowModel>() {
-            int currentRow = 0;
-            @Override
-            public RowModel next() {
-                if (currentRow < rowmodels.size()) {
-                    return rowmodels.get(currentRow++);
-                }
-                return null;
-            }
-
-            @Override
-            public void close() {
-                if (transactionManager.getCurrentTransaction() != null) {
-                    logger.debug("Response closed: {}", this);
-                    // if the current transaction is an autocommit one, we should commit and close it now,
-                    EmbeddedTransaction tx = (EmbeddedTransaction) transactionManager.getCurrentTransaction();
-                    if (tx.isAutoCommit()) {
-                        tx.commit();
-                        tx.close();
-                    }
-                }
-            }
-
-            @Override
-            public String[] columns() {
-               return finalColumns;
-            }
-        };
+        return new StatementsResponse(query.getStatements());
     }
 
     @Override
@@ -182,4 +139,79 @@ public class EmbeddedRequest implements Request {
 
     }
 
+    /**
+     * The rows of several statements, which are executed one at a time, each once the rows of the statement before
+     * it have been read, so that the rows of only one statement are held at any time.
+     */
+    private class StatementsResponse implements Response<RowModel> {
+
+        private final Iterator<Statement> statements;
+        private String[] columns;
+        private Result result;
+        private RowModelResponse rows;
+
+        StatementsResponse(List<Statement> statements) {
+            this.statements = statements.iterator();
+        }
+
+        @Override
+        public RowModel next() {
+            while (advance()) {
+                RowModel model = rows.next();
+                if (model != null) {
+                    return model;
+                }
+                release();
+            }
+            return null;
+        }
+
+        @Override
+        public void close() {
+            // the statements not read yet are still executed, as they were when every row was read up front.
+            // if there is no current transaction available, the response is already closed.
+            while (transactionManager.getCurrentTransaction() != null && advance()) {
+                release();
+            }
+            if (transactionManager.getCurrentTransaction() != null) {
+                logger.debug("Response closed: {}", this);
+                // if the current transaction is an autocommit one, we should commit and close it now,
+                EmbeddedTransaction tx = (EmbeddedTransaction) transactionManager.getCurrentTransaction();
+                if (tx.isAutoCommit()) {
+                    tx.commit();
+                    tx.close();
+                }
+            }
+        }
+
+        @Override
+        public String[] columns() {
+            if (columns == null && !advance()) {
+                columns = new String[0];
+            }
+            return columns;
+        }
+
+        /**
+         * Executes the next statement if the rows of the current one have all been read.
+         *
+         * @return false if there are no statements left
+         */
+        private boolean advance() {
+            if (rows == null && statements.hasNext()) {
+                result = executeRequest(statements.next());
+                rows = new RowModelResponse(result, transactionManager);
+                if (columns == null) {
+                    columns = rows.columns();
+                }
+            }
+            return rows != null;
+        }
+
+        private void release() {
+            result.close();
+            result = null;
+            rows = null;
+        }
+    }
 }
@@ -20,6 +20,7 @@ import org.neo4j.ogm.transaction.TransactionManager;
 
 /**
  * @author vince
+ * @author Mark Angrish
  */
 public class GraphRowModelResponse extends EmbeddedResponse<GraphRowListModel> {
 
@@ -33,12 +34,10 @@ public class GraphRowModelResponse extends EmbeddedResponse<GraphRowListModel> {
     @Override
     public GraphRowListModel next() {
 
+        // one row at a time, so that a caller mapping rows as they arrive never holds the whole result
         if (result.hasNext()) {
             DefaultGraphRowListModel model = new DefaultGraphRowListModel();
-
-            while (result.hasNext()) {
-                model.add(adapter.adapt(result.next()));
-            }
+            model.add(adapter.adapt(result.next()));
             return model;
         }
         return null;
@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers.embedded;
+
+import static org.junit.Assert.*;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.domain.social.User;
+import org.neo4j.ogm.drivers.embedded.driver.EmbeddedDriver;
+import org.neo4j.ogm.service.Components;
+import org.neo4j.ogm.service.DriverService;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+
+/**
+ * @author Mark Angrish
+ */
+public class EmbeddedSessionFactoryTest {
+
+    private SessionFactory one;
+    private SessionFactory other;
+
+    @Before
+    public void setUp() {
+        Configuration configuration = new Configuration();
+        configuration.driverConfiguration().setDriverClassName(EmbeddedDriver.class.getName());
+        configuration.set("cache.size", "10");
+        one = new SessionFactory(DriverService.load(configuration.driverConfiguration()), configuration, "org.neo4j.ogm.domain.social");
+
+        Configuration otherConfiguration = new Configuration();
+        otherConfiguration.driverConfiguration().setDriverClassName(EmbeddedDriver.class.getName());
+        other = new SessionFactory(DriverService.load(otherConfiguration.driverConfiguration()), otherConfiguration, "org.neo4j.ogm.domain.social");
+    }
+
+    @After
+    public void tearDown() {
+        one.close();
+        other.close();
+    }
+
+    @Test
+    public void shouldGiveEachSessionFactoryItsOwnGraph() {
+        assertNotSame(one.driver(), other.driver());
+
+        one.openSession().save(new User("Bilbo Baggins"));
+
+        assertEquals(1, one.openSession().countEntitiesOfType(User.class));
+        assertEquals(0, other.openSession().countEntitiesOfType(User.class));
+    }
+
+    @Test
+    public void shouldTuneEachSessionFactoryByItsOwnConfiguration() {
+        assertTrue(one.secondLevelCache().isEnabled());
+        assertFalse(other.secondLevelCache().isEnabled());
+        assertNull(Components.getConfiguration().get("cache.size"));
+    }
+
+    @Test
+    public void shouldSaveWithACompilerOfItsOwn() {
+        Components.getConfiguration().compilerConfiguration().setCompilerClassName("org.neo4j.ogm.compiler.NoSuchCompiler");
+        try {
+            Session session = one.openSession();
+            User user = new User("Frodo Baggins");
+            user.befriend(new User("Samwise Gamgee"));
+            session.save(user);
+            session.clear();
+
+            assertEquals(1, session.load(User.class, user.getId()).getFriends().size());
+        } finally {
+            Components.getConfiguration().compilerConfiguration().setCompilerClassName(null);
+        }
+    }
+}
@@ -39,6 +39,8 @@ import org.neo4j.test.TestGraphDatabaseFactory;
 		AB2Test.class,
 		AbstractWithGenericPropertyRelationshipTest.class,
 		AssociatedObjectsTest.class,
+		AsyncSessionTest.class,
+		BatchEventListenerTest.class,
 		BidirectionalMappingTest.class,
 		BikeTest.class,
 		BlogTest.class,
@@ -62,13 +64,16 @@ import org.neo4j.test.TestGraphDatabaseFactory;
 		EnumsScannedTest.class,
 		ExtraRelationshipEntityTest.class,
 		FriendshipsRelationshipEntityTest.class,
+		FetchPlanTest.class,
 		FriendsInLongTransactionTest.class,
 		GraphIdCapabilityTest.class,
 		HeirarchyRelsTest.class,
 		IdentityTest.class,
 		IngredientsIntegrationTest.class,
+		LazyLoadingTest.class,
 		LifecycleTest.class,
 		LoadCapabilityTest.class,
+		LoadFromContextTest.class,
 		LookupByPrimaryIndexTests.class,
 		MovieTest.class,
 		MultipleRelationshipsTest.class,
@@ -77,12 +82,14 @@ import org.neo4j.test.TestGraphDatabaseFactory;
 		NumericConversionTest.class,
 		ParameterizedConversionTest.class,
 		PetIntegrationTest.class,
+		PipelinedStatementsTest.class,
 		QueryCapabilityTest.class,
 		RelationshipEntityPartialMappingTest.class,
 		RelationshipEntityTest.class,
 		RichRelationTest.class,
 		SatelliteIntegrationTest.class,
 		SaveCapabilityTest.class,
+		SecondLevelCacheTest.class,
 		SessionAndMappingContextTest.class,
 		SimpleNetworkIntegrationTest.class,
 		SocialIntegrationTest.class,
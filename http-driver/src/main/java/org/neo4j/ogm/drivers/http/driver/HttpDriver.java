@@ -29,13 +29,16 @@ import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.TrustStrategy;
 import org.apache.http.util.EntityUtils;
+import org.neo4j.ogm.config.DriverConfiguration;
 import org.neo4j.ogm.driver.AbstractConfigurableDriver;
+import org.neo4j.ogm.driver.ReadEndpoints;
 import org.neo4j.ogm.drivers.http.request.HttpRequest;
 import org.neo4j.ogm.drivers.http.request.HttpRequestException;
 import org.neo4j.ogm.drivers.http.transaction.HttpTransaction;
 import org.neo4j.ogm.exception.ResultErrorsException;
 import org.neo4j.ogm.request.Request;
 import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -43,9 +46,12 @@ import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 import java.io.IOException;
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Collections;
 
 /**
  * @author vince
+ * @author Mark Angrish
  */
 
 public final class HttpDriver extends AbstractConfigurableDriver
@@ -53,6 +59,7 @@ public final class HttpDriver extends AbstractConfigurableDriver
     private static final Logger LOGGER = LoggerFactory.getLogger(HttpDriver.class);
 
     private CloseableHttpClient httpClient;
+    private ReadEndpoints<String> readServers = new ReadEndpoints<>(Collections.<String>emptyList(), 0);
 
     public HttpDriver() {}
 
@@ -60,6 +67,17 @@ public final class HttpDriver extends AbstractConfigurableDriver
         this.httpClient = httpClient;
     }
 
+    @Override
+    public void configure(DriverConfiguration config) {
+        super.configure(config);
+        readServers = new ReadEndpoints<>(Arrays.asList(config.getReadURIs()), config.getReadRetryInterval());
+    }
+
+    @Override
+    public boolean routesReads() {
+        return !readServers.isEmpty();
+    }
+
     @Override
     public synchronized void close() {
         try {
@@ -73,18 +91,31 @@ public final class HttpDriver extends AbstractConfigurableDriver
     }
 
     @Override
-    public Request request() {
+    public Request request(TransactionManager transactionManager) {
         Transaction tx = transactionManager.getCurrentTransaction();
         if (tx == null) {
-            return new HttpRequest(httpClient(), requestUrl(), driverConfig.getCredentials());
+            return new HttpRequest(httpClient(), requestUrl(transactionManager), driverConfig.getCredentials());
         } else {
-            return new HttpRequest(httpClient(), requestUrl(), driverConfig.getCredentials(), tx.isReadOnly());
+            return new HttpRequest(httpClient(), requestUrl(transactionManager), driverConfig.getCredentials(), tx.isReadOnly());
         }
     }
 
     @Override
-    public Transaction newTransaction(Transaction.Type type, String bookmark) {
-        return new HttpTransaction(transactionManager, this, newTransactionUrl(), type);
+    public Transaction newTransaction(TransactionManager transactionManager, Transaction.Type type, String bookmark) {
+        if (type.equals(Transaction.Type.READ_ONLY)) {
+            String server;
+            while ((server = readServers.next()) != null) {
+                try {
+                    return new HttpTransaction(transactionManager, this, newTransactionUrl(server, true), type);
+                } catch (HttpRequestException e) {
+                    // only a server that cannot be reached is left out. one that refuses the request, as it would
+                    // credentials it does not accept, raises a ConnectionException from its response instead
+                    LOGGER.warn("Read endpoint {} is unavailable, leaving it out for {} seconds", server, driverConfig.getReadRetryInterval(), e);
+                    readServers.failed(server);
+                }
+            }
+        }
+        return new HttpTransaction(transactionManager, this, newTransactionUrl(driverConfig.getURI(), readOnly(transactionManager)), type);
     }
 
     public CloseableHttpResponse executeHttpRequest(HttpRequestBase request) throws HttpRequestException {
@@ -111,13 +142,13 @@ public final class HttpDriver extends AbstractConfigurableDriver
         }
     }
 
-    private String newTransactionUrl() {
+    private String newTransactionUrl(String server, boolean readOnly) {
 
-        String url = transactionEndpoint(driverConfig.getURI());
+        String url = transactionEndpoint(server);
         LOGGER.debug( "Thread: {}, POST {}", Thread.currentThread().getId(), url );
 
         HttpPost request = new HttpPost(url);
-        request.setHeader("X-WRITE", readOnly() ? "0" : "1");
+        request.setHeader("X-WRITE", readOnly ? "0" : "1");
 
         try (CloseableHttpResponse response = executeHttpRequest(request)) {
             Header location = response.getHeaders("Location")[0];
@@ -144,7 +175,7 @@ public final class HttpDriver extends AbstractConfigurableDriver
         return url + "db/data/transaction";
     }
 
-    private String requestUrl() {
+    private String requestUrl(TransactionManager transactionManager) {
         if (transactionManager != null) {
             Transaction tx = transactionManager.getCurrentTransaction();
             if (tx != null) {
@@ -160,7 +191,7 @@ public final class HttpDriver extends AbstractConfigurableDriver
         return autoCommitUrl();
     }
 
-    public boolean readOnly()  {
+    private boolean readOnly(TransactionManager transactionManager) {
         if (transactionManager != null) {
             Transaction tx = transactionManager.getCurrentTransaction();
             if (tx != null) {
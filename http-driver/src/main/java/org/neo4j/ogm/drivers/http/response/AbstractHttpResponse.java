@@ -14,11 +14,10 @@
 package org.neo4j.ogm.drivers.http.response;
 
 import com.fasterxml.jackson.core.JsonParser;
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.neo4j.ogm.exception.CypherException;
 import org.neo4j.ogm.json.ObjectMapperFactory;
@@ -29,123 +28,206 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
+ * Reads a response from the transactional HTTP endpoint as it arrives, one data record at a time.
+ *
+ * The response has the form {"results":[{"columns":[..],"data":[{"row":..,"graph":..},..],"stats":{..}},..],"errors":[..]}.
+ * The columns are read up front, while the statistics and errors are read when the parser reaches them,
+ * so only the current record is held in memory. The underlying HTTP response is released once it has been
+ * read to the end. Closing a response reads whatever remains of it first, skipping the records, so that errors
+ * following the results are still raised.
+ *
  * @author vince
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public abstract class AbstractHttpResponse<T> {
 
+	private static final int TOP_LEVEL = 1;
+	private static final int RESULT_LEVEL = 3;
+	private static final int RECORD_LEVEL = 5;
+	private static final String NO_RECORD = "";
+
 	private final InputStream results;
-	private final JsonParser bufferParser;
+	private final JsonParser parser;
 	private final ObjectMapper mapper = ObjectMapperFactory.objectMapper();
-	private final TokenBuffer buffer;
 	private final Class<T> resultClass;
 	private final CloseableHttpResponse httpResponse;
 
 	private String[] columns;
 	private QueryStatistics queryStatistics;
-	private JsonNode responseNode;
+	private boolean closed;
 
 	private static final Logger LOGGER = LoggerFactory.getLogger( AbstractHttpResponse.class );
 
 	public AbstractHttpResponse(CloseableHttpResponse httpResponse, Class<T> resultClass) {
 
 		this.resultClass = resultClass;
+		this.httpResponse = httpResponse;
 		try {
-			this.httpResponse = httpResponse;
 			this.results = httpResponse.getEntity().getContent();
-			JsonParser parser = ObjectMapperFactory.jsonFactory().createParser(results);
-			buffer = new TokenBuffer(parser);
-			//Copy the contents of the response into the token buffer.
-			//This is so that we do not have to serialize the response to textual json while we get to the end of the stream to check for errors
-			parser.nextToken();
-			buffer.copyCurrentStructure(parser);
-			bufferParser = buffer.asParser();
-
+			this.parser = ObjectMapperFactory.jsonFactory().createParser(results);
 		} catch (IOException ioException) {
+			release();
 			throw new RuntimeException(ioException);
 		}
-		finally {
-			close(); //We are done with the InputStream
-		}
 		initialise();
 	}
 
+	/**
+	 * Reads ahead as far as the first set of columns, failing fast if the request produced errors before any results.
+	 */
 	private void initialise() {
 		try {
-			responseNode = mapper.readTree(buffer.asParser());
-			JsonNode errors = responseNode.findValue("errors");
-			if (errors.elements().hasNext()) {
-				JsonNode errorNode = errors.elements().next();
-				throw new CypherException("Error executing Cypher " + errorNode.findValue("code"), errorNode.findValue("code").asText(), errorNode.findValue("message").asText());
-			}
-		} catch (IOException e) {
-			e.printStackTrace();
+			advance(null);
+		} catch (RuntimeException e) {
+			release();
+			throw e;
 		}
 	}
 
 	public T nextDataRecord(String key) {
+		try {
+			return advance(key);
+		} catch (RuntimeException e) {
+			release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Moves the parser forward to the next data record named by the given key, picking up the columns,
+	 * statistics and errors on the way.
+	 *
+	 * @param key the name of the data record field, null to stop as soon as the columns have been read, or
+	 * {@link #NO_RECORD} to skip every data record up to the end of the response
+	 * @return the next data record, or null if the end of the response has been reached, or the columns have been read
+	 */
+	private T advance(String key) {
+		if (closed) {
+			return null;
+		}
 		JsonToken token;
 		try {
-			while ((token = bufferParser.nextToken()) != null) {
-				if (JsonToken.FIELD_NAME.equals(token)) {
-					if (key.equals(bufferParser.getCurrentName())) {
-						return mapper.readValue(bufferParser, resultClass);
+			while ((token = parser.nextToken()) != null) {
+				if (!JsonToken.FIELD_NAME.equals(token)) {
+					continue;
+				}
+				String field = parser.getCurrentName();
+				int level = level(parser.getParsingContext());
+
+				if (level == TOP_LEVEL) {
+					if ("errors".equals(field)) {
+						parser.nextToken();
+						checkErrors(mapper.readValue(parser, JsonNode.class));
+					} else if (!"results".equals(field)) {
+						parser.nextToken();
+						parser.skipChildren();
 					}
+				} else if (level == RESULT_LEVEL) {
+					if ("columns".equals(field)) {
+						parser.nextToken();
+						String[] resultColumns = mapper.readValue(parser, String[].class);
+						if (columns == null) {
+							columns = resultColumns;
+							if (key == null) {
+								return null;
+							}
+						}
+					} else if ("stats".equals(field)) {
+						parser.nextToken();
+						QueryStatistics resultStatistics = mapper.readValue(parser, QueryStatisticsModel.class);
+						if (queryStatistics == null) {
+							queryStatistics = resultStatistics;
+						}
+					} else if (field.equals(key)) {
+						return readRecord();
+					} else if (!"data".equals(field) || NO_RECORD.equals(key)) {
+						parser.nextToken();
+						parser.skipChildren();
+					}
+				} else if (level == RECORD_LEVEL) {
+					if (field.equals(key)) {
+						return readRecord();
+					}
+					parser.nextToken();
+					parser.skipChildren();
 				}
 			}
 		} catch (IOException e) {
-			e.printStackTrace();
+			throw new RuntimeException(e);
 		}
+		release(); // We are done with the InputStream
 		return null;
 	}
 
+	/**
+	 * The result classes wrap the field they are named by, so a record is read starting from that field,
+	 * taking in the remainder of the enclosing object.
+	 */
+	private T readRecord() throws IOException {
+		return mapper.readValue(parser, resultClass);
+	}
+
+	private void checkErrors(JsonNode errors) {
+		if (errors.elements().hasNext()) {
+			JsonNode errorNode = errors.elements().next();
+			throw new CypherException("Error executing Cypher " + errorNode.findValue("code"), errorNode.findValue("code").asText(), errorNode.findValue("message").asText());
+		}
+	}
+
+	/**
+	 * @return how deeply the given context is nested: 1 for the response, 3 for a result and 5 for a data record
+	 */
+	private static int level(JsonStreamContext context) {
+		int level = 0;
+		while (!context.inRoot()) {
+			level++;
+			context = context.getParent();
+		}
+		return level;
+	}
+
 	/**
 	 * Returns the first set of columns from the JSON response.
 	 * Note that the current implementation expects that columns be standard across all statements in a Cypher transaction.
 	 * @return the first set of columns from a JSON response
 	 */
 	public String[] columns() {
-		if (columns == null) {
-			List<String> columnsList = new ArrayList<>();
-			List<JsonNode> columnsNodes = responseNode.findValues("columns");
-			if (columnsNodes != null && columnsNodes.size() > 0) {
-				JsonNode firstColumnsNode = columnsNodes.get(0);
-				for (JsonNode columnNode : firstColumnsNode) {
-					columnsList.add(columnNode.asText());
-				}
-				columns = new String[columnsList.size()];
-				columns = columnsList.toArray(columns);
-			}
-		}
 		return columns;
 	}
 
 	/**
-	 * Extract stats from the response if present
-	 * @return queryStatistics or null if the response does not contain it
+	 * Extract stats from the response if present.
+	 * The stats follow the data of a result, so they are only available once its data records have been read.
+	 * @return queryStatistics or null if the response does not contain it, or it has not been reached yet
 	 */
 	public QueryStatistics statistics() {
-		if (queryStatistics ==null) {
-			List<JsonNode> statsNodes = responseNode.findValues("stats");
-			try {
-				if (statsNodes != null && statsNodes.size() > 0) {
-					queryStatistics = mapper.treeToValue(statsNodes.get(0), QueryStatisticsModel.class);
-				}
-			} catch (JsonProcessingException jsonException) {
-				throw new RuntimeException(jsonException);
-			}
-		}
 		return queryStatistics;
 	}
 
-	private void close() {
+	public void close() {
+		try {
+			advance(NO_RECORD);
+		} finally {
+			release();
+		}
+	}
+
+	private void release() {
+		if (closed) {
+			return;
+		}
+		closed = true;
 		try {
 			LOGGER.debug("Thread {}: Releasing HttpResponse", Thread.currentThread().getId());
-			results.close();
+			if (parser != null) {
+				parser.close();
+			}
+			if (results != null) {
+				results.close();
+			}
 			httpResponse.close();
 		} catch (Exception e) {
 			throw new RuntimeException(e);
@@ -33,6 +33,8 @@ import org.neo4j.ogm.testutil.TestServer;
 		AB2Test.class,
 		AbstractWithGenericPropertyRelationshipTest.class,
 		AssociatedObjectsTest.class,
+		AsyncSessionTest.class,
+		BatchEventListenerTest.class,
 		BidirectionalMappingTest.class,
 		BikeTest.class,
 		BlogTest.class,
@@ -56,13 +58,16 @@ import org.neo4j.ogm.testutil.TestServer;
 		EnumsScannedTest.class,
 		ExtraRelationshipEntityTest.class,
 		FriendshipsRelationshipEntityTest.class,
+		FetchPlanTest.class,
 		FriendsInLongTransactionTest.class,
 		GraphIdCapabilityTest.class,
 		HeirarchyRelsTest.class,
 		IdentityTest.class,
 		IngredientsIntegrationTest.class,
+		LazyLoadingTest.class,
 		LifecycleTest.class,
 		LoadCapabilityTest.class,
+		LoadFromContextTest.class,
 		LookupByPrimaryIndexTests.class,
 		MovieTest.class,
 		MultipleRelationshipsTest.class,
@@ -71,12 +76,14 @@ import org.neo4j.ogm.testutil.TestServer;
 		NumericConversionTest.class,
 		ParameterizedConversionTest.class,
 		PetIntegrationTest.class,
+		PipelinedStatementsTest.class,
 		QueryCapabilityTest.class,
 		RelationshipEntityPartialMappingTest.class,
 		RelationshipEntityTest.class,
 		RichRelationTest.class,
 		SatelliteIntegrationTest.class,
 		SaveCapabilityTest.class,
+		SecondLevelCacheTest.class,
 		SessionAndMappingContextTest.class,
 		SimpleNetworkIntegrationTest.class,
 		SocialIntegrationTest.class,
@@ -25,7 +25,11 @@ import org.neo4j.ogm.result.ResultRowModel;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Map;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -83,6 +87,49 @@ public class JsonResponseTest {
         }
     }
 
+    @Test
+    public void shouldStreamRecordsAndReadStatisticsAfterTheData() throws IOException {
+
+        when(entity.getContent()).thenReturn(rowResultsWithStatsAndNoErrors());
+
+        try (TestRowHttpResponse rsp = new TestRowHttpResponse()) {
+            assertEquals("n", rsp.columns()[0]);
+            assertNull(rsp.statistics());
+
+            Map first = (Map) rsp.next().getValues()[0];
+            assertEquals(1, first.get("row"));
+            assertNull(rsp.statistics());
+
+            Map second = (Map) rsp.next().getValues()[0];
+            assertEquals(2, second.get("row"));
+
+            assertNull(rsp.next());
+            assertTrue(rsp.statistics().containsUpdates());
+            assertEquals(2, rsp.statistics().getNodesCreated());
+        }
+    }
+
+    @Test(expected = CypherException.class)
+    public void shouldRaiseErrorsFollowingResultsNotReadWhenClosed() throws IOException {
+
+        when(entity.getContent()).thenReturn(resultsAndErrors());
+
+        new RowModelResponse(response).close();
+    }
+
+    @Test
+    public void shouldReadStatisticsFollowingResultsPartlyReadWhenClosed() throws IOException {
+
+        when(entity.getContent()).thenReturn(rowResultsWithStatsAndNoErrors());
+
+        RowModelResponse rsp = new RowModelResponse(response);
+        assertEquals(1, ((Map) rsp.next().getValues()[0]).get("row"));
+        rsp.close();
+
+        assertEquals(2, rsp.statistics().getNodesCreated());
+        assertNull(rsp.next());
+    }
+
     private void parseResponse(Response<DefaultRowModel> rsp) {
         //noinspection StatementWithEmptyBody
         while (rsp.next() != null);
@@ -144,6 +191,14 @@ public class JsonResponseTest {
     }
 
 
+    private InputStream rowResultsWithStatsAndNoErrors() {
+
+        final String s = "{\"results\": [{\"columns\": [\"n\"],\"data\": [{\"row\": [{\"row\": 1}],\"meta\": [{\"id\": 1}]},{\"row\": [{\"row\": 2}],\"meta\": [{\"id\": 2}]}]," +
+                "\"stats\": {\"contains_updates\": true,\"nodes_created\": 2}}],\"errors\": []}";
+
+        return new ByteArrayInputStream(s.getBytes());
+    }
+
     static class TestRowHttpResponse extends AbstractHttpResponse<ResultRowModel> implements Response<DefaultRowModel> {
 
         public TestRowHttpResponse() {
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.domain.lazy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.neo4j.ogm.annotation.Relationship;
+
+/**
+ * @author Mark Angrish
+ */
+public class Account {
+
+    private Long id;
+    private String name;
+
+    @Relationship(type = "FOLLOWS", direction = Relationship.OUTGOING, lazy = true)
+    private List<Account> following = new ArrayList<>();
+
+    public Account() {
+    }
+
+    public Account(String name) {
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<Account> getFollowing() {
+        return following;
+    }
+
+    public void follow(Account account) {
+        following.add(account);
+    }
+}
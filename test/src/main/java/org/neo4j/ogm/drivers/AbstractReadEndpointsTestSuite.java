@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.drivers;
+
+import static org.junit.Assert.assertEquals;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Test;
+import org.neo4j.ogm.MetaData;
+import org.neo4j.ogm.config.Configuration;
+import org.neo4j.ogm.config.DriverConfiguration;
+import org.neo4j.ogm.driver.Driver;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.testutil.TestUtils;
+
+/**
+ * Read-only transactions balanced across the read endpoints of a driver, run by each driver able to route reads
+ * against a test server of its own.
+ *
+ * Do not rename this class to end with *Test, or certain test packages might try to execute it.
+ *
+ * @author Mark Angrish
+ */
+public abstract class AbstractReadEndpointsTestSuite {
+
+	private static final Map<String, Object> NO_PARAMETERS = Collections.emptyMap();
+
+	private Driver driver;
+
+	/**
+	 * @return the properties file configuring the driver
+	 */
+	protected abstract String propertiesFile();
+
+	/**
+	 * @return the URL of the test server, which is the write endpoint, and may be a read endpoint too
+	 */
+	protected abstract String serverURL();
+
+	/**
+	 * @return a driver not configured yet
+	 */
+	protected abstract Driver newDriver();
+
+	@After
+	public void closeDriver() {
+		driver.close();
+	}
+
+	@Test
+	public void shouldBalanceReadOnlyQueriesAcrossTheReadEndpointsAvailable() {
+		Session session = openSession(unavailableURL(), serverURL());
+		session.query("CREATE (:User {name: 'Bilbo Baggins'})", NO_PARAMETERS);
+
+		for (int i = 0; i < 4; i++) {
+			assertEquals(1, Utils.size(session.query("MATCH (u:User {name: 'Bilbo Baggins'}) RETURN u", NO_PARAMETERS, true)));
+		}
+	}
+
+	@Test
+	public void shouldFallBackToTheWriteEndpointWhenNoReadEndpointIsAvailable() {
+		Session session = openSession(unavailableURL());
+
+		assertEquals(1, Utils.size(session.query("RETURN 1", NO_PARAMETERS, true)));
+		assertEquals(1, Utils.size(session.query("RETURN 1", NO_PARAMETERS, true)));
+	}
+
+	private Session openSession(String... readURIs) {
+		DriverConfiguration config = new Configuration(propertiesFile()).driverConfiguration();
+		config.setURI(serverURL());
+		config.setReadURIs(readURIs);
+		driver = newDriver();
+		driver.configure(config);
+		return new Neo4jSession(new MetaData("org.neo4j.ogm.domain.social"), driver);
+	}
+
+	/**
+	 * @return a URL of the scheme of the test server on which nothing is listening
+	 */
+	private String unavailableURL() {
+		return URI.create(serverURL()).getScheme() + "://localhost:" + TestUtils.getAvailablePort();
+	}
+}
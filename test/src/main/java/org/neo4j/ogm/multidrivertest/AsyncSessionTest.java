@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.multidrivertest;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.satellites.Program;
+import org.neo4j.ogm.domain.satellites.Satellite;
+import org.neo4j.ogm.model.Result;
+import org.neo4j.ogm.session.AsyncSession;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.Utils;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * @author Mark Angrish
+ */
+public class AsyncSessionTest {
+
+	private SessionFactory sessionFactory;
+	private Session session;
+	private AsyncSession asyncSession;
+
+	@Before
+	public void init() throws IOException {
+		sessionFactory = new SessionFactory("org.neo4j.ogm.domain.satellites");
+		session = sessionFactory.openSession();
+		session.query("CREATE (:Space_Program {program: 'NASA'}), (:Space_Program {program: 'ESA'}), "
+				+ "(:Satellite {satellite: 'Hubble', manned: 'N'}), (:Satellite {satellite: 'SkyLab', manned: 'Y'}), (:Satellite {satellite: 'Mir', manned: 'Y'})", Utils.map());
+		asyncSession = sessionFactory.openAsyncSession();
+	}
+
+	@After
+	public void tearDown() {
+		session.purgeDatabase();
+		sessionFactory.close();
+	}
+
+	@Test
+	public void shouldRunLoadsConcurrently() throws Exception {
+		Future<Collection<Program>> programs = asyncSession.loadAllAsync(Program.class);
+		Future<Collection<Satellite>> satellites = asyncSession.loadAllAsync(Satellite.class, 0);
+
+		List<Future<Satellite>> loads = new ArrayList<>();
+		for (Satellite satellite : session.loadAll(Satellite.class, 0)) {
+			loads.add(asyncSession.loadAsync(Satellite.class, satellite.getId()));
+		}
+
+		assertEquals(2, programs.get().size());
+		assertEquals(3, satellites.get().size());
+		assertEquals(3, loads.size());
+		for (Future<Satellite> load : loads) {
+			assertNotNull(load.get().getName());
+		}
+	}
+
+	@Test
+	public void shouldSaveAnObjectAndSetItsIdentity() throws Exception {
+		Program program = new Program();
+		program.setName("CNSA");
+
+		Program saved = asyncSession.saveAsync(program).get();
+
+		assertSame(program, saved);
+		assertNotNull(program.getId());
+
+		session.clear();
+		assertEquals("CNSA", session.load(Program.class, program.getId()).getName());
+	}
+
+	@Test
+	public void shouldReturnTheResultsOfAQuery() throws Exception {
+		Future<Iterable<Satellite>> manned = asyncSession.queryAsync(Satellite.class, "MATCH (s:Satellite {manned: {manned}}) RETURN s", Utils.map("manned", "Y"));
+		Future<Result> count = asyncSession.queryAsync("MATCH (s:Satellite {manned: {manned}}) RETURN count(s) AS count", Utils.map("manned", "Y"), true);
+
+		int satellites = 0;
+		for (Satellite satellite : manned.get()) {
+			assertEquals("Y", satellite.getManned());
+			satellites++;
+		}
+		assertEquals(2, satellites);
+		assertEquals(satellites, ((Number) count.get().queryResults().iterator().next().get("count")).intValue());
+	}
+
+	@Test(expected = ExecutionException.class)
+	public void shouldReportTheFailureOfAnOperationThroughItsFuture() throws Exception {
+		asyncSession.queryAsync("MATCH (n) RETURN", Utils.map(), true).get();
+	}
+
+	@Test(expected = RejectedExecutionException.class)
+	public void shouldRejectAnOperationOnceTheSessionFactoryIsClosed() {
+		sessionFactory.close();
+		asyncSession.loadAllAsync(Program.class);
+	}
+
+	@Test
+	public void shouldRollBackOnlyTheSessionWhoseTransactionIsRolledBackWhileAnotherSessionSaves() throws Exception {
+		final Satellite satellite = new Satellite();
+		satellite.setName("Ariane");
+		final Program program = new Program();
+		program.setName("CNSA");
+
+		final CountDownLatch rollingBackOpened = new CountDownLatch(1);
+		final CountDownLatch savingOpened = new CountDownLatch(1);
+		final AtomicReference<Neo4jSession> rollingBackSession = new AtomicReference<>();
+		final AtomicReference<Neo4jSession> savingSession = new AtomicReference<>();
+
+		// the sessions are opened one after the other, and then both use the driver at once
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			Future<Long> rolledBack = executor.submit(new Callable<Long>() {
+				@Override
+				public Long call() throws Exception {
+					rollingBackSession.set((Neo4jSession) sessionFactory.openSession());
+					rollingBackOpened.countDown();
+					assertTrue(savingOpened.await(10, TimeUnit.SECONDS));
+					try (Transaction tx = rollingBackSession.get().beginTransaction()) {
+						rollingBackSession.get().save(satellite);
+						Long id = satellite.getId();
+						tx.rollback();
+						return id;
+					}
+				}
+			});
+			Future<Long> saved = executor.submit(new Callable<Long>() {
+				@Override
+				public Long call() throws Exception {
+					assertTrue(rollingBackOpened.await(10, TimeUnit.SECONDS));
+					savingSession.set((Neo4jSession) sessionFactory.openSession());
+					savingOpened.countDown();
+					savingSession.get().save(program);
+					return program.getId();
+				}
+			});
+
+			Long rolledBackId = rolledBack.get(30, TimeUnit.SECONDS);
+			Long savedId = saved.get(30, TimeUnit.SECONDS);
+
+			assertNotNull(rolledBackId);
+			assertNull(satellite.getId());
+			assertNull(rollingBackSession.get().context().getNodeEntity(rolledBackId));
+
+			assertNotNull(savedId);
+			assertSame(program, savingSession.get().context().getNodeEntity(savedId));
+		} finally {
+			executor.shutdownNow();
+		}
+
+		session.clear();
+		assertEquals("CNSA", session.load(Program.class, program.getId()).getName());
+		for (Satellite loaded : session.loadAll(Satellite.class)) {
+			assertNotEquals("Ariane", loaded.getName());
+		}
+	}
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.multidrivertest;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.filesystem.Document;
+import org.neo4j.ogm.domain.filesystem.Folder;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.event.BatchEventListener;
+import org.neo4j.ogm.session.event.Event;
+
+/**
+ * @author Mark Angrish
+ */
+public class BatchEventListenerTest {
+
+	private SessionFactory sessionFactory;
+	private Folder folder;
+	private Document a;
+	private Document b;
+
+	@Before
+	public void init() throws IOException {
+		sessionFactory = new SessionFactory("org.neo4j.ogm.domain.filesystem");
+		sessionFactory.openSession().purgeDatabase();
+
+		folder = new Folder();
+		folder.setName("folder");
+		a = document("a");
+		b = document("b");
+	}
+
+	@After
+	public void clearDatabase() {
+		sessionFactory.close();
+		sessionFactory.openSession().purgeDatabase();
+	}
+
+	@Test
+	public void shouldTellABatchListenerOfEveryObjectSavedAtOnce() {
+		BatchListener listener = new BatchListener();
+		sessionFactory.register(listener);
+
+		sessionFactory.openSession().save(folder);
+
+		assertEquals(Arrays.asList(Event.TYPE.PRE_SAVE, Event.TYPE.POST_SAVE), listener.lifecycles);
+		assertEquals(new HashSet<Object>(Arrays.asList(folder, a, b)), listener.objects.get(0));
+		assertEquals(new HashSet<Object>(Arrays.asList(folder, a, b)), listener.objects.get(1));
+		assertEquals(Thread.currentThread().getName(), listener.threads.get(0));
+	}
+
+	@Test
+	public void shouldTellABatchListenerOfEveryObjectDeletedAtOnce() {
+		Session session = sessionFactory.openSession();
+		session.save(folder);
+
+		BatchListener listener = new BatchListener();
+		sessionFactory.register(listener);
+		session = sessionFactory.openSession();
+		session.delete(Arrays.asList(session.load(Document.class, a.getId()), session.load(Document.class, b.getId())));
+
+		assertEquals(1, listener.count(Event.TYPE.PRE_DELETE));
+		assertEquals(1, listener.count(Event.TYPE.POST_DELETE));
+		assertEquals(2, listener.objects.get(listener.lifecycles.indexOf(Event.TYPE.POST_DELETE)).size());
+	}
+
+	@Test
+	public void shouldTellAnAsynchronousBatchListenerOfEveryObjectSavedOnAnotherThread() {
+		BatchListener listener = new BatchListener();
+		sessionFactory.register(listener, true);
+
+		sessionFactory.openSession().save(folder);
+		sessionFactory.close();
+
+		assertEquals(Arrays.asList(Event.TYPE.PRE_SAVE, Event.TYPE.POST_SAVE), listener.lifecycles);
+		assertEquals(new HashSet<Object>(Arrays.asList(folder, a, b)), listener.objects.get(1));
+		assertEquals("neo4j-ogm-events", listener.threads.get(0));
+	}
+
+	@Test
+	public void shouldNotTellADeregisteredBatchListenerOfAnything() {
+		BatchListener listener = new BatchListener();
+		sessionFactory.register(listener);
+		sessionFactory.deregister(listener);
+
+		sessionFactory.openSession().save(folder);
+
+		assertTrue(listener.lifecycles.isEmpty());
+	}
+
+	private Document document(String name) {
+		Document document = new Document();
+		document.setName(name);
+		document.setFolder(folder);
+		folder.getDocuments().add(document);
+		return document;
+	}
+
+	static class BatchListener implements BatchEventListener {
+
+		List<Event.TYPE> lifecycles = new ArrayList<>();
+		List<Set<Object>> objects = new ArrayList<>();
+		List<String> threads = new ArrayList<>();
+
+		@Override
+		public void onPreSave(List<Event> events) {
+			record(events);
+		}
+
+		@Override
+		public void onPostSave(List<Event> events) {
+			record(events);
+		}
+
+		@Override
+		public void onPreDelete(List<Event> events) {
+			record(events);
+		}
+
+		@Override
+		public void onPostDelete(List<Event> events) {
+			record(events);
+		}
+
+		int count(Event.TYPE lifecycle) {
+			int count = 0;
+			for (Event.TYPE recorded : lifecycles) {
+				if (recorded == lifecycle) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		private synchronized void record(List<Event> events) {
+			Set<Object> affected = new HashSet<>();
+			for (Event event : events) {
+				affected.add(event.getObject());
+			}
+			lifecycles.add(events.get(0).getLifeCycle());
+			objects.add(affected);
+			threads.add(Thread.currentThread().getName());
+		}
+	}
+}
@@ -18,11 +18,14 @@ import static org.junit.Assert.*;
 import java.util.Arrays;
 
 import org.junit.Test;
+import org.neo4j.ogm.domain.cineasts.annotated.Knows;
 import org.neo4j.ogm.domain.filesystem.Document;
+import org.neo4j.ogm.domain.filesystem.Folder;
 import org.neo4j.ogm.session.event.Event;
 
 /**
  * @author vince
+ * @author Mark Angrish
  */
 public class CollectionsTest extends EventTestBaseClass {
 
@@ -104,4 +107,26 @@ public class CollectionsTest extends EventTestBaseClass {
 
 		assertEquals(14, eventListener.count());
 	}
+
+	@Test
+	public void shouldDeleteEveryObjectOfACollectionOfDifferentTypes() {
+
+		Long[] documentIds = {a.getId(), b.getId(), d.getId()};
+		Long[] knowsIds = {knowsJB.id, knowsLS.id};
+
+		session.delete(Arrays.asList(a, knowsJB, b, knowsLS, d));
+
+		for (Long id : documentIds) {
+			assertNull(session.load(Document.class, id));
+		}
+		for (Long id : knowsIds) {
+			assertNull(session.load(Knows.class, id));
+		}
+
+		session.clear();
+
+		assertEquals(2, session.loadAll(Document.class).size());
+		assertEquals(1, session.loadAll(Knows.class).size());
+		assertEquals(1, session.load(Folder.class, folder.getId()).getDocuments().size());
+	}
 }
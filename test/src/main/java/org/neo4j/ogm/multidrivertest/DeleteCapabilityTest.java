@@ -13,15 +13,25 @@
 
 package org.neo4j.ogm.multidrivertest;
 
+import static org.junit.Assert.*;
+
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
+import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.service.Components;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 
 /**
  * @author vince
+ * @author Mark Angrish
  */
 public class DeleteCapabilityTest {
 
@@ -41,4 +51,82 @@ public class DeleteCapabilityTest {
 	public void shouldNotFailIfDeleteRelationshipEntityAgainstEmptyDatabase() {
 		session.deleteAll(Recording.class);
 	}
+
+	@Test
+	public void shouldDeleteAllObjectsOfATypeInBatches() {
+		session.purgeDatabase();
+		saveAlbums("Delete", 5, new Studio("Abbey Road"));
+
+		Components.getConfiguration().set("delete.batch.size", 2);
+		try {
+			session.deleteAll(Recording.class);
+			assertEquals(0, session.countEntitiesOfType(Recording.class));
+			assertEquals(5, session.countEntitiesOfType(Album.class));
+
+			session.deleteAll(Album.class);
+			assertEquals(0, session.countEntitiesOfType(Album.class));
+			assertEquals(1, session.countEntitiesOfType(Studio.class));
+		} finally {
+			Components.getConfiguration().set("delete.batch.size", null);
+		}
+	}
+
+	@Test
+	public void shouldDeleteObjectsMatchingFiltersInBatches() {
+		session.purgeDatabase();
+		Studio studio = new Studio("Abbey Road");
+		saveAlbums("Delete", 5, studio);
+		saveAlbums("Keep", 2, studio);
+
+		Components.getConfiguration().set("delete.batch.size", 2);
+		try {
+			List<Long> deleted = (List<Long>) session.delete(Album.class, new Filters().add("name", "Delete"), true);
+			assertEquals(5, deleted.size());
+			assertEquals(2, session.countEntitiesOfType(Album.class));
+			assertEquals(2, session.countEntitiesOfType(Recording.class));
+
+			assertEquals(2L, session.delete(Album.class, new Filters().add("name", "Keep"), false));
+			assertEquals(0, session.countEntitiesOfType(Album.class));
+		} finally {
+			Components.getConfiguration().set("delete.batch.size", null);
+		}
+	}
+
+	@Test
+	public void shouldDeleteEveryObjectMatchingANestedFilterInBatches() {
+		session.purgeDatabase();
+		for (int i = 0; i < 3; i++) {
+			Artist artist = new Artist("Artist " + i);
+			for (int j = 0; j < 3; j++) {
+				Album album = new Album("Hit");
+				artist.addAlbum(album);
+				album.setArtist(artist);
+			}
+			session.save(artist);
+		}
+		session.save(new Artist("Unknown"));
+
+		// each artist matches once for every one of its albums
+		Filter albumName = new Filter("name", "Hit");
+		albumName.setNestedPropertyName("albums");
+		albumName.setNestedPropertyType(Album.class);
+
+		Components.getConfiguration().set("delete.batch.size", 2);
+		try {
+			List<Long> deleted = (List<Long>) session.delete(Artist.class, new Filters().add(albumName), true);
+			assertEquals(3, deleted.size());
+			assertEquals(1, session.countEntitiesOfType(Artist.class));
+			assertEquals(9, session.countEntitiesOfType(Album.class));
+		} finally {
+			Components.getConfiguration().set("delete.batch.size", null);
+		}
+	}
+
+	private void saveAlbums(String name, int count, Studio studio) {
+		for (int i = 0; i < count; i++) {
+			Album album = new Album(name);
+			album.setRecording(new Recording(album, studio, 1960 + i));
+			session.save(album);
+		}
+	}
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.multidrivertest;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.cypher.query.PagingAndSortingQuery;
+import org.neo4j.ogm.domain.social.Person;
+import org.neo4j.ogm.service.Components;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.request.strategy.LoadStrategy;
+import org.neo4j.ogm.session.request.strategy.impl.NodeQueryStatements;
+
+/**
+ * @author Mark Angrish
+ */
+public class FetchPlanTest {
+
+	private SessionFactory sessionFactory;
+	private Session session;
+	private Long ann;
+
+	@Before
+	public void init() throws IOException {
+		sessionFactory = new SessionFactory("org.neo4j.ogm.domain.social");
+		session = sessionFactory.openSession();
+		session.purgeDatabase();
+
+		// ann likes bob and cat, bob likes cat, cat likes dan, dan likes eve
+		Person a = new Person("ann");
+		Person b = new Person("bob");
+		Person c = new Person("cat");
+		Person d = new Person("dan");
+		Person e = new Person("eve");
+		a.getPeopleILike().add(b);
+		a.getPeopleILike().add(c);
+		b.getPeopleILike().add(c);
+		c.getPeopleILike().add(d);
+		d.getPeopleILike().add(e);
+		session.save(a);
+		session.save(new Person("zed"));
+		ann = a.getId();
+
+		Components.getConfiguration().set("load.strategy", "fetch_plan");
+		session = sessionFactory.openSession();
+	}
+
+	@After
+	public void clearDatabase() {
+		Components.getConfiguration().set("load.strategy", null);
+		session.purgeDatabase();
+	}
+
+	@Test
+	public void shouldLoadAnEntityToTheDepthRequested() {
+		Person a = session.load(Person.class, ann, 2);
+
+		assertEquals(2, a.getPeopleILike().size());
+		for (Person liked : a.getPeopleILike()) {
+			if (liked.getName().equals("bob")) {
+				assertEquals(1, liked.getPeopleILike().size());
+				assertEquals("cat", liked.getPeopleILike().get(0).getName());
+			} else {
+				assertEquals("cat", liked.getName());
+				assertEquals(1, liked.getPeopleILike().size());
+				Person d = liked.getPeopleILike().get(0);
+				assertEquals("dan", d.getName());
+				// dan is two hops away, the relationship to eve is a third one
+				assertTrue(d.getPeopleILike().isEmpty());
+			}
+		}
+	}
+
+	@Test
+	public void shouldLoadTheSameEntitiesAsPaths() {
+		Collection<Person> withFetchPlan = session.loadAll(Person.class, 2);
+
+		Components.getConfiguration().set("load.strategy", "path");
+		Collection<Person> withPaths = sessionFactory.openSession().loadAll(Person.class, 2);
+
+		assertEquals(6, withFetchPlan.size());
+		assertEquals(withPaths.size(), withFetchPlan.size());
+		assertEquals(likes(withPaths), likes(withFetchPlan));
+	}
+
+	@Test
+	public void shouldLoadAnEntityWithoutRelationships() {
+		Collection<Person> people = session.loadAll(Person.class, 1);
+
+		for (Person person : people) {
+			if (person.getName().equals("zed")) {
+				assertTrue(person.getPeopleILike().isEmpty());
+				return;
+			}
+		}
+		fail("zed was not loaded");
+	}
+
+	@Test
+	public void shouldReturnEachNodeAndRelationshipReachedOnce() {
+		// every node is reached again from its neighbours at the next hop
+		PagingAndSortingQuery query = new NodeQueryStatements<Long>(null, null, LoadStrategy.FETCH_PLAN).findOne(ann, 4);
+		Map<String, Object> row = session.query(query.getStatement(), query.getParameters()).iterator().next();
+
+		assertEquals(5, ((Collection) row.get("nodes")).size());
+		assertEquals(5, ((Collection) row.get("rels")).size());
+	}
+
+	private static int likes(Collection<Person> people) {
+		int likes = 0;
+		for (Person person : people) {
+			likes += person.getPeopleILike().size();
+		}
+		return likes;
+	}
+}
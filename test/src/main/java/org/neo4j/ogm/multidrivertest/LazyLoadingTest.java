@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.multidrivertest;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.context.LazyCollection;
+import org.neo4j.ogm.domain.lazy.Account;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.delegates.LoadRelatedDelegate;
+
+/**
+ * @author Mark Angrish
+ */
+public class LazyLoadingTest {
+
+	private Session session;
+	private Long celebrity;
+
+	@Before
+	public void init() throws IOException {
+		session = new SessionFactory("org.neo4j.ogm.domain.lazy").openSession();
+
+		Account account = new Account("celebrity");
+		account.follow(new Account("a"));
+		account.follow(new Account("b"));
+		account.follow(new Account("c"));
+		session.save(account);
+		session.clear();
+
+		celebrity = account.getId();
+	}
+
+	@After
+	public void clearDatabase() {
+		session.purgeDatabase();
+	}
+
+	@Test
+	public void shouldLoadALazyCollectionWhenItIsFirstUsed() {
+		Account account = session.load(Account.class, celebrity);
+
+		assertTrue(account.getFollowing() instanceof LazyCollection);
+		assertFalse(((LazyCollection) account.getFollowing()).isLoaded());
+
+		assertEquals(3, account.getFollowing().size());
+		assertTrue(((LazyCollection) account.getFollowing()).isLoaded());
+	}
+
+	@Test
+	public void shouldNotLoadTheLazyCollectionsOfRelatedEntities() {
+		Account account = session.load(Account.class, celebrity);
+		Account followed = account.getFollowing().get(0);
+
+		assertFalse(((LazyCollection) followed.getFollowing()).isLoaded());
+		assertTrue(followed.getFollowing().isEmpty());
+	}
+
+	@Test
+	public void shouldKeepTheRelationshipsOfALazyCollectionThatWasNotLoaded() {
+		Account account = session.load(Account.class, celebrity);
+		account.setName("famous");
+		session.save(account);
+
+		assertFalse(((LazyCollection) account.getFollowing()).isLoaded());
+
+		session.clear();
+		account = session.load(Account.class, celebrity);
+		assertEquals("famous", account.getName());
+		assertEquals(3, account.getFollowing().size());
+	}
+
+	@Test
+	public void shouldSaveTheChangesMadeToALazyCollection() {
+		Account account = session.load(Account.class, celebrity);
+		account.getFollowing().remove(0);
+		account.follow(new Account("d"));
+		account.follow(new Account("e"));
+		session.save(account);
+
+		session.clear();
+		account = session.load(Account.class, celebrity);
+		assertEquals(4, account.getFollowing().size());
+	}
+
+	@Test
+	public void shouldLoadEveryPageOfALazyCollectionOnce() {
+		Account account = session.load(Account.class, celebrity);
+		int followers = LoadRelatedDelegate.PAGE_SIZE + LoadRelatedDelegate.PAGE_SIZE / 2;
+		for (int i = 0; i < followers; i++) {
+			account.follow(new Account("follower-" + i));
+		}
+		session.save(account);
+
+		session.clear();
+		account = session.load(Account.class, celebrity);
+		Set<String> names = new HashSet<>();
+		for (Account followed : account.getFollowing()) {
+			assertTrue("followed twice: " + followed.getName(), names.add(followed.getName()));
+		}
+		assertEquals(followers + 3, names.size());
+		for (int i = 0; i < followers; i++) {
+			assertTrue("not followed: follower-" + i, names.contains("follower-" + i));
+		}
+	}
+}
@@ -22,6 +22,8 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.ogm.context.MappingContext;
+import org.neo4j.ogm.cypher.Filter;
+import org.neo4j.ogm.cypher.Filters;
 import org.neo4j.ogm.cypher.query.Pagination;
 import org.neo4j.ogm.cypher.query.SortOrder;
 import org.neo4j.ogm.domain.music.Album;
@@ -29,11 +31,13 @@ import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
 import org.neo4j.ogm.domain.music.Studio;
 import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.ResultIterator;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
 
 /**
  * @author Luanne Misquitta
+ * @author Mark Angrish
  */
 public class LoadCapabilityTest {
 
@@ -677,4 +681,99 @@ public class LoadCapabilityTest {
 		assertEquals("Led Zeppelin", artistNames.get(1));
 		assertEquals("Bon Jovi", artistNames.get(2));
 	}
+
+	@Test
+	public void shouldStreamEntitiesHydratedToTheRequestedDepth() {
+		Artist bonJovi = new Artist("Bon Jovi");
+		Album slipperyWhenWet = new Album("Slippery When Wet");
+		bonJovi.addAlbum(slipperyWhenWet);
+		slipperyWhenWet.setArtist(bonJovi);
+		Album crush = new Album("Crush");
+		bonJovi.addAlbum(crush);
+		crush.setArtist(bonJovi);
+		session.save(bonJovi);
+		session.save(new Artist("Led Zeppelin"));
+		session.clear();
+
+		List<String> artistNames = new ArrayList<>();
+		List<Integer> albumCounts = new ArrayList<>();
+		try (ResultIterator<Artist> artists = session.streamAll(Artist.class, new Filters(), new SortOrder().add("name"), 1)) {
+			while (artists.hasNext()) {
+				Artist artist = artists.next();
+				artistNames.add(artist.getName());
+				albumCounts.add(artist.getAlbums().size());
+				// the session may be cleared between results without losing any part of the entities still to come
+				session.clear();
+			}
+			assertFalse(artists.hasNext());
+		}
+		assertEquals(Arrays.asList("Bon Jovi", "Led Zeppelin", "The Beatles"), artistNames);
+		assertEquals(Arrays.asList(2, 0, 1), albumCounts);
+	}
+
+	@Test
+	public void shouldStreamEachEntityOnceInIdOrderWhenNoSortOrderIsGiven() {
+		Map<Long, Integer> expectedAlbumCounts = new HashMap<>();
+		expectedAlbumCounts.put(beatlesId, 1);
+		for (int i = 0; i < 5; i++) {
+			Artist artist = new Artist("Artist " + i);
+			for (int j = 0; j < i; j++) {
+				Album album = new Album("Album " + i + "." + j);
+				artist.addAlbum(album);
+				album.setArtist(artist);
+			}
+			session.save(artist);
+			expectedAlbumCounts.put(artist.getId(), i);
+		}
+		session.clear();
+
+		List<Long> artistIds = new ArrayList<>();
+		Map<Long, Integer> albumCounts = new HashMap<>();
+		try (ResultIterator<Artist> artists = session.streamAll(Artist.class, 1)) {
+			while (artists.hasNext()) {
+				Artist artist = artists.next();
+				artistIds.add(artist.getId());
+				albumCounts.put(artist.getId(), artist.getAlbums().size());
+				session.clear();
+			}
+		}
+		List<Long> sortedIds = new ArrayList<>(expectedAlbumCounts.keySet());
+		Collections.sort(sortedIds);
+		assertEquals(sortedIds, artistIds);
+		assertEquals(expectedAlbumCounts, albumCounts);
+	}
+
+	@Test
+	public void shouldStreamEntitiesMatchingFiltersAtDepthZero() {
+		session.clear();
+
+		try (ResultIterator<Artist> artists = session.streamAll(Artist.class, new Filters().add(new Filter("name", "The Beatles")), 0)) {
+			assertTrue(artists.hasNext());
+			Artist artist = artists.next();
+			assertEquals(beatlesId, artist.getId());
+			assertTrue(artist.getAlbums().isEmpty());
+			assertFalse(artists.hasNext());
+		}
+	}
+
+	@Test
+	public void shouldStreamQueryResultsAndReleaseTheResponseWhenClosedEarly() {
+		session.save(new Artist("Bon Jovi"));
+
+		try (ResultIterator<String> names = session.stream(String.class, "MATCH (a:`l'artiste`) RETURN a.name ORDER BY a.name", Collections.<String, Object>emptyMap())) {
+			assertEquals("Bon Jovi", names.next());
+		}
+
+		List<Artist> artists = new ArrayList<>();
+		try (ResultIterator<Artist> iterator = session.stream(Artist.class, "MATCH (a:`l'artiste`)-[r]-(b) RETURN a, r, b", Collections.<String, Object>emptyMap())) {
+			while (iterator.hasNext()) {
+				artists.add(iterator.next());
+			}
+		}
+		assertEquals(1, artists.size());
+		assertEquals("The Beatles", artists.get(0).getName());
+		assertEquals(1, artists.get(0).getAlbums().size());
+
+		assertEquals(2, session.loadAll(Artist.class).size());
+	}
 }
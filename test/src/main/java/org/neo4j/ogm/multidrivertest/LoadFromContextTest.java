@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.multidrivertest;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.domain.music.Album;
+import org.neo4j.ogm.domain.music.Artist;
+import org.neo4j.ogm.service.Components;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+
+/**
+ * @author Mark Angrish
+ */
+public class LoadFromContextTest {
+
+	private SessionFactory sessionFactory;
+	private Session session;
+	private Long led;
+
+	@Before
+	public void init() throws IOException {
+		Components.getConfiguration().set("load.from.context", "true");
+		sessionFactory = new SessionFactory("org.neo4j.ogm.domain.music");
+		session = sessionFactory.openSession();
+		session.purgeDatabase();
+
+		Artist artist = new Artist("Led Zeppelin");
+		Album album = new Album("Led Zeppelin IV");
+		artist.addAlbum(album);
+		album.setArtist(artist);
+		session.save(artist);
+		led = artist.getId();
+		session.clear();
+	}
+
+	@After
+	public void clearDatabase() {
+		Components.getConfiguration().set("load.from.context", null);
+		session.purgeDatabase();
+	}
+
+	@Test
+	public void shouldLoadAnEntityAgainFromTheMappingContextUpToTheDepthLoaded() {
+		Artist loaded = session.load(Artist.class, led, 2);
+		addAlbumInAnotherSession();
+
+		// the album added since is only in the database
+		assertSame(loaded, session.load(Artist.class, led, 1));
+		assertSame(loaded, session.load(Artist.class, led, 2));
+		assertEquals(1, loaded.getAlbums().size());
+
+		assertSame(loaded, session.load(Artist.class, led, 3));
+		assertEquals(2, loaded.getAlbums().size());
+	}
+
+	@Test
+	public void shouldLoadAnEntityAgainFromTheDatabaseOnceTheSessionIsCleared() {
+		session.load(Artist.class, led);
+		addAlbumInAnotherSession();
+		session.clear();
+
+		assertEquals(2, session.load(Artist.class, led).getAlbums().size());
+	}
+
+	@Test
+	public void shouldLoadAnEntityAgainFromTheDatabaseAfterAQueryWritingToTheGraph() {
+		Artist loaded = session.load(Artist.class, led);
+		session.query("MATCH (a) WHERE ID(a) = {id} CREATE (a)-[:`HAS-ALBUM`]->(:Album {name: 'Houses of the Holy'})",
+				Collections.singletonMap("id", led));
+
+		assertEquals(2, session.load(Artist.class, led).getAlbums().size());
+		assertSame(loaded, session.load(Artist.class, led));
+	}
+
+	@Test
+	public void shouldLoadAnEntityAgainFromTheDatabaseAfterAQueryCallingAProcedure() {
+		assumeTrue(Components.neo4jVersion() >= 3.0);
+
+		Artist loaded = session.load(Artist.class, led);
+		addAlbumInAnotherSession();
+
+		// a procedure may write without any writing keyword in the query, so calling one forgets the depths loaded
+		session.query("CALL db.labels()", Collections.<String, Object>emptyMap());
+
+		assertEquals(2, session.load(Artist.class, led).getAlbums().size());
+		assertSame(loaded, session.load(Artist.class, led));
+	}
+
+	private void addAlbumInAnotherSession() {
+		Session other = sessionFactory.openSession();
+		Artist artist = other.load(Artist.class, led);
+		Album album = new Album("Houses of the Holy");
+		artist.addAlbum(album);
+		album.setArtist(artist);
+		other.save(artist);
+	}
+}
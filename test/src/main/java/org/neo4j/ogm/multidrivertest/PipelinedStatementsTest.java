@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.multidrivertest;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.exception.CypherException;
+import org.neo4j.ogm.model.RowModel;
+import org.neo4j.ogm.request.Statement;
+import org.neo4j.ogm.response.Response;
+import org.neo4j.ogm.session.Neo4jSession;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.session.request.DefaultRequest;
+import org.neo4j.ogm.session.request.RowDataStatement;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * Requests of several statements, which drivers may send before reading the result of any of them.
+ *
+ * @author Mark Angrish
+ */
+public class PipelinedStatementsTest {
+
+	private static final String CREATE = "CREATE (n:Pipelined) RETURN ID(n)";
+	private static final String FAILING = "CRETE (n:Pipelined) RETURN ID(n)";
+
+	private Neo4jSession session;
+
+	@Before
+	public void init() {
+		session = (Neo4jSession) new SessionFactory("org.neo4j.ogm.domain.music").openSession();
+		session.purgeDatabase();
+	}
+
+	@After
+	public void clearDatabase() {
+		session.purgeDatabase();
+	}
+
+	@Test
+	public void shouldRollBackWhenALaterStatementFails() {
+		try (Transaction tx = session.beginTransaction()) {
+			try (Response<RowModel> response = session.requestHandler().execute(request(CREATE, FAILING, CREATE))) {
+				//noinspection StatementWithEmptyBody
+				while (response.next() != null);
+			}
+			fail("The failing statement should have been reported");
+		} catch (CypherException expected) {
+			// expected
+		}
+		assertEquals(0L, count());
+	}
+
+	@Test
+	public void shouldRollBackWhenAStatementFailsWhoseRowsWereNotRead() {
+		try (Transaction tx = session.beginTransaction()) {
+			try (Response<RowModel> response = session.requestHandler().execute(request(CREATE, FAILING))) {
+				response.next();
+			}
+			fail("The failing statement should have been reported");
+		} catch (CypherException expected) {
+			// expected
+		}
+		assertEquals(0L, count());
+	}
+
+	@Test
+	public void shouldRunEveryStatementWhenClosedBeforeAllTheirRowsAreRead() {
+		try (Transaction tx = session.beginTransaction()) {
+			try (Response<RowModel> response = session.requestHandler().execute(request(CREATE, CREATE, CREATE))) {
+				assertNotNull(response.next());
+			}
+			tx.commit();
+		}
+		assertEquals(3L, count());
+	}
+
+	private static DefaultRequest request(String... cypher) {
+		List<Statement> statements = new ArrayList<>();
+		for (String statement : cypher) {
+			statements.add(new RowDataStatement(statement, Collections.<String, Object>emptyMap()));
+		}
+		DefaultRequest request = new DefaultRequest();
+		request.setStatements(statements);
+		return request;
+	}
+
+	private long count() {
+		return ((Number) session.query("MATCH (n:Pipelined) RETURN COUNT(n) AS c", Collections.<String, Object>emptyMap())
+				.iterator().next().get("c")).longValue();
+	}
+}
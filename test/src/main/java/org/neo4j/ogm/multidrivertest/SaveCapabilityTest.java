@@ -16,6 +16,7 @@ package org.neo4j.ogm.multidrivertest;
 import static org.junit.Assert.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -30,6 +31,7 @@ import org.neo4j.ogm.domain.music.Album;
 import org.neo4j.ogm.domain.music.Artist;
 import org.neo4j.ogm.domain.music.Recording;
 import org.neo4j.ogm.domain.music.Studio;
+import org.neo4j.ogm.service.Components;
 import org.neo4j.ogm.session.Neo4jSession;
 import org.neo4j.ogm.session.Session;
 import org.neo4j.ogm.session.SessionFactory;
@@ -101,6 +103,55 @@ public class SaveCapabilityTest {
 		assertEquals(3, session.countEntitiesOfType(Artist.class));
 	}
 
+	@Test
+	public void shouldSaveACollectionLargerThanTheBatchSizeInBatches() {
+		Studio abbeyRoad = new Studio("Abbey Road");
+		List<Album> albums = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			// artists and the studio are shared between batches
+			Artist artist = i % 2 == 0 ? aerosmith : bonJovi;
+			Album album = new Album("Album " + i);
+			artist.addAlbum(album);
+			album.setArtist(artist);
+			album.setRecording(new Recording(album, abbeyRoad, 1970 + i));
+			albums.add(album);
+		}
+
+		Components.getConfiguration().set("save.batch.size", 2);
+		try {
+			session.save(albums);
+		} finally {
+			Components.getConfiguration().set("save.batch.size", null);
+		}
+
+		assertNotNull(aerosmith.getId());
+		assertNotNull(bonJovi.getId());
+		assertNotNull(abbeyRoad.getId());
+		Neo4jSession neo4jSession = (Neo4jSession) session;
+		for (Album album : albums) {
+			assertNotNull(album.getId());
+			assertNotNull(album.getRecording().getId());
+			CompileContext context = new EntityGraphMapper(neo4jSession.metaData(), neo4jSession.context()).map(album, -1);
+			assertEquals("Should have nothing to save", 0, context.registry().size());
+		}
+
+		assertEquals(5, session.countEntitiesOfType(Album.class));
+		assertEquals(2, session.countEntitiesOfType(Artist.class));
+		assertEquals(1, session.countEntitiesOfType(Studio.class));
+		assertEquals(5, session.countEntitiesOfType(Recording.class));
+
+		session.clear();
+		for (int i = 0; i < albums.size(); i++) {
+			Album loaded = session.load(Album.class, albums.get(i).getId());
+			assertEquals("Album " + i, loaded.getName());
+			assertEquals(i % 2 == 0 ? aerosmith.getId() : bonJovi.getId(), loaded.getArtist().getId());
+			assertEquals(abbeyRoad.getId(), loaded.getRecording().getStudio().getId());
+			assertEquals(1970 + i, loaded.getRecording().getYear());
+		}
+		assertEquals(3, session.load(Artist.class, aerosmith.getId()).getAlbums().size());
+		assertEquals(2, session.load(Artist.class, bonJovi.getId()).getAlbums().size());
+	}
+
 	@Test
 	public void shouldSaveNewNodesAndNewRelationships() {
 		Artist leann = new Artist("Leann Rimes");
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2002-2016 "Neo Technology,"
+ * Network Engine for Objects in Lund AB [http://neotechnology.com]
+ *
+ * This product is licensed to you under the Apache License, Version 2.0 (the "License").
+ * You may not use this product except in compliance with the License.
+ *
+ * This product may include a number of subcomponents with
+ * separate copyright notices and license terms. Your use of the source
+ * code for these subcomponents is subject to the terms and
+ *  conditions of the subcomponent's license, as noted in the LICENSE file.
+ */
+
+package org.neo4j.ogm.multidrivertest;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.ogm.context.SecondLevelCache;
+import org.neo4j.ogm.domain.social.Person;
+import org.neo4j.ogm.service.Components;
+import org.neo4j.ogm.session.Session;
+import org.neo4j.ogm.session.SessionFactory;
+import org.neo4j.ogm.transaction.Transaction;
+
+/**
+ * @author Mark Angrish
+ */
+public class SecondLevelCacheTest {
+
+	private SessionFactory sessionFactory;
+	private SecondLevelCache cache;
+	private Long ann;
+
+	@Before
+	public void init() throws IOException {
+		Components.getConfiguration().set("cache.size", "100");
+		sessionFactory = new SessionFactory("org.neo4j.ogm.domain.social");
+		cache = sessionFactory.secondLevelCache();
+
+		Session session = sessionFactory.openSession();
+		session.purgeDatabase();
+
+		Person a = new Person("ann");
+		a.getPeopleILike().add(new Person("bob"));
+		session.save(a);
+		ann = a.getId();
+	}
+
+	@After
+	public void clearDatabase() {
+		Components.getConfiguration().set("cache.size", null);
+		sessionFactory.openSession().purgeDatabase();
+	}
+
+	@Test
+	public void shouldLoadAnEntityFromTheCacheInAnotherSession() {
+		Person first = sessionFactory.openSession().load(Person.class, ann);
+		long hits = cache.hits();
+
+		Person second = sessionFactory.openSession().load(Person.class, ann);
+
+		assertEquals(hits + 1, cache.hits());
+		assertNotSame(first, second);
+		assertEquals("ann", second.getName());
+		assertEquals(1, second.getPeopleILike().size());
+		assertEquals("bob", second.getPeopleILike().get(0).getName());
+	}
+
+	@Test
+	public void shouldNotLoadAnEntitySavedSinceFromTheCache() {
+		sessionFactory.openSession().load(Person.class, ann);
+
+		Session session = sessionFactory.openSession();
+		Person bob = session.load(Person.class, ann).getPeopleILike().get(0);
+		bob.setName("rob");
+		session.save(bob);
+
+		Person loaded = sessionFactory.openSession().load(Person.class, ann);
+		assertEquals("rob", loaded.getPeopleILike().get(0).getName());
+	}
+
+	@Test
+	public void shouldNotLoadAnEntityRelatedSinceFromTheCache() {
+		sessionFactory.openSession().load(Person.class, ann);
+
+		Session session = sessionFactory.openSession();
+		Person a = session.load(Person.class, ann);
+		a.getPeopleILike().add(new Person("cat"));
+		session.save(a);
+
+		assertEquals(2, sessionFactory.openSession().load(Person.class, ann).getPeopleILike().size());
+	}
+
+	@Test
+	public void shouldNotLoadAnEntityDeletedSinceFromTheCache() {
+		Session session = sessionFactory.openSession();
+		session.delete(session.load(Person.class, ann));
+
+		assertNull(sessionFactory.openSession().load(Person.class, ann));
+	}
+
+	@Test
+	public void shouldEvictEverythingAfterAQueryWritingToTheGraph() {
+		sessionFactory.openSession().load(Person.class, ann);
+
+		sessionFactory.openSession().query("MATCH (n:Person) SET n.name = 'zed'", Collections.<String, Object>emptyMap());
+
+		assertEquals(0, cache.size());
+		assertEquals("zed", sessionFactory.openSession().load(Person.class, ann).getName());
+	}
+
+	@Test
+	public void shouldReadItsOwnWritesInATransaction() {
+		sessionFactory.openSession().load(Person.class, ann);
+
+		Session session = sessionFactory.openSession();
+		try (Transaction tx = session.beginTransaction()) {
+			Person a = session.load(Person.class, ann);
+			a.setName("anne");
+			session.save(a);
+			session.clear();
+
+			assertEquals("anne", session.load(Person.class, ann).getName());
+			tx.commit();
+		}
+
+		assertEquals("anne", sessionFactory.openSession().load(Person.class, ann).getName());
+	}
+}
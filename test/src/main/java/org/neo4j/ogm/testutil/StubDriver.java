@@ -15,6 +15,7 @@ import org.neo4j.ogm.response.model.DefaultRowModel;
 import org.neo4j.ogm.result.ResultGraphModel;
 import org.neo4j.ogm.result.ResultRowModel;
 import org.neo4j.ogm.transaction.Transaction;
+import org.neo4j.ogm.transaction.TransactionManager;
 
 /**
  * Created by markangrish on 05/01/2017.
@@ -31,12 +32,12 @@ public abstract class StubDriver extends AbstractConfigurableDriver {
 	}
 
 	@Override
-	public Transaction newTransaction(Transaction.Type type, String bookmark) {
+	public Transaction newTransaction(TransactionManager transactionManager, Transaction.Type type, String bookmark) {
 		throw new RuntimeException("not implemented");
 	}
 
 	@Override
-	public Request request() {
+	public Request request(TransactionManager transactionManager) {
 
 		return new Request() {
 